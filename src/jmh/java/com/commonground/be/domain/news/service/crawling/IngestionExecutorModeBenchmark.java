@@ -0,0 +1,116 @@
+package com.commonground.be.domain.news.service.crawling;
+
+import com.commonground.be.domain.news.dto.crawling.NewsBatchResult;
+import com.commonground.be.domain.news.dto.crawling.RawNewsData;
+import com.commonground.be.domain.news.service.communication.WebSocketProgressService;
+import com.commonground.be.domain.news.service.management.NewsDataProcessingService;
+import com.commonground.be.global.infrastructure.concurrency.BoundedTaskExecutors;
+import com.commonground.be.global.infrastructure.concurrency.ExecutorMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+/**
+ * 🧵 수집 Executor 실행 방식 벤치마크
+ * <p>
+ * NewsIngestionStage 로 한 번의 크롤링 결과를 처리하는 시간을 PLATFORM / VIRTUAL 모드별로 비교한다.
+ * 배치 처리는 Mongo 왕복 시간만큼 park 하는 스텁으로 대체하므로, 순수하게 Executor 의 대기/전환 비용과
+ * 같은 동시 실행 수에서의 처리량 차이를 본다.
+ * <p>
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IngestionExecutorModeBenchmark {
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    private ExecutorMode mode;
+
+    // 동시 실행 수 (PLATFORM 은 스레드 수, VIRTUAL 은 세마포어 허가 수)
+    @Param({"8", "64"})
+    private int concurrency;
+
+    // 한 번의 크롤링에서 수집되는 기사 수
+    @Param({"2000"})
+    private int articles;
+
+    // 배치 하나의 중복 체크 + bulk insert 소요 시간
+    @Param({"5"})
+    private int batchLatencyMillis;
+
+    private AsyncTaskExecutor executor;
+    private NewsIngestionStage stage;
+    private List<RawNewsData> rawDataList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = BoundedTaskExecutors.create(mode, "bench-ingest-",
+                concurrency, concurrency, articles, new ThreadPoolExecutor.AbortPolicy());
+        stage = new NewsIngestionStage(new LatencyStubProcessingService(batchLatencyMillis),
+                new NoOpProgressService(), executor, 20, new SimpleMeterRegistry());
+        rawDataList = IntStream.range(0, articles)
+                .mapToObj(i -> RawNewsData.builder().title("기사 " + i).url("https://news.example.com/" + i).build())
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (executor instanceof DisposableBean pool) {
+            pool.destroy();
+        } else if (executor instanceof AutoCloseable virtual) {
+            virtual.close();
+        }
+    }
+
+    @Benchmark
+    public List<RawNewsData> ingest() {
+        return stage.ingest("bench", rawDataList).join();
+    }
+
+    /**
+     * Mongo 왕복 대신 고정 시간 park 후 전부 저장된 것으로 응답
+     */
+    static final class LatencyStubProcessingService extends NewsDataProcessingService {
+
+        private final long latencyNanos;
+
+        LatencyStubProcessingService(int latencyMillis) {
+            super(null, null, null, null, null, null);
+            this.latencyNanos = TimeUnit.MILLISECONDS.toNanos(latencyMillis);
+        }
+
+        @Override
+        public NewsBatchResult processRawNewsBatch(List<RawNewsData> rawDataList) {
+            LockSupport.parkNanos(latencyNanos);
+            return NewsBatchResult.builder().totalCount(rawDataList.size()).build();
+        }
+    }
+
+    static final class NoOpProgressService extends WebSocketProgressService {
+
+        NoOpProgressService() {
+            super(null, null);
+        }
+
+        @Override
+        public void updateProgress(String sessionId, String step, int progress, String message,
+                                   int totalArticles, int processedArticles, int successCount, int failCount) {
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.commonground.be.global.infrastructure.cache;
+
+import com.commonground.be.domain.news.entity.News;
+import com.commonground.be.domain.news.enums.CategoryEnum;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+/**
+ * 📏 Redis 캐시 값 직렬화 벤치마크
+ * <p>
+ * 기존 GenericJackson2JsonRedisSerializer(RedisConfig 와 같은 설정) 와 CompactRedisSerializer 의
+ * 직렬화/역직렬화 시간을 비교한다. 저장 크기는 Setup 에서 한 번 출력한다.
+ * <p>
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RedisValueSerializerBenchmark {
+
+	// 목록 API 한 페이지 분량
+	@Param({"20"})
+	private int articles;
+
+	@Param({"2000"})
+	private int contentLength;
+
+	private ObjectMapper objectMapper;
+	private GenericJackson2JsonRedisSerializer jsonSerializer;
+	private CompactRedisSerializer compactSerializer;
+	private JavaType newsListType;
+
+	private List<News> payload;
+	private byte[] jsonBytes;
+	private byte[] compactBytes;
+
+	@Setup
+	public void setUp() {
+		objectMapper = new ObjectMapper();
+		objectMapper.registerModule(new JavaTimeModule());
+		jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+		compactSerializer = new CompactRedisSerializer(1024);
+		newsListType = compactSerializer.typeFactory().constructCollectionType(List.class, News.class);
+
+		payload = new ArrayList<>(articles);
+		for (int i = 0; i < articles; i++) {
+			payload.add(news(i));
+		}
+		jsonBytes = jsonSerializer.serialize(payload);
+		compactBytes = compactSerializer.serialize(payload);
+		System.out.printf("%n저장 크기: json=%d bytes, compact=%d bytes (%.1f%%)%n",
+				jsonBytes.length, compactBytes.length, 100.0 * compactBytes.length / jsonBytes.length);
+	}
+
+	// ==================== 직렬화 ====================
+
+	@Benchmark
+	public byte[] serializeJson() {
+		return jsonSerializer.serialize(payload);
+	}
+
+	@Benchmark
+	public byte[] serializeCompact() {
+		return compactSerializer.serialize(payload);
+	}
+
+	// ==================== 역직렬화 ====================
+
+	/**
+	 * 기존 경로: Map 으로 읽은 뒤 convertValue 로 한 번 더 변환
+	 */
+	@Benchmark
+	public List<News> deserializeJson() {
+		return objectMapper.convertValue(jsonSerializer.deserialize(jsonBytes, Object.class), newsListType);
+	}
+
+	@Benchmark
+	public List<News> deserializeCompact() {
+		return compactSerializer.deserialize(compactBytes, newsListType);
+	}
+
+	private News news(int index) {
+		StringBuilder content = new StringBuilder(contentLength);
+		while (content.length() < contentLength) {
+			content.append("반도체 수출이 전년 대비 증가했다는 발표가 나왔다. 기사 ").append(index).append(". ");
+		}
+		return News.builder()
+				.id(String.format("%024x", index))
+				.title("경제 뉴스 제목 " + index)
+				.content(content.substring(0, contentLength))
+				.url("https://news.example.com/article/" + index)
+				.authorName("기자" + index)
+				.category(CategoryEnum.ECONOMY)
+				.mediaOutletId("outlet-" + (index % 5))
+				.summary("요약 " + index)
+				.keywords(List.of("반도체", "수출", "경제"))
+				.publishedAt(LocalDateTime.of(2025, 7, 1, 9, 0).plusMinutes(index))
+				.crawledAt(LocalDateTime.of(2025, 7, 1, 9, 5).plusMinutes(index))
+				.build();
+	}
+}
@@ -0,0 +1,82 @@
+package com.commonground.be.global.infrastructure.security.jwt;
+
+import com.commonground.be.domain.user.utils.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.lang.reflect.Field;
+import java.security.Key;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 🔐 요청 하나당 JWT 파싱 비용 벤치마크
+ * <p>
+ * JwtAuthorizationFilter 가 인증된 요청 하나를 처리할 때의 JWS 파싱 비용을 비교한다.
+ * - perCallParser: 기존 방식 (호출마다 parserBuilder 생성 + 서명 검증, 요청당 5회)
+ * - sharedParser: 파서만 재사용하고 클레임은 메서드마다 다시 파싱 (요청당 5회)
+ * - singleParse: parseAccessToken 한 번으로 검증/클레임 추출 (요청당 1회)
+ * <p>
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtParseBenchmark {
+
+	private static final String SECRET_KEY = "dGVzdC1zZWNyZXQta2V5LWZvci1qd3QtdGVzdGluZy0xMjM0NTY3ODkw";
+
+	private JwtProvider jwtProvider;
+	private Key key;
+	private String token;
+
+	@Setup
+	public void setUp() throws ReflectiveOperationException {
+		jwtProvider = new JwtProvider(null, new TokenManager(null));
+		setField("secretKey", SECRET_KEY);
+		setField("accessTokenExpiration", 1800L);
+		setField("refreshTokenExpiration", 86400L);
+		jwtProvider.init();
+
+		key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET_KEY));
+		token = jwtProvider.substringToken(
+				jwtProvider.createAccessTokenWithSession("benchmark-user", UserRole.USER, "session-1"));
+	}
+
+	@Benchmark
+	public void perCallParser(Blackhole blackhole) {
+		// validateAccessToken, getUsernameFromToken, tokenVersion, sessionId x2
+		for (int i = 0; i < 5; i++) {
+			Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+			blackhole.consume(claims.getSubject());
+		}
+	}
+
+	@Benchmark
+	public void sharedParser(Blackhole blackhole) {
+		blackhole.consume(jwtProvider.validateAccessToken(token));
+		blackhole.consume(jwtProvider.getUsernameFromToken(token));
+		blackhole.consume(jwtProvider.getClaimFromToken(token, "tokenVersion"));
+		blackhole.consume(jwtProvider.getClaimFromToken(token, "sessionId"));
+		blackhole.consume(jwtProvider.getClaimFromToken(token, "sessionId"));
+	}
+
+	@Benchmark
+	public JwtClaims singleParse() {
+		return jwtProvider.parseAccessToken(token);
+	}
+
+	private void setField(String name, Object value) throws ReflectiveOperationException {
+		Field field = JwtProvider.class.getDeclaredField(name);
+		field.setAccessible(true);
+		field.set(jwtProvider, value);
+	}
+}
@@ -13,6 +13,7 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+// (name, mediaOutletId) unique 인덱스는 기존 중복을 병합한 뒤 JournalistDedupMigration 이 생성 (삭제된 기자 포함)
 @Document(collection = "journalists")
 @Getter
 @Builder
@@ -50,4 +51,9 @@ public class Journalist {
 	public void assignId(String id) {
 		this.id = id;
 	}
+
+	public void restore() {
+		this.deletedAt = null;
+		this.isActive = true;
+	}
 }
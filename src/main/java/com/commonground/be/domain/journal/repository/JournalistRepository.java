@@ -1,6 +1,7 @@
 package com.commonground.be.domain.journal.repository;
 
 import com.commonground.be.domain.journal.entity.Journalist;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Repository;
@@ -14,5 +15,11 @@ public interface JournalistRepository {
 
 	Optional<Journalist> findByNameAndMediaOutletId(String name, String mediaOutletId);
 
+	// 삭제된 기자 포함 (unique 인덱스 위반 시 기존 문서 확인용)
+	Optional<Journalist> findAnyByNameAndMediaOutletId(String name, String mediaOutletId);
+
+	List<Journalist> findByNameInAndMediaOutletIdIn(Collection<String> names,
+			Collection<String> mediaOutletIds);
+
 	List<Journalist> findByMediaOutletId(String mediaOutletId);
 }
\ No newline at end of file
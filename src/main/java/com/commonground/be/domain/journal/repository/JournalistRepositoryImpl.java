@@ -1,6 +1,7 @@
 package com.commonground.be.domain.journal.repository;
 
 import com.commonground.be.domain.journal.entity.Journalist;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -40,6 +41,28 @@ public class JournalistRepositoryImpl implements JournalistRepository {
 		return Optional.ofNullable(journalist);
 	}
 
+	@Override
+	public Optional<Journalist> findAnyByNameAndMediaOutletId(String name, String mediaOutletId) {
+		Query query = new Query(Criteria.where("name").is(name)
+				.and("mediaOutletId").is(mediaOutletId));
+		return Optional.ofNullable(mongoTemplate.findOne(query, Journalist.class));
+	}
+
+	/**
+	 * 이름 목록 × 언론사 목록 조합으로 일괄 조회 (호출 측에서 정확한 쌍으로 다시 필터링)
+	 */
+	@Override
+	public List<Journalist> findByNameInAndMediaOutletIdIn(Collection<String> names,
+			Collection<String> mediaOutletIds) {
+		if (names.isEmpty() || mediaOutletIds.isEmpty()) {
+			return List.of();
+		}
+		Query query = new Query(Criteria.where("name").in(names)
+				.and("mediaOutletId").in(mediaOutletIds)
+				.and("deletedAt").isNull());
+		return mongoTemplate.find(query, Journalist.class);
+	}
+
 	@Override
 	public List<Journalist> findByMediaOutletId(String mediaOutletId) {
 		Query query = new Query(Criteria.where("mediaOutletId").is(mediaOutletId)
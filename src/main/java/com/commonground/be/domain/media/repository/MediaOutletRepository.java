@@ -1,6 +1,7 @@
 package com.commonground.be.domain.media.repository;
 
 import com.commonground.be.domain.media.entity.MediaOutlet;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Repository;
@@ -14,6 +15,8 @@ public interface MediaOutletRepository {
 
 	Optional<MediaOutlet> findByDomain(String domain);
 
+	List<MediaOutlet> findByDomainIn(Collection<String> domains);
+
 	List<MediaOutlet> findAll();
 
 	List<MediaOutlet> findByIsActive(boolean isActive);
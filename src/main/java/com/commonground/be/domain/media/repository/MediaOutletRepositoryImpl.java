@@ -1,6 +1,7 @@
 package com.commonground.be.domain.media.repository;
 
 import com.commonground.be.domain.media.entity.MediaOutlet;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -39,6 +40,16 @@ public class MediaOutletRepositoryImpl implements MediaOutletRepository {
 		return Optional.ofNullable(outlet);
 	}
 
+	@Override
+	public List<MediaOutlet> findByDomainIn(Collection<String> domains) {
+		if (domains.isEmpty()) {
+			return List.of();
+		}
+		Query query = new Query(Criteria.where("domain").in(domains)
+				.and("deletedAt").isNull());
+		return mongoTemplate.find(query, MediaOutlet.class);
+	}
+
 	@Override
 	public List<MediaOutlet> findAll() {
 		Query query = new Query(Criteria.where("deletedAt").isNull())
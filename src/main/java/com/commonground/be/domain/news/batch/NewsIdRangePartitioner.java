@@ -0,0 +1,47 @@
+package com.commonground.be.domain.news.batch;
+
+import com.commonground.be.domain.news.repository.NewsRepository;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * 뉴스 _id(ObjectId) 범위를 생성 시각 기준으로 균등 분할하는 Partitioner
+ * <p>
+ * 가장 오래된 뉴스의 생성 시각부터 upperBoundId 까지를 gridSize 개의 [fromId, toId) 구간으로 나눈다.
+ * 구간 경계는 ObjectId.getSmallestWithDate 로 만들기 때문에 인접 구간이 겹치거나 비지 않는다.
+ */
+@RequiredArgsConstructor
+public class NewsIdRangePartitioner implements Partitioner {
+
+	public static final String FROM_ID = "fromId";
+	public static final String TO_ID = "toId";
+
+	private final NewsRepository newsRepository;
+	private final String upperBoundId;
+
+	@Override
+	public Map<String, ExecutionContext> partition(int gridSize) {
+		long to = new ObjectId(upperBoundId).getDate().getTime();
+		long from = newsRepository.findOldestId()
+				.map(id -> new ObjectId(id).getDate().getTime())
+				.orElse(to);
+
+		Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+		for (int i = 0; i < gridSize; i++) {
+			ExecutionContext context = new ExecutionContext();
+			context.putString(FROM_ID, boundary(from, to, i, gridSize));
+			context.putString(TO_ID, i == gridSize - 1 ? upperBoundId : boundary(from, to, i + 1, gridSize));
+			partitions.put("partition" + i, context);
+		}
+		return partitions;
+	}
+
+	private static String boundary(long from, long to, int index, int gridSize) {
+		return ObjectId.getSmallestWithDate(new Date(from + (to - from) * index / gridSize)).toHexString();
+	}
+}
@@ -0,0 +1,35 @@
+package com.commonground.be.domain.news.batch;
+
+import com.commonground.be.domain.news.entity.News;
+import com.commonground.be.domain.news.enums.NewsStatusEnum;
+import com.commonground.be.domain.news.service.search.OpenSearchIndexingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.delete.DeleteRequest;
+import org.springframework.batch.item.ItemProcessor;
+
+/**
+ * News → OpenSearch 색인 요청 변환 (삭제된 뉴스는 색인 제거 요청)
+ * 색인 문서를 만들 수 없는 뉴스는 null 을 반환해 건너뛴다 (StepExecution filterCount 로 집계).
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class NewsIndexRequestProcessor implements ItemProcessor<News, DocWriteRequest<?>> {
+
+	private final OpenSearchIndexingService openSearchService;
+	private final String targetIndex;
+
+	@Override
+	public DocWriteRequest<?> process(News news) {
+		if (news.getStatus() == NewsStatusEnum.DELETED) {
+			return new DeleteRequest(targetIndex, news.getId());
+		}
+		try {
+			return openSearchService.indexRequestOf(news, targetIndex);
+		} catch (Exception e) {
+			log.warn("색인 문서 변환 실패, 건너뜀: newsId={}, error={}", news.getId(), e.getMessage());
+			return null;
+		}
+	}
+}
@@ -0,0 +1,191 @@
+package com.commonground.be.domain.news.batch;
+
+import com.commonground.be.domain.news.entity.News;
+import com.commonground.be.domain.news.enums.NewsStatusEnum;
+import com.commonground.be.domain.news.repository.NewsRepository;
+import com.commonground.be.domain.news.service.search.OpenSearchBulkIndexer;
+import com.commonground.be.domain.news.service.search.OpenSearchIndexingService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.opensearch.action.DocWriteRequest;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.data.MongoCursorItemReader;
+import org.springframework.batch.item.data.builder.MongoCursorItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 🗂️ Mongo → OpenSearch 재색인 배치 Job
+ * <p>
+ * 책임:
+ * - _id(ObjectId) 범위를 gridSize 개 구간으로 나눠 워커 스레드에서 병렬 처리 (파티션 step)
+ * - 구간마다 _id 오름차순 커서로 읽고 chunk 단위로 벌크 전송
+ * - 실패 시 같은 JobParameters 로 다시 실행하면 완료된 구간은 건너뛰고, 실패한 구간은 마지막 커밋 chunk 다음부터 재개
+ * <p>
+ * 모드:
+ * - full: 삭제되지 않은 전체 뉴스를 targetIndex 로 적재 (새 버전 인덱스 구축용)
+ * - incremental: since 이후 생성·수정된 뉴스만 다시 색인 (삭제 상태는 색인에서 제거)
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class NewsReindexJobConfig {
+
+	public static final String JOB_NAME = "newsSearchReindexJob";
+
+	// JobParameters
+	public static final String TARGET_INDEX = "targetIndex";
+	public static final String MODE = "mode";
+	public static final String SINCE = "since";
+	public static final String UPPER_BOUND_ID = "upperBoundId";
+	// full 모드에서 적재 후 따라잡기를 시작할 outbox 위치 (식별용 아님, 재시작 시 그대로 다시 사용)
+	public static final String CATCH_UP_FROM = "catchUpFrom";
+
+	public static final String MODE_FULL = "full";
+	public static final String MODE_INCREMENTAL = "incremental";
+
+	private static final String WORKER_STEP_NAME = "newsReindexWorkerStep";
+
+	private final JobRepository jobRepository;
+	private final PlatformTransactionManager transactionManager;
+	private final MongoTemplate mongoTemplate;
+	private final NewsRepository newsRepository;
+	private final OpenSearchIndexingService openSearchService;
+	private final OpenSearchBulkIndexer bulkIndexer;
+
+	@Value("${opensearch.reindex.slices:4}")
+	private int slices;
+
+	@Value("${opensearch.reindex.batch-size:1000}")
+	private int batchSize;
+
+	@Bean
+	public Job newsSearchReindexJob(Step newsReindexPartitionStep) {
+		return new JobBuilder(JOB_NAME, jobRepository)
+				.start(newsReindexPartitionStep)
+				.listener(throughputListener())
+				.build();
+	}
+
+	@Bean
+	public Step newsReindexPartitionStep(Step newsReindexWorkerStep, Partitioner newsIdRangePartitioner) {
+		SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("news-reindex-");
+		taskExecutor.setConcurrencyLimit(slices);
+
+		return new StepBuilder("newsReindexPartitionStep", jobRepository)
+				.partitioner(WORKER_STEP_NAME, newsIdRangePartitioner)
+				.step(newsReindexWorkerStep)
+				.gridSize(slices)
+				.taskExecutor(taskExecutor)
+				.build();
+	}
+
+	@Bean
+	public Step newsReindexWorkerStep(MongoCursorItemReader<News> newsReindexReader,
+			NewsIndexRequestProcessor newsIndexRequestProcessor) {
+		return new StepBuilder(WORKER_STEP_NAME, jobRepository)
+				.<News, DocWriteRequest<?>>chunk(batchSize, transactionManager)
+				.reader(newsReindexReader)
+				.processor(newsIndexRequestProcessor)
+				.writer(new OpenSearchBulkItemWriter(bulkIndexer))
+				.build();
+	}
+
+	@Bean
+	@JobScope
+	public Partitioner newsIdRangePartitioner(
+			@Value("#{jobParameters['" + UPPER_BOUND_ID + "']}") String upperBoundId) {
+		return new NewsIdRangePartitioner(newsRepository, upperBoundId);
+	}
+
+	/**
+	 * 구간 [fromId, toId) 커서 (_id 오름차순 고정이라 재시작 시 읽은 건수만큼 건너뛰어 이어 읽기 가능)
+	 */
+	@Bean
+	@StepScope
+	public MongoCursorItemReader<News> newsReindexReader(
+			@Value("#{stepExecutionContext['" + NewsIdRangePartitioner.FROM_ID + "']}") String fromId,
+			@Value("#{stepExecutionContext['" + NewsIdRangePartitioner.TO_ID + "']}") String toId,
+			@Value("#{jobParameters['" + MODE + "']}") String mode,
+			@Value("#{jobParameters['" + SINCE + "']}") LocalDateTime since) {
+		Criteria range = Criteria.where("_id").gte(new ObjectId(fromId)).lt(new ObjectId(toId));
+		Criteria criteria = MODE_INCREMENTAL.equals(mode)
+				? range.andOperator(changedSince(since))
+				: range.and("status").ne(NewsStatusEnum.DELETED);
+
+		return new MongoCursorItemReaderBuilder<News>()
+				.name("newsReindexReader")
+				.template(mongoTemplate)
+				.targetType(News.class)
+				.query(new Query(criteria).with(Sort.by(Sort.Direction.ASC, "_id")))
+				.batchSize(batchSize)
+				.build();
+	}
+
+	@Bean
+	@StepScope
+	public NewsIndexRequestProcessor newsIndexRequestProcessor(
+			@Value("#{jobParameters['" + TARGET_INDEX + "']}") String targetIndex) {
+		return new NewsIndexRequestProcessor(openSearchService, targetIndex);
+	}
+
+	/**
+	 * since 이후 수정됐거나 (updatedAt), 수정 시각이 없던 시절에 since 이후 생성된 (_id) 뉴스
+	 */
+	private static Criteria changedSince(LocalDateTime since) {
+		ObjectId sinceId = ObjectId.getSmallestWithDate(Date.from(since.atZone(ZoneId.systemDefault()).toInstant()));
+		return new Criteria().orOperator(
+				Criteria.where("updatedAt").gte(since),
+				Criteria.where("_id").gte(sinceId));
+	}
+
+	private JobExecutionListener throughputListener() {
+		return new JobExecutionListener() {
+			@Override
+			public void afterJob(JobExecution jobExecution) {
+				long written = 0;
+				long filtered = 0;
+				for (StepExecution step : jobExecution.getStepExecutions()) {
+					if (!WORKER_STEP_NAME.equals(step.getStepName().split(":")[0])) {
+						continue;
+					}
+					written += step.getWriteCount();
+					filtered += step.getFilterCount();
+				}
+				long millis = jobExecution.getStartTime() != null && jobExecution.getEndTime() != null
+						? Duration.between(jobExecution.getStartTime(), jobExecution.getEndTime()).toMillis()
+						: 0;
+				double seconds = Math.max(millis / 1000.0, 0.001);
+				log.info("재색인 배치 종료: status={}, target={}, 색인={}, 건너뜀={}, 처리량={}docs/s",
+						jobExecution.getStatus(), jobExecution.getJobParameters().getString(TARGET_INDEX),
+						written, filtered, Math.round(written / seconds));
+				if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+					log.warn("재색인 배치 미완료: 같은 파라미터로 재실행하면 실패 구간부터 재개됩니다");
+				}
+			}
+		};
+	}
+}
@@ -0,0 +1,27 @@
+package com.commonground.be.domain.news.batch;
+
+import com.commonground.be.domain.news.service.search.OpenSearchBulkIndexer;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.action.DocWriteRequest;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+/**
+ * chunk 단위 OpenSearch bulk 전송
+ * 재시도 후에도 전달되지 않았거나 거절된 항목이 있으면 예외로 chunk 를 실패시켜, 재시작 시 마지막 커밋 chunk 다음부터 다시 읽게 한다.
+ */
+@RequiredArgsConstructor
+public class OpenSearchBulkItemWriter implements ItemWriter<DocWriteRequest<?>> {
+
+	private final OpenSearchBulkIndexer bulkIndexer;
+
+	@Override
+	public void write(Chunk<? extends DocWriteRequest<?>> chunk) throws Exception {
+		List<DocWriteRequest<?>> requests = new ArrayList<>(chunk.getItems());
+		if (!bulkIndexer.sendNow(requests)) {
+			throw new IllegalStateException("OpenSearch 벌크 전송 실패: count=" + requests.size());
+		}
+	}
+}
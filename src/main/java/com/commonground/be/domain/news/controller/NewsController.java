@@ -5,9 +5,12 @@ import com.commonground.be.domain.news.dto.request.NaverCrawlingRequest;
 import com.commonground.be.domain.news.dto.request.UpdateNewsRequest;
 import com.commonground.be.domain.news.dto.response.CategoryStatistics;
 import com.commonground.be.domain.news.dto.response.CrawlingResponse;
+import com.commonground.be.domain.news.dto.response.NewsCursorPageResponse;
+import com.commonground.be.domain.news.dto.response.NewsReindexStatus;
 import com.commonground.be.domain.news.dto.response.NewsResponse;
 import com.commonground.be.domain.news.dto.response.NewsStatistics;
 import com.commonground.be.domain.news.dto.crawling.RawNewsData;
+import com.commonground.be.domain.news.dto.search.NewsSummary;
 import com.commonground.be.domain.news.entity.News;
 import com.commonground.be.domain.news.enums.CategoryEnum;
 import com.commonground.be.domain.news.service.NewsService;
@@ -20,12 +23,15 @@ import com.commonground.be.global.application.response.ResponseCodeEnum;
 import com.commonground.be.global.application.response.ResponseUtils;
 import com.commonground.be.global.application.security.AdminRequired;
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -46,6 +52,9 @@ import org.springframework.web.bind.annotation.RestController;
 @CrossOrigin(origins = "*")
 public class NewsController {
 
+	private static final String VIEW_FULL = "full";
+	private static final String VIEW_SUMMARY = "summary";
+
 	private final NewsService newsService;
 	private final CrawlingOrchestrationService crawlingOrchestrationService;
 
@@ -77,7 +86,7 @@ public class NewsController {
 
 		if (news.isPresent()) {
 			// 조회수 증가 (비동기)
-			newsService.incrementViewCount(id);
+			newsService.incrementViewCount(news.get());
 
 			return ResponseUtils.of(ResponseCodeEnum.NEWS_GET_SUCCESS,
 					NewsResponse.from(news.get()));
@@ -119,41 +128,90 @@ public class NewsController {
 	}
 
 	// ==================== 뉴스 조회 ====================
+	// 목록 API 는 page 대신 cursor 를 넘기면 커서 모드로 동작한다.
+	// (첫 요청은 cursor= 빈 값, 이후 응답의 nextCursor 를 그대로 전달)
+	// view=summary 이면 본문 등을 제외한 요약 필드만 조회/응답한다. (기본값 full)
 
 	@GetMapping("/categories/{category}")
 	public ResponseEntity<HttpResponseDto> getNewsByCategory(
 			@PathVariable CategoryEnum category,
 			@RequestParam(defaultValue = "1") int page,
-			@RequestParam(defaultValue = "20") int limit) {
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "20") int limit,
+			@RequestParam(defaultValue = VIEW_FULL) String view) {
+
+		if (cursor != null) {
+			NewsCursorPageResponse response = isSummaryView(view)
+					? NewsCursorPageResponse.of(
+							newsService.findNewsSummariesByCategoryAfter(category, cursor, limit), NewsResponse::summary)
+					: NewsCursorPageResponse.of(
+							newsService.findNewsByCategoryAfter(category, cursor, limit), NewsResponse::from);
+			return ResponseEntity.ok(new HttpResponseDto(200, "Success", response));
+		}
 
-		List<News> newsList = newsService.findNewsByCategory(category, page, limit);
-		List<NewsResponse> response = newsList.stream()
-				.map(NewsResponse::from)
-				.collect(Collectors.toList());
+		List<NewsResponse> response = isSummaryView(view)
+				? toResponses(newsService.findNewsSummariesByCategory(category, page, limit), NewsResponse::summary)
+				: toResponses(newsService.findNewsByCategory(category, page, limit), NewsResponse::from);
+
+		return ResponseEntity.ok(new HttpResponseDto(200, "Success", response));
+	}
+
+	@GetMapping("/media-outlets/{mediaOutletId}")
+	public ResponseEntity<HttpResponseDto> getNewsByMediaOutlet(
+			@PathVariable String mediaOutletId,
+			@RequestParam(defaultValue = "1") int page,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "20") int limit,
+			@RequestParam(defaultValue = VIEW_FULL) String view) {
+
+		if (cursor != null) {
+			NewsCursorPageResponse response = isSummaryView(view)
+					? NewsCursorPageResponse.of(
+							newsService.findNewsSummariesByMediaOutletAfter(mediaOutletId, cursor, limit),
+							NewsResponse::summary)
+					: NewsCursorPageResponse.of(
+							newsService.findNewsByMediaOutletAfter(mediaOutletId, cursor, limit), NewsResponse::from);
+			return ResponseEntity.ok(new HttpResponseDto(200, "Success", response));
+		}
+
+		List<NewsResponse> response = isSummaryView(view)
+				? toResponses(newsService.findNewsSummariesByMediaOutlet(mediaOutletId, page, limit),
+						NewsResponse::summary)
+				: toResponses(newsService.findNewsByMediaOutlet(mediaOutletId, page, limit), NewsResponse::from);
 
 		return ResponseEntity.ok(new HttpResponseDto(200, "Success", response));
 	}
 
 	@GetMapping("/recent")
 	public ResponseEntity<HttpResponseDto> getRecentNews(
-			@RequestParam(defaultValue = "20") int limit) {
+			@RequestParam(defaultValue = "20") int limit,
+			@RequestParam(defaultValue = VIEW_FULL) String view) {
 
-		List<News> recentNews = newsService.findRecentNews(limit);
-		List<NewsResponse> response = recentNews.stream()
-				.map(NewsResponse::from)
-				.collect(Collectors.toList());
+		List<NewsResponse> response = isSummaryView(view)
+				? toResponses(newsService.findRecentNewsSummaries(limit), NewsResponse::summary)
+				: toResponses(newsService.findRecentNews(limit), NewsResponse::from);
 
 		return ResponseEntity.ok(new HttpResponseDto(200, "Success", response));
 	}
 
 	@GetMapping("/trending")
 	public ResponseEntity<HttpResponseDto> getTrendingNews(
-			@RequestParam(defaultValue = "10") int limit) {
-
-		List<News> trendingNews = newsService.findTrendingNews(limit);
-		List<NewsResponse> response = trendingNews.stream()
-				.map(NewsResponse::from)
-				.collect(Collectors.toList());
+			@RequestParam(required = false) CategoryEnum category,
+			@RequestParam(defaultValue = "10") int limit,
+			@RequestParam(defaultValue = VIEW_FULL) String view) {
+
+		List<NewsResponse> response;
+		if (isSummaryView(view)) {
+			List<NewsSummary> trendingNews = category != null
+					? newsService.findTrendingNewsSummaries(category, limit)
+					: newsService.findTrendingNewsSummaries(limit);
+			response = toResponses(trendingNews, NewsResponse::summary);
+		} else {
+			List<News> trendingNews = category != null
+					? newsService.findTrendingNews(category, limit)
+					: newsService.findTrendingNews(limit);
+			response = toResponses(trendingNews, NewsResponse::from);
+		}
 
 		return ResponseEntity.ok(new HttpResponseDto(200, "Success", response));
 	}
@@ -162,16 +220,36 @@ public class NewsController {
 	public ResponseEntity<HttpResponseDto> searchNews(
 			@RequestParam String keyword,
 			@RequestParam(defaultValue = "1") int page,
-			@RequestParam(defaultValue = "20") int limit) {
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "20") int limit,
+			@RequestParam(defaultValue = VIEW_FULL) String view) {
+
+		if (cursor != null) {
+			NewsCursorPageResponse response = isSummaryView(view)
+					? NewsCursorPageResponse.of(
+							newsService.searchNewsSummariesAfter(keyword, cursor, limit), NewsResponse::summary)
+					: NewsCursorPageResponse.of(
+							newsService.searchNewsAfter(keyword, cursor, limit), NewsResponse::from);
+			return ResponseEntity.ok(new HttpResponseDto(200, "Success", response));
+		}
 
-		List<News> searchResults = newsService.searchNews(keyword, page, limit);
-		List<NewsResponse> response = searchResults.stream()
-				.map(NewsResponse::from)
-				.collect(Collectors.toList());
+		List<NewsResponse> response = isSummaryView(view)
+				? toResponses(newsService.searchNewsSummaries(keyword, page, limit), NewsResponse::summary)
+				: toResponses(newsService.searchNews(keyword, page, limit), NewsResponse::from);
 
 		return ResponseEntity.ok(new HttpResponseDto(200, "Success", response));
 	}
 
+	private static boolean isSummaryView(String view) {
+		return VIEW_SUMMARY.equalsIgnoreCase(view);
+	}
+
+	private static <T> List<NewsResponse> toResponses(List<T> newsList, Function<T, NewsResponse> mapper) {
+		return newsList.stream()
+				.map(mapper)
+				.collect(Collectors.toList());
+	}
+
 	// ==================== 뉴스 수집 ====================
 
 	@PostMapping("/collect/naver-api")
@@ -233,6 +311,47 @@ public class NewsController {
 		}
 	}
 
+	// ==================== 검색 인덱스 ====================
+
+	/**
+	 * 지정 시각 이후 변경된 뉴스를 검색 인덱스에 다시 반영 (OpenSearch 장애 복구용)
+	 */
+	@PostMapping("/search-index/replay")
+	@AdminRequired(message = "검색 인덱스 재반영은 관리자만 가능합니다")
+	public ResponseEntity<HttpResponseDto> replaySearchIndex(
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from) {
+		newsService.replaySearchIndex(from);
+		return ResponseEntity.ok(new HttpResponseDto(200, "Success", null));
+	}
+
+	/**
+	 * 새 버전 인덱스로 무중단 재색인 시작 (매핑/분석기 변경 반영)
+	 */
+	@PostMapping("/search-index/reindex")
+	@AdminRequired(message = "검색 인덱스 재색인은 관리자만 가능합니다")
+	public ResponseEntity<HttpResponseDto> startSearchReindex() {
+		NewsReindexStatus status = newsService.startSearchReindex();
+		return ResponseEntity.ok(new HttpResponseDto(200, "Success", status));
+	}
+
+	/**
+	 * 지정 시각 이후 생성·수정된 뉴스만 현재 인덱스에 다시 색인
+	 */
+	@PostMapping("/search-index/reindex/incremental")
+	@AdminRequired(message = "검색 인덱스 재색인은 관리자만 가능합니다")
+	public ResponseEntity<HttpResponseDto> startIncrementalSearchReindex(
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+		NewsReindexStatus status = newsService.startIncrementalSearchReindex(since);
+		return ResponseEntity.ok(new HttpResponseDto(200, "Success", status));
+	}
+
+	@GetMapping("/search-index/reindex")
+	@AdminRequired(message = "검색 인덱스 재색인 상태 조회는 관리자만 가능합니다")
+	public ResponseEntity<HttpResponseDto> getSearchReindexStatus() {
+		NewsReindexStatus status = newsService.getSearchReindexStatus();
+		return ResponseEntity.ok(new HttpResponseDto(200, "Success", status));
+	}
+
 	// ==================== 통계 ====================
 
 	@GetMapping("/statistics")
@@ -0,0 +1,43 @@
+package com.commonground.be.domain.news.dto.crawling;
+
+import com.commonground.be.domain.news.entity.News;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 크롤링 배치 단위 처리 결과
+ * <p>
+ * 저장된 뉴스와 함께 건너뛴/실패한 기사 수를 담아 진행상황 집계에 사용한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsBatchResult {
+
+	@Builder.Default
+	private List<News> savedNews = List.of();
+
+	private int totalCount;      // 입력된 기사 수
+	private int invalidCount;    // 필수 데이터 누락
+	private int duplicateCount;  // 중복 기사
+	private int failedCount;     // 저장 실패
+
+	public int getSuccessCount() {
+		return savedNews.size();
+	}
+
+	/**
+	 * 저장되지 않은 기사 수 (누락 + 중복 + 실패)
+	 */
+	public int getSkippedCount() {
+		return totalCount - savedNews.size();
+	}
+
+	public static NewsBatchResult empty() {
+		return NewsBatchResult.builder().build();
+	}
+}
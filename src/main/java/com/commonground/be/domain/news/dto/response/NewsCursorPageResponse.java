@@ -0,0 +1,30 @@
+package com.commonground.be.domain.news.dto.response;
+
+import com.commonground.be.domain.news.dto.search.NewsCursorPage;
+import java.util.List;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsCursorPageResponse {
+
+	private List<NewsResponse> news;
+	private String nextCursor;
+	private boolean hasNext;
+
+	public static <T> NewsCursorPageResponse of(NewsCursorPage<T> page, Function<T, NewsResponse> mapper) {
+		return NewsCursorPageResponse.builder()
+				.news(page.getNews().stream()
+						.map(mapper)
+						.toList())
+				.nextCursor(page.getNextCursor())
+				.hasNext(page.isHasNext())
+				.build();
+	}
+}
@@ -0,0 +1,28 @@
+package com.commonground.be.domain.news.dto.response;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsReindexStatus {
+
+	public enum Phase {
+		IDLE, LOADING, CATCHING_UP, SWITCHING, COMPLETED, FAILED
+	}
+
+	private Phase phase;
+	private String sourceIndex;
+	private String targetIndex;
+	private long indexedCount;
+	private long skippedCount;
+	private double docsPerSecond;
+	private LocalDateTime startedAt;
+	private LocalDateTime finishedAt;
+	private String message;
+}
@@ -1,5 +1,6 @@
 package com.commonground.be.domain.news.dto.response;
 
+import com.commonground.be.domain.news.dto.search.NewsSummary;
 import com.commonground.be.domain.news.entity.News;
 import com.commonground.be.domain.news.enums.CategoryEnum;
 import com.commonground.be.domain.news.enums.CrawlingSourceEnum;
@@ -78,4 +79,19 @@ public class NewsResponse {
 				.viewCount(news.getViewCount())
 				.build();
 	}
+
+	public static NewsResponse summary(NewsSummary news) {
+		return NewsResponse.builder()
+				.id(news.getId())
+				.title(news.getTitle())
+				.url(news.getUrl())
+				.authorName(news.getAuthorName())
+				.publishedAt(news.getPublishedAt())
+				.category(news.getCategory())
+				.categoryName(news.getCategory() != null ? news.getCategory().getKoreanName() : null)
+				.mediaOutletId(news.getMediaOutletId())
+				.summary(news.getSummary())
+				.viewCount(news.getViewCount())
+				.build();
+	}
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.commonground.be.domain.news.dto.response;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -17,6 +18,8 @@ public class NewsStatistics {
 	private Long economyCount;
 	private Long societyCount;
 	private Long cultureCount;
+	private Map<String, Long> mediaOutletCounts;
+	private Map<String, Long> dailyCounts;
 	private LocalDateTime lastCrawledAt;
 	private LocalDateTime lastUpdated;
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.commonground.be.domain.news.dto.search;
+
+import com.commonground.be.domain.news.entity.News;
+import com.commonground.be.global.application.exception.NewsServiceExceptions;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.bson.types.ObjectId;
+
+/**
+ * 목록 커서 페이지네이션의 이어보기 위치 (publishedAt, id)
+ * <p>
+ * 목록은 publishedAt 내림차순, 같은 시각이면 id 내림차순으로 정렬되며
+ * 커서는 마지막으로 내려준 기사의 정렬 키를 담는다.
+ * 클라이언트에는 base64url 로 인코딩한 불투명 토큰으로만 노출한다.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class NewsCursor {
+
+    private static final char SEPARATOR = ':';
+
+    // null 이면 발행일 없는 기사 구간 (정렬상 가장 뒤)
+    private final LocalDateTime publishedAt;
+    private final String id;
+
+    public NewsCursor(LocalDateTime publishedAt, String id) {
+        this.publishedAt = publishedAt;
+        this.id = id;
+    }
+
+    public static NewsCursor of(News news) {
+        return new NewsCursor(news.getPublishedAt(), news.getId());
+    }
+
+    public static NewsCursor of(NewsSummary summary) {
+        return new NewsCursor(summary.getPublishedAt(), summary.getId());
+    }
+
+    /**
+     * 토큰 인코딩 ("{epochMillis}:{id}", 발행일이 없으면 epochMillis 생략)
+     */
+    public String encode() {
+        String millis = publishedAt != null
+                ? String.valueOf(publishedAt.toInstant(ZoneOffset.UTC).toEpochMilli())
+                : "";
+        String raw = millis + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰 디코딩 (빈 토큰은 첫 페이지로 보고 null 반환)
+     *
+     * @throws com.commonground.be.global.application.exception.CommonException 형식이 잘못된 토큰
+     */
+    public static NewsCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            String millis = raw.substring(0, separator);
+            String id = raw.substring(separator + 1);
+            if (!ObjectId.isValid(id)) {
+                throw NewsServiceExceptions.invalidCursor(token);
+            }
+            LocalDateTime publishedAt = millis.isEmpty()
+                    ? null
+                    : LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(millis)), ZoneOffset.UTC);
+            return new NewsCursor(publishedAt, id);
+
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw NewsServiceExceptions.invalidCursor(token);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.commonground.be.domain.news.dto.search;
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커서 페이지네이션 조회 결과 (nextCursor 가 null 이면 마지막 페이지)
+ *
+ * @param <T> News 또는 NewsSummary
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsCursorPage<T> {
+    private List<T> news;
+    private String nextCursor;
+    private boolean hasNext;
+
+    /**
+     * limit + 1 개를 조회한 결과로 페이지 구성 (초과분 존재 여부로 다음 페이지 판단)
+     */
+    public static <T> NewsCursorPage<T> of(List<T> fetched, int limit, Function<T, NewsCursor> cursorOf) {
+        boolean hasNext = fetched.size() > limit;
+        List<T> page = hasNext ? fetched.subList(0, limit) : fetched;
+        return NewsCursorPage.<T>builder()
+                .news(page)
+                .nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+}
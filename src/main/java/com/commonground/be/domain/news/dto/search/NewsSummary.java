@@ -0,0 +1,34 @@
+package com.commonground.be.domain.news.dto.search;
+
+import com.commonground.be.domain.news.enums.CategoryEnum;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 목록 화면용 뉴스 요약 모델 (news 컬렉션 프로젝션 결과)
+ * 본문(content)과 크롤링 메타데이터는 조회하지 않는다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsSummary {
+
+    // 프로젝션 대상 필드 (_id 는 기본 포함)
+    public static final String[] FIELDS = {
+            "title", "url", "authorName", "publishedAt", "category", "mediaOutletId", "summary", "viewCount"
+    };
+
+    private String id;
+    private String title;
+    private String url;
+    private String authorName;
+    private LocalDateTime publishedAt;
+    private CategoryEnum category;
+    private String mediaOutletId;
+    private String summary;
+    private Long viewCount;
+}
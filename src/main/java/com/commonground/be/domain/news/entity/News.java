@@ -14,10 +14,26 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "news")
+@CompoundIndexes({
+		// 목록 조회용 (NewsRepositoryImpl 쿼리 형태별, equality → 정렬 → 범위 순서)
+		// 목록/카운트 쿼리는 모두 status = PUBLISHED 조건을 포함하므로 공개 기사만 인덱싱한다.
+		@CompoundIndex(name = "published_category_latest", def = "{'category': 1, 'publishedAt': -1, '_id': -1}",
+				partialFilter = "{'status': 'PUBLISHED'}"),
+		@CompoundIndex(name = "published_mediaOutlet_latest", def = "{'mediaOutletId': 1, 'publishedAt': -1, '_id': -1}",
+				partialFilter = "{'status': 'PUBLISHED'}"),
+		@CompoundIndex(name = "published_latest", def = "{'publishedAt': -1, '_id': -1}",
+				partialFilter = "{'status': 'PUBLISHED'}"),
+		// 조회수 트렌딩 (status 일치 → viewCount 정렬 → publishedAt 범위)
+		@CompoundIndex(name = "status_viewCount_publishedAt", def = "{'status': 1, 'viewCount': -1, 'publishedAt': -1}"),
+		// 원문 URL 중복 확인 (existsByOriginalUrl, findExistingOriginalUrls, 원문 링크가 없는 기사는 제외)
+		@CompoundIndex(name = "crawlingMetadata_originalUrl", def = "{'crawlingMetadata.originalUrl': 1}", sparse = true)
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -43,17 +59,14 @@ public class News {
 	@NotBlank
 	private String authorName;
 
-	@Indexed
 	private LocalDateTime publishedAt;
 
 	@Indexed
 	private LocalDateTime crawledAt;
 
 	// 분류 정보
-	@Indexed
 	private CategoryEnum category;
 
-	@Indexed
 	private String mediaOutletId;
 
 	private String journalistId;
@@ -71,13 +84,15 @@ public class News {
 
 	private String crawlingPlatform;
 
-	@Indexed
 	@Builder.Default
 	private NewsStatusEnum status = NewsStatusEnum.PUBLISHED;
 
 	// 크롤링 원본 정보 (디버깅용)
 	private CrawlingMetadata crawlingMetadata;
 
+	// 제목+본문 SimHash (유사 기사 중복 체크용)
+	private Long contentFingerprint;
+
 	@CreatedDate
 	private LocalDateTime createdAt;
 
@@ -0,0 +1,40 @@
+package com.commonground.be.domain.news.entity;
+
+import com.commonground.be.domain.news.enums.NewsOutboxEventType;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * 뉴스 변경 이벤트 (검색 인덱스 동기화용 outbox)
+ * <p>
+ * id(ObjectId) 순서가 곧 전달 순서이며, 소비자는 마지막으로 전달한 id 를 체크포인트로 저장한다.
+ * 보존 기간 안의 이벤트는 체크포인트를 되돌려 다시 전달할 수 있다.
+ */
+@Document(collection = "news_outbox")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsOutboxEvent {
+
+	@Id
+	private String id;
+
+	private String newsId;
+
+	private NewsOutboxEventType type;
+
+	// 보존 기간이 지나면 TTL 인덱스로 삭제
+	@Indexed(expireAfter = "7d")
+	private LocalDateTime createdAt;
+
+	public void assignId(String id) {
+		this.id = id;
+	}
+}
@@ -0,0 +1,48 @@
+package com.commonground.be.domain.news.entity;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * 뉴스 통계 스냅샷 (공개 기사 기준, 주기적으로 한 번의 $facet 집계로 다시 계산)
+ * <p>
+ * cutoffAt 이전에 저장된 기사를 모두 포함하며, 그 이후 저장분은 generation 별 Redis 증분 카운터로 더한다.
+ */
+@Document(collection = "news_stats")
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsStats {
+
+	public static final String CURRENT_ID = "current";
+
+	@Id
+	private String id;
+
+	// 이 스냅샷 이후 증분 카운터의 시작 세대
+	private long generation;
+
+	private LocalDateTime cutoffAt;
+
+	private long totalNews;
+
+	// CategoryEnum 이름 → 기사 수
+	private Map<String, Long> categoryCounts;
+
+	// 언론사 id → 기사 수 (기사 수 상위 N 개)
+	private Map<String, Long> mediaOutletCounts;
+
+	// 발행일(yyyy-MM-dd) → 기사 수 (최근 N 일)
+	private Map<String, Long> dailyCounts;
+
+	private LocalDateTime lastCrawledAt;
+
+	private LocalDateTime materializedAt;
+}
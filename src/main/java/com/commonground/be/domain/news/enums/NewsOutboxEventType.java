@@ -0,0 +1,5 @@
+package com.commonground.be.domain.news.enums;
+
+public enum NewsOutboxEventType {
+    UPSERT, DELETE
+}
@@ -0,0 +1,21 @@
+package com.commonground.be.domain.news.repository;
+
+import com.commonground.be.domain.news.entity.NewsOutboxEvent;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NewsOutboxRepository {
+
+	void appendAll(List<NewsOutboxEvent> events);
+
+	/**
+	 * afterId 초과 beforeId 미만 이벤트를 id 오름차순으로 조회 (afterId 가 null 이면 처음부터)
+	 */
+	List<NewsOutboxEvent> findBetween(String afterId, String beforeId, int limit);
+
+	Optional<String> findCheckpoint(String consumer);
+
+	void saveCheckpoint(String consumer, String lastEventId);
+}
@@ -0,0 +1,62 @@
+package com.commonground.be.domain.news.repository;
+
+import com.commonground.be.domain.news.entity.NewsOutboxEvent;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class NewsOutboxRepositoryImpl implements NewsOutboxRepository {
+
+	private static final String CHECKPOINT_COLLECTION = "news_outbox_checkpoint";
+
+	private final MongoTemplate mongoTemplate;
+
+	@Override
+	public void appendAll(List<NewsOutboxEvent> events) {
+		if (events.isEmpty()) {
+			return;
+		}
+		events.stream()
+				.filter(event -> event.getId() == null)
+				.forEach(event -> event.assignId(ObjectId.get().toString()));
+		mongoTemplate.insertAll(events);
+	}
+
+	@Override
+	public List<NewsOutboxEvent> findBetween(String afterId, String beforeId, int limit) {
+		Criteria criteria = Criteria.where("id").lt(beforeId);
+		if (afterId != null) {
+			criteria.gt(afterId);
+		}
+		Query query = new Query(criteria)
+				.with(Sort.by(Sort.Direction.ASC, "id"))
+				.limit(limit);
+		return mongoTemplate.find(query, NewsOutboxEvent.class);
+	}
+
+	@Override
+	public Optional<String> findCheckpoint(String consumer) {
+		Document checkpoint = mongoTemplate.findById(consumer, Document.class, CHECKPOINT_COLLECTION);
+		return Optional.ofNullable(checkpoint).map(document -> document.getString("lastEventId"));
+	}
+
+	@Override
+	public void saveCheckpoint(String consumer, String lastEventId) {
+		Query query = new Query(Criteria.where("_id").is(consumer));
+		Update update = new Update()
+				.set("lastEventId", lastEventId)
+				.set("updatedAt", LocalDateTime.now());
+		mongoTemplate.upsert(query, update, CHECKPOINT_COLLECTION);
+	}
+}
@@ -1,9 +1,16 @@
 package com.commonground.be.domain.news.repository;
 
+import com.commonground.be.domain.news.dto.search.NewsCursor;
+import com.commonground.be.domain.news.dto.search.NewsSummary;
 import com.commonground.be.domain.news.entity.News;
 import com.commonground.be.domain.news.enums.CategoryEnum;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -13,6 +20,8 @@ public interface NewsRepository {
 
 	Optional<News> findById(String id);
 
+	List<News> findByIdIn(Collection<String> ids);
+
 	Optional<News> findByUrl(String url);
 
 	List<News> findByCategory(CategoryEnum category, int page, int limit);
@@ -32,9 +41,56 @@ public interface NewsRepository {
 	void deleteById(String id);
 
 	List<News> searchByKeyword(String keyword, int page, int limit);
+
+	// 커서 페이지네이션 (cursor 가 null 이면 첫 페이지, 다음 페이지 확인용으로 최대 limit + 1 개 반환)
+	List<News> findByCategoryAfter(CategoryEnum category, NewsCursor cursor, int limit);
+
+	List<News> findByMediaOutletIdAfter(String mediaOutletId, NewsCursor cursor, int limit);
+
+	List<News> searchByKeywordAfter(String keyword, NewsCursor cursor, int limit);
+
+	// 목록 화면용 요약 조회 (본문/크롤링 메타데이터 제외 프로젝션)
+	List<NewsSummary> findSummariesByIdIn(Collection<String> ids);
+
+	List<NewsSummary> findSummariesByCategory(CategoryEnum category, int page, int limit);
+
+	List<NewsSummary> findSummariesByCategoryAfter(CategoryEnum category, NewsCursor cursor, int limit);
+
+	List<NewsSummary> findSummariesByMediaOutletId(String mediaOutletId, int page, int limit);
+
+	List<NewsSummary> findSummariesByMediaOutletIdAfter(String mediaOutletId, NewsCursor cursor, int limit);
+
+	List<NewsSummary> findRecentSummaries(int limit);
+
+	List<NewsSummary> findTrendingSummaries(int limit);
+
+	List<NewsSummary> searchSummariesByKeyword(String keyword, int page, int limit);
+
+	List<NewsSummary> searchSummariesByKeywordAfter(String keyword, NewsCursor cursor, int limit);
 	
 	// 중복 뉴스 체크를 위한 메서드들
 	boolean existsByOriginalUrl(String originalUrl);
 	
 	boolean existsByTitleAndAuthorNameAndCategory(String title, String authorName, CategoryEnum category);
+
+	// 배치 적재를 위한 메서드들 ($in 단일 쿼리)
+	Set<String> findExistingUrls(Collection<String> urls);
+
+	Set<String> findExistingOriginalUrls(Collection<String> originalUrls);
+
+	List<News> findByTitleIn(Collection<String> titles);
+
+	List<News> insertAll(List<News> newsList);
+
+	// 조회수 일괄 반영 (newsId → 증가량)
+	void incrementViewCounts(Map<String, Long> deltas);
+
+	// 중복 체크 필터 워밍업용 (url, crawlingMetadata.originalUrl 프로젝션 스트리밍)
+	void forEachUrl(LocalDateTime createdAfter, Consumer<String> consumer);
+
+	// 유사 기사 인덱스 워밍업용 (_id, contentFingerprint 프로젝션 스트리밍)
+	void forEachContentFingerprint(LocalDateTime createdAfter, Consumer<News> consumer);
+
+	// 검색 재색인용 (_id 구간 분할의 시작점)
+	Optional<String> findOldestId();
 }
@@ -1,29 +1,49 @@
 package com.commonground.be.domain.news.repository;
 
+import com.commonground.be.domain.news.dto.search.NewsCursor;
+import com.commonground.be.domain.news.dto.search.NewsSummary;
 import com.commonground.be.domain.news.entity.News;
 import com.commonground.be.domain.news.enums.CategoryEnum;
 import com.commonground.be.domain.news.enums.NewsStatusEnum;
-import java.time.Duration;
+import com.mongodb.bulk.BulkWriteError;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.TextCriteria;
 import org.springframework.data.mongodb.core.query.Update;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Repository;
 
 @Repository
 @RequiredArgsConstructor
+@Slf4j
 public class NewsRepositoryImpl implements NewsRepository {
 
+	private static final int STREAM_BATCH_SIZE = 5000;
+
+	// 목록 정렬 (발행일 최신순, 같은 발행일은 _id 역순으로 순서 고정)
+	private static final Sort LATEST_FIRST = Sort.by(Sort.Direction.DESC, "publishedAt")
+			.and(Sort.by(Sort.Direction.DESC, "_id"));
+
 	private final MongoTemplate mongoTemplate;
-	private final RedisTemplate<String, Object> redisTemplate;
 
 	@Override
 	public News save(News news) {
@@ -39,6 +59,25 @@ public class NewsRepositoryImpl implements NewsRepository {
 		return Optional.ofNullable(news);
 	}
 
+	/**
+	 * id 목록으로 일괄 조회 (순서는 보장하지 않음)
+	 */
+	@Override
+	public List<News> findByIdIn(Collection<String> ids) {
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+		return mongoTemplate.find(idInQuery(ids), News.class);
+	}
+
+	@Override
+	public List<NewsSummary> findSummariesByIdIn(Collection<String> ids) {
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+		return findSummaries(idInQuery(ids));
+	}
+
 	@Override
 	public Optional<News> findByUrl(String url) {
 		Query query = new Query(Criteria.where("url").is(url)
@@ -49,62 +88,63 @@ public class NewsRepositoryImpl implements NewsRepository {
 
 	@Override
 	public List<News> findByCategory(CategoryEnum category, int page, int limit) {
-		Query query = new Query(Criteria.where("category").is(category)
-				.and("status").is(NewsStatusEnum.PUBLISHED)
-				.and("deletedAt").isNull())
-				.with(Sort.by(Sort.Direction.DESC, "publishedAt"))
-				.skip((long) (page - 1) * limit)
-				.limit(limit);
+		return mongoTemplate.find(pageOf(categoryQuery(category), page, limit), News.class);
+	}
 
-		return mongoTemplate.find(query, News.class);
+	@Override
+	public List<News> findByCategoryAfter(CategoryEnum category, NewsCursor cursor, int limit) {
+		return mongoTemplate.find(seekAfter(categoryQuery(category), cursor, limit), News.class);
 	}
 
 	@Override
-	public List<News> findByMediaOutletId(String mediaOutletId, int page, int limit) {
-		Query query = new Query(Criteria.where("mediaOutletId").is(mediaOutletId)
-				.and("status").is(NewsStatusEnum.PUBLISHED)
-				.and("deletedAt").isNull())
-				.with(Sort.by(Sort.Direction.DESC, "publishedAt"))
-				.skip((long) (page - 1) * limit)
-				.limit(limit);
+	public List<NewsSummary> findSummariesByCategory(CategoryEnum category, int page, int limit) {
+		return findSummaries(pageOf(categoryQuery(category), page, limit));
+	}
 
-		return mongoTemplate.find(query, News.class);
+	@Override
+	public List<NewsSummary> findSummariesByCategoryAfter(CategoryEnum category, NewsCursor cursor, int limit) {
+		return findSummaries(seekAfter(categoryQuery(category), cursor, limit));
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
-	public List<News> findRecentNews(int limit) {
-		// Redis 캐시 확인
-		String cacheKey = "recent_news:" + limit;
-		List<News> cachedNews = (List<News>) redisTemplate.opsForValue().get(cacheKey);
+	public List<News> findByMediaOutletId(String mediaOutletId, int page, int limit) {
+		return mongoTemplate.find(pageOf(mediaOutletQuery(mediaOutletId), page, limit), News.class);
+	}
 
-		if (cachedNews != null) {
-			return cachedNews;
-		}
+	@Override
+	public List<News> findByMediaOutletIdAfter(String mediaOutletId, NewsCursor cursor, int limit) {
+		return mongoTemplate.find(seekAfter(mediaOutletQuery(mediaOutletId), cursor, limit), News.class);
+	}
 
-		// MongoDB에서 조회
-		Query query = new Query(Criteria.where("status").is(NewsStatusEnum.PUBLISHED)
-				.and("deletedAt").isNull())
-				.with(Sort.by(Sort.Direction.DESC, "publishedAt"))
-				.limit(limit);
+	@Override
+	public List<NewsSummary> findSummariesByMediaOutletId(String mediaOutletId, int page, int limit) {
+		return findSummaries(pageOf(mediaOutletQuery(mediaOutletId), page, limit));
+	}
 
-		List<News> recentNews = mongoTemplate.find(query, News.class);
+	@Override
+	public List<NewsSummary> findSummariesByMediaOutletIdAfter(String mediaOutletId, NewsCursor cursor,
+			int limit) {
+		return findSummaries(seekAfter(mediaOutletQuery(mediaOutletId), cursor, limit));
+	}
 
-		// Redis에 캐시 (TTL: 10분)
-		redisTemplate.opsForValue().set(cacheKey, recentNews, Duration.ofMinutes(10));
+	@Override
+	public List<News> findRecentNews(int limit) {
+		return mongoTemplate.find(recentQuery(limit), News.class);
+	}
 
-		return recentNews;
+	@Override
+	public List<NewsSummary> findRecentSummaries(int limit) {
+		return findSummaries(recentQuery(limit));
 	}
 
 	@Override
 	public List<News> findTrendingNews(int limit) {
-		Query query = new Query(Criteria.where("status").is(NewsStatusEnum.PUBLISHED)
-				.and("publishedAt").gte(LocalDateTime.now().minusHours(24))
-				.and("deletedAt").isNull())
-				.with(Sort.by(Sort.Direction.DESC, "viewCount"))
-				.limit(limit);
+		return mongoTemplate.find(trendingQuery(limit), News.class);
+	}
 
-		return mongoTemplate.find(query, News.class);
+	@Override
+	public List<NewsSummary> findTrendingSummaries(int limit) {
+		return findSummaries(trendingQuery(limit));
 	}
 
 	@Override
@@ -116,18 +156,12 @@ public class NewsRepositoryImpl implements NewsRepository {
 
 	@Override
 	public long countByCategory(CategoryEnum category) {
-		Query query = new Query(Criteria.where("category").is(category)
-				.and("status").is(NewsStatusEnum.PUBLISHED)
-				.and("deletedAt").isNull());
-		return mongoTemplate.count(query, News.class);
+		return mongoTemplate.count(categoryQuery(category), News.class);
 	}
 
 	@Override
 	public long countByMediaOutletId(String mediaOutletId) {
-		Query query = new Query(Criteria.where("mediaOutletId").is(mediaOutletId)
-				.and("status").is(NewsStatusEnum.PUBLISHED)
-				.and("deletedAt").isNull());
-		return mongoTemplate.count(query, News.class);
+		return mongoTemplate.count(mediaOutletQuery(mediaOutletId), News.class);
 	}
 
 	@Override
@@ -141,18 +175,115 @@ public class NewsRepositoryImpl implements NewsRepository {
 
 	@Override
 	public List<News> searchByKeyword(String keyword, int page, int limit) {
+		return mongoTemplate.find(pageOf(keywordQuery(keyword), page, limit), News.class);
+	}
+
+	@Override
+	public List<News> searchByKeywordAfter(String keyword, NewsCursor cursor, int limit) {
+		return mongoTemplate.find(seekAfter(keywordQuery(keyword), cursor, limit), News.class);
+	}
+
+	@Override
+	public List<NewsSummary> searchSummariesByKeyword(String keyword, int page, int limit) {
+		return findSummaries(pageOf(keywordQuery(keyword), page, limit));
+	}
+
+	@Override
+	public List<NewsSummary> searchSummariesByKeywordAfter(String keyword, NewsCursor cursor, int limit) {
+		return findSummaries(seekAfter(keywordQuery(keyword), cursor, limit));
+	}
+
+	// ==================== 목록 쿼리 구성 ====================
+
+	private Query idInQuery(Collection<String> ids) {
+		return new Query(Criteria.where("_id").in(ids)
+				.and("status").is(NewsStatusEnum.PUBLISHED)
+				.and("deletedAt").isNull());
+	}
+
+	private Query categoryQuery(CategoryEnum category) {
+		return new Query(Criteria.where("category").is(category)
+				.and("status").is(NewsStatusEnum.PUBLISHED)
+				.and("deletedAt").isNull());
+	}
+
+	private Query mediaOutletQuery(String mediaOutletId) {
+		return new Query(Criteria.where("mediaOutletId").is(mediaOutletId)
+				.and("status").is(NewsStatusEnum.PUBLISHED)
+				.and("deletedAt").isNull());
+	}
+
+	private Query keywordQuery(String keyword) {
 		// MongoDB 텍스트 검색 또는 OpenSearch 연동
 		TextCriteria criteria = TextCriteria.forDefaultLanguage()
 				.matchingAny(keyword);
 
-		Query query = new Query(criteria)
+		return new Query(criteria)
 				.addCriteria(Criteria.where("status").is(NewsStatusEnum.PUBLISHED)
-						.and("deletedAt").isNull())
-				.with(Sort.by(Sort.Direction.DESC, "publishedAt"))
+						.and("deletedAt").isNull());
+	}
+
+	private Query recentQuery(int limit) {
+		return new Query(Criteria.where("status").is(NewsStatusEnum.PUBLISHED)
+				.and("deletedAt").isNull())
+				.with(LATEST_FIRST)
+				.limit(limit);
+	}
+
+	private Query trendingQuery(int limit) {
+		return new Query(Criteria.where("status").is(NewsStatusEnum.PUBLISHED)
+				.and("publishedAt").gte(LocalDateTime.now().minusHours(24))
+				.and("deletedAt").isNull())
+				.with(Sort.by(Sort.Direction.DESC, "viewCount"))
+				.limit(limit);
+	}
+
+	private Query pageOf(Query query, int page, int limit) {
+		return query.with(LATEST_FIRST)
 				.skip((long) (page - 1) * limit)
 				.limit(limit);
+	}
 
-		return mongoTemplate.find(query, News.class);
+	/**
+	 * 목록 화면용 필드만 프로젝션하여 요약 모델로 조회
+	 * (본문/크롤링 메타데이터를 읽지 않아 전송량과 역직렬화 비용이 줄어든다)
+	 */
+	private List<NewsSummary> findSummaries(Query query) {
+		query.fields().include(NewsSummary.FIELDS);
+		return mongoTemplate.query(News.class)
+				.as(NewsSummary.class)
+				.matching(query)
+				.all();
+	}
+
+	/**
+	 * 커서 이후 구간만 조회하도록 범위 조건/정렬/limit 적용
+	 * skip 없이 인덱스 위치로 바로 이동하므로 페이지 깊이와 무관하게 비용이 일정하다.
+	 * 다음 페이지 존재 여부 확인을 위해 limit + 1 개를 조회한다.
+	 */
+	private Query seekAfter(Query query, NewsCursor cursor, int limit) {
+		if (cursor != null) {
+			query.addCriteria(seekCriteria(cursor));
+		}
+		return query.with(LATEST_FIRST).limit(limit + 1);
+	}
+
+	/**
+	 * (publishedAt, _id) 내림차순 기준으로 커서보다 뒤에 오는 문서 조건
+	 * <p>
+	 * $or 로 나누지 않고 publishedAt 단일 범위로 인덱스 시작 위치를 잡은 뒤,
+	 * 커서와 발행일이 같은 문서 중 이미 내려준 것만 $nor 로 제외한다.
+	 * $not $gt 는 null(발행일 없음)도 포함하므로 발행일 있는 구간 다음에 발행일 없는 구간이 이어진다.
+	 */
+	private Criteria seekCriteria(NewsCursor cursor) {
+		ObjectId lastId = new ObjectId(cursor.getId());
+		if (cursor.getPublishedAt() == null) {
+			return Criteria.where("publishedAt").is(null)
+					.and("_id").lt(lastId);
+		}
+		return Criteria.where("publishedAt").not().gt(cursor.getPublishedAt())
+				.norOperator(Criteria.where("publishedAt").is(cursor.getPublishedAt())
+						.and("_id").gte(lastId));
 	}
 
 	@Override
@@ -170,4 +301,151 @@ public class NewsRepositoryImpl implements NewsRepository {
 				.and("deletedAt").isNull());
 		return mongoTemplate.exists(query, News.class);
 	}
-}
\ No newline at end of file
+
+	@Override
+	public Set<String> findExistingUrls(Collection<String> urls) {
+		if (urls.isEmpty()) {
+			return Set.of();
+		}
+		Query query = new Query(Criteria.where("url").in(urls)
+				.and("deletedAt").isNull());
+		query.fields().include("url");
+
+		return mongoTemplate.find(query, News.class).stream()
+				.map(News::getUrl)
+				.collect(Collectors.toSet());
+	}
+
+	@Override
+	public Set<String> findExistingOriginalUrls(Collection<String> originalUrls) {
+		if (originalUrls.isEmpty()) {
+			return Set.of();
+		}
+		Query query = new Query(Criteria.where("crawlingMetadata.originalUrl").in(originalUrls)
+				.and("deletedAt").isNull());
+		query.fields().include("crawlingMetadata.originalUrl");
+
+		return mongoTemplate.find(query, News.class).stream()
+				.map(News::getCrawlingMetadata)
+				.filter(Objects::nonNull)
+				.map(metadata -> metadata.getOriginalUrl())
+				.filter(Objects::nonNull)
+				.collect(Collectors.toSet());
+	}
+
+	@Override
+	public List<News> findByTitleIn(Collection<String> titles) {
+		if (titles.isEmpty()) {
+			return List.of();
+		}
+		Query query = new Query(Criteria.where("title").in(titles)
+				.and("deletedAt").isNull());
+		query.fields().include("title").include("authorName").include("category");
+
+		return mongoTemplate.find(query, News.class);
+	}
+
+	/**
+	 * 뉴스 일괄 저장 (unordered bulk insert)
+	 * 일부 문서가 실패해도 나머지는 저장되며, 실제로 저장된 뉴스만 반환한다.
+	 */
+	@Override
+	public List<News> insertAll(List<News> newsList) {
+		if (newsList.isEmpty()) {
+			return List.of();
+		}
+		newsList.stream()
+				.filter(news -> news.getId() == null)
+				.forEach(news -> news.assignId(ObjectId.get().toString()));
+
+		BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, News.class);
+		bulkOps.insert(newsList);
+
+		try {
+			bulkOps.execute();
+			return newsList;
+		} catch (BulkOperationException e) {
+			// unordered 모드에서는 실패한 문서만 제외하고 나머지는 저장됨
+			Set<Integer> failedIndexes = e.getErrors().stream()
+					.map(BulkWriteError::getIndex)
+					.collect(Collectors.toSet());
+			log.warn("뉴스 일괄 저장 부분 실패: 전체={}, 실패={}", newsList.size(), failedIndexes.size());
+
+			List<News> inserted = new ArrayList<>(newsList.size() - failedIndexes.size());
+			for (int i = 0; i < newsList.size(); i++) {
+				if (!failedIndexes.contains(i)) {
+					inserted.add(newsList.get(i));
+				}
+			}
+			return inserted;
+		}
+	}
+
+	/**
+	 * 조회수 증가분을 unordered bulk $inc 한 번으로 반영
+	 */
+	@Override
+	public void incrementViewCounts(Map<String, Long> deltas) {
+		if (deltas.isEmpty()) {
+			return;
+		}
+		BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, News.class);
+		deltas.forEach((newsId, delta) -> bulkOps.updateOne(
+				new Query(Criteria.where("_id").is(newsId)),
+				new Update().inc("viewCount", delta)));
+		bulkOps.execute();
+	}
+
+	/**
+	 * 저장된 모든 뉴스의 url / 원문 url 을 커서로 스트리밍 (전체 문서를 메모리에 올리지 않음)
+	 *
+	 * @param createdAfter null 이면 전체, 아니면 해당 시각 이후 생성된 문서만 (ObjectId 시간 기준)
+	 */
+	@Override
+	public void forEachUrl(LocalDateTime createdAfter, Consumer<String> consumer) {
+		Query query = new Query();
+		if (createdAfter != null) {
+			Date since = Date.from(createdAfter.atZone(ZoneId.systemDefault()).toInstant());
+			query.addCriteria(Criteria.where("_id").gte(ObjectId.getSmallestWithDate(since)));
+		}
+		query.fields().include("url").include("crawlingMetadata.originalUrl");
+		query.cursorBatchSize(STREAM_BATCH_SIZE);
+
+		try (Stream<News> stream = mongoTemplate.stream(query, News.class)) {
+			stream.forEach(news -> {
+				if (news.getUrl() != null) {
+					consumer.accept(news.getUrl());
+				}
+				if (news.getCrawlingMetadata() != null && news.getCrawlingMetadata().getOriginalUrl() != null) {
+					consumer.accept(news.getCrawlingMetadata().getOriginalUrl());
+				}
+			});
+		}
+	}
+
+	/**
+	 * contentFingerprint 가 있는 뉴스를 _id/contentFingerprint 프로젝션으로 스트리밍
+	 *
+	 * @param createdAfter 해당 시각 이후 생성된 문서만 (ObjectId 시간 기준)
+	 */
+	@Override
+	public void forEachContentFingerprint(LocalDateTime createdAfter, Consumer<News> consumer) {
+		Date since = Date.from(createdAfter.atZone(ZoneId.systemDefault()).toInstant());
+		Query query = new Query(Criteria.where("_id").gte(ObjectId.getSmallestWithDate(since))
+				.and("contentFingerprint").ne(null)
+				.and("deletedAt").isNull());
+		query.fields().include("_id").include("contentFingerprint");
+		query.cursorBatchSize(STREAM_BATCH_SIZE);
+
+		try (Stream<News> stream = mongoTemplate.stream(query, News.class)) {
+			stream.forEach(consumer);
+		}
+	}
+
+	@Override
+	public Optional<String> findOldestId() {
+		Query query = new Query().with(Sort.by(Sort.Direction.ASC, "_id")).limit(1);
+		query.fields().include("_id");
+		return Optional.ofNullable(mongoTemplate.findOne(query, News.class)).map(News::getId);
+	}
+}
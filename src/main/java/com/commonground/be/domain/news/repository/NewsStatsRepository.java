@@ -0,0 +1,20 @@
+package com.commonground.be.domain.news.repository;
+
+import com.commonground.be.domain.news.entity.NewsStats;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NewsStatsRepository {
+
+	/**
+	 * beforeId 미만 공개 기사의 전체/카테고리별/언론사별(상위 outletLimit)/일별(dailySince 이후)
+	 * 기사 수와 마지막 수집 시각을 한 번의 집계로 계산
+	 */
+	NewsStats aggregate(String beforeId, LocalDateTime dailySince, int outletLimit);
+
+	Optional<NewsStats> findCurrent();
+
+	void saveCurrent(NewsStats stats);
+}
@@ -0,0 +1,92 @@
+package com.commonground.be.domain.news.repository;
+
+import com.commonground.be.domain.news.entity.News;
+import com.commonground.be.domain.news.entity.NewsStats;
+import com.commonground.be.domain.news.enums.NewsStatusEnum;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.DateOperators;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class NewsStatsRepositoryImpl implements NewsStatsRepository {
+
+	private static final String COUNT = "count";
+
+	private final MongoTemplate mongoTemplate;
+
+	@Override
+	public NewsStats aggregate(String beforeId, LocalDateTime dailySince, int outletLimit) {
+		ZoneId zone = ZoneId.systemDefault();
+		TypedAggregation<News> aggregation = Aggregation.newAggregation(News.class,
+				Aggregation.match(Criteria.where("status").is(NewsStatusEnum.PUBLISHED)
+						.and("_id").lt(new ObjectId(beforeId))),
+				Aggregation.facet(Aggregation.count().as(COUNT)).as("total")
+						.and(Aggregation.group("category").count().as(COUNT)).as("byCategory")
+						.and(Aggregation.group("mediaOutletId").count().as(COUNT),
+								Aggregation.sort(Sort.Direction.DESC, COUNT),
+								Aggregation.limit(outletLimit)).as("byOutlet")
+						.and(Aggregation.match(Criteria.where("publishedAt").gte(dailySince)),
+								Aggregation.project().and(DateOperators.DateToString.dateOf("publishedAt")
+										.toString("%Y-%m-%d")
+										.withTimezone(DateOperators.Timezone.valueOf(zone.getId()))).as("day"),
+								Aggregation.group("day").count().as(COUNT)).as("byDay")
+						.and(Aggregation.group().max("crawledAt").as("lastCrawledAt")).as("lastCrawl"));
+
+		Document result = mongoTemplate.aggregate(aggregation, Document.class).getUniqueMappedResult();
+		if (result == null) {
+			result = new Document();
+		}
+
+		List<Document> total = result.getList("total", Document.class, List.of());
+		List<Document> lastCrawl = result.getList("lastCrawl", Document.class, List.of());
+		Date lastCrawledAt = lastCrawl.isEmpty() ? null : lastCrawl.get(0).getDate("lastCrawledAt");
+
+		return NewsStats.builder()
+				.totalNews(total.isEmpty() ? 0L : countOf(total.get(0)))
+				.categoryCounts(countsById(result.getList("byCategory", Document.class, List.of())))
+				.mediaOutletCounts(countsById(result.getList("byOutlet", Document.class, List.of())))
+				.dailyCounts(countsById(result.getList("byDay", Document.class, List.of())))
+				.lastCrawledAt(lastCrawledAt != null ? LocalDateTime.ofInstant(lastCrawledAt.toInstant(), zone) : null)
+				.build();
+	}
+
+	private static Map<String, Long> countsById(List<Document> groups) {
+		Map<String, Long> counts = new LinkedHashMap<>();
+		for (Document group : groups) {
+			Object id = group.get("_id");
+			if (id != null) {
+				counts.put(id.toString(), countOf(group));
+			}
+		}
+		return counts;
+	}
+
+	private static long countOf(Document document) {
+		return document.get(COUNT) instanceof Number number ? number.longValue() : 0L;
+	}
+
+	@Override
+	public Optional<NewsStats> findCurrent() {
+		return Optional.ofNullable(mongoTemplate.findById(NewsStats.CURRENT_ID, NewsStats.class));
+	}
+
+	@Override
+	public void saveCurrent(NewsStats stats) {
+		mongoTemplate.save(stats.toBuilder().id(NewsStats.CURRENT_ID).build());
+	}
+}
@@ -4,10 +4,14 @@ import com.commonground.be.domain.news.dto.request.CreateNewsRequest;
 import com.commonground.be.domain.news.dto.request.NaverCrawlingRequest;
 import com.commonground.be.domain.news.dto.request.UpdateNewsRequest;
 import com.commonground.be.domain.news.dto.response.CategoryStatistics;
+import com.commonground.be.domain.news.dto.response.NewsReindexStatus;
 import com.commonground.be.domain.news.dto.response.NewsStatistics;
 import com.commonground.be.domain.news.dto.crawling.RawNewsData;
+import com.commonground.be.domain.news.dto.search.NewsCursorPage;
+import com.commonground.be.domain.news.dto.search.NewsSummary;
 import com.commonground.be.domain.news.entity.News;
 import com.commonground.be.domain.news.enums.CategoryEnum;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -22,10 +26,28 @@ public interface NewsService {
     
     // 뉴스 조회
     List<News> findNewsByCategory(CategoryEnum category, int page, int limit);
+    List<News> findNewsByMediaOutlet(String mediaOutletId, int page, int limit);
     List<News> findRecentNews(int limit);
     List<News> findTrendingNews(int limit);
+    List<News> findTrendingNews(CategoryEnum category, int limit);
     List<News> searchNews(String keyword, int page, int limit);
     
+    // 뉴스 커서 조회 (무한 스크롤)
+    NewsCursorPage<News> findNewsByCategoryAfter(CategoryEnum category, String cursor, int limit);
+    NewsCursorPage<News> findNewsByMediaOutletAfter(String mediaOutletId, String cursor, int limit);
+    NewsCursorPage<News> searchNewsAfter(String keyword, String cursor, int limit);
+    
+    // 뉴스 요약 조회 (목록 화면용 프로젝션)
+    List<NewsSummary> findNewsSummariesByCategory(CategoryEnum category, int page, int limit);
+    List<NewsSummary> findNewsSummariesByMediaOutlet(String mediaOutletId, int page, int limit);
+    List<NewsSummary> findRecentNewsSummaries(int limit);
+    List<NewsSummary> findTrendingNewsSummaries(int limit);
+    List<NewsSummary> findTrendingNewsSummaries(CategoryEnum category, int limit);
+    List<NewsSummary> searchNewsSummaries(String keyword, int page, int limit);
+    NewsCursorPage<NewsSummary> findNewsSummariesByCategoryAfter(CategoryEnum category, String cursor, int limit);
+    NewsCursorPage<NewsSummary> findNewsSummariesByMediaOutletAfter(String mediaOutletId, String cursor, int limit);
+    NewsCursorPage<NewsSummary> searchNewsSummariesAfter(String keyword, String cursor, int limit);
+    
     // 크롤링 관련
     CompletableFuture<List<News>> collectFromNaverApi(NaverCrawlingRequest request);
     CompletableFuture<List<News>> crawlNaverNews(NaverCrawlingRequest request);
@@ -36,5 +58,11 @@ public interface NewsService {
     CategoryStatistics getCategoryStatistics();
     
     // 뷰 카운트
-    void incrementViewCount(String newsId);
+    void incrementViewCount(News news);
+
+    // 검색 인덱스
+    void replaySearchIndex(LocalDateTime from);
+    NewsReindexStatus startSearchReindex();
+    NewsReindexStatus startIncrementalSearchReindex(LocalDateTime since);
+    NewsReindexStatus getSearchReindexStatus();
 }
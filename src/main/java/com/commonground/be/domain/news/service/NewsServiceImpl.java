@@ -8,7 +8,10 @@ import com.commonground.be.domain.news.dto.request.CreateNewsRequest;
 import com.commonground.be.domain.news.dto.request.NaverCrawlingRequest;
 import com.commonground.be.domain.news.dto.request.UpdateNewsRequest;
 import com.commonground.be.domain.news.dto.response.CategoryStatistics;
+import com.commonground.be.domain.news.dto.response.NewsReindexStatus;
 import com.commonground.be.domain.news.dto.response.NewsStatistics;
+import com.commonground.be.domain.news.dto.search.NewsCursorPage;
+import com.commonground.be.domain.news.dto.search.NewsSummary;
 import com.commonground.be.domain.news.entity.News;
 import com.commonground.be.domain.news.enums.CategoryEnum;
 import com.commonground.be.domain.news.enums.CrawlingPlatformEnum;
@@ -17,6 +20,7 @@ import com.commonground.be.domain.news.service.management.NewsDataProcessingServ
 import com.commonground.be.domain.news.service.management.NewsManagementService;
 import com.commonground.be.domain.news.service.search.NewsQueryService;
 import java.net.URL;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -66,6 +70,11 @@ public class NewsServiceImpl implements NewsService {
 		return newsQueryService.findNewsByCategory(category, page, limit);
 	}
 
+	@Override
+	public List<News> findNewsByMediaOutlet(String mediaOutletId, int page, int limit) {
+		return newsQueryService.findNewsByMediaOutlet(mediaOutletId, page, limit);
+	}
+
 	@Override
 	public List<News> findRecentNews(int limit) {
 		return newsQueryService.findRecentNews(limit);
@@ -76,11 +85,78 @@ public class NewsServiceImpl implements NewsService {
 		return newsQueryService.findTrendingNews(limit);
 	}
 
+	@Override
+	public List<News> findTrendingNews(CategoryEnum category, int limit) {
+		return newsQueryService.findTrendingNews(category, limit);
+	}
+
 	@Override
 	public List<News> searchNews(String keyword, int page, int limit) {
 		return newsQueryService.searchNews(keyword, page, limit);
 	}
 
+	@Override
+	public NewsCursorPage<News> findNewsByCategoryAfter(CategoryEnum category, String cursor, int limit) {
+		return newsQueryService.findNewsByCategoryAfter(category, cursor, limit);
+	}
+
+	@Override
+	public NewsCursorPage<News> findNewsByMediaOutletAfter(String mediaOutletId, String cursor, int limit) {
+		return newsQueryService.findNewsByMediaOutletAfter(mediaOutletId, cursor, limit);
+	}
+
+	@Override
+	public NewsCursorPage<News> searchNewsAfter(String keyword, String cursor, int limit) {
+		return newsQueryService.searchNewsAfter(keyword, cursor, limit);
+	}
+
+	@Override
+	public List<NewsSummary> findNewsSummariesByCategory(CategoryEnum category, int page, int limit) {
+		return newsQueryService.findNewsSummariesByCategory(category, page, limit);
+	}
+
+	@Override
+	public List<NewsSummary> findNewsSummariesByMediaOutlet(String mediaOutletId, int page, int limit) {
+		return newsQueryService.findNewsSummariesByMediaOutlet(mediaOutletId, page, limit);
+	}
+
+	@Override
+	public List<NewsSummary> findRecentNewsSummaries(int limit) {
+		return newsQueryService.findRecentNewsSummaries(limit);
+	}
+
+	@Override
+	public List<NewsSummary> findTrendingNewsSummaries(int limit) {
+		return newsQueryService.findTrendingNewsSummaries(limit);
+	}
+
+	@Override
+	public List<NewsSummary> findTrendingNewsSummaries(CategoryEnum category, int limit) {
+		return newsQueryService.findTrendingNewsSummaries(category, limit);
+	}
+
+	@Override
+	public List<NewsSummary> searchNewsSummaries(String keyword, int page, int limit) {
+		return newsQueryService.searchNewsSummaries(keyword, page, limit);
+	}
+
+	@Override
+	public NewsCursorPage<NewsSummary> findNewsSummariesByCategoryAfter(CategoryEnum category, String cursor,
+			int limit) {
+		return newsQueryService.findNewsSummariesByCategoryAfter(category, cursor, limit);
+	}
+
+	@Override
+	public NewsCursorPage<NewsSummary> findNewsSummariesByMediaOutletAfter(String mediaOutletId, String cursor,
+			int limit) {
+		return newsQueryService.findNewsSummariesByMediaOutletAfter(mediaOutletId, cursor, limit);
+	}
+
+	@Override
+	public NewsCursorPage<NewsSummary> searchNewsSummariesAfter(String keyword, String cursor, int limit) {
+		return newsQueryService.searchNewsSummariesAfter(keyword, cursor, limit);
+	}
+
 	/**
 	 * 네이버 뉴스 API 전용 데이터 수집 메서드
 	 */
@@ -118,8 +194,28 @@ public class NewsServiceImpl implements NewsService {
 	}
 
 	@Override
-	public void incrementViewCount(String newsId) {
-		newsManagementService.incrementViewCount(newsId);
+	public void incrementViewCount(News news) {
+		newsManagementService.incrementViewCount(news);
+	}
+
+	@Override
+	public void replaySearchIndex(LocalDateTime from) {
+		newsManagementService.replaySearchIndex(from);
+	}
+
+	@Override
+	public NewsReindexStatus startSearchReindex() {
+		return newsManagementService.startSearchReindex();
+	}
+
+	@Override
+	public NewsReindexStatus startIncrementalSearchReindex(LocalDateTime since) {
+		return newsManagementService.startIncrementalSearchReindex(since);
+	}
+
+	@Override
+	public NewsReindexStatus getSearchReindexStatus() {
+		return newsManagementService.getSearchReindexStatus();
 	}
 
 	/**
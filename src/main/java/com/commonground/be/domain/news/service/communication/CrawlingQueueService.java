@@ -3,12 +3,16 @@ package com.commonground.be.domain.news.service.communication;
 import com.commonground.be.domain.news.dto.crawling.RawNewsData;
 import com.commonground.be.domain.news.dto.request.NaverCrawlingRequest;
 import com.commonground.be.global.infrastructure.config.RabbitMQConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.TimeoutException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -18,19 +22,41 @@ import org.springframework.stereotype.Service;
  * 📨 크롤링 요청/응답 큐 관리 서비스 (RabbitMQ)
  * <p>
  * 책임: - Python 크롤러로 크롤링 요청 전송 - Python 크롤러로부터 결과 수신 - 비동기 크롤링 작업 관리
+ * <p>
+ * 지표: crawling.pending.requests(대기 중인 요청 수), crawling.pending.oldest.age(가장 오래 기다린 요청의 경과 시간),
+ * crawling.pending.age(요청별 응답까지 걸린 시간, outcome 태그) - 타임아웃(10분) 전에 적체를 알림으로 잡기 위함
  */
 @Service
 @Slf4j
 public class CrawlingQueueService {
 
+	private static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(10);
+
 	private final RabbitTemplate rabbitTemplate;
-	
-	public CrawlingQueueService(@Qualifier("enhancedRabbitTemplate") RabbitTemplate rabbitTemplate) {
-		this.rabbitTemplate = rabbitTemplate;
-	}
+
+	// 완료 방식(outcome)별 대기 시간 타이머 (요청마다 레지스트리를 조회하지 않도록 미리 등록)
+	private final Timer successAge;
+	private final Timer failureAge;
+	private final Timer timeoutAge;
 
 	// 크롤링 요청에 대한 CompletableFuture 저장소
-	private final ConcurrentHashMap<String, CompletableFuture<List<RawNewsData>>> pendingRequests = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, PendingRequest> pendingRequests = new ConcurrentHashMap<>();
+
+	public CrawlingQueueService(@Qualifier("enhancedRabbitTemplate") RabbitTemplate rabbitTemplate,
+			MeterRegistry meterRegistry) {
+		this.rabbitTemplate = rabbitTemplate;
+		this.successAge = ageTimer("success", meterRegistry);
+		this.failureAge = ageTimer("failure", meterRegistry);
+		this.timeoutAge = ageTimer("timeout", meterRegistry);
+
+		Gauge.builder("crawling.pending.requests", pendingRequests, ConcurrentHashMap::size)
+				.description("결과를 기다리는 크롤링 요청 수")
+				.register(meterRegistry);
+		Gauge.builder("crawling.pending.oldest.age", this, service -> service.oldestPendingAge().toMillis() / 1000.0)
+				.description("가장 오래 기다린 크롤링 요청의 경과 시간")
+				.baseUnit("seconds")
+				.register(meterRegistry);
+	}
 
 	// ==================== 크롤링 요청 전송 ====================
 
@@ -55,25 +81,34 @@ public class CrawlingQueueService {
 
 			// 결과를 기다릴 CompletableFuture 생성
 			CompletableFuture<List<RawNewsData>> resultFuture = new CompletableFuture<>();
-			pendingRequests.put(requestId, resultFuture);
+			PendingRequest pending = new PendingRequest(resultFuture, System.nanoTime());
+			pendingRequests.put(requestId, pending);
 
 			// RabbitMQ로 요청 전송
-			rabbitTemplate.convertAndSend(
-					RabbitMQConfig.CRAWLING_EXCHANGE,
-					RabbitMQConfig.REQUEST_ROUTING_KEY,
-					message
-			);
+			try {
+				rabbitTemplate.convertAndSend(
+						RabbitMQConfig.CRAWLING_EXCHANGE,
+						RabbitMQConfig.REQUEST_ROUTING_KEY,
+						message
+				);
+			} catch (RuntimeException e) {
+				pendingRequests.remove(requestId, pending);
+				throw e;
+			}
 
 			log.info("크롤링 요청 전송 완료: requestId={}, officeId={}, categoryId={}",
 					requestId, request.getOfficeId(), request.getCategoryId());
 
-			// 타임아웃 설정 (10분)
-			resultFuture.orTimeout(10, TimeUnit.MINUTES)
+			// 타임아웃 설정 (10분), 완료 방식과 관계없이 대기 시간 기록
+			resultFuture.orTimeout(REQUEST_TIMEOUT.toMinutes(), TimeUnit.MINUTES)
 					.whenComplete((result, throwable) -> {
-						if (throwable != null) {
+						Timer age = throwable == null ? successAge
+								: throwable instanceof TimeoutException ? timeoutAge : failureAge;
+						if (age == timeoutAge) {
 							log.warn("크롤링 요청 타임아웃: requestId={}", requestId);
-							pendingRequests.remove(requestId);
 						}
+						pendingRequests.remove(requestId, pending);
+						age.record(System.nanoTime() - pending.submittedAt(), TimeUnit.NANOSECONDS);
 					});
 
 			return resultFuture;
@@ -94,11 +129,12 @@ public class CrawlingQueueService {
 	public void handleCrawlingResult(CrawlingResultMessage result) {
 		String requestId = result.getRequestId();
 
-		CompletableFuture<List<RawNewsData>> pendingRequest = pendingRequests.get(requestId);
-		if (pendingRequest == null) {
+		PendingRequest pending = pendingRequests.get(requestId);
+		if (pending == null) {
 			log.warn("해당하는 대기 중인 크롤링 요청을 찾을 수 없음: requestId={}", requestId);
 			return;
 		}
+		CompletableFuture<List<RawNewsData>> pendingRequest = pending.future();
 
 		if (result.isSuccess()) {
 			List<RawNewsData> newsData = result.getData();
@@ -119,16 +155,49 @@ public class CrawlingQueueService {
 	public void handleCrawlingError(CrawlingErrorMessage error) {
 		String requestId = error.getRequestId();
 
-		CompletableFuture<List<RawNewsData>> pendingRequest = pendingRequests.get(requestId);
-		if (pendingRequest != null) {
+		PendingRequest pending = pendingRequests.get(requestId);
+		if (pending != null) {
 			Exception exception = new RuntimeException("크롤링 에러: " + error.getErrorMessage());
-			pendingRequest.completeExceptionally(exception);
+			pending.future().completeExceptionally(exception);
 			pendingRequests.remove(requestId);
 
 			log.error("크롤링 에러 수신: requestId={}, error={}", requestId, error.getErrorMessage());
 		}
 	}
 
+	// ==================== 대기 요청 지표 ====================
+
+	/**
+	 * 결과를 기다리는 크롤링 요청 수
+	 */
+	public int getPendingRequestCount() {
+		return pendingRequests.size();
+	}
+
+	/**
+	 * 가장 오래 기다린 요청의 경과 시간 (대기 요청이 없으면 0)
+	 */
+	public Duration oldestPendingAge() {
+		long now = System.nanoTime();
+		long oldest = pendingRequests.values().stream()
+				.mapToLong(pending -> now - pending.submittedAt())
+				.max()
+				.orElse(0L);
+		return Duration.ofNanos(oldest);
+	}
+
+	private static Timer ageTimer(String outcome, MeterRegistry meterRegistry) {
+		return Timer.builder("crawling.pending.age")
+				.description("크롤링 요청 전송부터 결과/에러/타임아웃까지 걸린 시간")
+				.tag("outcome", outcome)
+				.publishPercentileHistogram()
+				.maximumExpectedValue(REQUEST_TIMEOUT)
+				.register(meterRegistry);
+	}
+
+	private record PendingRequest(CompletableFuture<List<RawNewsData>> future, long submittedAt) {
+	}
+
 	// ==================== 내부 메시지 클래스들 ====================
 
 	@lombok.Builder
@@ -1,6 +1,7 @@
 package com.commonground.be.domain.news.service.communication;
 
 import com.commonground.be.domain.news.dto.crawling.CrawlingProgress;
+import com.commonground.be.global.infrastructure.config.RabbitMQConfig;
 import com.rabbitmq.client.Channel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +28,7 @@ public class CrawlingResultListener {
     
     private final CrawlingQueueService crawlingQueueService;
     private final WebSocketProgressService progressService;
+    private final ListenerAcknowledger acknowledger;
     
     /**
      * 크롤링 결과 메시지 수신
@@ -47,13 +49,13 @@ public class CrawlingResultListener {
             crawlingQueueService.handleCrawlingResult(result);
             
             // 수동 ACK
-            channel.basicAck(deliveryTag, false);
+            acknowledger.ack(channel, deliveryTag, RabbitMQConfig.CRAWLING_RESULT_QUEUE);
             
         } catch (Exception e) {
             log.error("크롤링 결과 처리 실패: requestId={}", result.getRequestId(), e);
             try {
                 // NACK - 메시지를 재큐잉하지 않고 DLQ로 보냄
-                channel.basicNack(deliveryTag, false, false);
+                acknowledger.nack(channel, deliveryTag, RabbitMQConfig.CRAWLING_RESULT_QUEUE);
             } catch (Exception nackException) {
                 log.error("NACK 처리 실패", nackException);
             }
@@ -89,12 +91,12 @@ public class CrawlingResultListener {
             );
             
             // 수동 ACK
-            channel.basicAck(deliveryTag, false);
+            acknowledger.ack(channel, deliveryTag, RabbitMQConfig.CRAWLING_PROGRESS_QUEUE);
             
         } catch (Exception e) {
             log.error("크롤링 진행상황 처리 실패: sessionId={}", progress.getSessionId(), e);
             try {
-                channel.basicAck(deliveryTag, false); // 진행상황은 중요하지 않으므로 그냥 ACK
+                acknowledger.ack(channel, deliveryTag, RabbitMQConfig.CRAWLING_PROGRESS_QUEUE); // 진행상황은 중요하지 않으므로 그냥 ACK
             } catch (Exception ackException) {
                 log.error("ACK 처리 실패", ackException);
             }
@@ -2,6 +2,7 @@ package com.commonground.be.domain.news.service.communication;
 
 import com.commonground.be.domain.news.dto.crawling.RawNewsData;
 import com.commonground.be.domain.news.dto.request.NaverCrawlingRequest;
+import com.commonground.be.global.infrastructure.cache.RollingCounter;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rabbitmq.client.Channel;
@@ -36,10 +37,14 @@ import java.util.Map;
 @Slf4j
 public class EnhancedMessageProcessingService {
 
+    private static final String CRAWLING_FAILURE_COUNTER = "crawling_failure";
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RollingCounter rollingCounter;
     private final WebSocketProgressService progressService;
     private final CrawlingQueueService crawlingQueueService;
     private final ObjectMapper objectMapper;
+    private final ListenerAcknowledger acknowledger;
     
     @Qualifier("enhancedRabbitTemplate")
     private final RabbitTemplate rabbitTemplate;
@@ -79,15 +84,16 @@ public class EnhancedMessageProcessingService {
                     "headers", message.getMessageProperties().getHeaders()
                 );
                 redisTemplate.opsForValue().set(failureKey, failureInfo, Duration.ofHours(24));
+                rollingCounter.increment(CRAWLING_FAILURE_COUNTER);
             }
             
             // DLQ 메시지는 항상 ACK (재시도하지 않음)
-            channel.basicAck(deliveryTag, false);
+            acknowledger.ack(channel, deliveryTag, "crawling.request.dlq");
             
         } catch (Exception e) {
             log.error("DLQ 메시지 처리 중 오류", e);
             try {
-                channel.basicAck(deliveryTag, false);
+                acknowledger.ack(channel, deliveryTag, "crawling.request.dlq");
             } catch (Exception ackException) {
                 log.error("DLQ ACK 실패", ackException);
             }
@@ -119,12 +125,12 @@ public class EnhancedMessageProcessingService {
             );
             redisTemplate.opsForValue().set(failureKey, failureInfo, Duration.ofHours(24));
             
-            channel.basicAck(deliveryTag, false);
+            acknowledger.ack(channel, deliveryTag, "crawling.result.dlq");
             
         } catch (Exception e) {
             log.error("DLQ 결과 메시지 처리 중 오류", e);
             try {
-                channel.basicAck(deliveryTag, false);
+                acknowledger.ack(channel, deliveryTag, "crawling.result.dlq");
             } catch (Exception ackException) {
                 log.error("DLQ 결과 ACK 실패", ackException);
             }
@@ -178,12 +184,12 @@ public class EnhancedMessageProcessingService {
                 }
             }
             
-            channel.basicAck(deliveryTag, false);
+            acknowledger.ack(channel, deliveryTag, "crawling.timeout.queue");
             
         } catch (Exception e) {
             log.error("타임아웃 메시지 처리 중 오류", e);
             try {
-                channel.basicAck(deliveryTag, false);
+                acknowledger.ack(channel, deliveryTag, "crawling.timeout.queue");
             } catch (Exception ackException) {
                 log.error("타임아웃 ACK 실패", ackException);
             }
@@ -215,12 +221,12 @@ public class EnhancedMessageProcessingService {
             );
             redisTemplate.opsForValue().set(healthKey, healthInfo, Duration.ofMinutes(10));
             
-            channel.basicAck(deliveryTag, false);
+            acknowledger.ack(channel, deliveryTag, "crawling.health.queue");
             
         } catch (Exception e) {
             log.error("헬스체크 메시지 처리 중 오류", e);
             try {
-                channel.basicAck(deliveryTag, false);
+                acknowledger.ack(channel, deliveryTag, "crawling.health.queue");
             } catch (Exception ackException) {
                 log.error("헬스체크 ACK 실패", ackException);
             }
@@ -268,23 +274,22 @@ public class EnhancedMessageProcessingService {
         // Python 크롤러 헬스체크 상태
         Object pythonHealth = redisTemplate.opsForValue().get("crawler_health:python");
         
-        // 최근 실패한 크롤링 요청 수 (Redis KEYS 명령어 사용)
+        // 최근 24시간 동안 실패한 크롤링 요청 수 (시간 구간 카운터 합산)
         Long failureCount = 0L;
         try {
-            String pattern = "crawling_failure:*";
-            var keys = redisTemplate.keys(pattern);
-            failureCount = keys != null ? (long) keys.size() : 0L;
+            failureCount = rollingCounter.count(CRAWLING_FAILURE_COUNTER, Duration.ofHours(24));
         } catch (Exception e) {
             log.warn("실패 카운트 조회 실패", e);
         }
         
-        // 대기 중인 요청 수 (pendingRequests에서 가져와야 하지만 여기서는 예시)
-        int pendingRequests = 0; // crawlingQueueService.getPendingRequestCount();
+        // 결과를 기다리는 크롤링 요청 수
+        int pendingRequests = crawlingQueueService.getPendingRequestCount();
         
         return Map.of(
             "pythonCrawlerHealth", pythonHealth != null ? pythonHealth : "unknown",
             "recentFailures", failureCount != null ? failureCount : 0,
             "pendingRequests", pendingRequests,
+            "oldestPendingSeconds", crawlingQueueService.oldestPendingAge().toSeconds(),
             "systemStatus", pythonHealth != null ? "healthy" : "warning",
             "lastUpdated", LocalDateTime.now().toString()
         );
@@ -0,0 +1,38 @@
+package com.commonground.be.domain.news.service.communication;
+
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * ✅ RabbitMQ 리스너 수동 ACK/NACK + 집계
+ *
+ * 책임:
+ * - 리스너의 basicAck / basicNack 호출을 대신 수행
+ * - 큐별 ACK/NACK 건수를 rabbitmq.listener.acks 지표로 기록 (태그 queue, result=ack|nack)
+ *
+ * 큐별 처리량/처리 시간은 리스너 컨테이너가 spring.rabbitmq.listener 타이머로 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ListenerAcknowledger {
+
+    private static final String METRIC_NAME = "rabbitmq.listener.acks";
+
+    private final MeterRegistry meterRegistry;
+
+    public void ack(Channel channel, long deliveryTag, String queue) throws IOException {
+        channel.basicAck(deliveryTag, false);
+        meterRegistry.counter(METRIC_NAME, "queue", queue, "result", "ack").increment();
+    }
+
+    /**
+     * 재큐잉하지 않는 NACK (DLX 가 설정된 큐는 DLQ 로 이동)
+     */
+    public void nack(Channel channel, long deliveryTag, String queue) throws IOException {
+        channel.basicNack(deliveryTag, false, false);
+        meterRegistry.counter(METRIC_NAME, "queue", queue, "result", "nack").increment();
+    }
+}
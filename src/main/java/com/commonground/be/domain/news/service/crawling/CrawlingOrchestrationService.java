@@ -4,7 +4,6 @@ import com.commonground.be.domain.news.dto.crawling.RawNewsData;
 import com.commonground.be.domain.news.dto.request.NaverCrawlingRequest;
 import com.commonground.be.domain.news.service.communication.CrawlingQueueService;
 import com.commonground.be.domain.news.service.communication.WebSocketProgressService;
-import com.commonground.be.domain.news.service.management.NewsDataProcessingService;
 import com.commonground.be.global.application.aop.LogExecutionTime;
 import com.commonground.be.global.infrastructure.concurrency.RedisLock;
 import lombok.RequiredArgsConstructor;
@@ -31,7 +30,7 @@ import java.util.concurrent.CompletableFuture;
 public class CrawlingOrchestrationService {
 
     private final CrawlingQueueService crawlingQueueService;
-    private final NewsDataProcessingService newsDataProcessingService;
+    private final NewsIngestionStage newsIngestionStage;
     private final WebSocketProgressService progressService;
 
     /**
@@ -44,7 +43,7 @@ public class CrawlingOrchestrationService {
         leaseTime = 300,  // 5분
         timeoutMessage = "해당 언론사의 크롤링이 이미 진행 중입니다. 잠시 후 다시 시도해주세요."
     )
-    @LogExecutionTime
+    @LogExecutionTime(slowThresholdMillis = 300_000)  // 크롤링 완료까지 측정하므로 락 유지 시간 기준
     public CompletableFuture<List<RawNewsData>> orchestrateCrawling(NaverCrawlingRequest request) {
         
         String sessionId = request.getSessionId() != null ? 
@@ -77,8 +76,8 @@ public class CrawlingOrchestrationService {
                     rawDataList.size(), 0, 0, 0
                 );
                 
-                // 데이터 처리 (비동기)
-                return processRawDataAsync(sessionId, rawDataList);
+                // 데이터 처리 (수집 전용 Executor 에서 배치 병렬 처리)
+                return newsIngestionStage.ingest(sessionId, rawDataList);
             })
             .whenComplete((result, throwable) -> {
                 if (throwable != null) {
@@ -114,53 +113,6 @@ public class CrawlingOrchestrationService {
         }
     }
     
-    /**
-     * 원시 데이터 비동기 처리
-     */
-    @Async("crawlingTaskExecutor")
-    private CompletableFuture<List<RawNewsData>> processRawDataAsync(String sessionId, List<RawNewsData> rawDataList) {
-        return CompletableFuture.supplyAsync(() -> {
-            int processed = 0;
-            int success = 0;
-            int failed = 0;
-            
-            for (RawNewsData rawData : rawDataList) {
-                try {
-                    // 개별 뉴스 데이터 처리
-                    var processedNews = newsDataProcessingService.processRawNewsData(rawData);
-                    
-                    if (processedNews != null) {
-                        success++;
-                    } else {
-                        failed++; // 중복 등의 이유로 처리하지 않음
-                    }
-                    
-                } catch (Exception e) {
-                    log.warn("개별 뉴스 처리 실패: title={}, error={}", 
-                        rawData.getTitle(), e.getMessage());
-                    failed++;
-                }
-                
-                processed++;
-                
-                // 진행상황 업데이트 (10개마다)
-                if (processed % 10 == 0) {
-                    int progressPercent = 50 + (processed * 50 / rawDataList.size());
-                    progressService.updateProgress(
-                        sessionId, "processing", progressPercent,
-                        String.format("데이터 처리 중... (%d/%d)", processed, rawDataList.size()),
-                        rawDataList.size(), processed, success, failed
-                    );
-                }
-            }
-            
-            log.info("원시 데이터 처리 완료: sessionId={}, 전체={}, 성공={}, 실패={}", 
-                sessionId, rawDataList.size(), success, failed);
-            
-            return rawDataList; // 원본 데이터 반환 (통계용)
-        });
-    }
-    
     /**
      * 기존 NaverNewsCrawler 호환성을 위한 래퍼 메서드
      */
@@ -43,10 +43,10 @@ public class NewsCollectionService {
         try {
             List<RawNewsData> rawDataList = collectFromNewsApi(request);
             
-            List<News> newsList = rawDataList.stream()
-                    .map(newsDataProcessingService::processRawNewsData)
-                    .filter(news -> news != null)
-                    .toList();
+            List<News> newsList = newsDataProcessingService.processRawNewsBatch(rawDataList).getSavedNews();
+            if (!newsList.isEmpty()) {
+                newsDataProcessingService.completeIngestion();
+            }
 
             log.info("✅ 네이버 API 데이터 수집 완료: {}개 -> {}개 저장", rawDataList.size(), newsList.size());
             return CompletableFuture.completedFuture(newsList);
@@ -72,10 +72,10 @@ public class NewsCollectionService {
             CompletableFuture<List<RawNewsData>> crawlingFuture = crawlingOrchestrationService.orchestrateCrawling(request);
             
             return crawlingFuture.thenApply(rawDataList -> {
-                List<News> newsList = rawDataList.stream()
-                        .map(newsDataProcessingService::processRawNewsData)
-                        .filter(news -> news != null)
-                        .toList();
+                List<News> newsList = newsDataProcessingService.processRawNewsBatch(rawDataList).getSavedNews();
+                if (!newsList.isEmpty()) {
+                    newsDataProcessingService.completeIngestion();
+                }
 
                 log.info("✅ Python 하이브리드 크롤링 완료: {}개 -> {}개 저장", rawDataList.size(), newsList.size());
                 return newsList;
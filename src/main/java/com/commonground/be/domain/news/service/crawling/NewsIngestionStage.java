@@ -0,0 +1,174 @@
+package com.commonground.be.domain.news.service.crawling;
+
+import com.commonground.be.domain.news.dto.crawling.NewsBatchResult;
+import com.commonground.be.domain.news.dto.crawling.RawNewsData;
+import com.commonground.be.domain.news.service.communication.WebSocketProgressService;
+import com.commonground.be.domain.news.service.management.NewsDataProcessingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🏭 크롤링 결과 수집 단계
+ *
+ * 책임:
+ * - 수집된 기사 목록을 batch-size 단위로 나눠 전용 Executor(ingestionTaskExecutor) 에서 병렬 처리
+ * - 배치별 결과를 모아 진행상황 전송 (완료 순서와 관계없이 처리 건수 기준으로 단조 증가)
+ * - 모든 배치가 끝나면 목록 캐시를 한 번만 무효화하고 완료되는 future 반환
+ *
+ * Mongo 동시 저장 수는 NewsDataProcessingService 가 별도로 제한한다 (news.ingestion.max-in-flight-writes).
+ * 배치가 Executor 대기열에서 기다린 시간은 news.ingestion.stage{stage=queue} 로 기록한다 (나머지 단계는 NewsDataProcessingService).
+ */
+@Component
+@Slf4j
+public class NewsIngestionStage {
+
+    private final NewsDataProcessingService newsDataProcessingService;
+    private final WebSocketProgressService progressService;
+    private final Executor ingestionExecutor;
+    private final Timer queueWait;
+
+    // 한 번의 bulk insert로 저장할 기사 수
+    private final int batchSize;
+
+    public NewsIngestionStage(NewsDataProcessingService newsDataProcessingService,
+                              WebSocketProgressService progressService,
+                              @Qualifier("ingestionTaskExecutor") Executor ingestionExecutor,
+                              @Value("${news.ingestion.batch-size:100}") int batchSize,
+                              MeterRegistry meterRegistry) {
+        this.newsDataProcessingService = newsDataProcessingService;
+        this.progressService = progressService;
+        this.ingestionExecutor = ingestionExecutor;
+        this.batchSize = batchSize;
+        this.queueWait = Timer.builder("news.ingestion.stage")
+                .description("뉴스 수집 배치의 단계별 소요 시간")
+                .tag("stage", "queue")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기사 목록 병렬 처리 (원본 목록을 그대로 반환, 배치 실패는 실패 건수로 집계하고 전파하지 않음)
+     */
+    public CompletableFuture<List<RawNewsData>> ingest(String sessionId, List<RawNewsData> rawDataList) {
+        if (rawDataList.isEmpty()) {
+            return CompletableFuture.completedFuture(rawDataList);
+        }
+
+        Progress progress = new Progress(sessionId, rawDataList.size());
+        List<CompletableFuture<Void>> partitions = new ArrayList<>();
+        for (int from = 0; from < rawDataList.size(); from += batchSize) {
+            List<RawNewsData> batch = List.copyOf(
+                    rawDataList.subList(from, Math.min(from + batchSize, rawDataList.size())));
+            partitions.add(submit(sessionId, batch, progress));
+        }
+
+        return CompletableFuture.allOf(partitions.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    progress.logSummary();
+                    // 배치별로는 무효화하지 않고, 크롤링 결과 전체가 끝난 지금 한 번 반영
+                    if (progress.saved() > 0) {
+                        newsDataProcessingService.completeIngestion();
+                    }
+                    return rawDataList;
+                });
+    }
+
+    private CompletableFuture<Void> submit(String sessionId, List<RawNewsData> batch, Progress progress) {
+        long enqueuedAt = System.nanoTime();
+        try {
+            return CompletableFuture.runAsync(() -> {
+                queueWait.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                progress.completed(batch.size(), process(sessionId, batch));
+            }, ingestionExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("뉴스 배치 처리 거절 (수집 대기열 가득 참): sessionId={}, 배치 크기={}", sessionId, batch.size());
+            progress.completed(batch.size(), null);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * 배치 하나 처리 (실패 시 null)
+     */
+    private NewsBatchResult process(String sessionId, List<RawNewsData> batch) {
+        try {
+            return newsDataProcessingService.processRawNewsBatch(batch);
+        } catch (Exception e) {
+            log.warn("뉴스 배치 처리 실패: sessionId={}, 배치 크기={}, error={}",
+                    sessionId, batch.size(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 세션별 처리 건수 집계 (배치 완료마다 잠금 안에서 합산 후 전송하므로 전송 순서 = 처리 건수 증가 순서)
+     * 잠금 안에서 전송(I/O)하므로 가상 스레드의 캐리어를 점유하는 synchronized 대신 ReentrantLock 사용
+     */
+    private final class Progress {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final String sessionId;
+        private final int total;
+
+        private int processed;
+        private int success;
+        private int failed;
+
+        private Progress(String sessionId, int total) {
+            this.sessionId = sessionId;
+            this.total = total;
+        }
+
+        void completed(int batchSize, NewsBatchResult result) {
+            lock.lock();
+            try {
+                processed += batchSize;
+                if (result != null) {
+                    success += result.getSuccessCount();
+                    failed += result.getSkippedCount(); // 중복 등의 이유로 처리하지 않음
+                } else {
+                    failed += batchSize;
+                }
+
+                int progressPercent = 50 + (processed * 50 / total);
+                progressService.updateProgress(
+                    sessionId, "processing", progressPercent,
+                    String.format("데이터 처리 중... (%d/%d)", processed, total),
+                    total, processed, success, failed
+                );
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int saved() {
+            lock.lock();
+            try {
+                return success;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void logSummary() {
+            lock.lock();
+            try {
+                log.info("원시 데이터 처리 완료: sessionId={}, 전체={}, 성공={}, 실패={}",
+                    sessionId, total, success, failed);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.commonground.be.domain.news.service.dedup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 멤버십 확인용 Bloom filter (thread-safe)
+ * <p>
+ * mightContain 이 false 이면 "확실히 없음", true 이면 "있을 수도 있음"을 의미한다.
+ * 비트 배열은 AtomicLongArray 로 관리하여 락 없이 동시에 put/조회할 수 있다.
+ */
+public class BloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long numBits;
+	private final int numHashFunctions;
+
+	private BloomFilter(AtomicLongArray bits, int numHashFunctions) {
+		this.bits = bits;
+		this.numBits = (long) bits.length() * Long.SIZE;
+		this.numHashFunctions = numHashFunctions;
+	}
+
+	/**
+	 * 예상 원소 수와 목표 오탐률로 최적 크기의 필터 생성
+	 */
+	public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+		if (expectedInsertions <= 0) {
+			throw new IllegalArgumentException("expectedInsertions must be positive");
+		}
+		if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+			throw new IllegalArgumentException("falsePositiveRate must be in (0, 1)");
+		}
+
+		// m = -n ln p / (ln 2)^2, k = m / n ln 2
+		long optimalBits = (long) (-expectedInsertions * Math.log(falsePositiveRate)
+				/ (Math.log(2) * Math.log(2)));
+		int words = (int) Math.max(1, (optimalBits + Long.SIZE - 1) / Long.SIZE);
+		int hashFunctions = Math.max(1,
+				(int) Math.round((double) words * Long.SIZE / expectedInsertions * Math.log(2)));
+
+		return new BloomFilter(new AtomicLongArray(words), hashFunctions);
+	}
+
+	public void put(String value) {
+		long hash1 = hash(value);
+		long hash2 = mix(hash1);
+
+		for (int i = 1; i <= numHashFunctions; i++) {
+			long index = Long.remainderUnsigned(hash1 + i * hash2, numBits);
+			setBit(index);
+		}
+	}
+
+	public boolean mightContain(String value) {
+		long hash1 = hash(value);
+		long hash2 = mix(hash1);
+
+		for (int i = 1; i <= numHashFunctions; i++) {
+			long index = Long.remainderUnsigned(hash1 + i * hash2, numBits);
+			if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 비트 배열 스냅샷 (big-endian long 배열)
+	 */
+	public byte[] toByteArray() {
+		ByteBuffer buffer = ByteBuffer.allocate(bits.length() * Long.BYTES);
+		for (int i = 0; i < bits.length(); i++) {
+			buffer.putLong(bits.get(i));
+		}
+		return buffer.array();
+	}
+
+	/**
+	 * 스냅샷(toByteArray)의 비트를 현재 필터에 OR 로 병합
+	 * 병합 중에 들어오는 put 도 유실되지 않는다.
+	 */
+	public void mergeFrom(byte[] snapshot) {
+		if ((long) snapshot.length * Byte.SIZE != numBits) {
+			throw new IllegalArgumentException("bloom filter snapshot size mismatch: " + snapshot.length);
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(snapshot);
+		for (int i = 0; i < bits.length(); i++) {
+			long word = buffer.getLong();
+			if (word != 0) {
+				bits.getAndAccumulate(i, word, (current, merged) -> current | merged);
+			}
+		}
+	}
+
+	public long getNumBits() {
+		return numBits;
+	}
+
+	public int getNumHashFunctions() {
+		return numHashFunctions;
+	}
+
+	private void setBit(long index) {
+		int word = (int) (index >>> 6);
+		long mask = 1L << index;
+		long current;
+		do {
+			current = bits.get(word);
+			if ((current & mask) != 0) {
+				return;
+			}
+		} while (!bits.compareAndSet(word, current, current | mask));
+	}
+
+	/**
+	 * FNV-1a 64bit 해시
+	 */
+	private static long hash(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= (b & 0xff);
+			hash *= 0x100000001b3L;
+		}
+		return mix(hash);
+	}
+
+	/**
+	 * splitmix64 finalizer - 두 번째 해시 및 비트 분산용
+	 */
+	private static long mix(long value) {
+		long z = value + 0x9e3779b97f4a7c15L;
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+}
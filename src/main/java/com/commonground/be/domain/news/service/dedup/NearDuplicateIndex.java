@@ -0,0 +1,226 @@
+package com.commonground.be.domain.news.service.dedup;
+
+import com.commonground.be.domain.news.entity.News;
+import com.commonground.be.domain.news.repository.NewsRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🔍 유사 기사(near-duplicate) 탐지용 SimHash 인덱스
+ * <p>
+ * 책임:
+ * - 최근 기간에 저장된 기사 fingerprint 를 메모리에 유지
+ * - 64bit 를 (max-distance + 1)개 밴드로 나눈 LSH 로 후보를 찾고 해밍 거리로 확정
+ * - 저장 이벤트를 Redis pub/sub 으로 다른 노드에 전파
+ * <p>
+ * 해밍 거리가 d 이하이면 d + 1 개 밴드 중 최소 하나는 반드시 일치하므로(비둘기집 원리)
+ * 밴드 조회만으로 후보 누락이 없다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NearDuplicateIndex implements MessageListener {
+
+	public static final String SYNC_CHANNEL = "news_fingerprint";
+
+	// 밴드 폭이 16bit 를 넘지 않도록 최소 4개 밴드 사용
+	private static final int MIN_BANDS = 4;
+	private static final int BAND_KEY_SHIFT = 16;
+
+	private final NewsRepository newsRepository;
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	// 밴드 버킷 키(밴드 번호 + 밴드 값) -> fingerprint 목록
+	private final Map<Integer, Set<Long>> buckets = new ConcurrentHashMap<>();
+	// fingerprint -> 추가 시각 (윈도우 만료 처리용)
+	private final Map<Long, Long> addedAt = new ConcurrentHashMap<>();
+
+	@Value("${news.dedup.near-duplicate.max-distance:6}")
+	private int maxDistance;
+
+	@Value("${news.dedup.near-duplicate.window:P7D}")
+	private Duration window;
+
+	private int bands;
+	private volatile boolean ready = false;
+
+	@PostConstruct
+	public void init() {
+		bands = Math.max(MIN_BANDS, maxDistance + 1);
+	}
+
+	// ==================== 조회/갱신 ====================
+
+	/**
+	 * 워밍업 완료 여부 (완료 전에는 호출 측이 정확 일치 쿼리로 대체)
+	 */
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * 윈도우 안에 해밍 거리 max-distance 이하의 기사가 있는지 확인
+	 */
+	public boolean containsNearDuplicate(long fingerprint) {
+		for (int band = 0; band < bands; band++) {
+			Set<Long> candidates = buckets.get(bucketKey(fingerprint, band));
+			if (candidates == null) {
+				continue;
+			}
+			for (Long candidate : candidates) {
+				if (SimHash.hammingDistance(fingerprint, candidate) <= maxDistance) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 두 fingerprint 가 유사 기사인지 판별 (배치 내부 비교용)
+	 */
+	public boolean isNearDuplicate(long a, long b) {
+		return SimHash.hammingDistance(a, b) <= maxDistance;
+	}
+
+	/**
+	 * 저장된 뉴스의 fingerprint 를 인덱스에 추가하고 다른 노드로 전파
+	 */
+	public void recordSaved(List<News> savedNews) {
+		List<Long> fingerprints = savedNews.stream()
+				.map(News::getContentFingerprint)
+				.filter(Objects::nonNull)
+				.toList();
+		if (fingerprints.isEmpty()) {
+			return;
+		}
+
+		long now = System.currentTimeMillis();
+		fingerprints.forEach(fingerprint -> add(fingerprint, now));
+
+		try {
+			redisTemplate.convertAndSend(SYNC_CHANNEL, Map.of("nodeId", nodeId, "fingerprints", fingerprints));
+		} catch (Exception e) {
+			log.warn("fingerprint 동기화 메시지 전송 실패: count={}, error={}", fingerprints.size(), e.getMessage());
+		}
+	}
+
+	/**
+	 * 다른 노드에서 저장된 fingerprint 수신
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			Map<String, Object> payload = objectMapper.readValue(
+					new String(message.getBody(), StandardCharsets.UTF_8), Map.class);
+			if (nodeId.equals(payload.get("nodeId"))) {
+				return;
+			}
+			long now = System.currentTimeMillis();
+			for (Number fingerprint : (List<Number>) payload.get("fingerprints")) {
+				add(fingerprint.longValue(), now);
+			}
+
+		} catch (Exception e) {
+			log.warn("fingerprint 동기화 메시지 처리 실패: {}", e.getMessage());
+		}
+	}
+
+	private void add(long fingerprint, long timestamp) {
+		if (addedAt.put(fingerprint, timestamp) != null) {
+			return;
+		}
+		for (int band = 0; band < bands; band++) {
+			buckets.computeIfAbsent(bucketKey(fingerprint, band), key -> ConcurrentHashMap.newKeySet())
+					.add(fingerprint);
+		}
+	}
+
+	private void remove(long fingerprint) {
+		for (int band = 0; band < bands; band++) {
+			buckets.computeIfPresent(bucketKey(fingerprint, band), (key, fingerprints) -> {
+				fingerprints.remove(fingerprint);
+				return fingerprints.isEmpty() ? null : fingerprints;
+			});
+		}
+	}
+
+	private int bucketKey(long fingerprint, int band) {
+		int from = band * Long.SIZE / bands;
+		int to = (band + 1) * Long.SIZE / bands;
+		int bandValue = (int) ((fingerprint >>> from) & ((1L << (to - from)) - 1));
+		return (band << BAND_KEY_SHIFT) | bandValue;
+	}
+
+	// ==================== 워밍업/만료 ====================
+
+	/**
+	 * 애플리케이션 시작 후 윈도우 기간의 fingerprint 로드
+	 */
+	@Async("generalTaskExecutor")
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		long startedAt = System.currentTimeMillis();
+		try {
+			AtomicLong loaded = new AtomicLong();
+			newsRepository.forEachContentFingerprint(LocalDateTime.now().minus(window), news -> {
+				long createdAt = new ObjectId(news.getId()).getDate().getTime();
+				add(news.getContentFingerprint(), createdAt);
+				loaded.incrementAndGet();
+			});
+
+			ready = true;
+			log.info("유사 기사 인덱스 워밍업 완료: loaded={}, window={}, 소요시간={}ms",
+					loaded.get(), window, System.currentTimeMillis() - startedAt);
+
+		} catch (Exception e) {
+			log.error("유사 기사 인덱스 워밍업 실패 - 정확 일치 중복 체크로 동작합니다", e);
+		}
+	}
+
+	/**
+	 * 윈도우를 벗어난 fingerprint 제거
+	 */
+	@Scheduled(fixedDelayString = "${news.dedup.near-duplicate.eviction-interval:PT1H}")
+	public void evictExpired() {
+		long expireBefore = System.currentTimeMillis() - window.toMillis();
+		int evicted = 0;
+
+		for (Map.Entry<Long, Long> entry : addedAt.entrySet()) {
+			if (entry.getValue() < expireBefore && addedAt.remove(entry.getKey(), entry.getValue())) {
+				remove(entry.getKey());
+				evicted++;
+			}
+		}
+
+		if (evicted > 0) {
+			log.debug("유사 기사 인덱스 만료 처리: evicted={}, remaining={}", evicted, addedAt.size());
+		}
+	}
+}
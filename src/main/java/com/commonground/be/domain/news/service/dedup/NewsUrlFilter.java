@@ -0,0 +1,244 @@
+package com.commonground.be.domain.news.service.dedup;
+
+import com.commonground.be.domain.news.entity.News;
+import com.commonground.be.domain.news.repository.NewsRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🧮 뉴스 URL 중복 체크용 확률적 필터
+ * <p>
+ * 책임:
+ * - 저장된 url / crawlingMetadata.originalUrl 의 Bloom filter 유지
+ * - "확실히 없음" 응답이면 Mongo exists 쿼리 생략
+ * - Redis 스냅샷 저장/복원 (다른 노드가 전체 컬렉션 스캔 없이 워밍업)
+ * - 저장 이벤트를 Redis pub/sub 으로 다른 노드에 전파
+ * <p>
+ * 워밍업이 끝나기 전에는 항상 "있을 수도 있음"으로 응답하여 정확한 쿼리로 넘긴다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NewsUrlFilter implements MessageListener {
+
+	public static final String SYNC_CHANNEL = "news_url_filter";
+
+	private static final String SNAPSHOT_BITS_KEY = "news_url_filter:bits";
+	private static final String SNAPSHOT_META_KEY = "news_url_filter:meta";
+
+	// 스냅샷 이후 저장분을 따라잡을 때 노드 간 시계 오차를 감안한 여유
+	private static final long CATCH_UP_MARGIN_MINUTES = 5;
+
+	private final NewsRepository newsRepository;
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	private final String nodeId = UUID.randomUUID().toString();
+	private final AtomicLong skippedLookups = new AtomicLong();
+
+	@Value("${news.dedup.url-filter.expected-insertions:5000000}")
+	private long expectedInsertions;
+
+	@Value("${news.dedup.url-filter.false-positive-rate:0.01}")
+	private double falsePositiveRate;
+
+	private BloomFilter filter;
+	private volatile boolean ready = false;
+
+	@PostConstruct
+	public void init() {
+		filter = BloomFilter.create(expectedInsertions, falsePositiveRate);
+	}
+
+	// ==================== 조회/갱신 ====================
+
+	/**
+	 * 해당 url 이 저장되어 있을 수도 있는지 확인
+	 * false 이면 Mongo 조회 없이 신규 기사로 판단해도 된다.
+	 */
+	public boolean mightContain(String url) {
+		if (!ready) {
+			return true;
+		}
+		boolean maybe = filter.mightContain(url);
+		if (!maybe) {
+			skippedLookups.incrementAndGet();
+		}
+		return maybe;
+	}
+
+	/**
+	 * 저장된 뉴스의 url 을 필터에 추가하고 다른 노드로 전파
+	 */
+	public void recordSaved(List<News> savedNews) {
+		List<String> urls = new ArrayList<>(savedNews.size() * 2);
+		for (News news : savedNews) {
+			if (news.getUrl() != null) {
+				urls.add(news.getUrl());
+			}
+			if (news.getCrawlingMetadata() != null && news.getCrawlingMetadata().getOriginalUrl() != null) {
+				urls.add(news.getCrawlingMetadata().getOriginalUrl());
+			}
+		}
+		if (urls.isEmpty()) {
+			return;
+		}
+
+		putAll(urls);
+
+		try {
+			redisTemplate.convertAndSend(SYNC_CHANNEL, Map.of("nodeId", nodeId, "urls", urls));
+		} catch (Exception e) {
+			log.warn("URL 필터 동기화 메시지 전송 실패: count={}, error={}", urls.size(), e.getMessage());
+		}
+	}
+
+	/**
+	 * 다른 노드에서 저장된 url 수신
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			Map<String, Object> payload = objectMapper.readValue(
+					new String(message.getBody(), StandardCharsets.UTF_8), Map.class);
+			if (nodeId.equals(payload.get("nodeId"))) {
+				return;
+			}
+			putAll((List<String>) payload.get("urls"));
+
+		} catch (Exception e) {
+			log.warn("URL 필터 동기화 메시지 처리 실패: {}", e.getMessage());
+		}
+	}
+
+	private void putAll(List<String> urls) {
+		urls.forEach(filter::put);
+	}
+
+	// ==================== 워밍업 ====================
+
+	/**
+	 * 애플리케이션 시작 후 필터 워밍업 (Redis 스냅샷 우선, 없으면 Mongo 스트리밍)
+	 */
+	@Async("generalTaskExecutor")
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		long startedAt = System.currentTimeMillis();
+		try {
+			LocalDateTime catchUpFrom = restoreFromSnapshot();
+
+			if (catchUpFrom == null) {
+				log.info("URL 필터 전체 워밍업 시작: bits={}, hashFunctions={}",
+						filter.getNumBits(), filter.getNumHashFunctions());
+			}
+
+			// 저장 중에 들어오는 put 은 같은 필터에 반영되므로 스트리밍과 동시에 진행 가능
+			AtomicLong loaded = new AtomicLong();
+			newsRepository.forEachUrl(catchUpFrom, url -> {
+				filter.put(url);
+				loaded.incrementAndGet();
+			});
+
+			ready = true;
+			log.info("URL 필터 워밍업 완료: source={}, loaded={}, 소요시간={}ms",
+					catchUpFrom != null ? "snapshot" : "mongo", loaded.get(),
+					System.currentTimeMillis() - startedAt);
+
+		} catch (Exception e) {
+			log.error("URL 필터 워밍업 실패 - Mongo 중복 체크로 동작합니다", e);
+		}
+	}
+
+	/**
+	 * Redis 스냅샷 복원
+	 *
+	 * @return 스냅샷 이후 저장분을 따라잡을 시작 시각 (복원 실패 시 null)
+	 */
+	@SuppressWarnings("unchecked")
+	private LocalDateTime restoreFromSnapshot() {
+		try {
+			Map<String, Object> meta = (Map<String, Object>) redisTemplate.opsForValue().get(SNAPSHOT_META_KEY);
+			if (meta == null) {
+				return null;
+			}
+
+			long numBits = ((Number) meta.get("numBits")).longValue();
+			int numHashFunctions = ((Number) meta.get("numHashFunctions")).intValue();
+			if (numBits != filter.getNumBits() || numHashFunctions != filter.getNumHashFunctions()) {
+				log.info("URL 필터 설정 변경으로 스냅샷 무시: snapshotBits={}, expectedBits={}",
+						numBits, filter.getNumBits());
+				return null;
+			}
+
+			byte[] bits = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+					connection.stringCommands().get(SNAPSHOT_BITS_KEY.getBytes(StandardCharsets.UTF_8)));
+			if (bits == null || (long) bits.length * Byte.SIZE != numBits) {
+				return null;
+			}
+
+			filter.mergeFrom(bits);
+
+			long takenAt = ((Number) meta.get("takenAt")).longValue();
+			return LocalDateTime.ofInstant(Instant.ofEpochMilli(takenAt), ZoneId.systemDefault())
+					.minusMinutes(CATCH_UP_MARGIN_MINUTES);
+
+		} catch (Exception e) {
+			log.warn("URL 필터 스냅샷 복원 실패, 전체 워밍업으로 진행: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	// ==================== 스냅샷 ====================
+
+	/**
+	 * 필터 비트셋을 Redis 에 주기적으로 저장
+	 */
+	@Scheduled(fixedDelayString = "${news.dedup.url-filter.snapshot-interval:PT10M}",
+			initialDelayString = "${news.dedup.url-filter.snapshot-interval:PT10M}")
+	public void snapshot() {
+		if (!ready) {
+			return;
+		}
+		try {
+			long takenAt = System.currentTimeMillis();
+			byte[] bits = filter.toByteArray();
+
+			redisTemplate.execute((RedisCallback<Void>) connection -> {
+				connection.stringCommands().set(SNAPSHOT_BITS_KEY.getBytes(StandardCharsets.UTF_8), bits);
+				return null;
+			});
+			redisTemplate.opsForValue().set(SNAPSHOT_META_KEY, Map.of(
+					"numBits", filter.getNumBits(),
+					"numHashFunctions", filter.getNumHashFunctions(),
+					"takenAt", takenAt
+			));
+
+			log.debug("URL 필터 스냅샷 저장: bytes={}, Mongo 조회 생략 누적={}", bits.length, skippedLookups.get());
+
+		} catch (Exception e) {
+			log.warn("URL 필터 스냅샷 저장 실패: {}", e.getMessage());
+		}
+	}
+}
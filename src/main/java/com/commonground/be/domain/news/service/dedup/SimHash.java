@@ -0,0 +1,94 @@
+package com.commonground.be.domain.news.service.dedup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 기사 본문 유사도 판별용 64bit SimHash
+ * <p>
+ * 정규화한 제목+본문을 글자 단위 shingle 로 나누어 가중 합산한다.
+ * 한국어는 조사/어미 변화가 많아 단어보다 글자 n-gram 이 편집에 덜 민감하다.
+ * 두 fingerprint 의 해밍 거리가 작을수록 내용이 비슷하다.
+ */
+public final class SimHash {
+
+	private static final int SHINGLE_SIZE = 3;
+
+	// 정규화 후 이보다 짧은 글은 fingerprint 가 불안정하므로 계산하지 않음
+	private static final int MIN_TEXT_LENGTH = 40;
+
+	// 언론사마다 다르게 붙는 머리말/바이라인/저작권 문구
+	// 예) [서울=뉴시스], (서울=연합뉴스), hong@yna.co.kr, ⓒ 무단전재 재배포 금지
+	private static final Pattern BOILERPLATE = Pattern.compile(
+			"\\[[^\\]]{0,40}]|\\([^)]{0,40}=[^)]{0,40}\\)|\\S+@\\S+|[ⓒ©][^\\n]{0,60}");
+
+	private SimHash() {
+	}
+
+	/**
+	 * 제목+본문 fingerprint 계산
+	 *
+	 * @return 64bit fingerprint (텍스트가 너무 짧으면 null)
+	 */
+	public static Long fingerprint(String title, String content) {
+		String text = normalize((title != null ? title : "") + " " + (content != null ? content : ""));
+		if (text.length() < MIN_TEXT_LENGTH) {
+			return null;
+		}
+
+		Map<String, Integer> shingles = new HashMap<>();
+		for (int i = 0; i + SHINGLE_SIZE <= text.length(); i++) {
+			shingles.merge(text.substring(i, i + SHINGLE_SIZE), 1, Integer::sum);
+		}
+
+		int[] weights = new int[Long.SIZE];
+		for (Map.Entry<String, Integer> shingle : shingles.entrySet()) {
+			long hash = hash(shingle.getKey());
+			int weight = shingle.getValue();
+			for (int bit = 0; bit < Long.SIZE; bit++) {
+				weights[bit] += ((hash >>> bit) & 1L) == 1L ? weight : -weight;
+			}
+		}
+
+		long fingerprint = 0L;
+		for (int bit = 0; bit < Long.SIZE; bit++) {
+			if (weights[bit] > 0) {
+				fingerprint |= 1L << bit;
+			}
+		}
+		return fingerprint;
+	}
+
+	public static int hammingDistance(long a, long b) {
+		return Long.bitCount(a ^ b);
+	}
+
+	/**
+	 * 머리말/저작권 문구 제거, 소문자화 후 문자/숫자만 남기고 공백 제거
+	 * (기사마다 다른 줄바꿈, 따옴표, 기호 차이를 무시)
+	 */
+	static String normalize(String text) {
+		StringBuilder normalized = new StringBuilder(text.length());
+		BOILERPLATE.matcher(text).replaceAll(" ").toLowerCase().codePoints()
+				.filter(Character::isLetterOrDigit)
+				.forEach(normalized::appendCodePoint);
+		return normalized.toString();
+	}
+
+	/**
+	 * FNV-1a 64bit + splitmix64 finalizer
+	 */
+	private static long hash(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= (b & 0xff);
+			hash *= 0x100000001b3L;
+		}
+		long z = hash + 0x9e3779b97f4a7c15L;
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+}
@@ -0,0 +1,138 @@
+package com.commonground.be.domain.news.service.management;
+
+import com.commonground.be.domain.journal.entity.Journalist;
+import com.commonground.be.domain.media.entity.MediaOutlet;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🗂️ 수집 중 MediaOutlet / Journalist 조회용 로컬 캐시
+ * <p>
+ * 책임:
+ * - domain → MediaOutlet, (기자명, 언론사) → Journalist 를 크기 제한 캐시로 유지
+ * - 같은 키의 동시 조회/생성을 노드 내에서 한 번으로 합침
+ * - 언론사 정보 변경 시 Redis pub/sub 으로 다른 노드의 캐시 무효화
+ * <p>
+ * 캐시 미스는 Mongo 인덱스 조회로 채우며, 노드 간 생성 경합은 unique 인덱스로 막는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IngestionEntityCache implements MessageListener {
+
+	public static final String EVICT_CHANNEL = "ingestion_entity_cache_evict";
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	@Value("${news.source-cache.media-outlet-max-size:1000}")
+	private long mediaOutletMaxSize;
+
+	@Value("${news.source-cache.journalist-max-size:10000}")
+	private long journalistMaxSize;
+
+	@Value("${news.source-cache.expire-after-write:PT6H}")
+	private Duration expireAfterWrite;
+
+	private Cache<String, MediaOutlet> mediaOutlets;
+	private Cache<String, Journalist> journalists;
+
+	@PostConstruct
+	public void init() {
+		mediaOutlets = Caffeine.newBuilder()
+				.maximumSize(mediaOutletMaxSize)
+				.expireAfterWrite(expireAfterWrite)
+				.build();
+		journalists = Caffeine.newBuilder()
+				.maximumSize(journalistMaxSize)
+				.expireAfterWrite(expireAfterWrite)
+				.build();
+	}
+
+	// ==================== MediaOutlet ====================
+
+	/**
+	 * domain 으로 언론사 조회 (미스 시 loader 로 조회/생성, null 이면 캐시하지 않음)
+	 */
+	public MediaOutlet getMediaOutlet(String domain, Function<String, MediaOutlet> loader) {
+		return mediaOutlets.get(domain, loader);
+	}
+
+	/**
+	 * domain 목록 일괄 조회 (미스만 모아 loader 한 번 호출, 결과에 없는 domain 은 제외)
+	 */
+	public Map<String, MediaOutlet> getMediaOutlets(Set<String> domains,
+			Function<Set<? extends String>, Map<String, MediaOutlet>> loader) {
+		return mediaOutlets.getAll(domains, loader);
+	}
+
+	public void putMediaOutlet(MediaOutlet mediaOutlet) {
+		mediaOutlets.put(mediaOutlet.getDomain(), mediaOutlet);
+	}
+
+	/**
+	 * 언론사 정보가 변경된 경우 로컬 캐시 갱신 후 다른 노드에 무효화 전파
+	 */
+	public void mediaOutletChanged(MediaOutlet mediaOutlet) {
+		putMediaOutlet(mediaOutlet);
+		try {
+			redisTemplate.convertAndSend(EVICT_CHANNEL, Map.of("nodeId", nodeId, "domain", mediaOutlet.getDomain()));
+		} catch (Exception e) {
+			log.warn("언론사 캐시 무효화 전송 실패: domain={}, error={}", mediaOutlet.getDomain(), e.getMessage());
+		}
+	}
+
+	// ==================== Journalist ====================
+
+	/**
+	 * (기자명, 언론사) 키로 기자 조회 (미스 시 loader 로 조회/생성)
+	 */
+	public Journalist getJournalist(String journalistKey, Function<String, Journalist> loader) {
+		return journalists.get(journalistKey, loader);
+	}
+
+	public Map<String, Journalist> getJournalistsIfPresent(Set<String> journalistKeys) {
+		return journalists.getAllPresent(journalistKeys);
+	}
+
+	public void putJournalist(String journalistKey, Journalist journalist) {
+		journalists.put(journalistKey, journalist);
+	}
+
+	// ==================== 노드 간 무효화 ====================
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			Map<String, Object> payload = objectMapper.readValue(
+					new String(message.getBody(), StandardCharsets.UTF_8), Map.class);
+			if (nodeId.equals(payload.get("nodeId"))) {
+				return;
+			}
+			String domain = (String) payload.get("domain");
+			mediaOutlets.invalidate(domain);
+			log.debug("언론사 캐시 무효화 수신: domain={}", domain);
+
+		} catch (Exception e) {
+			log.warn("언론사 캐시 무효화 메시지 처리 실패: {}", e.getMessage());
+		}
+	}
+}
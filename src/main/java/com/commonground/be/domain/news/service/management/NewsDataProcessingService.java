@@ -1,14 +1,39 @@
 package com.commonground.be.domain.news.service.management;
 
+import com.commonground.be.domain.journal.entity.Journalist;
+import com.commonground.be.domain.media.entity.MediaOutlet;
+import com.commonground.be.domain.news.dto.crawling.NewsBatchResult;
 import com.commonground.be.domain.news.dto.crawling.RawNewsData;
 import com.commonground.be.domain.news.entity.News;
+import com.commonground.be.domain.news.entity.metadata.CrawlingMetadata;
 import com.commonground.be.domain.news.enums.CategoryEnum;
 import com.commonground.be.domain.news.enums.CrawlingSourceEnum;
 import com.commonground.be.domain.news.repository.NewsRepository;
+import com.commonground.be.domain.news.service.dedup.NearDuplicateIndex;
+import com.commonground.be.domain.news.service.dedup.NewsUrlFilter;
+import com.commonground.be.domain.news.service.dedup.SimHash;
+import com.commonground.be.domain.news.service.search.NewsIndexOutbox;
 import com.commonground.be.global.application.aop.LogExecutionTime;
 import com.commonground.be.global.application.aop.LogMethodCall;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +56,31 @@ public class NewsDataProcessingService {
 
     private final NewsRepository newsRepository;
     private final NewsManagementService newsManagementService;
+    private final NewsUrlFilter newsUrlFilter;
+    private final NearDuplicateIndex nearDuplicateIndex;
+    private final NewsIndexOutbox newsIndexOutbox;
+    private final MeterRegistry meterRegistry;
+
+    // 동시에 진행할 수 있는 Mongo 일괄 저장 수 (수집 워커 수와 별개로 Mongo 쓰기 부하 상한)
+    @Value("${news.ingestion.max-in-flight-writes:4}")
+    private int maxInFlightWrites;
+
+    private Semaphore writePermits;
+
+    // 단계별 소요 시간 타이머 (배치마다 레지스트리를 조회하지 않도록 미리 등록)
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+
+    @PostConstruct
+    public void init() {
+        writePermits = new Semaphore(maxInFlightWrites, true);
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder("news.ingestion.stage")
+                    .description("뉴스 수집 배치의 단계별 소요 시간")
+                    .tag("stage", stage.name().toLowerCase(Locale.ROOT))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
 
     // ==================== 메인 처리 메서드 ====================
 
@@ -51,8 +101,9 @@ public class NewsDataProcessingService {
             return null;
         }
 
-        // 중복 체크 (DB 레벨)
-        if (isDuplicateNews(rawData)) {
+        // 중복 체크 (URL: DB 레벨, 내용: SimHash)
+        Long fingerprint = SimHash.fingerprint(rawData.getTitle(), rawData.getContent());
+        if (isDuplicateNews(rawData, fingerprint)) {
             log.info("중복 뉴스 발견, 처리 중단: title={}", rawData.getTitle());
             return null;
         }
@@ -62,7 +113,147 @@ public class NewsDataProcessingService {
         var journalist = newsManagementService.findOrCreateJournalist(rawData, mediaOutlet);
 
         // Python에서 정제된 데이터를 News 엔티티로 직접 변환
-        News news = News.builder()
+        News news = buildNews(rawData, mediaOutlet, journalist, fingerprint);
+
+        News savedNews = newsRepository.save(news);
+        newsIndexOutbox.recordUpserts(List.of(savedNews));
+        newsUrlFilter.recordSaved(List.of(savedNews));
+        nearDuplicateIndex.recordSaved(List.of(savedNews));
+        
+        // 후처리 작업 (비동기)
+        newsManagementService.processNewsAfterSave(savedNews);
+
+        log.info("Python 크롤러 결과 변환 완료: id={}, title={}", 
+                savedNews.getId(), 
+                savedNews.getTitle().substring(0, Math.min(50, savedNews.getTitle().length())) + "...");
+        
+        return savedNews;
+    }
+
+    /**
+     * 크롤링 결과 배치 단위 변환/저장
+     *
+     * 기사마다 Mongo를 왕복하지 않도록 배치 전체를 한 번에 처리한다.
+     * - 중복 체크: 키 종류별 $in 쿼리 1회
+     * - MediaOutlet/Journalist: 일괄 조회 후 없는 것만 생성
+     * - 저장: unordered BulkOperations insert 1회
+     *
+     * 단계별 소요 시간은 news.ingestion.stage 타이머(stage 태그)로 기록한다.
+     */
+    @LogExecutionTime(slowThresholdMillis = 5000)
+    public NewsBatchResult processRawNewsBatch(List<RawNewsData> rawDataList) {
+        if (rawDataList == null || rawDataList.isEmpty()) {
+            return NewsBatchResult.empty();
+        }
+
+        // 1. 기본 유효성 체크
+        long stageStart = System.nanoTime();
+        List<RawNewsData> candidates = rawDataList.stream()
+                .filter(rawData -> rawData.getTitle() != null && !rawData.getTitle().trim().isEmpty())
+                .toList();
+        int invalidCount = rawDataList.size() - candidates.size();
+
+        // 2. 중복 체크 (DB + 유사 기사 + 배치 내부)
+        Map<RawNewsData, Long> fingerprints = new IdentityHashMap<>();
+        for (RawNewsData rawData : candidates) {
+            fingerprints.put(rawData, SimHash.fingerprint(rawData.getTitle(), rawData.getContent()));
+        }
+        List<RawNewsData> uniqueRawData = filterDuplicates(candidates, fingerprints);
+        int duplicateCount = candidates.size() - uniqueRawData.size();
+        stageStart = recordStage(Stage.DEDUP, stageStart);
+
+        if (uniqueRawData.isEmpty()) {
+            log.info("배치 처리: 저장할 신규 기사 없음 (전체={}, 누락={}, 중복={})",
+                    rawDataList.size(), invalidCount, duplicateCount);
+            return NewsBatchResult.builder()
+                    .totalCount(rawDataList.size())
+                    .invalidCount(invalidCount)
+                    .duplicateCount(duplicateCount)
+                    .build();
+        }
+
+        // 3. MediaOutlet 및 Journalist 일괄 조회/생성
+        Map<String, MediaOutlet> outlets = newsManagementService.resolveMediaOutlets(uniqueRawData);
+        Map<String, Journalist> journalists = newsManagementService.resolveJournalists(uniqueRawData, outlets);
+
+        List<News> newsList = new ArrayList<>(uniqueRawData.size());
+        for (RawNewsData rawData : uniqueRawData) {
+            MediaOutlet mediaOutlet = outlets.get(newsManagementService.resolveDomain(rawData));
+            Journalist journalist = journalists.get(NewsManagementService.journalistKey(
+                    newsManagementService.resolveAuthorName(rawData), mediaOutlet.getId()));
+            newsList.add(buildNews(rawData, mediaOutlet, journalist, fingerprints.get(rawData)));
+        }
+        recordStage(Stage.RESOLVE, stageStart);
+
+        // 4. 일괄 저장 (동시 저장 수 제한)
+        List<News> savedNews = insertWithPermit(newsList);
+        stageStart = System.nanoTime();
+        newsIndexOutbox.recordUpserts(savedNews);
+        newsUrlFilter.recordSaved(savedNews);
+        nearDuplicateIndex.recordSaved(savedNews);
+        newsManagementService.processBatchAfterSave(savedNews);
+        recordStage(Stage.AFTER_SAVE, stageStart);
+
+        int failedCount = newsList.size() - savedNews.size();
+        log.info("배치 처리 완료: 전체={}, 저장={}, 누락={}, 중복={}, 실패={}",
+                rawDataList.size(), savedNews.size(), invalidCount, duplicateCount, failedCount);
+
+        return NewsBatchResult.builder()
+                .savedNews(savedNews)
+                .totalCount(rawDataList.size())
+                .invalidCount(invalidCount)
+                .duplicateCount(duplicateCount)
+                .failedCount(failedCount)
+                .build();
+    }
+
+    /**
+     * 크롤링 결과 전체 저장이 끝난 뒤 한 번 호출: 목록 캐시를 즉시 한 번 무효화
+     * (배치 저장은 무효화를 요청하지 않으므로 수집 중에는 읽기 요청이 기존 캐시를 그대로 사용)
+     */
+    public void completeIngestion() {
+        newsManagementService.invalidateNewsCache();
+    }
+
+    private List<News> insertWithPermit(List<News> newsList) {
+        long stageStart = System.nanoTime();
+        try {
+            writePermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("뉴스 저장 대기 중 인터럽트", e);
+        }
+        stageStart = recordStage(Stage.WRITE_WAIT, stageStart);
+        try {
+            return newsRepository.insertAll(newsList);
+        } finally {
+            writePermits.release();
+            recordStage(Stage.WRITE, stageStart);
+        }
+    }
+
+    /**
+     * 단계 소요 시간 기록 후 다음 단계 시작 시각 반환
+     */
+    private long recordStage(Stage stage, long startNanos) {
+        long now = System.nanoTime();
+        stageTimers.get(stage).record(now - startNanos, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    /**
+     * news.ingestion.stage 의 stage 태그 (소문자 이름, 대기열 대기(queue)는 NewsIngestionStage 가 기록)
+     */
+    private enum Stage {
+        DEDUP, RESOLVE, WRITE_WAIT, WRITE, AFTER_SAVE
+    }
+
+    /**
+     * 크롤링 데이터를 News 엔티티로 변환 (단건/배치 공통)
+     */
+    private News buildNews(RawNewsData rawData, MediaOutlet mediaOutlet, Journalist journalist,
+            Long contentFingerprint) {
+        return News.builder()
                 .title(rawData.getTitle())  // Python에서 이미 정제됨
                 .content(rawData.getContent())  // Python에서 이미 정제됨
                 .url(rawData.getUrl())
@@ -74,28 +265,31 @@ public class NewsDataProcessingService {
                 .journalistId(journalist.getId())
                 .crawlingSource(mapSourceToCrawlingSourceEnum(rawData.getSource()))
                 .crawlingPlatform(extractMediaNameFromRawData(rawData))
+                .crawlingMetadata(CrawlingMetadata.builder()  // 원문 링크 중복 체크에 사용
+                        .officeId(rawData.getOfficeId())
+                        .categoryId(rawData.getCategoryId())
+                        .articleId(rawData.getArticleId())
+                        .originalUrl(rawData.getOriginalUrl())
+                        .discoveredAt(rawData.getDiscoveredAt())
+                        .responseTime(rawData.getResponseTime())
+                        .build())
+                .contentFingerprint(contentFingerprint)
                 .viewCount(0L)
                 .build();
-
-        News savedNews = newsRepository.save(news);
-        
-        // 후처리 작업 (비동기)
-        newsManagementService.processNewsAfterSave(savedNews);
-
-        log.info("Python 크롤러 결과 변환 완료: id={}, title={}", 
-                savedNews.getId(), 
-                savedNews.getTitle().substring(0, Math.min(50, savedNews.getTitle().length())) + "...");
-        
-        return savedNews;
     }
 
     // ==================== 중복 체크 ====================
 
     /**
-     * 중복 뉴스 체크 (원문 링크 > 제목+기자+카테고리 조합으로 비교)
+     * 중복 뉴스 체크 (원문 링크 > 일반 링크 > 제목+본문 유사도 순으로 비교)
      * 중요한 필드가 누락된 경우에는 중복 체크를 건너뛰어 오버랩 허용
+     * URL 조회는 Bloom filter 가 "있을 수도 있음"으로 응답한 경우에만 Mongo 로 확인
      */
     public boolean isDuplicateNews(RawNewsData rawData) {
+        return isDuplicateNews(rawData, SimHash.fingerprint(rawData.getTitle(), rawData.getContent()));
+    }
+
+    private boolean isDuplicateNews(RawNewsData rawData, Long fingerprint) {
         // 기본 필수 필드 검증 - 하나라도 없으면 중복 체크 건너뛰기 (데이터 품질 우선)
         if (rawData.getTitle() == null || rawData.getTitle().trim().isEmpty()) {
             log.debug("⚠️ 제목 누락으로 중복 체크 건너뛰기: url={}", rawData.getUrl());
@@ -103,7 +297,8 @@ public class NewsDataProcessingService {
         }
         
         // 1차: 원문 링크로 중복 체크 (가장 정확한 방법)
-        if (rawData.getOriginalUrl() != null && !rawData.getOriginalUrl().trim().isEmpty()) {
+        if (rawData.getOriginalUrl() != null && !rawData.getOriginalUrl().trim().isEmpty()
+                && newsUrlFilter.mightContain(rawData.getOriginalUrl())) {
             boolean existsByOriginalUrl = newsRepository.existsByOriginalUrl(rawData.getOriginalUrl());
             if (existsByOriginalUrl) {
                 log.debug("중복 감지 (원문 URL): {}", rawData.getOriginalUrl());
@@ -112,7 +307,8 @@ public class NewsDataProcessingService {
         }
         
         // 2차: 일반 URL로 중복 체크 (fallback)
-        if (rawData.getUrl() != null && !rawData.getUrl().trim().isEmpty()) {
+        if (rawData.getUrl() != null && !rawData.getUrl().trim().isEmpty()
+                && newsUrlFilter.mightContain(rawData.getUrl())) {
             boolean existsByUrl = newsRepository.existsByUrl(rawData.getUrl());
             if (existsByUrl) {
                 log.debug("중복 감지 (일반 URL): {}", rawData.getUrl());
@@ -120,7 +316,18 @@ public class NewsDataProcessingService {
             }
         }
 
-        // 3차: 제목 + 기자 + 카테고리 조합으로 중복 체크 (모든 필드가 있는 경우에만)
+        // 3차: 제목+본문 SimHash 로 유사 기사 체크 (다른 언론사가 일부 수정해 재송고한 기사 포함)
+        if (fingerprint != null && nearDuplicateIndex.isReady()) {
+            boolean nearDuplicate = nearDuplicateIndex.containsNearDuplicate(fingerprint);
+            if (nearDuplicate) {
+                log.debug("중복 감지 (유사 기사): title={}, fingerprint={}",
+                        rawData.getTitle().substring(0, Math.min(30, rawData.getTitle().length())) + "...",
+                        Long.toHexString(fingerprint));
+            }
+            return nearDuplicate;
+        }
+
+        // 인덱스 워밍업 전이거나 본문이 너무 짧으면 제목 + 기자 + 카테고리 정확 일치로 대체
         if (rawData.getAuthorName() != null && !rawData.getAuthorName().trim().isEmpty() &&
             rawData.getCategoryId() != null) {
             
@@ -147,6 +354,89 @@ public class NewsDataProcessingService {
         return false;
     }
 
+    /**
+     * 배치 중복 체크 (isDuplicateNews와 동일한 기준을 키 종류별 $in 쿼리로 수행)
+     * 배치 내부에서 같은 기사가 반복되는 경우도 첫 기사만 남긴다.
+     * URL 은 Bloom filter 에서 "있을 수도 있음"인 값만 $in 쿼리에 포함한다.
+     * 내용 중복은 SimHash 인덱스로 확인하고, 사용할 수 없는 기사만 제목 $in 쿼리로 대체한다.
+     */
+    private List<RawNewsData> filterDuplicates(List<RawNewsData> candidates, Map<RawNewsData, Long> fingerprints) {
+        boolean useNearDuplicateIndex = nearDuplicateIndex.isReady();
+        List<RawNewsData> exactMatchCandidates = candidates.stream()
+                .filter(rawData -> !useNearDuplicateIndex || fingerprints.get(rawData) == null)
+                .toList();
+
+        Set<String> maybeOriginalUrls = collectNonBlank(candidates, RawNewsData::getOriginalUrl);
+        maybeOriginalUrls.removeIf(originalUrl -> !newsUrlFilter.mightContain(originalUrl));
+        Set<String> maybeUrls = collectNonBlank(candidates, RawNewsData::getUrl);
+        maybeUrls.removeIf(url -> !newsUrlFilter.mightContain(url));
+
+        Set<String> existingOriginalUrls = newsRepository.findExistingOriginalUrls(maybeOriginalUrls);
+        Set<String> existingUrls = newsRepository.findExistingUrls(maybeUrls);
+        Set<String> existingTitleKeys = newsRepository.findByTitleIn(
+                        collectNonBlank(exactMatchCandidates, RawNewsData::getTitle)).stream()
+                .map(news -> titleAuthorCategoryKey(news.getTitle(), news.getAuthorName(), news.getCategory()))
+                .collect(Collectors.toSet());
+
+        Set<String> seenKeys = new HashSet<>();
+        List<Long> seenFingerprints = new ArrayList<>();
+        List<RawNewsData> unique = new ArrayList<>();
+
+        for (RawNewsData rawData : candidates) {
+            String originalUrl = trimToNull(rawData.getOriginalUrl());
+            String url = trimToNull(rawData.getUrl());
+            Long fingerprint = useNearDuplicateIndex ? fingerprints.get(rawData) : null;
+            String titleKey = fingerprint == null && hasTitleAuthorCategory(rawData)
+                    ? titleAuthorCategoryKey(rawData.getTitle().trim(), rawData.getAuthorName().trim(),
+                            mapNaverCategoryToEnum(rawData.getCategoryId()))
+                    : null;
+
+            boolean duplicate = (originalUrl != null && existingOriginalUrls.contains(originalUrl))
+                    || (url != null && existingUrls.contains(url))
+                    || (fingerprint != null && nearDuplicateIndex.containsNearDuplicate(fingerprint))
+                    || (titleKey != null && existingTitleKeys.contains(titleKey));
+
+            // 배치 내부 중복
+            duplicate = duplicate
+                    || (originalUrl != null && !seenKeys.add("originalUrl:" + originalUrl))
+                    || (url != null && !seenKeys.add("url:" + url))
+                    || (fingerprint != null && seenFingerprints.stream()
+                            .anyMatch(seen -> nearDuplicateIndex.isNearDuplicate(seen, fingerprint)))
+                    || (titleKey != null && !seenKeys.add("title:" + titleKey));
+
+            if (duplicate) {
+                log.debug("중복 감지 (배치): title={}", rawData.getTitle());
+            } else {
+                unique.add(rawData);
+                if (fingerprint != null) {
+                    seenFingerprints.add(fingerprint);
+                }
+            }
+        }
+        return unique;
+    }
+
+    private boolean hasTitleAuthorCategory(RawNewsData rawData) {
+        return rawData.getAuthorName() != null && !rawData.getAuthorName().trim().isEmpty()
+                && rawData.getCategoryId() != null;
+    }
+
+    private String titleAuthorCategoryKey(String title, String authorName, CategoryEnum category) {
+        return title + "\u0000" + authorName + "\u0000" + category;
+    }
+
+    private Set<String> collectNonBlank(List<RawNewsData> rawDataList, Function<RawNewsData, String> getter) {
+        return rawDataList.stream()
+                .map(getter)
+                .map(this::trimToNull)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private String trimToNull(String value) {
+        return value == null || value.trim().isEmpty() ? null : value.trim();
+    }
+
     // ==================== 데이터 보완 ====================
 
 
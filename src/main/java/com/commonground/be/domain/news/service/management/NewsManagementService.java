@@ -8,17 +8,31 @@ import com.commonground.be.domain.media.repository.MediaOutletRepository;
 import com.commonground.be.domain.news.dto.crawling.RawNewsData;
 import com.commonground.be.domain.news.dto.request.CreateNewsRequest;
 import com.commonground.be.domain.news.dto.request.UpdateNewsRequest;
+import com.commonground.be.domain.news.dto.response.NewsReindexStatus;
 import com.commonground.be.domain.news.entity.News;
 import com.commonground.be.domain.news.enums.CrawlingPlatformEnum;
 import com.commonground.be.domain.news.repository.NewsRepository;
-import com.commonground.be.domain.news.service.search.OpenSearchIndexingService;
+import com.commonground.be.domain.news.service.search.NewsIndexOutbox;
+import com.commonground.be.domain.news.service.search.NewsReindexService;
+import com.commonground.be.domain.news.service.statistics.NewsStatsMaterializer;
+import com.commonground.be.domain.news.service.trending.TrendingNewsEngine;
+import com.commonground.be.global.application.exception.NewsServiceExceptions;
+import com.commonground.be.global.infrastructure.cache.CacheNamespaces;
+import com.commonground.be.global.infrastructure.cache.DebouncedCacheInvalidator;
 import java.net.URL;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,11 +47,22 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class NewsManagementService {
 
+	private static final String ANONYMOUS_JOURNALIST_NAME = "편집부";
+
+	// 새 뉴스가 저장되면 달라지는 목록 캐시
+	private static final List<String> NEWS_LIST_CACHES = List.of(
+			CacheNamespaces.RECENT_NEWS, CacheNamespaces.CATEGORY_NEWS);
+
 	private final NewsRepository newsRepository;
 	private final MediaOutletRepository mediaOutletRepository;
 	private final JournalistRepository journalistRepository;
-	private final RedisTemplate<String, Object> redisTemplate;
-	private final OpenSearchIndexingService openSearchService;
+	private final DebouncedCacheInvalidator cacheInvalidator;
+	private final NewsIndexOutbox newsIndexOutbox;
+	private final NewsReindexService newsReindexService;
+	private final IngestionEntityCache ingestionEntityCache;
+	private final ViewCountBuffer viewCountBuffer;
+	private final TrendingNewsEngine trendingNewsEngine;
+	private final NewsStatsMaterializer newsStatsMaterializer;
 
 	// ==================== CRUD 메서드 ====================
 
@@ -60,18 +85,24 @@ public class NewsManagementService {
 		throw new UnsupportedOperationException("updateNews 구현 필요");
 	}
 
+	/**
+	 * 뉴스 soft delete 후 검색 인덱스 제거 이벤트 기록
+	 */
 	public void deleteNews(String id) {
 		log.info("뉴스 삭제 요청: id={}", id);
 
-		// 실제 News 삭제 로직을 여기에 구현
-		throw new UnsupportedOperationException("deleteNews 구현 필요");
+		newsRepository.findById(id).orElseThrow(() -> NewsServiceExceptions.newsNotFound(id));
+		newsRepository.deleteById(id);
+		newsIndexOutbox.recordDelete(id);
+		invalidateNewsCache();
 	}
 
-	public void incrementViewCount(String newsId) {
-		log.debug("조회수 증가: newsId={}", newsId);
-
-		// 실제 조회수 증가 로직을 여기에 구현
-		throw new UnsupportedOperationException("incrementViewCount 구현 필요");
+	/**
+	 * 조회수 증가 (메모리 버퍼에 집계 후 주기적으로 일괄 반영) 및 트렌딩 점수 기록
+	 */
+	public void incrementViewCount(News news) {
+		viewCountBuffer.increment(news.getId());
+		trendingNewsEngine.recordView(news.getId(), news.getCategory());
 	}
 
 	// ==================== 엔티티 생성/관리 메서드 ====================
@@ -83,38 +114,174 @@ public class NewsManagementService {
 		String domain = extractDomainFromUrl(rawData.getUrl());
 		String extractedMediaName = extractMediaNameFromRawData(rawData);
 
-		Optional<MediaOutlet> existingOutlet = mediaOutletRepository.findByDomain(domain);
-
-		if (existingOutlet.isPresent()) {
-			MediaOutlet outlet = existingOutlet.get();
-
-			// 기존 데이터의 이름이 잘못된 경우 업데이트
-			if ("언론사명_추출필요".equals(outlet.getName()) && extractedMediaName != null) {
-				log.info("🔄 언론사명 업데이트: domain={}, 기존={} → 신규={}",
-						domain, outlet.getName(), extractedMediaName);
-
-				outlet = MediaOutlet.builder()
-						.id(outlet.getId())  // 기존 ID 유지
-						.name(extractedMediaName)
-						.domain(outlet.getDomain())
-						.website(outlet.getWebsite())
-						.politicalBias(outlet.getPoliticalBias())
-						.crawlingPlatform(outlet.getCrawlingPlatform())
-						.crawlingUrl(outlet.getCrawlingUrl())
-						.isActive(outlet.getIsActive())
-						.build();
-
-				MediaOutlet updatedOutlet = mediaOutletRepository.save(outlet);
-				log.info("✅ 언론사명 업데이트 완료: id={}, name={}", updatedOutlet.getId(),
-						updatedOutlet.getName());
-				return updatedOutlet;
+		MediaOutlet outlet = ingestionEntityCache.getMediaOutlet(domain,
+				d -> mediaOutletRepository.findByDomain(d)
+						.orElseGet(() -> createMediaOutlet(d, extractedMediaName, rawData)));
+		return fixUpMediaOutletName(outlet, extractedMediaName);
+	}
+
+	/**
+	 * 배치 내 기사들의 MediaOutlet 일괄 조회/생성
+	 * <p>
+	 * 캐시에 없는 domain 만 한 번의 $in 쿼리로 조회하고, 없는 언론사만 개별 생성한다.
+	 *
+	 * @return domain → MediaOutlet
+	 */
+	public Map<String, MediaOutlet> resolveMediaOutlets(List<RawNewsData> rawDataList) {
+		// domain별 대표 기사 선정 (언론사명이 추출되는 기사 우선)
+		Map<String, RawNewsData> representatives = new LinkedHashMap<>();
+		for (RawNewsData rawData : rawDataList) {
+			String domain = extractDomainFromUrl(rawData.getUrl());
+			RawNewsData current = representatives.get(domain);
+			if (current == null || (extractMediaNameFromRawData(current) == null
+					&& extractMediaNameFromRawData(rawData) != null)) {
+				representatives.put(domain, rawData);
+			}
+		}
+
+		Map<String, MediaOutlet> outlets = new HashMap<>(ingestionEntityCache.getMediaOutlets(
+				representatives.keySet(),
+				missingDomains -> mediaOutletRepository.findByDomainIn(List.copyOf(missingDomains)).stream()
+						.collect(Collectors.toMap(MediaOutlet::getDomain, outlet -> outlet, (a, b) -> a))));
+
+		representatives.forEach((domain, rawData) -> {
+			String extractedMediaName = extractMediaNameFromRawData(rawData);
+			MediaOutlet existing = outlets.get(domain);
+			outlets.put(domain, existing != null
+					? fixUpMediaOutletName(existing, extractedMediaName)
+					: ingestionEntityCache.getMediaOutlet(domain,
+							d -> createMediaOutlet(d, extractedMediaName, rawData)));
+		});
+
+		log.debug("🏢 언론사 일괄 조회 완료: domain 수={}", outlets.size());
+		return outlets;
+	}
+
+	/**
+	 * Journalist 찾기 또는 생성
+	 */
+	public Journalist findOrCreateJournalist(RawNewsData rawData, MediaOutlet mediaOutlet) {
+		if (rawData.getAuthorName() == null || rawData.getAuthorName().trim().isEmpty()) {
+			log.info("📰 기자 정보 없음, 기본 기자 생성: source={}, url={}", rawData.getSource(),
+					rawData.getUrl());
+		}
+
+		String authorName = resolveAuthorName(rawData);
+		log.debug("🔍 기자 정보 처리: authorName={}, mediaOutletId={}", authorName, mediaOutlet.getId());
+
+		return ingestionEntityCache.getJournalist(journalistKey(authorName, mediaOutlet.getId()),
+				key -> journalistRepository.findByNameAndMediaOutletId(authorName, mediaOutlet.getId())
+						.orElseGet(() -> createJournalist(authorName, mediaOutlet)));
+	}
+
+	/**
+	 * 배치 내 기사들의 Journalist 일괄 조회/생성
+	 *
+	 * @return {@link #journalistKey(String, String)} → Journalist
+	 */
+	public Map<String, Journalist> resolveJournalists(List<RawNewsData> rawDataList,
+			Map<String, MediaOutlet> outletsByDomain) {
+		// 필요한 (기자명, 언론사) 쌍 수집
+		Map<String, MediaOutlet> required = new LinkedHashMap<>();
+		Map<String, String> requiredNames = new HashMap<>();
+		for (RawNewsData rawData : rawDataList) {
+			MediaOutlet outlet = outletsByDomain.get(extractDomainFromUrl(rawData.getUrl()));
+			if (outlet == null) {
+				continue;
 			}
+			String authorName = resolveAuthorName(rawData);
+			String key = journalistKey(authorName, outlet.getId());
+			required.putIfAbsent(key, outlet);
+			requiredNames.putIfAbsent(key, authorName);
+		}
+
+		// 캐시에 없는 쌍만 Mongo 에서 조회
+		Map<String, Journalist> journalists = new HashMap<>(
+				ingestionEntityCache.getJournalistsIfPresent(required.keySet()));
+		Set<String> missingKeys = new HashSet<>(required.keySet());
+		missingKeys.removeAll(journalists.keySet());
+
+		if (!missingKeys.isEmpty()) {
+			Set<String> names = missingKeys.stream().map(requiredNames::get).collect(Collectors.toSet());
+			Set<String> outletIds = missingKeys.stream()
+					.map(key -> required.get(key).getId())
+					.collect(Collectors.toSet());
+
+			for (Journalist journalist : journalistRepository.findByNameInAndMediaOutletIdIn(names, outletIds)) {
+				String key = journalistKey(journalist.getName(), journalist.getMediaOutletId());
+				if (missingKeys.contains(key) && journalists.putIfAbsent(key, journalist) == null) {
+					ingestionEntityCache.putJournalist(key, journalist);
+				}
+			}
+		}
+
+		required.forEach((key, outlet) -> journalists.computeIfAbsent(key,
+				k -> ingestionEntityCache.getJournalist(k,
+						ignored -> createJournalist(requiredNames.get(k), outlet))));
+
+		log.debug("👤 기자 일괄 조회 완료: 기자 수={}", journalists.size());
+		return journalists;
+	}
+
+	/**
+	 * 배치 조회 결과에서 기자를 찾기 위한 키
+	 */
+	public static String journalistKey(String authorName, String mediaOutletId) {
+		return mediaOutletId + ":" + authorName;
+	}
+
+	/**
+	 * 기사의 기자명 (누락된 경우 익명 기자명)
+	 */
+	public String resolveAuthorName(RawNewsData rawData) {
+		if (rawData.getAuthorName() == null || rawData.getAuthorName().trim().isEmpty()) {
+			return ANONYMOUS_JOURNALIST_NAME;
+		}
+		return rawData.getAuthorName().trim();
+	}
+
+	/**
+	 * 기사 URL의 언론사 domain
+	 */
+	public String resolveDomain(RawNewsData rawData) {
+		return extractDomainFromUrl(rawData.getUrl());
+	}
 
+	/**
+	 * 기존 데이터의 이름이 잘못된 경우 업데이트
+	 */
+	private MediaOutlet fixUpMediaOutletName(MediaOutlet outlet, String extractedMediaName) {
+		if (!"언론사명_추출필요".equals(outlet.getName()) || extractedMediaName == null) {
 			log.debug("🔍 기존 언론사 사용: id={}, name={}", outlet.getId(), outlet.getName());
 			return outlet;
 		}
 
-		// 새로운 MediaOutlet 생성
+		log.info("🔄 언론사명 업데이트: domain={}, 기존={} → 신규={}",
+				outlet.getDomain(), outlet.getName(), extractedMediaName);
+
+		MediaOutlet renamed = MediaOutlet.builder()
+				.id(outlet.getId())  // 기존 ID 유지
+				.name(extractedMediaName)
+				.domain(outlet.getDomain())
+				.website(outlet.getWebsite())
+				.politicalBias(outlet.getPoliticalBias())
+				.crawlingPlatform(outlet.getCrawlingPlatform())
+				.crawlingUrl(outlet.getCrawlingUrl())
+				.isActive(outlet.getIsActive())
+				.build();
+
+		MediaOutlet updatedOutlet = mediaOutletRepository.save(renamed);
+		ingestionEntityCache.mediaOutletChanged(updatedOutlet);
+		log.info("✅ 언론사명 업데이트 완료: id={}, name={}", updatedOutlet.getId(),
+				updatedOutlet.getName());
+		return updatedOutlet;
+	}
+
+	/**
+	 * 새로운 MediaOutlet 생성
+	 * 다른 워커/노드가 먼저 생성한 경우(domain unique 인덱스 위반) 기존 언론사를 반환
+	 */
+	private MediaOutlet createMediaOutlet(String domain, String extractedMediaName, RawNewsData rawData) {
 		String mediaName = extractedMediaName != null ? extractedMediaName
 				: extractMediaNameFromUrl(rawData.getUrl());
 		log.info("✨ 새로운 언론사 생성: name={}, domain={}", mediaName, domain);
@@ -129,91 +296,104 @@ public class NewsManagementService {
 				.isActive(true)
 				.build();
 
-		MediaOutlet savedOutlet = mediaOutletRepository.save(newOutlet);
-		log.info("🏢 언론사 생성 완료: id={}, name={}", savedOutlet.getId(), savedOutlet.getName());
-		return savedOutlet;
-	}
+		try {
+			MediaOutlet savedOutlet = mediaOutletRepository.save(newOutlet);
+			log.info("🏢 언론사 생성 완료: id={}, name={}", savedOutlet.getId(), savedOutlet.getName());
+			return savedOutlet;
 
-	/**
-	 * Journalist 찾기 또는 생성
-	 */
-	public Journalist findOrCreateJournalist(RawNewsData rawData, MediaOutlet mediaOutlet) {
-		if (rawData.getAuthorName() == null || rawData.getAuthorName().trim().isEmpty()) {
-			log.info("📰 기자 정보 없음, 기본 기자 생성: source={}, url={}", rawData.getSource(),
-					rawData.getUrl());
-			return findOrCreateAnonymousJournalist(mediaOutlet);
+		} catch (DuplicateKeyException e) {
+			log.info("🏢 언론사 동시 생성 감지, 기존 언론사 사용: domain={}", domain);
+			return mediaOutletRepository.findByDomain(domain).orElseThrow(() -> e);
 		}
-
-		String authorName = rawData.getAuthorName().trim();
-		log.debug("🔍 기자 정보 처리: authorName={}, mediaOutletId={}", authorName, mediaOutlet.getId());
-
-		return journalistRepository.findByNameAndMediaOutletId(authorName, mediaOutlet.getId())
-				.orElseGet(() -> {
-					log.info("✨ 새로운 기자 생성: name={}, mediaOutlet={}", authorName,
-							mediaOutlet.getName());
-					Journalist newJournalist = Journalist.builder()
-							.name(authorName)
-							.mediaOutletId(mediaOutlet.getId())
-							.isActive(true)
-							.build();
-
-					Journalist savedJournalist = journalistRepository.save(newJournalist);
-					log.info("👤 기자 생성 완료: id={}, name={}", savedJournalist.getId(),
-							savedJournalist.getName());
-					return savedJournalist;
-				});
 	}
 
 	/**
-	 * 기자 정보가 없는 경우 기본 익명 기자 생성 또는 조회
+	 * 새로운 Journalist 생성 (기자 정보가 없는 경우 익명 기자)
+	 * 다른 워커/노드가 먼저 생성한 경우((name, mediaOutletId) unique 인덱스 위반) 기존 기자를 반환하고,
+	 * 기존 기자가 삭제된 상태라면 복구해서 사용 (unique 인덱스는 삭제된 기자도 포함하므로 새로 만들 수 없음)
 	 */
-	private Journalist findOrCreateAnonymousJournalist(MediaOutlet mediaOutlet) {
-		String anonymousName = "편집부";
-
-		return journalistRepository.findByNameAndMediaOutletId(anonymousName, mediaOutlet.getId())
-				.orElseGet(() -> {
-					log.info("✨ 익명 기자 생성: name={}, mediaOutlet={}", anonymousName,
-							mediaOutlet.getName());
-					Journalist anonymousJournalist = Journalist.builder()
-							.name(anonymousName)
-							.mediaOutletId(mediaOutlet.getId())
-							.isActive(true)
-							.build();
+	private Journalist createJournalist(String authorName, MediaOutlet mediaOutlet) {
+		log.info("✨ 새로운 기자 생성: name={}, mediaOutlet={}", authorName, mediaOutlet.getName());
+		Journalist newJournalist = Journalist.builder()
+				.name(authorName)
+				.mediaOutletId(mediaOutlet.getId())
+				.isActive(true)
+				.build();
 
-					Journalist savedJournalist = journalistRepository.save(anonymousJournalist);
-					log.info("👤 익명 기자 생성 완료: id={}, name={}", savedJournalist.getId(),
-							savedJournalist.getName());
-					return savedJournalist;
-				});
+		try {
+			Journalist savedJournalist = journalistRepository.save(newJournalist);
+			log.info("👤 기자 생성 완료: id={}, name={}", savedJournalist.getId(),
+					savedJournalist.getName());
+			return savedJournalist;
+
+		} catch (DuplicateKeyException e) {
+			log.info("👤 기자 동시 생성 감지, 기존 기자 사용: name={}, mediaOutletId={}", authorName,
+					mediaOutlet.getId());
+			Journalist existing = journalistRepository.findAnyByNameAndMediaOutletId(authorName, mediaOutlet.getId())
+					.orElseThrow(() -> e);
+			if (existing.getDeletedAt() == null) {
+				return existing;
+			}
+			existing.restore();
+			log.info("👤 삭제된 기자 복구: id={}, name={}", existing.getId(), existing.getName());
+			return journalistRepository.save(existing);
+		}
 	}
 
 	// ==================== 후처리 및 캐시 관리 ====================
 
 	/**
-	 * 뉴스 저장 후 후처리 작업
+	 * 단건 저장 후 후처리 작업: 통계 증분 기록, 캐시 무효화를 요청해 두고 debounce 주기에 다른 요청과 합쳐 반영
+	 * (OpenSearch 인덱싱은 저장 시 기록한 outbox 이벤트로 NewsIndexOutbox 가 수행)
 	 */
-	@Async
 	public void processNewsAfterSave(News news) {
-		try {
-			// OpenSearch 인덱싱
-			openSearchService.indexNews(news);
-
-			// 실시간 캐시 갱신
-			invalidateNewsCache();
+		newsStatsMaterializer.recordIngested(List.of(news));
+		NEWS_LIST_CACHES.forEach(cacheInvalidator::request);
+	}
 
-		} catch (Exception e) {
-			log.error("뉴스 후처리 실패: newsId={}", news.getId(), e);
+	/**
+	 * 배치 저장 후 후처리 작업: 통계 증분을 한 번에 기록
+	 * (캐시 무효화는 요청하지 않음, debounce 주기가 수집 도중 캐시를 비우지 않도록
+	 * 크롤링 결과 전체가 끝나면 NewsDataProcessingService.completeIngestion 이 한 번 반영)
+	 */
+	public void processBatchAfterSave(List<News> savedNews) {
+		if (!savedNews.isEmpty()) {
+			newsStatsMaterializer.recordIngested(savedNews);
 		}
 	}
 
 	/**
-	 * 뉴스 관련 캐시 무효화
+	 * 뉴스 관련 캐시 즉시 무효화 (대기 중인 무효화 요청도 함께 처리)
 	 */
 	public void invalidateNewsCache() {
-		Set<String> keys = redisTemplate.keys("recent_news:*");
-		if (keys != null && !keys.isEmpty()) {
-			redisTemplate.delete(keys);
-		}
+		NEWS_LIST_CACHES.forEach(cacheInvalidator::invalidateNow);
+	}
+
+	/**
+	 * 지정 시각 이후 변경된 뉴스를 검색 인덱스에 다시 반영 (outbox 보존 기간 이내)
+	 */
+	public void replaySearchIndex(LocalDateTime from) {
+		newsIndexOutbox.replayFrom(from.atZone(ZoneId.systemDefault()).toInstant());
+	}
+
+	/**
+	 * 새 버전 인덱스로 무중단 재색인 시작 (비동기, 진행 상황은 getSearchReindexStatus 로 확인)
+	 */
+	public NewsReindexStatus startSearchReindex() {
+		newsReindexService.reindex();
+		return newsReindexService.getStatus();
+	}
+
+	/**
+	 * 지정 시각 이후 생성·수정된 뉴스만 현재 인덱스에 다시 색인 (비동기, outbox 보존 기간을 넘는 복구용)
+	 */
+	public NewsReindexStatus startIncrementalSearchReindex(LocalDateTime since) {
+		newsReindexService.reindexIncremental(since);
+		return newsReindexService.getStatus();
+	}
+
+	public NewsReindexStatus getSearchReindexStatus() {
+		return newsReindexService.getStatus();
 	}
 
 	// ==================== 유틸리티 메서드 ====================
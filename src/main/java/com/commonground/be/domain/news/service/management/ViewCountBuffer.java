@@ -0,0 +1,155 @@
+package com.commonground.be.domain.news.service.management;
+
+import com.commonground.be.domain.news.repository.NewsRepository;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 👀 조회수 write-behind 버퍼
+ * <p>
+ * 책임:
+ * - 조회 요청마다 Mongo 에 쓰지 않고 기사별 LongAdder 로 로컬 집계
+ * - flush-interval 마다 로컬 집계를 Redis 해시(HINCRBY)로 이동 (노드 간 누적)
+ * - max-staleness 마다 한 노드만 Redis 누적분을 Mongo bulk $inc 로 반영
+ * - 종료 시 남은 집계 반영
+ * <p>
+ * Mongo 의 viewCount 는 최대 flush-interval + max-staleness 만큼 늦게 반영된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ViewCountBuffer {
+
+	private static final String PENDING_KEY = "view_count:pending";
+	private static final String FLUSHING_KEY = "view_count:flushing";
+	private static final String FLUSH_LOCK_KEY = "view_count:flush_lock";
+	private static final long FLUSH_LOCK_LEASE_SECONDS = 60;
+
+	private final NewsRepository newsRepository;
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final RedissonClient redissonClient;
+
+	private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+	/**
+	 * 조회수 1 증가 (메모리 연산만 수행)
+	 */
+	public void increment(String newsId) {
+		counters.computeIfAbsent(newsId, id -> new LongAdder()).increment();
+	}
+
+	// ==================== 로컬 → Redis ====================
+
+	/**
+	 * 로컬 집계를 Redis 해시로 이동
+	 * Redis 전송에 실패하면 증가분을 로컬 카운터로 되돌려 다음 주기에 재시도한다.
+	 */
+	@Scheduled(fixedDelayString = "${news.view-count.flush-interval:PT5S}")
+	public void flushToRedis() {
+		Map<String, Long> deltas = drainCounters();
+		if (deltas.isEmpty()) {
+			return;
+		}
+
+		try {
+			byte[] pendingKey = PENDING_KEY.getBytes(StandardCharsets.UTF_8);
+			redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				deltas.forEach((newsId, delta) -> connection.hashCommands()
+						.hIncrBy(pendingKey, newsId.getBytes(StandardCharsets.UTF_8), delta));
+				return null;
+			});
+			log.debug("조회수 Redis 반영: 기사 수={}", deltas.size());
+
+		} catch (Exception e) {
+			log.warn("조회수 Redis 반영 실패, 다음 주기에 재시도: 기사 수={}, error={}", deltas.size(), e.getMessage());
+			deltas.forEach((newsId, delta) -> counters.computeIfAbsent(newsId, id -> new LongAdder()).add(delta));
+		}
+	}
+
+	private Map<String, Long> drainCounters() {
+		Map<String, Long> deltas = new HashMap<>();
+		for (Map.Entry<String, LongAdder> entry : counters.entrySet()) {
+			long delta = entry.getValue().sumThenReset();
+			if (delta == 0 && counters.remove(entry.getKey(), entry.getValue())) {
+				// 제거 직전에 들어온 증가분까지 회수
+				delta = entry.getValue().sumThenReset();
+			}
+			if (delta != 0) {
+				deltas.put(entry.getKey(), delta);
+			}
+		}
+		return deltas;
+	}
+
+	// ==================== Redis → Mongo ====================
+
+	/**
+	 * Redis 누적분을 Mongo 에 bulk $inc 로 반영 (분산 락으로 한 노드만 수행)
+	 * <p>
+	 * pending 해시를 flushing 키로 RENAME 하여 새 증가분과 분리한 뒤 반영하고,
+	 * 이전 반영이 실패해 flushing 키가 남아 있으면 그것부터 처리한다.
+	 */
+	@Scheduled(fixedDelayString = "${news.view-count.max-staleness:PT1M}")
+	public void flushToMongo() {
+		RLock lock = redissonClient.getLock(FLUSH_LOCK_KEY);
+		boolean acquired = false;
+		try {
+			acquired = lock.tryLock(0, FLUSH_LOCK_LEASE_SECONDS, TimeUnit.SECONDS);
+			if (!acquired) {
+				return;
+			}
+
+			if (!Boolean.TRUE.equals(redisTemplate.hasKey(FLUSHING_KEY))) {
+				if (!Boolean.TRUE.equals(redisTemplate.hasKey(PENDING_KEY))) {
+					return;
+				}
+				redisTemplate.rename(PENDING_KEY, FLUSHING_KEY);
+			}
+
+			Map<String, Long> deltas = new HashMap<>();
+			redisTemplate.opsForHash().entries(FLUSHING_KEY).forEach((newsId, delta) ->
+					deltas.put((String) newsId, ((Number) delta).longValue()));
+
+			newsRepository.incrementViewCounts(deltas);
+			redisTemplate.delete(FLUSHING_KEY);
+			log.debug("조회수 Mongo 반영 완료: 기사 수={}", deltas.size());
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (Exception e) {
+			log.error("조회수 Mongo 반영 실패, 다음 주기에 재시도", e);
+		} finally {
+			if (acquired && lock.isHeldByCurrentThread()) {
+				lock.unlock();
+			}
+		}
+	}
+
+	// ==================== 종료 처리 ====================
+
+	/**
+	 * 정상 종료 시 남은 로컬 집계를 Redis 로 옮기고 Mongo 반영 시도
+	 * (Mongo 반영을 다른 노드가 수행 중이면 그 노드의 다음 주기에 반영된다)
+	 */
+	@PreDestroy
+	public void flushOnShutdown() {
+		flushToRedis();
+		flushToMongo();
+		if (!counters.isEmpty()) {
+			log.warn("종료 시 조회수 반영 실패: 기사 수={}", counters.size());
+		}
+	}
+}
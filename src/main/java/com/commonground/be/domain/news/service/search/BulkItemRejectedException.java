@@ -0,0 +1,23 @@
+package com.commonground.be.domain.news.service.search;
+
+import lombok.Getter;
+import org.opensearch.rest.RestStatus;
+
+/**
+ * OpenSearch 가 벌크 항목을 재시도 불가 상태(4xx, 429 제외)로 거절한 경우의 예외
+ * 같은 요청을 다시 보내도 결과가 같으므로, 호출 측은 재전송 대신 기록 후 다음 단계로 진행할지 결정한다.
+ */
+@Getter
+public class BulkItemRejectedException extends RuntimeException {
+
+	private final String index;
+	private final String documentId;
+	private final RestStatus status;
+
+	public BulkItemRejectedException(String index, String documentId, RestStatus status, String reason) {
+		super("벌크 인덱싱 항목 거절: index=" + index + ", id=" + documentId + ", status=" + status + ", reason=" + reason);
+		this.index = index;
+		this.documentId = documentId;
+		this.status = status;
+	}
+}
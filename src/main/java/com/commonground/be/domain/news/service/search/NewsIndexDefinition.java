@@ -0,0 +1,121 @@
+package com.commonground.be.domain.news.service.search;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 뉴스 검색 인덱스 매핑/설정 정의
+ * <p>
+ * 분석기나 매핑을 바꾸면 기존 인덱스를 수정하지 않고
+ * NewsReindexService 로 새 버전 인덱스(news_v{n})를 만들어 별칭을 옮긴다.
+ */
+public final class NewsIndexDefinition {
+
+	public static final String REFRESH_INTERVAL = "30s";
+
+	private NewsIndexDefinition() {
+	}
+
+	public static Map<String, Object> mapping() {
+		// 인덱스 매핑 설정 - 성능 최적화된 필드 구성
+		Map<String, Object> properties = new HashMap<>();
+
+		// title 필드
+		Map<String, Object> titleFields = new HashMap<>();
+		titleFields.put("exact", Map.of("type", "text", "analyzer", "korean_exact"));
+		titleFields.put("raw", Map.of("type", "keyword"));
+		properties.put("title",
+				Map.of("type", "text", "analyzer", "korean", "fields", titleFields));
+
+		// content 필드
+		properties.put("content", Map.of("type", "text", "analyzer", "korean"));
+
+		// summary 필드
+		Map<String, Object> summaryFields = new HashMap<>();
+		summaryFields.put("exact", Map.of("type", "text", "analyzer", "korean_exact"));
+		properties.put("summary",
+				Map.of("type", "text", "analyzer", "korean", "fields", summaryFields));
+
+		// keywords 필드
+		Map<String, Object> keywordsFields = new HashMap<>();
+		keywordsFields.put("text", Map.of("type", "text", "analyzer", "korean"));
+		properties.put("keywords", Map.of("type", "keyword", "fields", keywordsFields));
+
+		// 통합 텍스트 필드들
+		properties.put("fullText", Map.of("type", "text", "analyzer", "korean"));
+		properties.put("searchableText", Map.of("type", "text", "analyzer", "korean"));
+
+		// authorName 필드
+		Map<String, Object> authorFields = new HashMap<>();
+		authorFields.put("text", Map.of("type", "text", "analyzer", "korean"));
+		properties.put("authorName", Map.of("type", "keyword", "fields", authorFields));
+
+		// 날짜 필드들 - milliseconds와 timezone 지원
+		String dateFormat = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'||yyyy-MM-dd'T'HH:mm:ss.SSSX||yyyy-MM-dd'T'HH:mm:ss||yyyy-MM-dd||epoch_millis||strict_date_optional_time";
+		properties.put("publishedAt", Map.of("type", "date", "format", dateFormat));
+		properties.put("crawledAt", Map.of("type", "date", "format", dateFormat));
+		properties.put("createdAt", Map.of("type", "date", "format", dateFormat));
+		properties.put("updatedAt", Map.of("type", "date", "format", dateFormat));
+		properties.put("deletedAt", Map.of("type", "date", "format", dateFormat));
+
+		// 키워드 필드들
+		properties.put("id", Map.of("type", "keyword"));  // search_after 정렬 tie-breaker
+		properties.put("category", Map.of("type", "keyword"));
+		properties.put("categoryName", Map.of("type", "keyword"));
+		properties.put("status", Map.of("type", "keyword"));
+		properties.put("mediaOutletId", Map.of("type", "keyword"));
+		properties.put("crawlingSource", Map.of("type", "keyword"));
+
+		// 숫자 필드
+		properties.put("viewCount", Map.of("type", "long"));
+
+		return Map.of("properties", properties);
+	}
+
+	public static Map<String, Object> settings() {
+		// 인덱스 설정 - 한글 분석기 및 성능 최적화 설정
+		Map<String, Object> settings = new HashMap<>();
+		settings.put("number_of_shards", 1);
+		settings.put("number_of_replicas", 0);
+		settings.put("refresh_interval", REFRESH_INTERVAL);
+		settings.put("max_result_window", 50000);
+
+		// 분석기 설정
+		Map<String, Object> analyzers = new HashMap<>();
+		analyzers.put("korean", Map.of(
+				"type", "custom",
+				"tokenizer", "korean_tokenizer",
+				"filter", List.of("lowercase", "korean_stop", "korean_synonym")
+		));
+		analyzers.put("korean_exact", Map.of(
+				"type", "custom",
+				"tokenizer", "keyword",
+				"filter", List.of("lowercase")
+		));
+
+		Map<String, Object> tokenizers = new HashMap<>();
+		tokenizers.put("korean_tokenizer", Map.of("type", "standard"));
+
+		Map<String, Object> filters = new HashMap<>();
+		filters.put("korean_stop", Map.of(
+				"type", "stop",
+				"stopwords", List.of("이", "그", "저", "것", "들", "은", "는", "이", "가",
+						"을", "를", "에", "와", "과", "로", "으로", "의", "도",
+						"에서", "부터", "까지", "만", "뿐", "조차", "마저")
+		));
+		filters.put("korean_synonym", Map.of(
+				"type", "synonym",
+				"synonyms", List.of("경제,금융", "정치,정부", "사회,시민", "문화,예술", "스포츠,체육")
+		));
+
+		Map<String, Object> analysis = new HashMap<>();
+		analysis.put("analyzer", analyzers);
+		analysis.put("tokenizer", tokenizers);
+		analysis.put("filter", filters);
+
+		settings.put("analysis", analysis);
+
+		return settings;
+	}
+}
@@ -0,0 +1,214 @@
+package com.commonground.be.domain.news.service.search;
+
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.action.admin.indices.alias.IndicesAliasesRequest;
+import org.opensearch.action.admin.indices.alias.IndicesAliasesRequest.AliasActions;
+import org.opensearch.action.admin.indices.alias.get.GetAliasesRequest;
+import org.opensearch.action.admin.indices.refresh.RefreshRequest;
+import org.opensearch.action.admin.indices.settings.put.UpdateSettingsRequest;
+import org.opensearch.client.GetAliasesResponse;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.client.indices.CreateIndexRequest;
+import org.opensearch.client.indices.GetIndexRequest;
+import org.opensearch.client.indices.GetIndexResponse;
+import org.opensearch.client.indices.GetMappingsRequest;
+import org.opensearch.cluster.metadata.MappingMetadata;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🗂️ 뉴스 검색 인덱스 버전/별칭 관리
+ * <p>
+ * 책임:
+ * - 물리 인덱스를 news_v{n} 으로 버전 관리하고 읽기(news_read)/쓰기(news_write) 별칭으로만 접근
+ * - 최초 기동 시 별칭 생성 (기존 단일 news 인덱스가 있으면 그 인덱스에 별칭 연결)
+ * - 재색인용 새 버전 인덱스 생성, 적재 후 설정 복원, 별칭 원자적 전환
+ * - 읽기 인덱스 매핑에 맞는 id 정렬 필드 제공 (search_after tie-breaker)
+ * <p>
+ * 기존 news 인덱스 이전: 별칭 도입 이전 news 인덱스는 명시 매핑 없이 만들어져 id 가 text(+ id.keyword) 로 동적 매핑되어 있다.
+ * 최초 기동 시 별칭만 연결해 검색을 그대로 유지하고 id 정렬은 id.keyword 로 하며,
+ * 관리자 API(POST /api/v1/news/search-index/reindex)로 전체 재색인하면 news_v{n}(id keyword 매핑)으로 전환된다.
+ * 전환 후 news 인덱스는 롤백용으로 남으므로 확인 후 직접 삭제한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NewsIndexManager {
+
+	public static final String READ_ALIAS = "news_read";
+	public static final String WRITE_ALIAS = "news_write";
+
+	private static final String INDEX_PREFIX = "news_v";
+	// 별칭 도입 이전에 만들어진 단일 인덱스
+	private static final String LEGACY_INDEX = "news";
+
+	private static final String ID_FIELD = "id";
+	// 읽기 인덱스의 id 매핑 재확인 주기 (다른 노드가 별칭을 전환한 경우 반영)
+	private static final long ID_SORT_FIELD_TTL_MILLIS = 60_000;
+
+	private final RestHighLevelClient openSearchClient;
+
+	private volatile boolean aliasesReady;
+
+	private volatile String idSortField = ID_FIELD;
+	private volatile long idSortFieldCheckedAt;
+
+	@PostConstruct
+	public void initialize() {
+		ensureAliases();
+	}
+
+	/**
+	 * 읽기/쓰기 별칭 준비 (OpenSearch 가 응답하지 않으면 false, 다음 호출에서 다시 시도)
+	 * 별칭 없이 news_write 로 색인하면 같은 이름의 인덱스가 자동 생성되므로 쓰기 전에 확인한다.
+	 */
+	public boolean ensureAliases() {
+		if (aliasesReady) {
+			return true;
+		}
+		try {
+			if (!aliasExists(WRITE_ALIAS)) {
+				if (indexExists(LEGACY_INDEX)) {
+					pointAliasesTo(LEGACY_INDEX);
+					log.warn("기존 뉴스 인덱스에 별칭 연결 (id 동적 매핑, 전체 재색인으로 news_v{n} 전환 필요): index={}",
+							LEGACY_INDEX);
+				} else {
+					String index = createIndex(1, false);
+					pointAliasesTo(index);
+					log.info("뉴스 인덱스 생성 및 별칭 연결: index={}", index);
+				}
+			}
+			aliasesReady = true;
+
+		} catch (Exception e) {
+			log.warn("뉴스 인덱스 별칭 준비 실패, 다음 요청에서 재시도: {}", e.getMessage());
+		}
+		return aliasesReady;
+	}
+
+	/**
+	 * search_after tie-breaker 로 정렬할 id 필드 (읽기 인덱스의 id 가 text 로 매핑되어 있으면 id.keyword)
+	 * 매핑은 ID_SORT_FIELD_TTL_MILLIS 마다 다시 확인하며, 조회에 실패하면 마지막 값을 유지한다.
+	 */
+	public String idSortField() {
+		long now = System.currentTimeMillis();
+		if (now - idSortFieldCheckedAt >= ID_SORT_FIELD_TTL_MILLIS) {
+			idSortFieldCheckedAt = now;
+			try {
+				idSortField = resolveIdSortField();
+			} catch (Exception e) {
+				log.warn("뉴스 인덱스 id 매핑 확인 실패, 기존 정렬 필드 사용: field={}, error={}", idSortField, e.getMessage());
+			}
+		}
+		return idSortField;
+	}
+
+	private String resolveIdSortField() throws IOException {
+		Map<String, MappingMetadata> mappings = openSearchClient.indices()
+				.getMapping(new GetMappingsRequest().indices(READ_ALIAS), RequestOptions.DEFAULT)
+				.mappings();
+		for (MappingMetadata mapping : mappings.values()) {
+			if (mapping.sourceAsMap().get("properties") instanceof Map<?, ?> properties
+					&& properties.get(ID_FIELD) instanceof Map<?, ?> id
+					&& "text".equals(id.get("type"))) {
+				return ID_FIELD + ".keyword";
+			}
+		}
+		return ID_FIELD;
+	}
+
+	// ==================== 재색인 지원 ====================
+
+	/**
+	 * 쓰기 별칭이 가리키는 현재 인덱스
+	 */
+	public String currentIndex() throws IOException {
+		GetAliasesResponse response = openSearchClient.indices()
+				.getAlias(new GetAliasesRequest(WRITE_ALIAS), RequestOptions.DEFAULT);
+		Set<String> indices = response.getAliases().keySet();
+		if (indices.isEmpty()) {
+			throw new IllegalStateException("쓰기 별칭이 가리키는 인덱스가 없습니다: " + WRITE_ALIAS);
+		}
+		return indices.iterator().next();
+	}
+
+	/**
+	 * 다음 버전 인덱스를 대량 적재용 설정(refresh 비활성화)으로 생성
+	 */
+	public String createNextIndex() throws IOException {
+		GetIndexResponse existing = openSearchClient.indices()
+				.get(new GetIndexRequest(INDEX_PREFIX + "*"), RequestOptions.DEFAULT);
+		int latest = Arrays.stream(existing.getIndices())
+				.map(index -> index.substring(INDEX_PREFIX.length()))
+				.filter(version -> version.chars().allMatch(Character::isDigit))
+				.mapToInt(Integer::parseInt)
+				.max()
+				.orElse(0);
+		return createIndex(latest + 1, true);
+	}
+
+	/**
+	 * 인덱스 존재 여부 (중단된 재색인의 대상 인덱스를 이어 쓸 수 있는지 확인)
+	 */
+	public boolean indexExists(String index) throws IOException {
+		return openSearchClient.indices().exists(new GetIndexRequest(index), RequestOptions.DEFAULT);
+	}
+
+	/**
+	 * 대량 적재 후 refresh 설정 복원
+	 */
+	public void finishBulkLoad(String index) throws IOException {
+		UpdateSettingsRequest request = new UpdateSettingsRequest(index)
+				.settings(Map.of("refresh_interval", NewsIndexDefinition.REFRESH_INTERVAL));
+		openSearchClient.indices().putSettings(request, RequestOptions.DEFAULT);
+		openSearchClient.indices().refresh(new RefreshRequest(index), RequestOptions.DEFAULT);
+	}
+
+	/**
+	 * 읽기/쓰기 별칭을 한 요청으로 전환 (검색/색인 요청은 전환 전후 어느 한쪽 인덱스로만 향함)
+	 */
+	public void switchAliases(String from, String to) throws IOException {
+		IndicesAliasesRequest request = new IndicesAliasesRequest()
+				.addAliasAction(AliasActions.remove().index(from).aliases(READ_ALIAS, WRITE_ALIAS))
+				.addAliasAction(AliasActions.add().index(to).alias(READ_ALIAS))
+				.addAliasAction(AliasActions.add().index(to).alias(WRITE_ALIAS));
+		openSearchClient.indices().updateAliases(request, RequestOptions.DEFAULT);
+		// 새 인덱스의 id 매핑으로 바로 정렬하도록 다음 조회에서 다시 확인
+		idSortFieldCheckedAt = 0;
+		log.info("뉴스 인덱스 별칭 전환: {} → {}", from, to);
+	}
+
+	// ==================== 내부 유틸리티 ====================
+
+	private String createIndex(int version, boolean bulkLoad) throws IOException {
+		String index = INDEX_PREFIX + version;
+		Map<String, Object> settings = new HashMap<>(NewsIndexDefinition.settings());
+		if (bulkLoad) {
+			settings.put("refresh_interval", "-1");
+		}
+
+		CreateIndexRequest request = new CreateIndexRequest(index)
+				.mapping(NewsIndexDefinition.mapping())
+				.settings(settings);
+		openSearchClient.indices().create(request, RequestOptions.DEFAULT);
+		return index;
+	}
+
+	private void pointAliasesTo(String index) throws IOException {
+		IndicesAliasesRequest request = new IndicesAliasesRequest()
+				.addAliasAction(AliasActions.add().index(index).alias(READ_ALIAS))
+				.addAliasAction(AliasActions.add().index(index).alias(WRITE_ALIAS));
+		openSearchClient.indices().updateAliases(request, RequestOptions.DEFAULT);
+	}
+
+	private boolean aliasExists(String alias) throws IOException {
+		return openSearchClient.indices().existsAlias(new GetAliasesRequest(alias), RequestOptions.DEFAULT);
+	}
+}
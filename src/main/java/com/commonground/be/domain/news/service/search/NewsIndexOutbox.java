@@ -0,0 +1,270 @@
+package com.commonground.be.domain.news.service.search;
+
+import com.commonground.be.domain.news.entity.News;
+import com.commonground.be.domain.news.entity.NewsOutboxEvent;
+import com.commonground.be.domain.news.enums.NewsOutboxEventType;
+import com.commonground.be.domain.news.enums.NewsStatusEnum;
+import com.commonground.be.domain.news.repository.NewsOutboxRepository;
+import com.commonground.be.domain.news.repository.NewsRepository;
+import com.commonground.be.global.infrastructure.concurrency.ConcurrencyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 📮 뉴스 검색 인덱스 outbox
+ * <p>
+ * 책임:
+ * - 뉴스 저장/삭제 직후 변경 이벤트를 Mongo outbox 컬렉션에 기록
+ * - 한 노드만 outbox 를 id 순서로 읽어 벌크 인덱서로 전달하고, 전달 확인 후 체크포인트 이동
+ * - 재색인 중인 새 인덱스가 적재 이후 변경분을 따라잡도록 같은 이벤트를 별도로 전달
+ * - 체크포인트를 되돌려 보존 기간 안의 변경을 다시 전달 (OpenSearch 장애/인덱스 유실 복구)
+ * - 전달 확인 후 검색 결과 캐시 세대를 넘기고 변경된 기사 캐시 삭제
+ * <p>
+ * 전달 확인 전에는 체크포인트가 움직이지 않으므로 at-least-once 로 전달되며,
+ * 색인 문서는 이벤트 시점이 아닌 현재 Mongo 상태로 만들기 때문에 중복 전달되어도 결과는 같다.
+ * 단, OpenSearch 가 재시도 불가로 거절한 기사는 다시 보내도 같으므로 로그와 news.outbox.rejected 메트릭에 남기고 확인된 것으로 본다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NewsIndexOutbox {
+
+	private static final String CONSUMER = "opensearch";
+	private static final String RELAY_LOCK_KEY = "news_outbox:relay_lock";
+
+	private final NewsOutboxRepository outboxRepository;
+	private final NewsRepository newsRepository;
+	private final OpenSearchIndexingService openSearchService;
+	private final NewsIndexManager indexManager;
+	private final NewsSearchCache newsSearchCache;
+	private final RedissonClient redissonClient;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${news.outbox.batch-size:500}")
+	private int batchSize;
+
+	// 여러 노드가 발급한 ObjectId 는 시간 순서가 약간 어긋날 수 있으므로 최근 구간은 다음 주기로 미룸
+	@Value("${news.outbox.settle-delay:PT5S}")
+	private Duration settleDelay;
+
+	@Value("${news.outbox.ack-timeout:PT1M}")
+	private Duration ackTimeout;
+
+	// 재전달 예약 시 진행 중인 전달 주기가 끝나기를 기다리는 최대 시간
+	@Value("${news.outbox.replay-lock-wait:PT2M}")
+	private Duration replayLockWait;
+
+	// ==================== 이벤트 기록 ====================
+
+	/**
+	 * 저장된 뉴스의 색인 이벤트 기록
+	 */
+	public void recordUpserts(List<News> newsList) {
+		outboxRepository.appendAll(newsList.stream()
+				.map(news -> event(news.getId(), NewsOutboxEventType.UPSERT))
+				.toList());
+	}
+
+	/**
+	 * 삭제된 뉴스의 색인 제거 이벤트 기록
+	 */
+	public void recordDelete(String newsId) {
+		outboxRepository.appendAll(List.of(event(newsId, NewsOutboxEventType.DELETE)));
+	}
+
+	private static NewsOutboxEvent event(String newsId, NewsOutboxEventType type) {
+		return NewsOutboxEvent.builder()
+				.newsId(newsId)
+				.type(type)
+				.createdAt(LocalDateTime.now())
+				.build();
+	}
+
+	// ==================== 이벤트 전달 ====================
+
+	/**
+	 * 체크포인트 이후 이벤트를 쓰기 별칭으로 전달 (분산 락으로 한 노드만 수행)
+	 * 배치 전달이 확인되지 않으면 체크포인트를 유지하고 다음 주기에 같은 배치부터 다시 전달한다.
+	 */
+	@Scheduled(fixedDelayString = "${news.outbox.poll-interval:PT1S}")
+	public void relay() {
+		if (!indexManager.ensureAliases()) {
+			return;
+		}
+		RLock lock = redissonClient.getLock(RELAY_LOCK_KEY);
+		if (!lock.tryLock()) {
+			return;
+		}
+		try {
+			String checkpoint = outboxRepository.findCheckpoint(CONSUMER).orElse(null);
+			drain(checkpoint, NewsIndexManager.WRITE_ALIAS, lastEventId -> {
+				outboxRepository.saveCheckpoint(CONSUMER, lastEventId);
+				log.debug("outbox 전달 완료: checkpoint={}", lastEventId);
+			});
+
+		} catch (Exception e) {
+			log.error("outbox 전달 실패, 다음 주기에 재시도", e);
+		} finally {
+			if (lock.isHeldByCurrentThread()) {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * 지정 이벤트 이후 변경을 지정 인덱스로 전달 (재색인 중 새 인덱스 따라잡기용, 체크포인트는 그대로 둠)
+	 *
+	 * @return 마지막으로 전달한 이벤트 id (전달할 이벤트가 없으면 afterId)
+	 * @throws IllegalStateException 배치 전달이 확인되지 않은 경우
+	 */
+	public String catchUp(String afterId, String index) {
+		String[] lastEventId = {afterId};
+		if (!drain(afterId, index, eventId -> lastEventId[0] = eventId)) {
+			throw new IllegalStateException("outbox 따라잡기 실패: index=" + index);
+		}
+		return lastEventId[0];
+	}
+
+	/**
+	 * 지정 시각 무렵 이후의 이벤트를 가리키는 위치 (settle-delay 만큼 앞당김)
+	 */
+	public String positionAt(Instant at) {
+		return ObjectId.getSmallestWithDate(Date.from(at.minus(settleDelay))).toHexString();
+	}
+
+	/**
+	 * afterId 이후 settle-delay 가 지난 이벤트를 배치 단위로 전달
+	 *
+	 * @param onDelivered 배치 전달 확인 후 마지막 이벤트 id 로 호출
+	 * @return 모든 배치 전달 확인 여부
+	 */
+	private boolean drain(String afterId, String index, Consumer<String> onDelivered) {
+		String settledBefore = positionAt(Instant.now());
+		List<NewsOutboxEvent> events;
+		do {
+			events = outboxRepository.findBetween(afterId, settledBefore, batchSize);
+			if (events.isEmpty()) {
+				return true;
+			}
+			if (!deliver(events, index)) {
+				return false;
+			}
+			afterId = events.get(events.size() - 1).getId();
+			onDelivered.accept(afterId);
+		} while (events.size() == batchSize);
+		return true;
+	}
+
+	/**
+	 * 배치 내 기사별로 현재 상태를 색인(삭제된 기사는 색인 제거)하고 전달 확인까지 대기
+	 *
+	 * @return 배치 전체 전달 확인 여부
+	 */
+	private boolean deliver(List<NewsOutboxEvent> events, String index) {
+		// 같은 기사의 이벤트가 여러 건이어도 현재 상태로 한 번만 색인
+		Set<String> newsIds = events.stream()
+				.map(NewsOutboxEvent::getNewsId)
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+		Map<String, News> current = newsRepository.findByIdIn(newsIds).stream()
+				.collect(Collectors.toMap(News::getId, Function.identity()));
+
+		List<CompletableFuture<Void>> acks = new ArrayList<>(newsIds.size());
+		for (String newsId : newsIds) {
+			News news = current.get(newsId);
+			if (news == null || news.getStatus() == NewsStatusEnum.DELETED) {
+				acks.add(settleRejected(openSearchService.deleteNews(newsId, index), newsId));
+				continue;
+			}
+			try {
+				acks.add(settleRejected(openSearchService.indexNews(news, index), newsId));
+			} catch (Exception e) {
+				// 색인 문서를 만들 수 없는 기사는 재시도해도 같으므로 건너뜀
+				log.warn("색인 문서 변환 실패, 건너뜀: newsId={}, error={}", newsId, e.getMessage());
+			}
+		}
+
+		try {
+			CompletableFuture.allOf(acks.toArray(CompletableFuture[]::new))
+					.get(ackTimeout.toMillis(), TimeUnit.MILLISECONDS);
+			newsSearchCache.onIndexed(newsIds);
+			return true;
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		} catch (ExecutionException | TimeoutException e) {
+			log.warn("outbox 배치 전달 미확인, 체크포인트 유지: 기사 수={}, error={}", newsIds.size(), e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * 재시도 불가 거절은 기록 후 확인된 것으로 처리 (같은 배치를 계속 다시 보내며 outbox 가 멈추지 않도록)
+	 * 그 밖의 실패(재시도 한도 초과, 큐 포화 등)는 그대로 전달해 체크포인트를 유지한다.
+	 */
+	private CompletableFuture<Void> settleRejected(CompletableFuture<Void> ack, String newsId) {
+		return ack.exceptionallyCompose(e -> {
+			Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+			if (!(cause instanceof BulkItemRejectedException rejected)) {
+				return CompletableFuture.failedFuture(cause);
+			}
+			log.error("색인 거절된 기사 건너뜀: newsId={}, status={}", newsId, rejected.getStatus());
+			meterRegistry.counter("news.outbox.rejected").increment();
+			return CompletableFuture.completedFuture(null);
+		});
+	}
+
+	// ==================== 재전달 ====================
+
+	/**
+	 * 지정 시각 이후 기록된 이벤트부터 다시 전달 (보존 기간 이내만 가능)
+	 * 전달 중인 relay 가 되돌린 체크포인트를 덮어쓰지 않도록 같은 분산 락을 잡고 체크포인트를 바꾼다.
+	 *
+	 * @throws ConcurrencyException replay-lock-wait 안에 락을 얻지 못한 경우
+	 */
+	public void replayFrom(Instant from) {
+		String checkpoint = ObjectId.getSmallestWithDate(Date.from(from)).toHexString();
+		RLock lock = redissonClient.getLock(RELAY_LOCK_KEY);
+		boolean acquired = false;
+		try {
+			acquired = lock.tryLock(replayLockWait.toMillis(), TimeUnit.MILLISECONDS);
+			if (!acquired) {
+				throw new ConcurrencyException("outbox 전달이 진행 중입니다. 잠시 후 다시 시도해주세요.");
+			}
+			outboxRepository.saveCheckpoint(CONSUMER, checkpoint);
+			log.info("outbox 재전달 예약: from={}", from);
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ConcurrencyException("outbox 재전달 예약 중 인터럽트 발생", e);
+		} finally {
+			if (acquired && lock.isHeldByCurrentThread()) {
+				lock.unlock();
+			}
+		}
+	}
+}
@@ -2,16 +2,30 @@ package com.commonground.be.domain.news.service.search;
 
 import com.commonground.be.domain.news.dto.response.CategoryStatistics;
 import com.commonground.be.domain.news.dto.response.NewsStatistics;
+import com.commonground.be.domain.news.dto.search.NewsCursor;
+import com.commonground.be.domain.news.dto.search.NewsCursorPage;
+import com.commonground.be.domain.news.dto.search.NewsSummary;
 import com.commonground.be.domain.news.entity.News;
+import com.commonground.be.domain.news.entity.NewsStats;
 import com.commonground.be.domain.news.enums.CategoryEnum;
 import com.commonground.be.domain.news.repository.NewsRepository;
+import com.commonground.be.domain.news.service.statistics.NewsStatsMaterializer;
+import com.commonground.be.domain.news.service.trending.TrendingNewsEngine;
+import com.commonground.be.global.infrastructure.cache.CacheNamespaces;
+import com.commonground.be.global.infrastructure.cache.SingleFlightCache;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,9 +34,9 @@ import org.springframework.transaction.annotation.Transactional;
  * 
  * 책임:
  * - 뉴스 조회 (카테고리별, 최신, 트렌딩)
- * - 뉴스 검색
- * - 통계 데이터 제공
- * - 조회 결과 캐싱
+ * - 뉴스 검색 (OpenSearch 결과 id 캐시 + 기사별 캐시)
+ * - 통계 데이터 제공 (NewsStatsMaterializer 스냅샷 + 증분 카운터)
+ * - 조회 결과 캐싱 (SingleFlightCache: 캐시 미스 병합 + 만료 전 확률적 갱신)
  */
 @Service
 @RequiredArgsConstructor
@@ -30,50 +44,102 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class NewsQueryService {
 
+    private static final TypeReference<List<News>> NEWS_LIST = new TypeReference<>() {};
+    private static final TypeReference<List<NewsSummary>> SUMMARY_LIST = new TypeReference<>() {};
+
     private final NewsRepository newsRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final TrendingNewsEngine trendingNewsEngine;
+    private final OpenSearchIndexingService openSearchService;
+    private final NewsSearchCache newsSearchCache;
+    private final SingleFlightCache singleFlightCache;
+    private final CacheNamespaces cacheNamespaces;
+    private final NewsStatsMaterializer newsStatsMaterializer;
+
+    @Value("${news.list-cache.recent-ttl:PT10M}")
+    private Duration recentTtl;
+
+    @Value("${news.list-cache.category-ttl:PT5M}")
+    private Duration categoryTtl;
+
+    @Value("${news.list-cache.trending-ttl:PT10S}")
+    private Duration trendingTtl;
+
+    @Value("${news.list-cache.statistics-ttl:PT10S}")
+    private Duration statisticsTtl;
+
+    // ==================== 뉴스 조회 ====================
 
-    // ==================== 타입 안전한 캐싱 유틸리티 ====================
-    
     /**
-     * 타입 안전한 Redis 캐시 조회
+     * 카테고리별 뉴스 조회
      */
-    private <T> T getFromCache(String key, TypeReference<T> typeRef) {
-        try {
-            Object cached = redisTemplate.opsForValue().get(key);
-            if (cached != null) {
-                String json = objectMapper.writeValueAsString(cached);
-                return objectMapper.readValue(json, typeRef);
-            }
-        } catch (Exception e) {
-            log.warn("캐시 조회 실패, 키: {}, 오류: {}", key, e.getMessage());
-            redisTemplate.delete(key);
-        }
-        return null;
+    public List<News> findNewsByCategory(CategoryEnum category, int page, int limit) {
+        log.debug("카테고리별 뉴스 조회: category={}, page={}, limit={}", category, page, limit);
+
+        String key = cacheNamespaces.key(CacheNamespaces.CATEGORY_NEWS, category + ":full:p" + page + ":l" + limit);
+        return singleFlightCache.get(key, categoryTtl, NEWS_LIST,
+                () -> newsRepository.findByCategory(category, page, limit));
+    }
+
+    public List<NewsSummary> findNewsSummariesByCategory(CategoryEnum category, int page, int limit) {
+        log.debug("카테고리별 뉴스 요약 조회: category={}, page={}, limit={}", category, page, limit);
+
+        String key = cacheNamespaces.key(CacheNamespaces.CATEGORY_NEWS,
+                category + ":summary:p" + page + ":l" + limit);
+        return singleFlightCache.get(key, categoryTtl, SUMMARY_LIST,
+                () -> newsRepository.findSummariesByCategory(category, page, limit));
     }
-    
+
     /**
-     * 타입 안전한 Redis 캐시 저장
+     * 카테고리별 뉴스 커서 조회 (무한 스크롤용, 깊이와 무관하게 일정한 비용)
      */
-    private void saveToCache(String key, Object value, Duration ttl) {
-        try {
-            redisTemplate.opsForValue().set(key, value, ttl);
-        } catch (Exception e) {
-            log.warn("캐시 저장 실패, 키: {}, 오류: {}", key, e.getMessage());
-        }
+    public NewsCursorPage<News> findNewsByCategoryAfter(CategoryEnum category, String cursor, int limit) {
+        log.debug("카테고리별 뉴스 커서 조회: category={}, cursor={}, limit={}", category, cursor, limit);
+
+        List<News> fetched = newsRepository.findByCategoryAfter(category, NewsCursor.decode(cursor), limit);
+        return NewsCursorPage.of(fetched, limit, NewsCursor::of);
     }
 
-    // ==================== 뉴스 조회 ====================
+    public NewsCursorPage<NewsSummary> findNewsSummariesByCategoryAfter(CategoryEnum category, String cursor,
+            int limit) {
+        log.debug("카테고리별 뉴스 요약 커서 조회: category={}, cursor={}, limit={}", category, cursor, limit);
+
+        List<NewsSummary> fetched = newsRepository.findSummariesByCategoryAfter(category,
+                NewsCursor.decode(cursor), limit);
+        return NewsCursorPage.of(fetched, limit, NewsCursor::of);
+    }
 
     /**
-     * 카테고리별 뉴스 조회
+     * 언론사별 뉴스 조회
      */
-    public List<News> findNewsByCategory(CategoryEnum category, int page, int limit) {
-        log.debug("카테고리별 뉴스 조회: category={}, page={}, limit={}", category, page, limit);
-        
-        // 실제 구현 필요 - 페이징과 정렬이 포함된 조회
-        throw new UnsupportedOperationException("findNewsByCategory 구현 필요");
+    public List<News> findNewsByMediaOutlet(String mediaOutletId, int page, int limit) {
+        log.debug("언론사별 뉴스 조회: mediaOutletId={}, page={}, limit={}", mediaOutletId, page, limit);
+
+        return newsRepository.findByMediaOutletId(mediaOutletId, page, limit);
+    }
+
+    public List<NewsSummary> findNewsSummariesByMediaOutlet(String mediaOutletId, int page, int limit) {
+        log.debug("언론사별 뉴스 요약 조회: mediaOutletId={}, page={}, limit={}", mediaOutletId, page, limit);
+
+        return newsRepository.findSummariesByMediaOutletId(mediaOutletId, page, limit);
+    }
+
+    /**
+     * 언론사별 뉴스 커서 조회
+     */
+    public NewsCursorPage<News> findNewsByMediaOutletAfter(String mediaOutletId, String cursor, int limit) {
+        log.debug("언론사별 뉴스 커서 조회: mediaOutletId={}, cursor={}, limit={}", mediaOutletId, cursor, limit);
+
+        List<News> fetched = newsRepository.findByMediaOutletIdAfter(mediaOutletId, NewsCursor.decode(cursor), limit);
+        return NewsCursorPage.of(fetched, limit, NewsCursor::of);
+    }
+
+    public NewsCursorPage<NewsSummary> findNewsSummariesByMediaOutletAfter(String mediaOutletId, String cursor,
+            int limit) {
+        log.debug("언론사별 뉴스 요약 커서 조회: mediaOutletId={}, cursor={}, limit={}", mediaOutletId, cursor, limit);
+
+        List<NewsSummary> fetched = newsRepository.findSummariesByMediaOutletIdAfter(mediaOutletId,
+                NewsCursor.decode(cursor), limit);
+        return NewsCursorPage.of(fetched, limit, NewsCursor::of);
     }
 
     /**
@@ -81,50 +147,192 @@ public class NewsQueryService {
      */
     public List<News> findRecentNews(int limit) {
         log.debug("최신 뉴스 조회: limit={}", limit);
-        
-        // 타입 안전한 캐시 확인
-        String cacheKey = "recent_news:" + limit;
-        List<News> cachedNews = getFromCache(cacheKey, new TypeReference<List<News>>() {});
-        
-        if (cachedNews != null) {
-            log.debug("캐시된 최신 뉴스 반환: {}개", cachedNews.size());
-            return cachedNews;
-        }
 
-        // 실제 구현 필요 - 발행일 기준 내림차순 정렬
-        throw new UnsupportedOperationException("findRecentNews 구현 필요");
+        // 발행일 기준 내림차순 (새 뉴스 저장 시 recent_news 네임스페이스 버전이 바뀌어 무효화)
+        String key = cacheNamespaces.key(CacheNamespaces.RECENT_NEWS, "full:" + limit);
+        return singleFlightCache.get(key, recentTtl, NEWS_LIST, () -> newsRepository.findRecentNews(limit));
+    }
+
+    public List<NewsSummary> findRecentNewsSummaries(int limit) {
+        log.debug("최신 뉴스 요약 조회: limit={}", limit);
+
+        String key = cacheNamespaces.key(CacheNamespaces.RECENT_NEWS, "summary:" + limit);
+        return singleFlightCache.get(key, recentTtl, SUMMARY_LIST, () -> newsRepository.findRecentSummaries(limit));
     }
 
     /**
-     * 트렌딩 뉴스 조회 (조회수 기준)
+     * 트렌딩 뉴스 조회 (시간 감쇠 조회 점수 기준)
+     * 트렌딩 엔진의 상위 K개 스냅샷에서 id 를 가져와 id 조회로 채운다.
+     * 스냅샷 갱신 주기와 비슷한 짧은 TTL 로 캐시한다.
      */
     public List<News> findTrendingNews(int limit) {
         log.debug("트렌딩 뉴스 조회: limit={}", limit);
-        
-        // 타입 안전한 캐시 확인
-        String cacheKey = "trending_news:" + limit;
-        List<News> cachedNews = getFromCache(cacheKey, new TypeReference<List<News>>() {});
-        
-        if (cachedNews != null) {
-            log.debug("캐시된 트렌딩 뉴스 반환: {}개", cachedNews.size());
-            return cachedNews;
-        }
 
-        // 실제 구현 필요 - 조회수 기준 내림차순 정렬
-        throw new UnsupportedOperationException("findTrendingNews 구현 필요");
+        return singleFlightCache.get("trending_news:all:full:" + limit, trendingTtl, NEWS_LIST, () -> {
+            List<String> trendingIds = trendingNewsEngine.getTopNewsIds(limit);
+            if (trendingIds.isEmpty()) {
+                // 기동 직후 등 점수가 아직 없는 경우 최근 24시간 조회수 순으로 대체
+                return newsRepository.findTrendingNews(limit);
+            }
+            return inIdOrder(trendingIds, newsRepository.findByIdIn(trendingIds), News::getId);
+        });
+    }
+
+    public List<NewsSummary> findTrendingNewsSummaries(int limit) {
+        log.debug("트렌딩 뉴스 요약 조회: limit={}", limit);
+
+        return singleFlightCache.get("trending_news:all:summary:" + limit, trendingTtl, SUMMARY_LIST, () -> {
+            List<String> trendingIds = trendingNewsEngine.getTopNewsIds(limit);
+            if (trendingIds.isEmpty()) {
+                return newsRepository.findTrendingSummaries(limit);
+            }
+            return inIdOrder(trendingIds, newsRepository.findSummariesByIdIn(trendingIds), NewsSummary::getId);
+        });
+    }
+
+    /**
+     * 카테고리별 트렌딩 뉴스 조회 (시간 감쇠 조회 점수 기준)
+     */
+    public List<News> findTrendingNews(CategoryEnum category, int limit) {
+        log.debug("카테고리별 트렌딩 뉴스 조회: category={}, limit={}", category, limit);
+
+        return singleFlightCache.get("trending_news:" + category + ":full:" + limit, trendingTtl, NEWS_LIST, () -> {
+            List<String> trendingIds = trendingNewsEngine.getTopNewsIds(category, limit);
+            if (trendingIds.isEmpty()) {
+                return newsRepository.findByCategory(category, 1, limit);
+            }
+            return inIdOrder(trendingIds, newsRepository.findByIdIn(trendingIds), News::getId);
+        });
+    }
+
+    public List<NewsSummary> findTrendingNewsSummaries(CategoryEnum category, int limit) {
+        log.debug("카테고리별 트렌딩 뉴스 요약 조회: category={}, limit={}", category, limit);
+
+        return singleFlightCache.get("trending_news:" + category + ":summary:" + limit, trendingTtl, SUMMARY_LIST,
+                () -> {
+                    List<String> trendingIds = trendingNewsEngine.getTopNewsIds(category, limit);
+                    if (trendingIds.isEmpty()) {
+                        return newsRepository.findSummariesByCategory(category, 1, limit);
+                    }
+                    return inIdOrder(trendingIds, newsRepository.findSummariesByIdIn(trendingIds),
+                            NewsSummary::getId);
+                });
+    }
+
+    /**
+     * id 조회 결과를 id 목록 순서대로 정렬 (삭제/비공개로 조회되지 않은 기사는 제외)
+     */
+    private <T> List<T> inIdOrder(List<String> ids, List<T> found, Function<T, String> idOf) {
+        Map<String, T> byId = found.stream()
+                .collect(Collectors.toMap(idOf, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     // ==================== 뉴스 검색 ====================
 
     /**
      * 키워드 기반 뉴스 검색
+     * 결과 id 목록은 검색 캐시에서, 없으면 OpenSearch 에서 가져오고 기사는 기사별 캐시로 채운다.
+     * OpenSearch 장애 시에는 Mongo 텍스트 검색으로 대체하며 그 결과는 캐시하지 않는다.
      */
     public List<News> searchNews(String keyword, int page, int limit) {
         log.debug("뉴스 검색: keyword={}, page={}, limit={}", keyword, page, limit);
-        
-        // 실제 구현 필요 - 제목/내용에서 키워드 검색
-        // OpenSearch 또는 데이터베이스 전문검색 활용
-        throw new UnsupportedOperationException("searchNews 구현 필요");
+
+        List<String> ids = searchIds(keyword, page, limit);
+        if (ids == null) {
+            return newsRepository.searchByKeyword(keyword, page, limit);
+        }
+        return newsSearchCache.hydrate(ids);
+    }
+
+    public List<NewsSummary> searchNewsSummaries(String keyword, int page, int limit) {
+        log.debug("뉴스 요약 검색: keyword={}, page={}, limit={}", keyword, page, limit);
+
+        List<String> ids = searchIds(keyword, page, limit);
+        if (ids == null) {
+            return newsRepository.searchSummariesByKeyword(keyword, page, limit);
+        }
+        return inIdOrder(ids, newsRepository.findSummariesByIdIn(ids), NewsSummary::getId);
+    }
+
+    /**
+     * 정규화한 검색어의 결과 id 목록 (OpenSearch 조회 실패 시 null)
+     */
+    private List<String> searchIds(String keyword, int page, int limit) {
+        String query = NewsSearchCache.normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> cachedIds = newsSearchCache.getIds(query, page, limit);
+        if (cachedIds != null) {
+            log.debug("캐시된 검색 결과 반환: query={}, count={}", query, cachedIds.size());
+            return cachedIds;
+        }
+
+        try {
+            List<String> ids = openSearchService.searchNewsIds(query, page, limit);
+            newsSearchCache.putIds(query, page, limit, ids);
+            return ids;
+        } catch (Exception e) {
+            log.warn("OpenSearch 검색 실패, Mongo 검색으로 대체: query={}, error={}", query, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 키워드 기반 뉴스 커서 검색
+     * 페이지 모드와 같은 OpenSearch 쿼리를 search_after 로 이어 조회해 두 모드의 결과 집합을 맞춘다.
+     * OpenSearch 장애 시에만 Mongo 텍스트 검색으로 대체한다.
+     */
+    public NewsCursorPage<News> searchNewsAfter(String keyword, String cursor, int limit) {
+        log.debug("뉴스 커서 검색: keyword={}, cursor={}, limit={}", keyword, cursor, limit);
+
+        NewsCursor after = NewsCursor.decode(cursor);
+        List<String> ids = searchIdsAfter(keyword, after, limit);
+        List<News> fetched = ids != null
+                ? newsSearchCache.hydrate(ids)
+                : newsRepository.searchByKeywordAfter(keyword, after, limit);
+        return NewsCursorPage.of(fetched, limit, NewsCursor::of);
+    }
+
+    public NewsCursorPage<NewsSummary> searchNewsSummariesAfter(String keyword, String cursor, int limit) {
+        log.debug("뉴스 요약 커서 검색: keyword={}, cursor={}, limit={}", keyword, cursor, limit);
+
+        NewsCursor after = NewsCursor.decode(cursor);
+        List<String> ids = searchIdsAfter(keyword, after, limit);
+        List<NewsSummary> fetched = ids != null
+                ? inIdOrder(ids, newsRepository.findSummariesByIdIn(ids), NewsSummary::getId)
+                : newsRepository.searchSummariesByKeywordAfter(keyword, after, limit);
+        return NewsCursorPage.of(fetched, limit, NewsCursor::of);
+    }
+
+    /**
+     * 정규화한 검색어의 커서 이후 결과 id 목록 (limit + 1 개, OpenSearch 조회 실패 시 null)
+     */
+    private List<String> searchIdsAfter(String keyword, NewsCursor after, int limit) {
+        String query = NewsSearchCache.normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> cachedIds = newsSearchCache.getIdsAfter(query, after, limit);
+        if (cachedIds != null) {
+            log.debug("캐시된 커서 검색 결과 반환: query={}, count={}", query, cachedIds.size());
+            return cachedIds;
+        }
+
+        try {
+            List<String> ids = openSearchService.searchNewsIdsAfter(query, after, limit);
+            newsSearchCache.putIdsAfter(query, after, limit, ids);
+            return ids;
+        } catch (Exception e) {
+            log.warn("OpenSearch 커서 검색 실패, Mongo 검색으로 대체: query={}, error={}", query, e.getMessage());
+            return null;
+        }
     }
 
     // ==================== 통계 ====================
@@ -134,18 +342,9 @@ public class NewsQueryService {
      */
     public NewsStatistics getNewsStatistics() {
         log.debug("뉴스 통계 조회");
-        
-        // 캐시 확인
-        String cacheKey = "news_statistics";
-        NewsStatistics cachedStats = (NewsStatistics) redisTemplate.opsForValue().get(cacheKey);
-        
-        if (cachedStats != null) {
-            log.debug("캐시된 뉴스 통계 반환");
-            return cachedStats;
-        }
 
-        // 실제 구현 필요 - 총 뉴스 수, 일별 수집량, 언론사별 통계 등
-        throw new UnsupportedOperationException("getNewsStatistics 구현 필요");
+        return singleFlightCache.get("news_statistics", statisticsTtl, new TypeReference<NewsStatistics>() {},
+                this::computeNewsStatistics);
     }
 
     /**
@@ -153,39 +352,56 @@ public class NewsQueryService {
      */
     public CategoryStatistics getCategoryStatistics() {
         log.debug("카테고리별 통계 조회");
-        
-        // 캐시 확인
-        String cacheKey = "category_statistics";
-        CategoryStatistics cachedStats = (CategoryStatistics) redisTemplate.opsForValue().get(cacheKey);
-        
-        if (cachedStats != null) {
-            log.debug("캐시된 카테고리 통계 반환");
-            return cachedStats;
-        }
 
-        // 실제 구현 필요 - 카테고리별 뉴스 수, 증감률 등
-        throw new UnsupportedOperationException("getCategoryStatistics 구현 필요");
+        return singleFlightCache.get("category_statistics", statisticsTtl, new TypeReference<CategoryStatistics>() {},
+                this::computeCategoryStatistics);
     }
 
-    // ==================== 캐싱 헬퍼 메서드 ====================
+    private NewsStatistics computeNewsStatistics() {
+        NewsStats stats = newsStatsMaterializer.current();
+        Map<CategoryEnum, Long> categoryCounts = categoryCounts(stats);
 
-    /**
-     * 조회 결과를 캐시에 저장
-     */
-    private void cacheQueryResult(String key, Object result, long ttlSeconds) {
-        try {
-            redisTemplate.opsForValue().set(key, result, java.time.Duration.ofSeconds(ttlSeconds));
-            log.debug("조회 결과 캐시 저장: key={}, ttl={}초", key, ttlSeconds);
-        } catch (Exception e) {
-            log.warn("캐시 저장 실패: key={}", key, e);
-        }
+        return NewsStatistics.builder()
+                .totalNews(stats.getTotalNews())
+                .politicsCount(categoryCounts.get(CategoryEnum.POLITICS))
+                .economyCount(categoryCounts.get(CategoryEnum.ECONOMY))
+                .societyCount(categoryCounts.get(CategoryEnum.SOCIETY))
+                .cultureCount(categoryCounts.get(CategoryEnum.CULTURE))
+                .mediaOutletCounts(stats.getMediaOutletCounts())
+                .dailyCounts(stats.getDailyCounts())
+                .lastCrawledAt(stats.getLastCrawledAt())
+                .lastUpdated(LocalDateTime.now())
+                .build();
+    }
+
+    private CategoryStatistics computeCategoryStatistics() {
+        Map<CategoryEnum, Long> distribution = categoryCounts(newsStatsMaterializer.current());
+        long total = distribution.values().stream().mapToLong(Long::longValue).sum();
+
+        Map<CategoryEnum, Double> percentage = new EnumMap<>(CategoryEnum.class);
+        distribution.forEach((category, count) ->
+                percentage.put(category, total == 0 ? 0.0 : Math.round(count * 1000.0 / total) / 10.0));
+
+        Comparator<Map.Entry<CategoryEnum, Long>> byCount = Map.Entry.comparingByValue();
+        return CategoryStatistics.builder()
+                .categoryDistribution(distribution)
+                .categoryPercentage(percentage)
+                .mostPopularCategory(total == 0 ? null
+                        : distribution.entrySet().stream().max(byCount).map(Map.Entry::getKey).orElse(null))
+                .leastPopularCategory(total == 0 ? null
+                        : distribution.entrySet().stream().min(byCount).map(Map.Entry::getKey).orElse(null))
+                .build();
     }
 
     /**
-     * 검색 결과 캐시 키 생성
+     * 모든 카테고리의 기사 수 (기사가 없는 카테고리는 0)
      */
-    private String generateSearchCacheKey(String keyword, int page, int limit) {
-        return String.format("search:%s:page_%d:limit_%d", 
-                keyword.replaceAll("[^a-zA-Z0-9가-힣]", "_"), page, limit);
+    private static Map<CategoryEnum, Long> categoryCounts(NewsStats stats) {
+        Map<String, Long> counts = Objects.requireNonNullElse(stats.getCategoryCounts(), Map.of());
+        Map<CategoryEnum, Long> result = new EnumMap<>(CategoryEnum.class);
+        for (CategoryEnum category : CategoryEnum.values()) {
+            result.put(category, counts.getOrDefault(category.name(), 0L));
+        }
+        return result;
     }
-}
\ No newline at end of file
+}
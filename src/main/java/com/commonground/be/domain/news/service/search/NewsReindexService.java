@@ -0,0 +1,318 @@
+package com.commonground.be.domain.news.service.search;
+
+import com.commonground.be.domain.news.batch.NewsReindexJobConfig;
+import com.commonground.be.domain.news.dto.response.NewsReindexStatus;
+import com.commonground.be.domain.news.dto.response.NewsReindexStatus.Phase;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/**
+ * 🔁 무중단 뉴스 검색 재색인
+ * <p>
+ * 책임:
+ * - 새 버전 인덱스(news_v{n})를 만들고 재색인 배치 Job(full)으로 Mongo 전체를 벌크 적재
+ * - 적재 중 발생한 변경은 outbox 이벤트로 새 인덱스에 따라잡기 (기존 인덱스는 relay 가 계속 갱신)
+ * - 읽기/쓰기 별칭을 한 번에 전환한 뒤, 전환 직전 기존 인덱스로만 간 변경을 한 번 더 반영
+ * - 특정 시점 이후 변경분만 현재 인덱스에 다시 색인 (incremental)
+ * - 진행 단계와 처리량(docs/s)을 상태로 노출
+ * <p>
+ * 적재 단계에서 실패·중지되면 다음 재색인 요청 시 배치 메타데이터(JobExplorer)에서 마지막 full 실행을 찾아
+ * 같은 JobParameters 로 재시작해 완료된 구간은 건너뛴다 (노드 재시작이나 다른 노드에서 요청해도 이어서 진행).
+ * 기존 인덱스는 롤백용으로 남겨 두며, 재색인은 분산 락으로 클러스터 전체에서 하나만 실행된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NewsReindexService {
+
+	private static final String REINDEX_LOCK_KEY = "news_index:reindex_lock";
+	// 재시작할 full 실행을 찾을 최근 Job 인스턴스 수 (그 사이 증분 재색인 실행 포함)
+	private static final int RECENT_INSTANCES = 20;
+
+	private final NewsIndexManager indexManager;
+	private final NewsIndexOutbox newsIndexOutbox;
+	private final JobLauncher jobLauncher;
+	private final JobExplorer jobExplorer;
+	private final JobRepository jobRepository;
+	private final Job newsSearchReindexJob;
+	private final RedissonClient redissonClient;
+
+	private final AtomicBoolean running = new AtomicBoolean();
+
+	private volatile Phase phase = Phase.IDLE;
+	private volatile String sourceIndex;
+	private volatile String targetIndex;
+	private volatile Instant startedAt;
+	private volatile Instant finishedAt;
+	private volatile String message;
+	private volatile long indexedCount;
+	private volatile long skippedCount;
+
+	/**
+	 * 새 버전 인덱스로 전체 재색인 (이 노드에서 이미 실행 중이면 무시)
+	 */
+	@Async("generalTaskExecutor")
+	public void reindex() {
+		runExclusively(this::runReindex);
+	}
+
+	/**
+	 * since 이후 생성·수정된 뉴스만 현재 쓰기 인덱스에 다시 색인
+	 */
+	@Async("generalTaskExecutor")
+	public void reindexIncremental(LocalDateTime since) {
+		runExclusively(() -> runIncremental(since));
+	}
+
+	private interface ReindexTask {
+		void run() throws Exception;
+	}
+
+	private void runExclusively(ReindexTask task) {
+		if (!running.compareAndSet(false, true)) {
+			log.warn("재색인이 이미 실행 중입니다: phase={}", phase);
+			return;
+		}
+		RLock lock = redissonClient.getLock(REINDEX_LOCK_KEY);
+		boolean acquired = false;
+		try {
+			reset();
+			acquired = lock.tryLock();
+			if (!acquired) {
+				fail("다른 노드에서 재색인 진행 중");
+				return;
+			}
+			task.run();
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			fail("재색인 중단");
+		} catch (Exception e) {
+			log.error("재색인 실패: target={}", targetIndex, e);
+			fail(e.getMessage());
+		} finally {
+			if (acquired && lock.isHeldByCurrentThread()) {
+				lock.unlock();
+			}
+			running.set(false);
+		}
+	}
+
+	private void runReindex() throws Exception {
+		if (!indexManager.ensureAliases()) {
+			throw new IllegalStateException("OpenSearch 에 연결할 수 없습니다");
+		}
+		sourceIndex = indexManager.currentIndex();
+
+		JobExecution interrupted = findInterruptedLoad();
+		JobParameters parameters;
+		if (interrupted != null) {
+			parameters = interrupted.getJobParameters();
+			log.info("중단된 재색인 재개: target={}, executionId={}, status={}",
+					parameters.getString(NewsReindexJobConfig.TARGET_INDEX), interrupted.getId(),
+					interrupted.getStatus());
+		} else {
+			// 적재 시작 이전 이벤트부터 따라잡아야 적재 중 변경이 빠지지 않음
+			String catchUpFrom = newsIndexOutbox.positionAt(startedAt);
+			String index = indexManager.createNextIndex();
+			parameters = new JobParametersBuilder(jobParameters(index, NewsReindexJobConfig.MODE_FULL, null))
+					.addString(NewsReindexJobConfig.CATCH_UP_FROM, catchUpFrom, false)
+					.toJobParameters();
+		}
+		targetIndex = parameters.getString(NewsReindexJobConfig.TARGET_INDEX);
+		log.info("재색인 시작: {} → {}", sourceIndex, targetIndex);
+
+		phase = Phase.LOADING;
+		runJob(parameters);
+
+		phase = Phase.CATCHING_UP;
+		String position = newsIndexOutbox.catchUp(parameters.getString(NewsReindexJobConfig.CATCH_UP_FROM),
+				targetIndex);
+
+		phase = Phase.SWITCHING;
+		indexManager.finishBulkLoad(targetIndex);
+		indexManager.switchAliases(sourceIndex, targetIndex);
+		// 전환 직전까지 relay 가 기존 인덱스로 보낸 변경을 새 인덱스에도 반영
+		newsIndexOutbox.catchUp(position, targetIndex);
+
+		complete();
+	}
+
+	private void runIncremental(LocalDateTime since) throws Exception {
+		if (!indexManager.ensureAliases()) {
+			throw new IllegalStateException("OpenSearch 에 연결할 수 없습니다");
+		}
+		sourceIndex = indexManager.currentIndex();
+		targetIndex = sourceIndex;
+		log.info("증분 재색인 시작: target={}, since={}", targetIndex, since);
+
+		phase = Phase.LOADING;
+		runJob(jobParameters(NewsIndexManager.WRITE_ALIAS, NewsReindexJobConfig.MODE_INCREMENTAL, since));
+
+		complete();
+	}
+
+	// ==================== 배치 실행 ====================
+
+	/**
+	 * 재시작할 full 적재 실행 (가장 최근 full 인스턴스의 마지막 실행이 실패·중지되었고 대상 인덱스가 남아 있을 때)
+	 * 재색인 락을 잡은 상태에서 호출하므로, 실행 중으로 남은 실행은 중단된 노드의 것으로 보고 실패 처리 후 재시작한다.
+	 */
+	private JobExecution findInterruptedLoad() throws IOException {
+		for (JobInstance instance : jobExplorer.getJobInstances(NewsReindexJobConfig.JOB_NAME, 0, RECENT_INSTANCES)) {
+			JobExecution last = jobExplorer.getLastJobExecution(instance);
+			if (last == null
+					|| !NewsReindexJobConfig.MODE_FULL.equals(last.getJobParameters().getString(NewsReindexJobConfig.MODE))) {
+				continue;
+			}
+			if (last.getStatus().isRunning()) {
+				markFailed(last);
+			}
+			if (last.getStatus() != BatchStatus.FAILED && last.getStatus() != BatchStatus.STOPPED
+					|| last.getJobParameters().getString(NewsReindexJobConfig.CATCH_UP_FROM) == null) {
+				return null;
+			}
+			return indexManager.indexExists(last.getJobParameters().getString(NewsReindexJobConfig.TARGET_INDEX))
+					? last
+					: null;
+		}
+		return null;
+	}
+
+	private void markFailed(JobExecution execution) {
+		LocalDateTime now = LocalDateTime.now();
+		for (StepExecution step : execution.getStepExecutions()) {
+			if (step.getStatus().isRunning()) {
+				step.setStatus(BatchStatus.FAILED);
+				step.setExitStatus(ExitStatus.FAILED);
+				step.setEndTime(now);
+				jobRepository.update(step);
+			}
+		}
+		execution.setStatus(BatchStatus.FAILED);
+		execution.setExitStatus(ExitStatus.FAILED.addExitDescription("중단된 노드의 실행으로 판단해 실패 처리"));
+		execution.setEndTime(now);
+		jobRepository.update(execution);
+		log.warn("실행 중으로 남은 재색인 실행 실패 처리: executionId={}", execution.getId());
+	}
+
+	/**
+	 * upperBoundId 는 실행 시점으로 고정 (이후 변경은 outbox 가 전달하며, 재시작해도 같은 범위를 읽음)
+	 */
+	private JobParameters jobParameters(String index, String mode, LocalDateTime since) {
+		// ObjectId 시각은 초 단위이므로 현재 초에 생성된 문서까지 포함하도록 1초 여유
+		String upperBoundId = ObjectId.getSmallestWithDate(Date.from(startedAt.plusSeconds(1))).toHexString();
+		JobParametersBuilder builder = new JobParametersBuilder()
+				.addString(NewsReindexJobConfig.TARGET_INDEX, index)
+				.addString(NewsReindexJobConfig.MODE, mode)
+				.addString(NewsReindexJobConfig.UPPER_BOUND_ID, upperBoundId);
+		if (since != null) {
+			builder.addLocalDateTime(NewsReindexJobConfig.SINCE, since);
+		}
+		return builder.toJobParameters();
+	}
+
+	private void runJob(JobParameters parameters) throws Exception {
+		JobExecution execution = jobLauncher.run(newsSearchReindexJob, parameters);
+		updateCounts(execution);
+		if (execution.getStatus() != BatchStatus.COMPLETED) {
+			throw new IllegalStateException("재색인 배치 실패: status=" + execution.getStatus()
+					+ ", exitDescription=" + execution.getExitStatus().getExitDescription());
+		}
+	}
+
+	private void updateCounts(JobExecution execution) {
+		long written = 0;
+		long filtered = 0;
+		for (StepExecution step : execution.getStepExecutions()) {
+			if (step.getStepName().contains(":")) {
+				written += step.getWriteCount();
+				filtered += step.getFilterCount();
+			}
+		}
+		indexedCount = written;
+		skippedCount = filtered;
+	}
+
+	private void complete() {
+		phase = Phase.COMPLETED;
+		finishedAt = Instant.now();
+		log.info("재색인 완료: {} → {}, 색인={}, 건너뜀={}, 처리량={}docs/s, 소요={}s",
+				sourceIndex, targetIndex, indexedCount, skippedCount,
+				Math.round(docsPerSecond()), Duration.between(startedAt, finishedAt).toSeconds());
+	}
+
+	// ==================== 상태 ====================
+
+	public NewsReindexStatus getStatus() {
+		if (phase == Phase.LOADING) {
+			// 적재 중에는 chunk 커밋마다 갱신되는 배치 메타데이터에서 진행량을 읽음
+			jobExplorer.findRunningJobExecutions(NewsReindexJobConfig.JOB_NAME)
+					.forEach(this::updateCounts);
+		}
+		return NewsReindexStatus.builder()
+				.phase(phase)
+				.sourceIndex(sourceIndex)
+				.targetIndex(targetIndex)
+				.indexedCount(indexedCount)
+				.skippedCount(skippedCount)
+				.docsPerSecond(docsPerSecond())
+				.startedAt(toLocalDateTime(startedAt))
+				.finishedAt(toLocalDateTime(finishedAt))
+				.message(message)
+				.build();
+	}
+
+	private double docsPerSecond() {
+		if (startedAt == null) {
+			return 0;
+		}
+		Instant end = finishedAt != null ? finishedAt : Instant.now();
+		double seconds = Math.max(Duration.between(startedAt, end).toMillis() / 1000.0, 0.001);
+		return indexedCount / seconds;
+	}
+
+	private void reset() {
+		indexedCount = 0;
+		skippedCount = 0;
+		sourceIndex = null;
+		targetIndex = null;
+		finishedAt = null;
+		message = null;
+		startedAt = Instant.now();
+		phase = Phase.LOADING;
+	}
+
+	private void fail(String reason) {
+		phase = Phase.FAILED;
+		finishedAt = Instant.now();
+		message = reason;
+	}
+
+	private static LocalDateTime toLocalDateTime(Instant instant) {
+		return instant != null ? LocalDateTime.ofInstant(instant, ZoneId.systemDefault()) : null;
+	}
+}
@@ -0,0 +1,220 @@
+package com.commonground.be.domain.news.service.search;
+
+import com.commonground.be.domain.news.dto.search.NewsCursor;
+import com.commonground.be.domain.news.entity.News;
+import com.commonground.be.domain.news.repository.NewsRepository;
+import com.commonground.be.global.infrastructure.cache.CacheNamespaces;
+import com.commonground.be.global.infrastructure.cache.CacheValueStore;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 🗃️ 뉴스 검색 결과 캐시
+ * <p>
+ * 책임:
+ * - 정규화한 검색어 + page(또는 커서) + size 별 결과를 기사 id 목록(쉼표 구분 문자열)으로 짧게 보관
+ * - 기사 본문은 기사별 캐시(news:{id})에서 채우고, 없는 기사만 Mongo 에서 한 번에 조회
+ * - 색인 반영 시 search 네임스페이스 버전을 올려 이전 결과 키를 한 번에 무효화 (키 스캔 없음)
+ * - 버전 변경은 invalidate-interval(색인 refresh 간격)마다 최대 한 번으로 병합 (outbox 배치마다 결과 캐시가 비는 것 방지)
+ * <p>
+ * 색인 문서는 refresh 이후에야 검색되므로, 버전이 바뀐 직후 다시 채운 결과는 최대 result-ttl 동안 늦을 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NewsSearchCache {
+
+	private static final String ARTICLE_KEY_PREFIX = "news:";
+
+	// 이보다 긴 검색어는 해시로 키를 만듦
+	private static final int MAX_QUERY_KEY_LENGTH = 100;
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final CacheValueStore cacheValueStore;
+	private final NewsRepository newsRepository;
+	private final CacheNamespaces cacheNamespaces;
+
+	@Value("${news.search-cache.result-ttl:PT1M}")
+	private Duration resultTtl;
+
+	@Value("${news.search-cache.article-ttl:PT10M}")
+	private Duration articleTtl;
+
+	@Value("${news.search-cache.invalidate-interval:PT30S}")
+	private Duration invalidateInterval;
+
+	// 마지막 search 네임스페이스 버전 변경 시각 (System.nanoTime, 아직 없으면 Long.MIN_VALUE)
+	private final AtomicLong lastInvalidatedAt = new AtomicLong(Long.MIN_VALUE);
+
+	// ==================== 검색어 정규화 ====================
+
+	/**
+	 * 같은 결과를 내는 검색어를 하나의 키로 모음
+	 * - 유니코드 호환 정규화(NFKC), 소문자화, 공백 정리
+	 * - 토큰 중복 제거 후 정렬 (OR 매칭 + 발행일 정렬이라 토큰 순서가 결과에 영향 없음)
+	 */
+	public static String normalize(String keyword) {
+		if (keyword == null) {
+			return "";
+		}
+		String normalized = Normalizer.normalize(keyword, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).trim();
+		if (normalized.isEmpty()) {
+			return "";
+		}
+		return Arrays.stream(normalized.split("\\s+"))
+				.distinct()
+				.sorted()
+				.collect(Collectors.joining(" "));
+	}
+
+	// ==================== 결과 id 목록 ====================
+
+	/**
+	 * 현재 버전의 캐시된 결과 id 목록 (없으면 null)
+	 */
+	public List<String> getIds(String normalizedQuery, int page, int size) {
+		return getIds(normalizedQuery, "p" + page, size);
+	}
+
+	public void putIds(String normalizedQuery, int page, int size, List<String> ids) {
+		putIds(normalizedQuery, "p" + page, size, ids);
+	}
+
+	/**
+	 * 커서 이후 결과 id 목록 (첫 페이지는 cursor 가 null, 없으면 null)
+	 */
+	public List<String> getIdsAfter(String normalizedQuery, NewsCursor cursor, int size) {
+		return getIds(normalizedQuery, cursorPosition(cursor), size);
+	}
+
+	public void putIdsAfter(String normalizedQuery, NewsCursor cursor, int size, List<String> ids) {
+		putIds(normalizedQuery, cursorPosition(cursor), size, ids);
+	}
+
+	private List<String> getIds(String normalizedQuery, String position, int size) {
+		try {
+			Object cached = redisTemplate.opsForValue().get(resultKey(normalizedQuery, position, size));
+			if (cached == null) {
+				return null;
+			}
+			String joined = cached.toString();
+			return joined.isEmpty() ? List.of() : List.of(joined.split(","));
+		} catch (Exception e) {
+			log.warn("검색 결과 캐시 조회 실패: query={}, error={}", normalizedQuery, e.getMessage());
+			return null;
+		}
+	}
+
+	private void putIds(String normalizedQuery, String position, int size, List<String> ids) {
+		try {
+			redisTemplate.opsForValue().set(resultKey(normalizedQuery, position, size), String.join(",", ids),
+					resultTtl);
+		} catch (Exception e) {
+			log.warn("검색 결과 캐시 저장 실패: query={}, error={}", normalizedQuery, e.getMessage());
+		}
+	}
+
+	// 페이지 모드는 "p{page}", 커서 모드는 "c{인코딩된 커서}" (첫 페이지는 "c")
+	private static String cursorPosition(NewsCursor cursor) {
+		return "c" + (cursor != null ? cursor.encode() : "");
+	}
+
+	private String resultKey(String normalizedQuery, String position, int size) {
+		String query = normalizedQuery.length() > MAX_QUERY_KEY_LENGTH
+				? DigestUtils.md5DigestAsHex(normalizedQuery.getBytes(StandardCharsets.UTF_8))
+				: normalizedQuery;
+		return cacheNamespaces.key(CacheNamespaces.NEWS_SEARCH, query + ":" + position + ":s" + size);
+	}
+
+	// ==================== 기사 캐시 ====================
+
+	/**
+	 * id 목록 순서대로 기사 채우기 (캐시에 없는 기사만 Mongo 조회 후 캐시, 조회되지 않는 기사는 제외)
+	 */
+	public List<News> hydrate(List<String> ids) {
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+		Map<String, News> found = new HashMap<>(ids.size());
+		List<String> keys = ids.stream().map(id -> ARTICLE_KEY_PREFIX + id).toList();
+		try {
+			List<News> cached = cacheValueStore.multiGet(keys, cacheValueStore.typeFactory().constructType(News.class));
+			for (int i = 0; i < ids.size(); i++) {
+				if (cached.get(i) != null) {
+					found.put(ids.get(i), cached.get(i));
+				}
+			}
+		} catch (Exception e) {
+			log.warn("기사 캐시 조회 실패, Mongo 조회로 대체: error={}", e.getMessage());
+		}
+
+		List<String> missing = ids.stream().filter(id -> !found.containsKey(id)).toList();
+		if (!missing.isEmpty()) {
+			List<News> loaded = newsRepository.findByIdIn(missing);
+			loaded.forEach(news -> found.put(news.getId(), news));
+			cacheArticles(loaded);
+		}
+
+		return ids.stream()
+				.map(found::get)
+				.filter(Objects::nonNull)
+				.toList();
+	}
+
+	private void cacheArticles(List<News> articles) {
+		try {
+			for (News news : articles) {
+				cacheValueStore.set(ARTICLE_KEY_PREFIX + news.getId(), news, articleTtl);
+			}
+		} catch (Exception e) {
+			log.warn("기사 캐시 저장 실패: count={}, error={}", articles.size(), e.getMessage());
+		}
+	}
+
+	// ==================== 무효화 ====================
+
+	/**
+	 * 색인 반영 후 호출: 변경된 기사 캐시는 바로 지우고, 검색 결과 네임스페이스는 invalidate-interval 마다 최대 한 번 무효화
+	 * (색인 문서는 refresh 간격마다 검색에 반영되므로 그보다 자주 버전을 올려도 새 결과가 보이지 않음)
+	 */
+	public void onIndexed(Collection<String> newsIds) {
+		try {
+			if (!newsIds.isEmpty()) {
+				List<String> keys = new ArrayList<>(newsIds.size());
+				newsIds.forEach(id -> keys.add(ARTICLE_KEY_PREFIX + id));
+				redisTemplate.delete(keys);
+			}
+			if (claimInvalidation(System.nanoTime())) {
+				cacheNamespaces.invalidate(CacheNamespaces.NEWS_SEARCH);
+			}
+		} catch (Exception e) {
+			log.warn("검색 캐시 무효화 실패: count={}, error={}", newsIds.size(), e.getMessage());
+		}
+	}
+
+	// 마지막 버전 변경 후 invalidate-interval 이 지났으면 이번 호출이 무효화 담당 (동시 호출 중 하나만)
+	private boolean claimInvalidation(long now) {
+		long last = lastInvalidatedAt.get();
+		if (last != Long.MIN_VALUE && now - last < invalidateInterval.toNanos()) {
+			return false;
+		}
+		return lastInvalidatedAt.compareAndSet(last, now);
+	}
+}
@@ -0,0 +1,283 @@
+package com.commonground.be.domain.news.service.search;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.rest.RestStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 📦 OpenSearch 벌크 인덱서
+ * <p>
+ * 책임:
+ * - 색인/삭제 요청을 제한된 크기의 큐에 모아 전용 스레드에서 BulkRequest 로 전송
+ * - 건수(batch-size), 크기(max-bulk-size), 시간(flush-interval) 중 먼저 도달한 조건으로 묶음 전송
+ * - 부분 실패 시 재시도 가능한 항목(429, 5xx)만 골라 지수 백오프로 재전송
+ * - 재시도 불가 항목은 BulkItemRejectedException 으로 실패 처리하고 opensearch.bulk.rejected 메트릭으로 집계
+ * - 큐가 가득 차면 호출 스레드를 offer-timeout 동안 대기시켜 수집 속도를 늦춤 (backpressure)
+ * - 요청별 결과를 future 로 알려 호출 측(outbox 등)이 전달 확인 후 다음 단계로 진행
+ * <p>
+ * 문서별 ping 과 refresh 대기(WAIT_UNTIL)를 하지 않으므로 검색 반영은 인덱스 refresh_interval 을 따른다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OpenSearchBulkIndexer {
+
+	// 큐가 비어 있을 때 종료 여부를 확인하는 주기
+	private static final long IDLE_POLL_MILLIS = 500;
+	// 요청 1건당 bulk 메타데이터 라인 크기 추정치
+	private static final long REQUEST_OVERHEAD_BYTES = 64;
+
+	private static final String REJECTED_METRIC = "opensearch.bulk.rejected";
+
+	private final RestHighLevelClient openSearchClient;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${opensearch.indexing.batch-size:100}")
+	private int batchSize;
+
+	@Value("${opensearch.indexing.flush-interval:1s}")
+	private Duration flushInterval;
+
+	@Value("${opensearch.indexing.max-bulk-size:5MB}")
+	private DataSize maxBulkSize;
+
+	@Value("${opensearch.indexing.queue-capacity:10000}")
+	private int queueCapacity;
+
+	@Value("${opensearch.indexing.offer-timeout:5s}")
+	private Duration offerTimeout;
+
+	@Value("${opensearch.indexing.max-retries:3}")
+	private int maxRetries;
+
+	@Value("${opensearch.indexing.retry-backoff:500ms}")
+	private Duration retryBackoff;
+
+	private BlockingQueue<PendingRequest> queue;
+	private Thread flusher;
+	private volatile boolean running;
+
+	@PostConstruct
+	public void start() {
+		queue = new ArrayBlockingQueue<>(queueCapacity);
+		running = true;
+		flusher = new Thread(this::runFlushLoop, "opensearch-bulk-indexer");
+		flusher.setDaemon(true);
+		flusher.start();
+	}
+
+	// ==================== 요청 적재 ====================
+
+	/**
+	 * 색인/삭제 요청 적재 (큐가 가득 차면 offer-timeout 까지 대기)
+	 *
+	 * @return OpenSearch 가 요청을 처리하면 완료되는 future
+	 * (재시도 불가 항목 거절은 BulkItemRejectedException, 큐 포화/재시도 한도 초과/종료 시 IllegalStateException 으로 완료)
+	 */
+	public CompletableFuture<Void> add(DocWriteRequest<?> request) {
+		PendingRequest pending = new PendingRequest(request, new CompletableFuture<>());
+		if (!running) {
+			return rejected(pending, "벌크 인덱서 종료 중");
+		}
+		try {
+			if (queue.offer(pending, offerTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+				return pending.result();
+			}
+			log.warn("벌크 인덱싱 큐 포화, 요청 버림: index={}, id={}, capacity={}",
+					request.index(), request.id(), queueCapacity);
+			return rejected(pending, "벌크 인덱싱 큐 포화");
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return rejected(pending, "벌크 인덱싱 요청 적재 중단");
+		}
+	}
+
+	/**
+	 * 큐를 거치지 않고 호출 스레드에서 바로 전송 (재색인 등 대량 적재용, 재시도 규칙은 동일)
+	 *
+	 * @return 모든 요청이 처리되었는지 여부 (재시도 불가 항목 거절이 있으면 false)
+	 */
+	public boolean sendNow(List<DocWriteRequest<?>> requests) throws InterruptedException {
+		List<PendingRequest> pending = requests.stream()
+				.map(request -> new PendingRequest(request, new CompletableFuture<>()))
+				.toList();
+		send(pending);
+		return pending.stream().noneMatch(request -> request.result().isCompletedExceptionally());
+	}
+
+	private static CompletableFuture<Void> rejected(PendingRequest pending, String reason) {
+		pending.result().completeExceptionally(new IllegalStateException(
+				reason + ": index=" + pending.request().index() + ", id=" + pending.request().id()));
+		return pending.result();
+	}
+
+	// ==================== 묶음 전송 ====================
+
+	private void runFlushLoop() {
+		while (running || !queue.isEmpty()) {
+			try {
+				List<PendingRequest> batch = nextBatch();
+				if (!batch.isEmpty()) {
+					send(batch);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (Exception e) {
+				log.error("벌크 인덱싱 루프 오류", e);
+			}
+		}
+	}
+
+	/**
+	 * 첫 요청이 들어온 시점부터 flush-interval 안에서 건수/크기 한도까지 모음
+	 * (종료 중에는 기다리지 않고 남은 요청만 모음)
+	 */
+	private List<PendingRequest> nextBatch() throws InterruptedException {
+		List<PendingRequest> batch = new ArrayList<>(batchSize);
+		PendingRequest first = running
+				? queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS)
+				: queue.poll();
+		if (first == null) {
+			return batch;
+		}
+
+		batch.add(first);
+		long bytes = estimateSize(first);
+		long deadline = System.nanoTime() + flushInterval.toNanos();
+
+		while (batch.size() < batchSize && bytes < maxBulkSize.toBytes()) {
+			long remaining = deadline - System.nanoTime();
+			PendingRequest next = running && remaining > 0
+					? queue.poll(remaining, TimeUnit.NANOSECONDS)
+					: queue.poll();
+			if (next == null) {
+				break;
+			}
+			batch.add(next);
+			bytes += estimateSize(next);
+		}
+		return batch;
+	}
+
+	/**
+	 * 묶음 전송 후 재시도 가능한 실패 항목만 백오프하며 재전송
+	 */
+	private void send(List<PendingRequest> requests) throws InterruptedException {
+		List<PendingRequest> pending = requests;
+		try {
+			for (int attempt = 0; attempt <= maxRetries; attempt++) {
+				if (attempt > 0) {
+					Thread.sleep(retryBackoff.toMillis() << (attempt - 1));
+				}
+				pending = execute(pending);
+				if (pending.isEmpty()) {
+					return;
+				}
+			}
+			log.error("벌크 인덱싱 재시도 한도 초과, 요청 버림: count={}, maxRetries={}", pending.size(), maxRetries);
+			pending.forEach(request -> rejected(request, "벌크 인덱싱 재시도 한도 초과"));
+
+		} catch (InterruptedException e) {
+			pending.forEach(request -> rejected(request, "벌크 인덱싱 재시도 중단"));
+			throw e;
+		}
+	}
+
+	/**
+	 * BulkRequest 1회 전송
+	 *
+	 * @return 재시도 대상 요청 (전송 자체가 실패하면 전체)
+	 */
+	private List<PendingRequest> execute(List<PendingRequest> requests) {
+		BulkRequest bulkRequest = new BulkRequest();
+		requests.forEach(pending -> bulkRequest.add(pending.request()));
+
+		try {
+			BulkResponse response = openSearchClient.bulk(bulkRequest, RequestOptions.DEFAULT);
+			if (!response.hasFailures()) {
+				log.debug("벌크 인덱싱 완료: count={}, took={}", requests.size(), response.getTook());
+				requests.forEach(pending -> pending.result().complete(null));
+				return List.of();
+			}
+
+			List<PendingRequest> retryable = new ArrayList<>();
+			BulkItemResponse[] items = response.getItems();
+			for (int i = 0; i < items.length; i++) {
+				if (!items[i].isFailed()) {
+					requests.get(i).result().complete(null);
+					continue;
+				}
+				BulkItemResponse.Failure failure = items[i].getFailure();
+				if (isRetryable(failure.getStatus())) {
+					retryable.add(requests.get(i));
+				} else {
+					reject(requests.get(i), failure);
+				}
+			}
+			log.debug("벌크 인덱싱 부분 실패: count={}, retryable={}", requests.size(), retryable.size());
+			return retryable;
+
+		} catch (Exception e) {
+			log.warn("벌크 인덱싱 요청 실패, 재시도 예정: count={}, error={}", requests.size(), e.getMessage());
+			return requests;
+		}
+	}
+
+	private void reject(PendingRequest pending, BulkItemResponse.Failure failure) {
+		log.error("벌크 인덱싱 항목 거절(재시도 불가): index={}, id={}, status={}, reason={}",
+				failure.getIndex(), failure.getId(), failure.getStatus(), failure.getMessage());
+		meterRegistry.counter(REJECTED_METRIC, "status", String.valueOf(failure.getStatus().getStatus())).increment();
+		pending.result().completeExceptionally(new BulkItemRejectedException(
+				failure.getIndex(), failure.getId(), failure.getStatus(), failure.getMessage()));
+	}
+
+	private static boolean isRetryable(RestStatus status) {
+		return status == RestStatus.TOO_MANY_REQUESTS || status.getStatus() >= 500;
+	}
+
+	private static long estimateSize(PendingRequest pending) {
+		if (pending.request() instanceof IndexRequest indexRequest && indexRequest.source() != null) {
+			return indexRequest.source().length() + REQUEST_OVERHEAD_BYTES;
+		}
+		return REQUEST_OVERHEAD_BYTES;
+	}
+
+	// ==================== 종료 처리 ====================
+
+	/**
+	 * 새 요청을 막고 큐에 남은 요청을 전송한 뒤 종료 (재시도 대기 포함 최대 30초)
+	 */
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		running = false;
+		flusher.join(TimeUnit.SECONDS.toMillis(30));
+		if (!queue.isEmpty()) {
+			log.warn("종료 시 벌크 인덱싱 미전송 요청: count={}", queue.size());
+		}
+	}
+
+	private record PendingRequest(DocWriteRequest<?> request, CompletableFuture<Void> result) {
+	}
+}
@@ -1,8 +1,12 @@
 package com.commonground.be.domain.news.service.search;
 
+import com.commonground.be.domain.news.dto.search.NewsCursor;
 import com.commonground.be.domain.news.dto.search.SearchResult;
 import com.commonground.be.domain.news.entity.News;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -11,25 +15,20 @@ import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.opensearch.action.delete.DeleteRequest;
-import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.index.IndexRequest;
-import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
-import org.opensearch.action.support.WriteRequest;
 import org.opensearch.client.RequestOptions;
 import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.MultiMatchQueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
-import org.opensearch.rest.RestStatus;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
 import org.opensearch.search.sort.SortOrder;
 import org.opensearch.common.unit.Fuzziness;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -39,103 +38,54 @@ public class OpenSearchIndexingService {
 
 	private final RestHighLevelClient openSearchClient;
 	private final ObjectMapper objectMapper;
+	private final OpenSearchBulkIndexer bulkIndexer;
+	private final NewsIndexManager indexManager;
 
-	private static final String NEWS_INDEX = "news";
-
-	@Async("generalTaskExecutor")
+	/**
+	 * 뉴스 색인 요청 (벌크 인덱서 큐에 적재, 전송과 재시도는 OpenSearchBulkIndexer 가 담당)
+	 *
+	 * @return OpenSearch 가 요청을 처리하면 완료되는 future
+	 */
 	public CompletableFuture<Void> indexNews(News news) {
-		try {
-			// OpenSearch 연결 상태 확인
-			if (!isOpenSearchAvailable()) {
-				log.debug("OpenSearch 연결 불가, 인덱싱 건너뜀: newsId={}", news.getId());
-                return CompletableFuture.completedFuture(null);
-			}
-
-			Map<String, Object> document = convertToSearchDocument(news);
-
-			IndexRequest request = new IndexRequest(NEWS_INDEX)
-					.id(news.getId())
-					.source(document, XContentType.JSON)
-					.setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
-
-			IndexResponse response = openSearchClient.index(request, RequestOptions.DEFAULT);
-
-			if (response.status() == RestStatus.CREATED || response.status() == RestStatus.OK) {
-				log.debug("뉴스 인덱싱 성공: newsId={}", news.getId());
-			}
-
-		} catch (Exception e) {
-			if (e.getMessage().contains("Connection refused")) {
-				log.debug("OpenSearch 연결 실패로 인덱싱 건너뜀: newsId={}", news.getId());
-			} else {
-				log.error("뉴스 인덱싱 실패: newsId={}", news.getId(), e);
-			}
-		}
-
-        return CompletableFuture.completedFuture(null);
-    }
+		return indexNews(news, NewsIndexManager.WRITE_ALIAS);
+	}
 
 	/**
-	 * OpenSearch 연결 가능 여부 확인
+	 * 지정 인덱스로 뉴스 색인 요청 (재색인 중인 새 버전 인덱스 등)
 	 */
-	private boolean isOpenSearchAvailable() {
-		try {
-			return openSearchClient.ping(RequestOptions.DEFAULT);
-		} catch (Exception e) {
-			return false;
-		}
+	public CompletableFuture<Void> indexNews(News news, String index) {
+		return bulkIndexer.add(indexRequestOf(news, index));
 	}
 
-	@Async("generalTaskExecutor")
-	public CompletableFuture<Void> deleteNews(String newsId) {
-		try {
-			DeleteRequest request = new DeleteRequest(NEWS_INDEX, newsId)
-					.setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
-
-			DeleteResponse response = openSearchClient.delete(request, RequestOptions.DEFAULT);
-
-			if (response.status() == RestStatus.OK) {
-				log.debug("뉴스 인덱스 삭제 성공: newsId={}", newsId);
-			}
+	public IndexRequest indexRequestOf(News news, String index) {
+		return new IndexRequest(index)
+				.id(news.getId())
+				.source(convertToSearchDocument(news), XContentType.JSON);
+	}
 
-		} catch (Exception e) {
-			log.error("뉴스 인덱스 삭제 실패: newsId={}", newsId, e);
-		}
+	/**
+	 * 뉴스 인덱스 삭제 요청 (벌크 인덱서 큐에 적재)
+	 *
+	 * @return OpenSearch 가 요청을 처리하면 완료되는 future
+	 */
+	public CompletableFuture<Void> deleteNews(String newsId) {
+		return deleteNews(newsId, NewsIndexManager.WRITE_ALIAS);
+	}
 
-		return CompletableFuture.completedFuture(null);
+	public CompletableFuture<Void> deleteNews(String newsId, String index) {
+		return bulkIndexer.add(new DeleteRequest(index, newsId));
 	}
 
 	public SearchResult searchNews(String keyword, int page, int size) {
 		try {
-			SearchRequest searchRequest = new SearchRequest(NEWS_INDEX);
+			SearchRequest searchRequest = new SearchRequest(NewsIndexManager.READ_ALIAS);
 			SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
 
-			// 가중치를 적용한 멀티 필드 검색 쿼리
-			MultiMatchQueryBuilder multiMatchQuery = QueryBuilders
-					.multiMatchQuery(keyword)
-					.field("title", 3.0f)        // 제목에 가장 높은 가중치 (3배)
-					.field("summary", 2.0f)      // 요약에 중간 가중치 (2배)
-					.field("content", 1.0f)      // 본문은 기본 가중치 (1배)
-					.field("keywords", 2.5f)     // 키워드에 높은 가중치 (2.5배)
-					.type(MultiMatchQueryBuilder.Type.BEST_FIELDS)
-					.fuzziness(Fuzziness.AUTO)           // 오타 허용 (자동 퍼지 매칭)
-					.operator(org.opensearch.index.query.Operator.OR);  // OR 연산자로 유연한 매칭
-
-			BoolQueryBuilder boolQuery = QueryBuilders.boolQuery()
-					.must(multiMatchQuery)
-					.filter(QueryBuilders.termQuery("status", "PUBLISHED"))
-					.mustNot(QueryBuilders.existsQuery("deletedAt"));
-
-			sourceBuilder.query(boolQuery)
+			sourceBuilder.query(buildSearchQuery(keyword))
 					.from((page - 1) * size)
 					.size(size)
 					.sort("publishedAt", SortOrder.DESC)
-					.highlighter(new HighlightBuilder()
-							.field("title")
-							.field("content")
-							.field("summary")   // 요약에서도 하이라이트 표시
-							.preTags("<mark>")
-							.postTags("</mark>"));
+					.highlighter(buildHighlighter());
 
 			searchRequest.source(sourceBuilder);
 
@@ -156,6 +106,89 @@ public class OpenSearchIndexingService {
 		}
 	}
 
+	/**
+	 * 검색 결과 기사 id 만 조회 (_source 미포함, 본문은 NewsSearchCache 가 채움)
+	 * 실패를 빈 결과로 감추지 않고 예외로 알려 호출자가 캐시하지 않도록 한다.
+	 */
+	public List<String> searchNewsIds(String keyword, int page, int size) throws IOException {
+		SearchSourceBuilder sourceBuilder = new SearchSourceBuilder()
+				.query(buildSearchQuery(keyword))
+				.from((page - 1) * size)
+				.size(size)
+				.sort("publishedAt", SortOrder.DESC)
+				.fetchSource(false);
+
+		SearchResponse searchResponse = openSearchClient.search(
+				new SearchRequest(NewsIndexManager.READ_ALIAS).source(sourceBuilder), RequestOptions.DEFAULT);
+
+		List<String> ids = new ArrayList<>(size);
+		for (SearchHit hit : searchResponse.getHits().getHits()) {
+			ids.add(hit.getId());
+		}
+		return ids;
+	}
+
+	/**
+	 * 커서 이후 검색 결과 기사 id 만 조회 (search_after, 다음 페이지 판단을 위해 limit + 1 개)
+	 * 정렬 키는 Mongo 커서 목록과 같은 (publishedAt, id) 내림차순이라 커서를 그대로 이어 쓸 수 있다.
+	 * (이전 news 인덱스에서는 id 가 text 로 매핑되어 있어 id.keyword 로 정렬, NewsIndexManager.idSortField 참고)
+	 * 실패를 빈 결과로 감추지 않고 예외로 알려 호출자가 캐시하지 않도록 한다.
+	 */
+	public List<String> searchNewsIdsAfter(String keyword, NewsCursor after, int limit) throws IOException {
+		SearchSourceBuilder sourceBuilder = new SearchSourceBuilder()
+				.query(buildSearchQuery(keyword))
+				.size(limit + 1)
+				.sort("publishedAt", SortOrder.DESC)
+				.sort(indexManager.idSortField(), SortOrder.DESC)
+				.fetchSource(false);
+		if (after != null) {
+			sourceBuilder.searchAfter(new Object[]{toSortValue(after.getPublishedAt()), after.getId()});
+		}
+
+		SearchResponse searchResponse = openSearchClient.search(
+				new SearchRequest(NewsIndexManager.READ_ALIAS).source(sourceBuilder), RequestOptions.DEFAULT);
+
+		List<String> ids = new ArrayList<>(limit + 1);
+		for (SearchHit hit : searchResponse.getHits().getHits()) {
+			ids.add(hit.getId());
+		}
+		return ids;
+	}
+
+	private BoolQueryBuilder buildSearchQuery(String keyword) {
+		// 가중치를 적용한 멀티 필드 검색 쿼리
+		MultiMatchQueryBuilder multiMatchQuery = QueryBuilders
+				.multiMatchQuery(keyword)
+				.field("title", 3.0f)        // 제목에 가장 높은 가중치 (3배)
+				.field("summary", 2.0f)      // 요약에 중간 가중치 (2배)
+				.field("content", 1.0f)      // 본문은 기본 가중치 (1배)
+				.field("keywords", 2.5f)     // 키워드에 높은 가중치 (2.5배)
+				.type(MultiMatchQueryBuilder.Type.BEST_FIELDS)
+				.fuzziness(Fuzziness.AUTO)           // 오타 허용 (자동 퍼지 매칭)
+				.operator(org.opensearch.index.query.Operator.OR);  // OR 연산자로 유연한 매칭
+
+		return QueryBuilders.boolQuery()
+				.must(multiMatchQuery)
+				.filter(QueryBuilders.termQuery("status", "PUBLISHED"))
+				.mustNot(QueryBuilders.existsQuery("deletedAt"));
+	}
+
+	private HighlightBuilder buildHighlighter() {
+		return new HighlightBuilder()
+				.field("title")
+				.field("content")
+				.field("summary")   // 요약에서도 하이라이트 표시
+				.preTags("<mark>")
+				.postTags("</mark>");
+	}
+
+	/**
+	 * 발행일 정렬값 변환 (date 필드 내림차순 정렬에서 값이 없는 문서는 Long.MIN_VALUE 로 정렬된다)
+	 */
+	private static long toSortValue(LocalDateTime publishedAt) {
+		return publishedAt != null ? publishedAt.toInstant(ZoneOffset.UTC).toEpochMilli() : Long.MIN_VALUE;
+	}
+
 	private Map<String, Object> convertToSearchDocument(News news) {
 		Map<String, Object> document = new HashMap<>();
 		document.put("id", news.getId());
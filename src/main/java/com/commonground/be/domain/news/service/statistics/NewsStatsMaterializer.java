@@ -0,0 +1,281 @@
+package com.commonground.be.domain.news.service.statistics;
+
+import com.commonground.be.domain.news.entity.News;
+import com.commonground.be.domain.news.entity.NewsStats;
+import com.commonground.be.domain.news.enums.NewsStatusEnum;
+import com.commonground.be.domain.news.repository.NewsStatsRepository;
+import com.commonground.be.global.infrastructure.cache.CacheValueStore;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 📊 뉴스 통계 materializer
+ * <p>
+ * 책임:
+ * - refresh-interval 마다 한 노드만 $facet 집계 한 번으로 통계 스냅샷 계산 → news_stats 문서 + Redis 저장
+ * - 스냅샷 사이에 저장된 기사는 세대(generation)별 Redis 해시 카운터(HINCRBY)로 누적
+ * - 조회 시 스냅샷 + 그 세대 이후 카운터를 더해 반환 (기사 수와 무관한 O(1) 조회)
+ * <p>
+ * 세대 전환 → 집계 순서로 진행하므로, 전환 전에 기록된 증분은 집계에 포함되고 전환 후 증분은 다음 세대 카운터에 남는다.
+ * 집계가 실패하면 이전 스냅샷에 여러 세대 카운터를 더해 응답한다.
+ * 삭제/비공개 처리와 전환 경계의 중복 집계는 다음 스냅샷에서 보정된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NewsStatsMaterializer {
+
+	private static final String SNAPSHOT_KEY = "news_stats:snapshot";
+	private static final String GENERATION_KEY = "news_stats:generation";
+	private static final String DELTA_KEY_PREFIX = "news_stats:delta:";
+	private static final String LOCK_KEY = "news_stats:materialize_lock";
+	private static final long LOCK_LEASE_SECONDS = 300;
+
+	// 증분 카운터 해시 필드
+	private static final String TOTAL_FIELD = "total";
+	private static final String CATEGORY_FIELD_PREFIX = "category:";
+	private static final String OUTLET_FIELD_PREFIX = "outlet:";
+	private static final String DAY_FIELD_PREFIX = "day:";
+	private static final String LAST_CRAWLED_FIELD = "last_crawled_at";
+
+	private final NewsStatsRepository newsStatsRepository;
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final CacheValueStore cacheValueStore;
+	private final RedissonClient redissonClient;
+
+	@Value("${news.statistics.daily-days:30}")
+	private int dailyDays;
+
+	@Value("${news.statistics.outlet-limit:50}")
+	private int outletLimit;
+
+	@Value("${news.statistics.snapshot-ttl:PT1H}")
+	private Duration snapshotTtl;
+
+	@Value("${news.statistics.delta-ttl:P1D}")
+	private Duration deltaTtl;
+
+	// ==================== 스냅샷 계산 ====================
+
+	/**
+	 * 통계 스냅샷 다시 계산 (분산 락으로 한 노드만 수행, 이미 수행 중이면 건너뜀)
+	 */
+	@Scheduled(fixedDelayString = "${news.statistics.refresh-interval:PT10M}")
+	public void materialize() {
+		RLock lock = redissonClient.getLock(LOCK_KEY);
+		boolean acquired = false;
+		try {
+			acquired = lock.tryLock(0, LOCK_LEASE_SECONDS, TimeUnit.SECONDS);
+			if (!acquired) {
+				return;
+			}
+
+			// 이후 저장되는 기사는 새 세대 카운터에 기록됨
+			Long generation = redisTemplate.opsForValue().increment(GENERATION_KEY);
+			LocalDateTime cutoff = LocalDateTime.now();
+			String beforeId = ObjectId.getSmallestWithDate(
+					Date.from(cutoff.atZone(ZoneId.systemDefault()).toInstant())).toHexString();
+
+			long startedAt = System.currentTimeMillis();
+			NewsStats stats = newsStatsRepository.aggregate(beforeId,
+							LocalDate.now().minusDays(dailyDays - 1L).atStartOfDay(), outletLimit)
+					.toBuilder()
+					.id(NewsStats.CURRENT_ID)
+					.generation(generation != null ? generation : 0L)
+					.cutoffAt(cutoff)
+					.materializedAt(LocalDateTime.now())
+					.build();
+
+			newsStatsRepository.saveCurrent(stats);
+			cacheValueStore.set(SNAPSHOT_KEY, stats, snapshotTtl);
+			redisTemplate.delete(DELTA_KEY_PREFIX + (stats.getGeneration() - 1));
+			log.info("뉴스 통계 스냅샷 갱신: 세대={}, 전체={}, 소요={}ms",
+					stats.getGeneration(), stats.getTotalNews(), System.currentTimeMillis() - startedAt);
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (Exception e) {
+			log.error("뉴스 통계 스냅샷 갱신 실패, 다음 주기에 재시도", e);
+		} finally {
+			if (acquired && lock.isHeldByCurrentThread()) {
+				lock.unlock();
+			}
+		}
+	}
+
+	// ==================== 증분 기록 ====================
+
+	/**
+	 * 저장된 기사를 현재 세대 카운터에 반영 (실패해도 다음 스냅샷에서 보정되므로 예외를 전파하지 않음)
+	 */
+	public void recordIngested(Collection<News> savedNews) {
+		Map<String, Long> increments = new HashMap<>();
+		LocalDateTime lastCrawledAt = null;
+		for (News news : savedNews) {
+			if (news.getStatus() != NewsStatusEnum.PUBLISHED) {
+				continue;
+			}
+			increments.merge(TOTAL_FIELD, 1L, Long::sum);
+			if (news.getCategory() != null) {
+				increments.merge(CATEGORY_FIELD_PREFIX + news.getCategory().name(), 1L, Long::sum);
+			}
+			if (news.getMediaOutletId() != null) {
+				increments.merge(OUTLET_FIELD_PREFIX + news.getMediaOutletId(), 1L, Long::sum);
+			}
+			if (news.getPublishedAt() != null) {
+				increments.merge(DAY_FIELD_PREFIX + news.getPublishedAt().toLocalDate(), 1L, Long::sum);
+			}
+			if (news.getCrawledAt() != null
+					&& (lastCrawledAt == null || news.getCrawledAt().isAfter(lastCrawledAt))) {
+				lastCrawledAt = news.getCrawledAt();
+			}
+		}
+		if (increments.isEmpty()) {
+			return;
+		}
+
+		try {
+			byte[] deltaKey = bytes(DELTA_KEY_PREFIX + currentGeneration());
+			Long lastCrawledMillis = lastCrawledAt != null
+					? lastCrawledAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+					: null;
+			redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				increments.forEach((field, count) -> connection.hashCommands().hIncrBy(deltaKey, bytes(field), count));
+				if (lastCrawledMillis != null) {
+					connection.hashCommands().hSet(deltaKey, bytes(LAST_CRAWLED_FIELD), bytes(lastCrawledMillis.toString()));
+				}
+				connection.keyCommands().expire(deltaKey, deltaTtl.toSeconds());
+				return null;
+			});
+		} catch (Exception e) {
+			log.warn("뉴스 통계 증분 기록 실패, 다음 스냅샷에서 보정: 기사 수={}, error={}", savedNews.size(), e.getMessage());
+		}
+	}
+
+	// ==================== 조회 ====================
+
+	/**
+	 * 스냅샷 + 이후 세대 카운터를 더한 현재 통계
+	 */
+	public NewsStats current() {
+		NewsStats snapshot = snapshot();
+		long currentGeneration = currentGeneration();
+
+		NewsStats merged = snapshot;
+		for (long generation = snapshot.getGeneration(); generation <= currentGeneration; generation++) {
+			Map<Object, Object> delta = redisTemplate.opsForHash().entries(DELTA_KEY_PREFIX + generation);
+			if (!delta.isEmpty()) {
+				merged = merge(merged, delta);
+			}
+		}
+		return merged;
+	}
+
+	private NewsStats snapshot() {
+		NewsStats cached = readCachedSnapshot();
+		if (cached != null) {
+			return cached;
+		}
+
+		NewsStats stored = newsStatsRepository.findCurrent().orElse(null);
+		if (stored == null) {
+			// 최초 실행: 지금 계산 (다른 노드가 계산 중이면 빈 통계 + 증분으로 응답, 빈 통계는 캐시하지 않음)
+			materialize();
+			stored = newsStatsRepository.findCurrent().orElse(null);
+			if (stored == null) {
+				return emptyStats();
+			}
+		}
+		try {
+			cacheValueStore.set(SNAPSHOT_KEY, stored, snapshotTtl);
+		} catch (Exception e) {
+			log.warn("뉴스 통계 스냅샷 캐시 저장 실패: {}", e.getMessage());
+		}
+		return stored;
+	}
+
+	private NewsStats readCachedSnapshot() {
+		try {
+			return cacheValueStore.get(SNAPSHOT_KEY, cacheValueStore.typeFactory().constructType(NewsStats.class));
+		} catch (Exception e) {
+			log.warn("뉴스 통계 스냅샷 캐시 조회 실패, Mongo 조회로 대체: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private long currentGeneration() {
+		Object generation = redisTemplate.opsForValue().get(GENERATION_KEY);
+		return generation instanceof Number number ? number.longValue() : 0L;
+	}
+
+	private static NewsStats merge(NewsStats stats, Map<Object, Object> delta) {
+		Map<String, Long> categoryCounts = new LinkedHashMap<>(Objects.requireNonNullElse(stats.getCategoryCounts(), Map.of()));
+		Map<String, Long> mediaOutletCounts = new LinkedHashMap<>(Objects.requireNonNullElse(stats.getMediaOutletCounts(), Map.of()));
+		Map<String, Long> dailyCounts = new LinkedHashMap<>(Objects.requireNonNullElse(stats.getDailyCounts(), Map.of()));
+		long totalNews = stats.getTotalNews();
+		LocalDateTime lastCrawledAt = stats.getLastCrawledAt();
+
+		for (Map.Entry<Object, Object> entry : delta.entrySet()) {
+			String field = entry.getKey().toString();
+			if (!(entry.getValue() instanceof Number value)) {
+				continue;
+			}
+			if (field.equals(TOTAL_FIELD)) {
+				totalNews += value.longValue();
+			} else if (field.startsWith(CATEGORY_FIELD_PREFIX)) {
+				categoryCounts.merge(field.substring(CATEGORY_FIELD_PREFIX.length()), value.longValue(), Long::sum);
+			} else if (field.startsWith(OUTLET_FIELD_PREFIX)) {
+				mediaOutletCounts.merge(field.substring(OUTLET_FIELD_PREFIX.length()), value.longValue(), Long::sum);
+			} else if (field.startsWith(DAY_FIELD_PREFIX)) {
+				dailyCounts.merge(field.substring(DAY_FIELD_PREFIX.length()), value.longValue(), Long::sum);
+			} else if (field.equals(LAST_CRAWLED_FIELD)) {
+				LocalDateTime crawledAt = LocalDateTime.ofInstant(
+						Instant.ofEpochMilli(value.longValue()), ZoneId.systemDefault());
+				if (lastCrawledAt == null || crawledAt.isAfter(lastCrawledAt)) {
+					lastCrawledAt = crawledAt;
+				}
+			}
+		}
+
+		return stats.toBuilder()
+				.totalNews(totalNews)
+				.categoryCounts(categoryCounts)
+				.mediaOutletCounts(mediaOutletCounts)
+				.dailyCounts(dailyCounts)
+				.lastCrawledAt(lastCrawledAt)
+				.build();
+	}
+
+	private static NewsStats emptyStats() {
+		return NewsStats.builder()
+				.categoryCounts(Map.of())
+				.mediaOutletCounts(Map.of())
+				.dailyCounts(Map.of())
+				.build();
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,222 @@
+package com.commonground.be.domain.news.service.trending;
+
+import com.commonground.be.domain.news.enums.CategoryEnum;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🔥 실시간 트렌딩 뉴스 엔진
+ * <p>
+ * 책임:
+ * - 조회 이벤트를 시간 감쇠 점수로 Redis sorted set 에 누적 (전체 + 카테고리별)
+ * - 노드마다 상위 K개 스냅샷을 메모리에 유지하여 조회 시 Redis/Mongo 스캔 없이 응답
+ * <p>
+ * 감쇠 방식 (forward decay):
+ * 조회 1회의 가중치를 2^((now - 기준시각) / half-life) 로 키워서 ZINCRBY 한다.
+ * 모든 점수가 같은 비율로 커지므로 기존 점수를 다시 계산하지 않아도
+ * 정렬 결과는 "지금 시점 기준 감쇠 점수" 순서와 같다.
+ * 가중치가 무한히 커지지 않도록 기준시각을 하루 단위 세대(generation)로 바꾸고,
+ * 직전 세대 점수는 세대 길이만큼 감쇠시켜 합산한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TrendingNewsEngine {
+
+	private static final String KEY_PREFIX = "trending:";
+	private static final String ALL_SCOPE = "all";
+	private static final long GENERATION_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	@Value("${news.trending.half-life:PT6H}")
+	private Duration halfLife;
+
+	@Value("${news.trending.top-k:100}")
+	private int topK;
+
+	// 세대별 sorted set 최대 크기 (긴 꼬리 제거)
+	@Value("${news.trending.max-tracked:10000}")
+	private int maxTracked;
+
+	// 아직 Redis 로 보내지 않은 조회 수 (newsId → 카테고리별 카운터)
+	private final Map<String, PendingViews> pendingViews = new ConcurrentHashMap<>();
+
+	// 범위(전체/카테고리)별 상위 K개 기사 id 스냅샷
+	private volatile Map<String, List<String>> topSnapshots = Map.of();
+
+	// ==================== 조회 이벤트 ====================
+
+	/**
+	 * 기사 조회 이벤트 기록 (메모리 연산만 수행, 주기적으로 Redis 반영)
+	 */
+	public void recordView(String newsId, CategoryEnum category) {
+		pendingViews.computeIfAbsent(newsId, id -> new PendingViews(category)).count.increment();
+	}
+
+	/**
+	 * 누적된 조회 이벤트를 감쇠 가중치로 변환하여 ZINCRBY
+	 */
+	@Scheduled(fixedDelayString = "${news.trending.flush-interval:PT2S}")
+	public void flushViews() {
+		Map<String, PendingViews> drained = new HashMap<>();
+		for (Map.Entry<String, PendingViews> entry : pendingViews.entrySet()) {
+			if (pendingViews.remove(entry.getKey(), entry.getValue())) {
+				drained.put(entry.getKey(), entry.getValue());
+			}
+		}
+		if (drained.isEmpty()) {
+			return;
+		}
+
+		long now = System.currentTimeMillis();
+		long generation = generationOf(now);
+		double unitWeight = decayWeight(now - generation * GENERATION_MILLIS);
+		long ttlSeconds = TimeUnit.MILLISECONDS.toSeconds(GENERATION_MILLIS * 3);
+
+		try {
+			redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				Set<String> touchedKeys = new HashSet<>();
+				drained.forEach((newsId, views) -> {
+					double increment = views.count.sum() * unitWeight;
+					byte[] member = bytes(newsId);
+					String allKey = generationKey(generation, ALL_SCOPE);
+					connection.zSetCommands().zIncrBy(bytes(allKey), increment, member);
+					touchedKeys.add(allKey);
+					if (views.category != null) {
+						String categoryKey = generationKey(generation, categoryScope(views.category));
+						connection.zSetCommands().zIncrBy(bytes(categoryKey), increment, member);
+						touchedKeys.add(categoryKey);
+					}
+				});
+				for (String key : touchedKeys) {
+					connection.keyCommands().expire(bytes(key), ttlSeconds);
+				}
+				return null;
+			});
+
+		} catch (Exception e) {
+			log.warn("트렌딩 점수 반영 실패, 다음 주기에 재시도: 기사 수={}, error={}", drained.size(), e.getMessage());
+			drained.forEach((newsId, views) -> pendingViews.computeIfAbsent(newsId,
+					id -> new PendingViews(views.category)).count.add(views.count.sum()));
+		}
+	}
+
+	// ==================== 상위 K 스냅샷 ====================
+
+	/**
+	 * 전체 트렌딩 상위 기사 id (점수 내림차순)
+	 */
+	public List<String> getTopNewsIds(int limit) {
+		return topOf(ALL_SCOPE, limit);
+	}
+
+	/**
+	 * 카테고리별 트렌딩 상위 기사 id (점수 내림차순)
+	 */
+	public List<String> getTopNewsIds(CategoryEnum category, int limit) {
+		return topOf(categoryScope(category), limit);
+	}
+
+	private List<String> topOf(String scope, int limit) {
+		List<String> ids = topSnapshots.getOrDefault(scope, List.of());
+		return ids.size() <= limit ? ids : ids.subList(0, limit);
+	}
+
+	public int getTopK() {
+		return topK;
+	}
+
+	/**
+	 * 현재/직전 세대를 합산하여 범위별 상위 K개 스냅샷 갱신
+	 */
+	@Scheduled(fixedDelayString = "${news.trending.refresh-interval:PT10S}")
+	public void refreshTopSnapshots() {
+		long now = System.currentTimeMillis();
+		long generation = generationOf(now);
+		// 직전 세대 점수를 현재 세대 기준시각으로 환산
+		double previousWeight = decayWeight(-GENERATION_MILLIS);
+
+		List<String> scopes = new ArrayList<>();
+		scopes.add(ALL_SCOPE);
+		for (CategoryEnum category : CategoryEnum.values()) {
+			scopes.add(categoryScope(category));
+		}
+
+		try {
+			Map<String, List<String>> snapshots = new HashMap<>();
+			for (String scope : scopes) {
+				snapshots.put(scope, loadTop(scope, generation, previousWeight));
+			}
+			topSnapshots = Collections.unmodifiableMap(snapshots);
+
+		} catch (Exception e) {
+			log.warn("트렌딩 스냅샷 갱신 실패, 기존 스냅샷 유지: {}", e.getMessage());
+		}
+	}
+
+	private List<String> loadTop(String scope, long generation, double previousWeight) {
+		String currentKey = generationKey(generation, scope);
+		String previousKey = generationKey(generation - 1, scope);
+		String mergedKey = KEY_PREFIX + "merged:" + scope;
+
+		redisTemplate.opsForZSet().unionAndStore(currentKey, List.of(previousKey), mergedKey,
+				Aggregate.SUM, Weights.of(1, previousWeight));
+		// 세대별 집합의 긴 꼬리 정리
+		redisTemplate.opsForZSet().removeRange(currentKey, 0, -(maxTracked + 1));
+
+		Set<String> top = redisTemplate.opsForZSet().reverseRange(mergedKey, 0, topK - 1);
+		return top != null ? List.copyOf(top) : List.of();
+	}
+
+	// ==================== 내부 유틸리티 ====================
+
+	private double decayWeight(long elapsedMillis) {
+		return Math.pow(2, (double) elapsedMillis / halfLife.toMillis());
+	}
+
+	private static long generationOf(long epochMillis) {
+		return epochMillis / GENERATION_MILLIS;
+	}
+
+	private static String generationKey(long generation, String scope) {
+		return KEY_PREFIX + generation + ":" + scope;
+	}
+
+	private static String categoryScope(CategoryEnum category) {
+		return "category:" + category.name();
+	}
+
+	private static byte[] bytes(String key) {
+		return key.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static class PendingViews {
+
+		private final CategoryEnum category;
+		private final LongAdder count = new LongAdder();
+
+		private PendingViews(CategoryEnum category) {
+			this.category = category;
+		}
+	}
+}
@@ -6,13 +6,24 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * 메서드 실행 시간을 로깅하는 어노테이션
+ * 메서드 실행 시간을 기록하는 어노테이션
+ * 
+ * 모든 호출은 method.execution 지표(class, method, outcome 태그)에 기록하고,
+ * 느린 호출(method-timing.slow-threshold 이상)만 로그로 남긴다.
  * 
  * 사용 예:
  * @LogExecutionTime
  * public void someMethod() { ... }
+ * 
+ * @LogExecutionTime(slowThresholdMillis = 3000)
+ * public void batchMethod() { ... }
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface LogExecutionTime {
-}
\ No newline at end of file
+
+    /**
+     * 느린 호출로 로깅할 기준 (밀리초, 음수면 method-timing.slow-threshold 사용)
+     */
+    long slowThresholdMillis() default -1;
+}
@@ -1,53 +1,62 @@
 package com.commonground.be.global.application.aop;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 전역 메서드 실행 로깅을 위한 AOP
- * 
+ *
  * 사용법:
- * 1. @LogExecutionTime - 메서드 실행 시간 로깅
- * 2. @LogMethodCall - 메서드 호출 상세 로깅  
- * 3. 특정 패키지/클래스 지정 - execution 포인트컷 사용
+ * 1. @LogExecutionTime - 메서드 실행 시간을 method.execution 지표(p50/p95/p99/max)로 기록, 느린 호출만 로깅
+ * 2. @LogMethodCall - 메서드 호출 상세 로깅
+ * 3. 특정 패키지/클래스 지정 - execution 포인트컷 사용 (크롤링 서비스는 1과 같은 방식으로 측정)
  */
 @Aspect
 @Component
 @Slf4j
 public class MethodLoggingAspect {
 
+    private static final String EXECUTION_METRIC = "method.execution";
+
+    private final MeterRegistry meterRegistry;
+
+    // 이 시간을 넘긴 호출만 로그 (어노테이션에 값이 없을 때)
+    private final Duration slowThreshold;
+
+    // 메서드별 타이머 (호출마다 레지스트리를 조회하지 않도록 캐시)
+    private final Map<Method, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    public MethodLoggingAspect(MeterRegistry meterRegistry,
+                               @Value("${method-timing.slow-threshold:PT1S}") Duration slowThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowThreshold = slowThreshold;
+    }
+
     /**
-     * @LogExecutionTime 어노테이션이 붙은 메서드의 실행 시간 로깅
+     * @LogExecutionTime 어노테이션이 붙은 메서드의 실행 시간 기록
      */
-    @Around("@annotation(com.commonground.be.global.application.aop.LogExecutionTime)")
-    public Object logExecutionTime(ProceedingJoinPoint joinPoint) throws Throwable {
-        Instant start = Instant.now();
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        String methodName = joinPoint.getSignature().getName();
-        
-        log.debug("⏱️ 메서드 실행 시작: {}.{}", className, methodName);
-        
-        try {
-            Object result = joinPoint.proceed();
-            
-            Duration duration = Duration.between(start, Instant.now());
-            log.info("✅ 메서드 실행 완료: {}.{}, 소요시간={}ms", 
-                    className, methodName, duration.toMillis());
-            
-            return result;
-        } catch (Exception e) {
-            Duration duration = Duration.between(start, Instant.now());
-            log.error("❌ 메서드 실행 실패: {}.{}, 소요시간={}ms, error={}", 
-                    className, methodName, duration.toMillis(), e.getMessage(), e);
-            throw e;
-        }
+    @Around("@annotation(logExecutionTime)")
+    public Object logExecutionTime(ProceedingJoinPoint joinPoint, LogExecutionTime logExecutionTime)
+            throws Throwable {
+        Duration threshold = logExecutionTime.slowThresholdMillis() >= 0
+                ? Duration.ofMillis(logExecutionTime.slowThresholdMillis()) : slowThreshold;
+        return time(joinPoint, threshold);
     }
 
     /**
@@ -59,79 +68,90 @@ public class MethodLoggingAspect {
         String className = joinPoint.getTarget().getClass().getSimpleName();
         String methodName = joinPoint.getSignature().getName();
         Object[] args = joinPoint.getArgs();
-        
+
         log.info("🚀 메서드 호출: {}.{}, args={}", className, methodName, Arrays.toString(args));
-        
+
         try {
             Object result = joinPoint.proceed();
-            
+
             Duration duration = Duration.between(start, Instant.now());
-            log.info("✅ 메서드 완료: {}.{}, 소요시간={}ms", 
+            log.info("✅ 메서드 완료: {}.{}, 소요시간={}ms",
                     className, methodName, duration.toMillis());
-            
+
             return result;
         } catch (Exception e) {
             Duration duration = Duration.between(start, Instant.now());
-            log.error("❌ 메서드 예외: {}.{}, 소요시간={}ms, error={}", 
+            log.error("❌ 메서드 예외: {}.{}, 소요시간={}ms, error={}",
                     className, methodName, duration.toMillis(), e.getMessage(), e);
             throw e;
         }
     }
 
     /**
-     * 크롤링 관련 메서드 로깅 (기존 CrawlingLoggingAspect 기능 유지)
+     * 크롤링 서비스 public 메서드 실행 시간 기록 (@LogExecutionTime 이 붙은 메서드는 위에서 기록하므로 제외)
      */
-    @Around("execution(* com.commonground.be.domain.news.service.NaverNewsCrawler.crawlNews(..))")
+    @Around("execution(public * com.commonground.be.domain.news.service.crawling.*Service.*(..))"
+            + " && !@annotation(com.commonground.be.global.application.aop.LogExecutionTime)")
     public Object logCrawlingExecution(ProceedingJoinPoint joinPoint) throws Throwable {
-        Instant start = Instant.now();
-        String methodName = joinPoint.getSignature().getName();
-        Object[] args = joinPoint.getArgs();
-        
-        log.info("🚀 크롤링 시작: method={}, args={}", methodName, Arrays.toString(args));
-        
-        try {
-            Object result = joinPoint.proceed();
-            
-            Duration duration = Duration.between(start, Instant.now());
-            log.info("✅ 크롤링 성공: method={}, 소요시간={}ms", methodName, duration.toMillis());
-            
-            return result;
-        } catch (Exception e) {
-            Duration duration = Duration.between(start, Instant.now());
-            log.error("❌ 크롤링 실패: method={}, 소요시간={}ms, error={}", 
-                    methodName, duration.toMillis(), e.getMessage(), e);
-            throw e;
-        }
+        return time(joinPoint, slowThreshold);
     }
 
+    // ==================== 실행 시간 기록 ====================
+
     /**
-     * 개별 기사 크롤링 로깅 (기존 기능 유지)
+     * System.nanoTime 으로 측정해 타이머에 기록하고, threshold 를 넘긴 호출만 WARN 로그.
+     * CompletionStage 를 반환하면 호출 시점이 아니라 완료 시점까지를 측정한다.
      */
-    @Around("execution(* com.commonground.be.domain.news.service.NaverNewsCrawler.crawlSingleArticle(..))")
-    public Object logSingleArticleCrawling(ProceedingJoinPoint joinPoint) throws Throwable {
-        Instant start = Instant.now();
-        Object[] args = joinPoint.getArgs();
-        String articleUrl = args.length > 0 ? args[0].toString() : "unknown";
-        
-        log.debug("📰 개별 기사 크롤링 시작: url={}", articleUrl);
-        
+    private Object time(ProceedingJoinPoint joinPoint, Duration threshold) throws Throwable {
+        MethodTimers methodTimers = timers.computeIfAbsent(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), this::createTimers);
+        long start = System.nanoTime();
+
+        Object result;
         try {
-            Object result = joinPoint.proceed();
-            
-            Duration duration = Duration.between(start, Instant.now());
-            
-            if (result != null) {
-                log.debug("✅ 개별 기사 크롤링 성공: url={}, 소요시간={}ms", articleUrl, duration.toMillis());
-            } else {
-                log.warn("⚠️ 개별 기사 크롤링 실패 (null 반환): url={}, 소요시간={}ms", articleUrl, duration.toMillis());
-            }
-            
-            return result;
-        } catch (Exception e) {
-            Duration duration = Duration.between(start, Instant.now());
-            log.error("❌ 개별 기사 크롤링 예외: url={}, 소요시간={}ms, error={}", 
-                    articleUrl, duration.toMillis(), e.getMessage());
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            methodTimers.record(start, false, threshold, e);
             throw e;
         }
+
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete((ignored, e) -> methodTimers.record(start, e == null, threshold, e));
+        } else {
+            methodTimers.record(start, true, threshold, null);
+        }
+        return result;
+    }
+
+    private MethodTimers createTimers(Method method) {
+        String className = method.getDeclaringClass().getSimpleName();
+        return new MethodTimers(className + "." + method.getName(),
+                timer(className, method.getName(), "success"),
+                timer(className, method.getName(), "error"));
+    }
+
+    private Timer timer(String className, String methodName, String outcome) {
+        return Timer.builder(EXECUTION_METRIC)
+                .description("메서드 실행 시간 (@LogExecutionTime, 크롤링 서비스)")
+                .tag("class", className)
+                .tag("method", methodName)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private record MethodTimers(String name, Timer success, Timer error) {
+
+        void record(long startNanos, boolean succeeded, Duration threshold, Throwable failure) {
+            long elapsed = System.nanoTime() - startNanos;
+            (succeeded ? success : error).record(elapsed, TimeUnit.NANOSECONDS);
+
+            if (elapsed >= threshold.toNanos()) {
+                log.warn("🐢 느린 메서드 실행: {}, 소요시간={}ms, 결과={}", name,
+                        TimeUnit.NANOSECONDS.toMillis(elapsed),
+                        succeeded ? "성공" : "실패(" + failure.getClass().getSimpleName() + ")");
+            }
+        }
     }
-}
\ No newline at end of file
+}
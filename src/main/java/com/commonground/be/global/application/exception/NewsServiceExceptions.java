@@ -45,4 +45,8 @@ public class NewsServiceExceptions {
     public static CommonException indexingFailed(String newsId) {
         return new CommonException(ResponseExceptionEnum.NEWS_INDEXING_FAILED);
     }
+    
+    public static CommonException invalidCursor(String cursor) {
+        return new CommonException(ResponseExceptionEnum.INVALID_NEWS_CURSOR);
+    }
 }
\ No newline at end of file
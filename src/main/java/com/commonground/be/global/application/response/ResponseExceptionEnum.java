@@ -44,6 +44,7 @@ public enum ResponseExceptionEnum {
 	DATA_PROCESSING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "뉴스 데이터 처리에 실패했습니다."),
 	NEWS_SEARCH_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "뉴스 검색에 실패했습니다."),
 	NEWS_INDEXING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "뉴스 인덱싱에 실패했습니다."),
+	INVALID_NEWS_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 페이지 커서입니다."),
 	
 	// 네이버 API/크롤링 전용
 	NAVER_API_FAILED(HttpStatus.SERVICE_UNAVAILABLE, "네이버 API 호출에 실패했습니다."),
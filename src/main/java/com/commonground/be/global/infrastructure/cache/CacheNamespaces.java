@@ -0,0 +1,115 @@
+package com.commonground.be.global.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🏷️ 버전 기반 Redis 캐시 네임스페이스
+ * <p>
+ * 캐시 키를 "{namespace}:v{version}:{suffix}" 로 만들고, 무효화는 버전 번호만 올린다 (INCR, O(1)).
+ * 이전 버전의 키는 더 이상 조회되지 않고 각자의 TTL 로 사라지므로 KEYS/SCAN 으로 찾아 지울 필요가 없다.
+ * <p>
+ * 따라서 이 클래스로 만든 키는 반드시 TTL 과 함께 저장해야 한다.
+ * <p>
+ * 버전 번호는 노드별로 로컬 캐시(NearCache ttl 동안)해 키 생성마다 Redis 를 조회하지 않고,
+ * 무효화 시 Redis pub/sub 으로 새 버전을 다른 노드에 전파해 로컬 버전과 NearCache 항목을 바로 교체한다.
+ */
+@Component
+@Slf4j
+public class CacheNamespaces implements MessageListener {
+
+	// 뉴스
+	public static final String RECENT_NEWS = "recent_news";
+	public static final String CATEGORY_NEWS = "category_news";
+	public static final String NEWS_SEARCH = "search";
+
+	public static final String CHANGE_CHANNEL = "cache_namespace_changed";
+
+	private static final String VERSION_KEY_PREFIX = "cache_version:";
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final NearCache nearCache;
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	// 네임스페이스별 로컬 버전 (pub/sub 메시지 유실 시에도 NearCache ttl 이후 Redis 에서 다시 읽음)
+	private final Cache<String, Long> versions;
+
+	public CacheNamespaces(RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper,
+			NearCache nearCache) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.nearCache = nearCache;
+		this.versions = Caffeine.newBuilder()
+				.expireAfterWrite(nearCache.ttl())
+				.build();
+	}
+
+	/**
+	 * 현재 버전의 캐시 키
+	 */
+	public String key(String namespace, String suffix) {
+		return namespace + ":v" + versions.get(namespace, this::remoteVersion) + ":" + suffix;
+	}
+
+	/**
+	 * 네임스페이스의 모든 캐시 키 무효화 (다른 노드에도 전파)
+	 */
+	public void invalidate(String namespace) {
+		Long version = redisTemplate.opsForValue().increment(VERSION_KEY_PREFIX + namespace);
+		applyVersion(namespace, version);
+		try {
+			redisTemplate.convertAndSend(CHANGE_CHANNEL,
+					Map.of("nodeId", nodeId, "namespace", namespace, "version", version != null ? version : 0L));
+		} catch (Exception e) {
+			log.warn("캐시 네임스페이스 변경 전송 실패: namespace={}, error={}", namespace, e.getMessage());
+		}
+		log.debug("캐시 네임스페이스 무효화: {} → v{}", namespace, version);
+	}
+
+	private long remoteVersion(String namespace) {
+		Object version = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + namespace);
+		return version instanceof Number number ? number.longValue() : 0L;
+	}
+
+	private void applyVersion(String namespace, Long version) {
+		if (version == null) {
+			versions.invalidate(namespace);
+		} else {
+			// 늦게 도착한 메시지가 더 최신 버전을 덮어쓰지 않도록
+			versions.asMap().merge(namespace, version, Math::max);
+		}
+		nearCache.invalidateNamespace(namespace);
+	}
+
+	// ==================== 노드 간 무효화 ====================
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			Map<String, Object> payload = objectMapper.readValue(
+					new String(message.getBody(), StandardCharsets.UTF_8), Map.class);
+			if (nodeId.equals(payload.get("nodeId"))) {
+				return;
+			}
+			String namespace = (String) payload.get("namespace");
+			Long version = payload.get("version") instanceof Number number ? number.longValue() : null;
+			applyVersion(namespace, version);
+			log.debug("캐시 네임스페이스 변경 수신: {} → v{}", namespace, version);
+
+		} catch (Exception e) {
+			log.warn("캐시 네임스페이스 변경 메시지 처리 실패: {}", e.getMessage());
+		}
+	}
+}
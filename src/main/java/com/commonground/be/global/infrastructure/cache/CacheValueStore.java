@@ -0,0 +1,85 @@
+package com.commonground.be.global.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+/**
+ * 💾 조회 캐시 값 저장소 (키 접두사별 직렬화 형식)
+ * <p>
+ * 책임:
+ * - cache.codec.compact-prefixes 로 시작하는 키는 Smile(+LZ4), 나머지는 JSON 으로 저장
+ * - 읽을 때는 저장 형식과 관계없이 목표 타입으로 바로 역직렬화
+ * <p>
+ * RedisTemplate 의 값 직렬화를 거치지 않고 원본 바이트를 주고받는다.
+ * Redis 오류와 직렬화 오류는 그대로 전달하므로 호출자가 캐시 미스로 처리해야 한다.
+ */
+@Component
+public class CacheValueStore {
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final CompactRedisSerializer serializer;
+	private final List<String> compactPrefixes;
+
+	public CacheValueStore(RedisTemplate<String, Object> redisTemplate, CompactRedisSerializer serializer,
+			@Value("${cache.codec.compact-prefixes:}") List<String> compactPrefixes) {
+		this.redisTemplate = redisTemplate;
+		this.serializer = serializer;
+		this.compactPrefixes = compactPrefixes.stream().filter(prefix -> !prefix.isBlank()).toList();
+	}
+
+	/**
+	 * 캐시 값 조회 (없으면 null)
+	 */
+	public <T> T get(String key, JavaType type) {
+		byte[] raw = redisTemplate.execute(
+				(RedisCallback<byte[]>) connection -> connection.stringCommands().get(bytes(key)));
+		return serializer.deserialize(raw, type);
+	}
+
+	/**
+	 * 여러 키 한 번에 조회 (키 순서대로, 없는 키는 null)
+	 */
+	public <T> List<T> multiGet(List<String> keys, JavaType type) {
+		byte[][] rawKeys = keys.stream().map(CacheValueStore::bytes).toArray(byte[][]::new);
+		List<byte[]> raws = redisTemplate.execute(
+				(RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(rawKeys));
+		List<T> values = new ArrayList<>(keys.size());
+		for (int i = 0; i < keys.size(); i++) {
+			values.add(raws != null && i < raws.size() ? serializer.deserialize(raws.get(i), type) : null);
+		}
+		return values;
+	}
+
+	public void set(String key, Object value, Duration ttl) {
+		byte[] raw = serializer.encode(value, isCompact(key));
+		redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+				.set(bytes(key), raw, Expiration.from(ttl), SetOption.upsert()));
+	}
+
+	public TypeFactory typeFactory() {
+		return serializer.typeFactory();
+	}
+
+	boolean isCompact(String key) {
+		for (String prefix : compactPrefixes) {
+			if (key.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static byte[] bytes(String key) {
+		return key.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,137 @@
+package com.commonground.be.global.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 📦 Redis 캐시 값용 바이너리 직렬화 (Smile + 선택적 LZ4 압축)
+ * <p>
+ * 책임:
+ * - 값을 Smile(바이너리 JSON) 로 직렬화하고, threshold 바이트 이상이면 LZ4 로 압축
+ * - 첫 바이트로 형식을 구분해 기존 JSON 값도 그대로 읽음 (배포 중 섞여 있는 값 호환)
+ * - 목표 타입(JavaType)으로 바로 역직렬화 (중간 Map 변환 없음)
+ * <p>
+ * 형식:
+ * - 0x01 + Smile
+ * - 0x02 + 원본 길이(int, 4바이트) + LZ4(Smile)
+ * - 그 외: JSON ('{', '[', '"', 숫자 등으로 시작)
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+	static final byte FORMAT_SMILE = 0x01;
+	static final byte FORMAT_SMILE_LZ4 = 0x02;
+
+	private static final int LENGTH_BYTES = Integer.BYTES;
+
+	private final ObjectMapper smileMapper;
+	private final ObjectMapper jsonMapper;
+	private final LZ4Compressor compressor;
+	private final LZ4FastDecompressor decompressor;
+
+	// 이 크기(Smile 바이트) 이상이면 압축
+	private final int compressionThreshold;
+
+	public CompactRedisSerializer(int compressionThreshold) {
+		this.smileMapper = configure(new ObjectMapper(new SmileFactory()));
+		this.jsonMapper = configure(new ObjectMapper());
+		LZ4Factory lz4 = LZ4Factory.fastestInstance();
+		this.compressor = lz4.fastCompressor();
+		this.decompressor = lz4.fastDecompressor();
+		this.compressionThreshold = compressionThreshold;
+	}
+
+	private static ObjectMapper configure(ObjectMapper mapper) {
+		return mapper.registerModule(new JavaTimeModule())
+				.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+	}
+
+	// ==================== 직렬화 ====================
+
+	@Override
+	public byte[] serialize(Object value) throws SerializationException {
+		return encode(value, true);
+	}
+
+	/**
+	 * compact 가 false 면 기존과 같은 JSON 으로 직렬화
+	 */
+	public byte[] encode(Object value, boolean compact) throws SerializationException {
+		if (value == null) {
+			return null;
+		}
+		try {
+			if (!compact) {
+				return jsonMapper.writeValueAsBytes(value);
+			}
+			byte[] smile = smileMapper.writeValueAsBytes(value);
+			return smile.length >= compressionThreshold ? compress(smile) : prefixed(smile);
+		} catch (IOException e) {
+			throw new SerializationException("캐시 값 직렬화 실패: " + e.getMessage(), e);
+		}
+	}
+
+	private static byte[] prefixed(byte[] smile) {
+		byte[] out = new byte[smile.length + 1];
+		out[0] = FORMAT_SMILE;
+		System.arraycopy(smile, 0, out, 1, smile.length);
+		return out;
+	}
+
+	private byte[] compress(byte[] smile) {
+		int headerLength = 1 + LENGTH_BYTES;
+		byte[] out = new byte[headerLength + compressor.maxCompressedLength(smile.length)];
+		out[0] = FORMAT_SMILE_LZ4;
+		ByteBuffer.wrap(out, 1, LENGTH_BYTES).putInt(smile.length);
+		int compressedLength = compressor.compress(smile, 0, smile.length, out, headerLength);
+		byte[] trimmed = new byte[headerLength + compressedLength];
+		System.arraycopy(out, 0, trimmed, 0, trimmed.length);
+		return trimmed;
+	}
+
+	// ==================== 역직렬화 ====================
+
+	@Override
+	public Object deserialize(byte[] bytes) throws SerializationException {
+		return deserialize(bytes, typeFactory().constructType(Object.class));
+	}
+
+	public <T> T deserialize(byte[] bytes, JavaType type) throws SerializationException {
+		if (bytes == null || bytes.length == 0) {
+			return null;
+		}
+		try {
+			return switch (bytes[0]) {
+				case FORMAT_SMILE -> smileMapper.readValue(bytes, 1, bytes.length - 1, type);
+				case FORMAT_SMILE_LZ4 -> {
+					byte[] smile = decompress(bytes);
+					yield smileMapper.readValue(smile, type);
+				}
+				default -> jsonMapper.readValue(bytes, type);
+			};
+		} catch (IOException | RuntimeException e) {
+			throw new SerializationException("캐시 값 역직렬화 실패: " + e.getMessage(), e);
+		}
+	}
+
+	private byte[] decompress(byte[] bytes) {
+		int originalLength = ByteBuffer.wrap(bytes, 1, LENGTH_BYTES).getInt();
+		byte[] smile = new byte[originalLength];
+		decompressor.decompress(bytes, 1 + LENGTH_BYTES, smile, 0, originalLength);
+		return smile;
+	}
+
+	public TypeFactory typeFactory() {
+		return jsonMapper.getTypeFactory();
+	}
+}
@@ -0,0 +1,85 @@
+package com.commonground.be.global.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * ⏳ 캐시 무효화 병합기
+ * <p>
+ * 책임:
+ * - 무효화 요청을 네임스페이스별로 모아 두고 debounce 주기마다 한 번만 무효화 (단건 저장이 몰릴 때 요청마다 캐시가 비는 것 방지, 크롤링 배치는 완료 시 한 번 invalidateNow)
+ * - 배치 완료처럼 즉시 반영이 필요한 경우 대기 중인 요청까지 합쳐 한 번 무효화
+ * - 요청/실행/병합 건수를 메트릭으로 노출 (cache.invalidation.requests, .executed, .merged)
+ * <p>
+ * 무효화는 최대 debounce 주기만큼 늦게 반영되며, 그동안 읽기 요청은 기존 캐시를 그대로 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DebouncedCacheInvalidator {
+
+	private static final String METRIC_PREFIX = "cache.invalidation.";
+
+	private final CacheNamespaces cacheNamespaces;
+	private final MeterRegistry meterRegistry;
+
+	// 네임스페이스별 아직 반영하지 않은 무효화 요청 수
+	private final Map<String, AtomicLong> pending = new ConcurrentHashMap<>();
+
+	/**
+	 * 무효화 요청 (다음 debounce 주기에 다른 요청과 합쳐 한 번 반영)
+	 */
+	public void request(String namespace) {
+		pending.computeIfAbsent(namespace, ns -> new AtomicLong()).incrementAndGet();
+		counter("requests", namespace).increment();
+	}
+
+	/**
+	 * 즉시 무효화 (대기 중인 요청도 이번 무효화로 처리)
+	 */
+	public void invalidateNow(String namespace) {
+		counter("requests", namespace).increment();
+		invalidate(namespace, drain(namespace) + 1);
+	}
+
+	@Scheduled(fixedDelayString = "${cache.invalidation.debounce:PT2S}")
+	public void flush() {
+		for (String namespace : pending.keySet()) {
+			long requests = drain(namespace);
+			if (requests > 0) {
+				invalidate(namespace, requests);
+			}
+		}
+	}
+
+	private long drain(String namespace) {
+		AtomicLong count = pending.get(namespace);
+		return count != null ? count.getAndSet(0) : 0;
+	}
+
+	private void invalidate(String namespace, long requests) {
+		try {
+			cacheNamespaces.invalidate(namespace);
+			counter("executed", namespace).increment();
+			counter("merged", namespace).increment(requests - 1);
+			if (requests > 1) {
+				log.debug("캐시 무효화 병합: namespace={}, 요청={}", namespace, requests);
+			}
+		} catch (Exception e) {
+			// 다음 주기에 다시 시도
+			pending.computeIfAbsent(namespace, ns -> new AtomicLong()).addAndGet(requests);
+			log.warn("캐시 무효화 실패, 다음 주기에 재시도: namespace={}, error={}", namespace, e.getMessage());
+		}
+	}
+
+	private Counter counter(String name, String namespace) {
+		return meterRegistry.counter(METRIC_PREFIX + name, "namespace", namespace);
+	}
+}
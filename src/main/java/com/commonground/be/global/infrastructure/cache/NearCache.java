@@ -0,0 +1,69 @@
+package com.commonground.be.global.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🧊 Redis 앞단 로컬(JVM) 캐시
+ * <p>
+ * 책임:
+ * - Redis 캐시 키 그대로, 역직렬화가 끝난 값(List&lt;News&gt; 등)을 크기/시간 제한 내에서 힙에 보관
+ * - 네임스페이스 무효화 시 해당 접두사의 로컬 항목 제거 (CacheNamespaces 의 pub/sub 수신 시 호출)
+ * - 적중률/크기 메트릭 노출 (cache.* , cache=near_cache)
+ * <p>
+ * 값은 여러 요청이 같은 인스턴스를 공유하므로 호출자는 반환 값을 수정하면 안 된다.
+ * 버전이 붙은 키는 버전이 바뀌면 더 이상 조회되지 않으므로, 무효화 메시지를 놓쳐도 최대 ttl 만큼만 늦다.
+ */
+@Component
+@Slf4j
+public class NearCache {
+
+	private final Cache<String, Object> entries;
+
+	private final Duration ttl;
+
+	public NearCache(@Value("${cache.near.max-size:1000}") long maxSize,
+			@Value("${cache.near.ttl:PT5S}") Duration ttl,
+			MeterRegistry meterRegistry) {
+		this.ttl = ttl;
+		this.entries = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(ttl)
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, entries, "near_cache");
+	}
+
+	public Object getIfPresent(String key) {
+		return entries.getIfPresent(key);
+	}
+
+	/**
+	 * 로컬 저장 (Redis TTL 이 로컬 TTL 보다 짧은 키는 로컬에 두지 않음)
+	 */
+	public void put(String key, Object value, Duration remoteTtl) {
+		if (value == null || remoteTtl.compareTo(ttl) < 0) {
+			return;
+		}
+		entries.put(key, value);
+	}
+
+	/**
+	 * 네임스페이스 키("{namespace}:") 로 시작하는 로컬 항목 제거
+	 */
+	public void invalidateNamespace(String namespace) {
+		String prefix = namespace + ":";
+		entries.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+		log.debug("로컬 캐시 네임스페이스 무효화: {}", namespace);
+	}
+
+	public Duration ttl() {
+		return ttl;
+	}
+}
@@ -0,0 +1,65 @@
+package com.commonground.be.global.infrastructure.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * ⏱️ 시간 구간별 Redis 카운터
+ * <p>
+ * 이벤트 수를 1시간 단위 버킷(INCR)에 누적하고, 최근 window 동안의 합을 버킷 MGET 으로 계산한다.
+ * 이벤트마다 키를 만들어 KEYS 로 세는 방식과 달리 조회 비용이 전체 키 수와 무관하다 (최대 24개 버킷).
+ */
+@Component
+@RequiredArgsConstructor
+public class RollingCounter {
+
+	private static final String KEY_PREFIX = "counter:";
+	private static final Duration BUCKET = Duration.ofHours(1);
+	// 최대 조회 구간 (24시간) + 진행 중인 버킷
+	private static final Duration RETENTION = Duration.ofHours(25);
+
+	private final RedisTemplate<String, Object> redisTemplate;
+
+	public void increment(String name) {
+		String key = bucketKey(name, currentBucket());
+		redisTemplate.opsForValue().increment(key);
+		redisTemplate.expire(key, RETENTION);
+	}
+
+	/**
+	 * 최근 window(최대 24시간) 동안의 이벤트 수 (버킷 단위로 올림)
+	 */
+	public long count(String name, Duration window) {
+		long buckets = Math.min(
+				Math.max((window.toMillis() + BUCKET.toMillis() - 1) / BUCKET.toMillis(), 1),
+				RETENTION.dividedBy(BUCKET) - 1);
+		long current = currentBucket();
+
+		List<String> keys = new ArrayList<>((int) buckets);
+		for (long bucket = current - buckets + 1; bucket <= current; bucket++) {
+			keys.add(bucketKey(name, bucket));
+		}
+
+		List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+		if (values == null) {
+			return 0L;
+		}
+		return values.stream()
+				.filter(value -> value instanceof Number)
+				.mapToLong(value -> ((Number) value).longValue())
+				.sum();
+	}
+
+	private static long currentBucket() {
+		return Instant.now().toEpochMilli() / BUCKET.toMillis();
+	}
+
+	private static String bucketKey(String name, long bucket) {
+		return KEY_PREFIX + name + ":" + bucket;
+	}
+}
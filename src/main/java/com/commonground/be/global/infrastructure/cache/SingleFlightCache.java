@@ -0,0 +1,161 @@
+package com.commonground.be.global.infrastructure.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🛬 캐시 미스 요청 병합(single-flight) + 만료 전 확률적 갱신
+ * <p>
+ * 책임:
+ * - 같은 키의 캐시 미스는 노드당 한 호출자만 계산하고, 나머지는 그 결과(future)를 기다림
+ * - 계산 시간(delta)과 만료 시각을 함께 저장하고, 만료가 가까울수록 높은 확률로 한 호출자가 미리 재계산
+ *   (XFetch: now - delta * beta * ln(rand) >= expiry). 재계산 중 다른 호출자는 기존 값을 그대로 사용
+ * - 계산 실패는 캐시하지 않고 기다리던 호출자 모두에게 같은 예외 전달
+ * - Redis 앞단 NearCache 에 역직렬화된 값을 두어, 로컬 적중 시 Redis/Jackson 을 거치지 않음
+ * <p>
+ * 저장 형식: {"value": 값, "delta": 계산 시간(ms), "expiresAt": 만료 시각(epoch ms)}
+ * <p>
+ * Redis 값은 CacheValueStore 로 읽고 써 목표 타입으로 한 번에 역직렬화한다 (중간 Map 변환 없음).
+ */
+@Component
+@Slf4j
+public class SingleFlightCache {
+
+	private static final String VALUE = "value";
+	private static final String DELTA = "delta";
+	private static final String EXPIRES_AT = "expiresAt";
+
+	private final CacheValueStore cacheValueStore;
+	private final NearCache nearCache;
+
+	// 키별 진행 중인 계산
+	private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+	// 클수록 더 일찍 재계산 (1.0 이 XFetch 기본값)
+	private final double beta;
+
+	public SingleFlightCache(CacheValueStore cacheValueStore, NearCache nearCache,
+			@Value("${cache.early-refresh-beta:1.0}") double beta) {
+		this.cacheValueStore = cacheValueStore;
+		this.nearCache = nearCache;
+		this.beta = beta;
+	}
+
+	/**
+	 * 캐시 조회 (NearCache → Redis), 없으면 loader 로 계산 후 ttl 동안 저장
+	 * <p>
+	 * 반환 값은 다른 요청과 공유될 수 있으므로 수정하지 말 것.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T get(String key, Duration ttl, TypeReference<T> type, Supplier<T> loader) {
+		Object local = nearCache.getIfPresent(key);
+		if (local != null) {
+			return (T) local;
+		}
+
+		CachedEntry<T> entry = read(key, type);
+		if (entry == null || entry.value() == null) {
+			return load(key, ttl, loader);
+		}
+
+		T cached = entry.value();
+		if (!shouldRefreshEarly(entry) || inFlight.containsKey(key)) {
+			nearCache.put(key, cached, ttl);
+			return cached;
+		}
+		// 이 호출자가 만료 전 재계산 담당 (실패해도 기존 값으로 응답)
+		try {
+			return load(key, ttl, loader);
+		} catch (RuntimeException e) {
+			log.warn("캐시 조기 갱신 실패, 기존 값 사용: key={}, error={}", key, e.getMessage());
+			return cached;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T load(String key, Duration ttl, Supplier<T> loader) {
+		CompletableFuture<Object> mine = new CompletableFuture<>();
+		CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+		if (existing != null) {
+			return (T) await(existing);
+		}
+
+		try {
+			long startedAt = System.nanoTime();
+			T value = loader.get();
+			long deltaMillis = (System.nanoTime() - startedAt) / 1_000_000;
+			write(key, value, deltaMillis, ttl);
+			nearCache.put(key, value, ttl);
+			mine.complete(value);
+			return value;
+		} catch (RuntimeException e) {
+			mine.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, mine);
+		}
+	}
+
+	private static Object await(CompletableFuture<Object> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private boolean shouldRefreshEarly(CachedEntry<?> entry) {
+		if (entry.expiresAt() <= 0) {
+			return false;
+		}
+		// (0, 1] 구간 난수 (ln(0) 방지)
+		double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+		double earlyMillis = -entry.delta() * beta * Math.log(random);
+		return System.currentTimeMillis() + earlyMillis >= entry.expiresAt();
+	}
+
+	private <T> CachedEntry<T> read(String key, TypeReference<T> type) {
+		try {
+			JavaType entryType = cacheValueStore.typeFactory().constructParametricType(
+					CachedEntry.class, cacheValueStore.typeFactory().constructType(type));
+			return cacheValueStore.get(key, entryType);
+		} catch (Exception e) {
+			log.warn("캐시 조회 실패, 직접 계산: key={}, error={}", key, e.getMessage());
+			return null;
+		}
+	}
+
+	private void write(String key, Object value, long deltaMillis, Duration ttl) {
+		if (value == null) {
+			return;
+		}
+		try {
+			Map<String, Object> entry = Map.of(
+					VALUE, value,
+					DELTA, deltaMillis,
+					EXPIRES_AT, System.currentTimeMillis() + ttl.toMillis());
+			cacheValueStore.set(key, entry, ttl);
+		} catch (Exception e) {
+			log.warn("캐시 저장 실패: key={}, error={}", key, e.getMessage());
+		}
+	}
+
+	/**
+	 * Redis 저장 항목 (write 의 Map 과 같은 필드)
+	 */
+	record CachedEntry<T>(T value, long delta, long expiresAt) {
+	}
+}
@@ -0,0 +1,142 @@
+package com.commonground.be.global.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.Semaphore;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 🧵 동시 실행 수가 제한된 Executor 생성
+ * <p>
+ * 책임:
+ * - PLATFORM: maxConcurrency 크기 스레드 풀 + 대기열 (기존 방식)
+ * - VIRTUAL: 작업마다 가상 스레드를 만들고, 가상 스레드 안에서 세마포어를 얻은 뒤 실행
+ *   (제출한 스레드는 막히지 않고, 대기는 값싼 가상 스레드가 park 상태로 함)
+ * - 두 방식 모두 스레드 이름 접두사를 유지해 덤프/로그에서 Executor 를 구분
+ * - MeterRegistry 를 받으면 두 방식 모두 같은 이름으로 지표 등록 (태그 name = Executor 이름)
+ *   executor.active / executor.queued / executor.rejected (PLATFORM 은 풀 크기, 완료 수 등 ExecutorServiceMetrics 전체)
+ * <p>
+ * 가상 스레드는 synchronized 블록 안에서 블로킹 I/O 를 하면 캐리어 스레드를 점유하므로, 작업 코드는 ReentrantLock 을 사용한다.
+ */
+public final class BoundedTaskExecutors {
+
+	private BoundedTaskExecutors() {
+	}
+
+	/**
+	 * @param corePoolSize  PLATFORM 모드의 기본 스레드 수 (최대 스레드 수는 maxConcurrency)
+	 * @param queueCapacity PLATFORM 모드의 대기열 크기 (VIRTUAL 모드는 세마포어 대기로 대체)
+	 * @param rejection     PLATFORM 모드에서 대기열이 가득 찼을 때의 처리
+	 */
+	public static AsyncTaskExecutor create(ExecutorMode mode, String threadNamePrefix, int corePoolSize,
+			int maxConcurrency, int queueCapacity, RejectedExecutionHandler rejection) {
+		return mode == ExecutorMode.VIRTUAL
+				? virtual(threadNamePrefix, maxConcurrency)
+				: platform(threadNamePrefix, corePoolSize, maxConcurrency, queueCapacity, rejection);
+	}
+
+	/**
+	 * 지표를 등록하는 Executor 생성
+	 * <p>
+	 * VIRTUAL 모드의 active 는 세마포어를 얻어 실행 중인 작업 수, queued 는 세마포어를 기다리는 작업 수.
+	 * VIRTUAL 모드는 거절하지 않으므로 executor.rejected 는 항상 0 (대시보드/알림 조건을 모드와 무관하게 유지)
+	 *
+	 * @param name 지표 태그로 쓸 Executor 이름 (빈 이름)
+	 */
+	public static AsyncTaskExecutor create(ExecutorMode mode, String name, String threadNamePrefix,
+			int corePoolSize, int maxConcurrency, int queueCapacity, RejectedExecutionHandler rejection,
+			MeterRegistry meterRegistry) {
+		Counter rejected = Counter.builder("executor.rejected")
+				.tag("name", name)
+				.description("대기열이 가득 차 거절 정책이 적용된 작업 수")
+				.register(meterRegistry);
+
+		if (mode == ExecutorMode.VIRTUAL) {
+			ConcurrencyLimit limit = new ConcurrencyLimit(maxConcurrency);
+			Gauge.builder("executor.active", limit, ConcurrencyLimit::active)
+					.tag("name", name)
+					.register(meterRegistry);
+			Gauge.builder("executor.queued", limit, ConcurrencyLimit::waiting)
+					.tag("name", name)
+					.register(meterRegistry);
+			return virtual(threadNamePrefix, limit);
+		}
+
+		ThreadPoolTaskExecutor executor = platform(threadNamePrefix, corePoolSize, maxConcurrency, queueCapacity,
+				(task, pool) -> {
+					rejected.increment();
+					rejection.rejectedExecution(task, pool);
+				});
+		new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Tags.empty()).bindTo(meterRegistry);
+		return executor;
+	}
+
+	public static ThreadPoolTaskExecutor platform(String threadNamePrefix, int corePoolSize, int maxPoolSize,
+			int queueCapacity, RejectedExecutionHandler rejection) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(Math.min(corePoolSize, maxPoolSize));
+		executor.setMaxPoolSize(maxPoolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix(threadNamePrefix);
+		executor.setRejectedExecutionHandler(rejection);
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(60);
+		executor.initialize();
+		return executor;
+	}
+
+	public static SimpleAsyncTaskExecutor virtual(String threadNamePrefix, int maxConcurrency) {
+		return virtual(threadNamePrefix, new ConcurrencyLimit(maxConcurrency));
+	}
+
+	private static SimpleAsyncTaskExecutor virtual(String threadNamePrefix, ConcurrencyLimit limit) {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+		executor.setVirtualThreads(true);
+		executor.setTaskDecorator(limit);
+		// 종료 시 실행 중인 작업 대기 (ThreadPoolTaskExecutor 의 awaitTermination 과 같은 역할)
+		executor.setTaskTerminationTimeout(60_000);
+		return executor;
+	}
+
+	/**
+	 * 작업 실행 전후로 세마포어를 얻고 반납 (작업을 실행하는 가상 스레드에서 대기)
+	 */
+	static final class ConcurrencyLimit implements TaskDecorator {
+
+		private final int maxConcurrency;
+		private final Semaphore permits;
+
+		ConcurrencyLimit(int maxConcurrency) {
+			this.maxConcurrency = maxConcurrency;
+			this.permits = new Semaphore(maxConcurrency, true);
+		}
+
+		int active() {
+			return maxConcurrency - permits.availablePermits();
+		}
+
+		int waiting() {
+			return permits.getQueueLength();
+		}
+
+		@Override
+		public Runnable decorate(Runnable task) {
+			return () -> {
+				// 작업을 건너뛰면 CompletableFuture 가 완료되지 않으므로 인터럽트와 관계없이 대기
+				permits.acquireUninterruptibly();
+				try {
+					task.run();
+				} finally {
+					permits.release();
+				}
+			};
+		}
+	}
+}
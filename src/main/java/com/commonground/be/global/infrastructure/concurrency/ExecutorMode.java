@@ -0,0 +1,13 @@
+package com.commonground.be.global.infrastructure.concurrency;
+
+/**
+ * 비동기 Executor 실행 방식 (async.executor-mode)
+ */
+public enum ExecutorMode {
+
+	// 고정 크기 스레드 풀 + 대기열
+	PLATFORM,
+
+	// 작업마다 가상 스레드, 동시 실행 수는 세마포어로 제한
+	VIRTUAL
+}
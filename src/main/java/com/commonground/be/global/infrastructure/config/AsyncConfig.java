@@ -1,35 +1,51 @@
 package com.commonground.be.global.infrastructure.config;
 
+import com.commonground.be.global.infrastructure.concurrency.BoundedTaskExecutors;
+import com.commonground.be.global.infrastructure.concurrency.ExecutorMode;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.aop.interceptor.SimpleAsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+/**
+ * 비동기 Executor 설정
+ * <p>
+ * async.executor-mode 로 스레드 풀(PLATFORM) 과 가상 스레드(VIRTUAL) 중 선택한다.
+ * 어느 모드든 Executor 별 동시 실행 수 상한과 스레드 이름 접두사는 같다.
+ * 각 Executor 는 빈 이름을 태그로 executor.active / executor.queued / executor.rejected 지표를 등록한다.
+ */
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
 @Slf4j
 public class AsyncConfig implements AsyncConfigurer {
 
+	private final MeterRegistry meterRegistry;
+
+	@Value("${async.executor-mode:PLATFORM}")
+	private ExecutorMode executorMode;
+
+	@Value("${async.crawling.max-concurrency:20}")
+	private int crawlingMaxConcurrency;
+
+	@Value("${async.general.max-concurrency:10}")
+	private int generalMaxConcurrency;
+
 	@Override
 	@Bean(name = "crawlingTaskExecutor")
 	public Executor getAsyncExecutor() {
-		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-		executor.setCorePoolSize(5);
-		executor.setMaxPoolSize(20);
-		executor.setQueueCapacity(100);
-		executor.setThreadNamePrefix("crawling-async-");
-		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
-		executor.setWaitForTasksToCompleteOnShutdown(true);
-		executor.setAwaitTerminationSeconds(60);
-		executor.initialize();
-
-		log.info("크롤링 비동기 Executor 초기화 완료");
+		Executor executor = BoundedTaskExecutors.create(executorMode, "crawlingTaskExecutor", "crawling-async-",
+				5, crawlingMaxConcurrency, 100, new ThreadPoolExecutor.CallerRunsPolicy(), meterRegistry);
+
+		log.info("크롤링 비동기 Executor 초기화 완료: mode={}, maxConcurrency={}", executorMode, crawlingMaxConcurrency);
 		return executor;
 	}
 
@@ -40,12 +56,26 @@ public class AsyncConfig implements AsyncConfigurer {
 
 	@Bean(name = "generalTaskExecutor")
 	public Executor generalTaskExecutor() {
-		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-		executor.setCorePoolSize(2);
-		executor.setMaxPoolSize(10);
-		executor.setQueueCapacity(50);
-		executor.setThreadNamePrefix("general-async-");
-		executor.initialize();
+		return BoundedTaskExecutors.create(executorMode, "generalTaskExecutor", "general-async-",
+				2, generalMaxConcurrency, 50, new ThreadPoolExecutor.AbortPolicy(), meterRegistry);
+	}
+
+	/**
+	 * 크롤링 결과 수집(중복 체크/저장) 전용 Executor
+	 * <p>
+	 * 공용 ForkJoinPool 과 분리하고, PLATFORM 모드에서 대기열이 가득 차면 호출 스레드(MQ 리스너)로 떠넘기지 않고 거절한다
+	 * (거절된 배치는 NewsIngestionStage 가 실패로 집계).
+	 */
+	@Bean(name = "ingestionTaskExecutor")
+	public Executor ingestionTaskExecutor(
+			@Value("${news.ingestion.workers:0}") int workers,
+			@Value("${news.ingestion.queue-capacity:1000}") int queueCapacity) {
+		int poolSize = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+		Executor executor = BoundedTaskExecutors.create(executorMode, "ingestionTaskExecutor", "news-ingest-",
+				poolSize, poolSize, queueCapacity, new ThreadPoolExecutor.AbortPolicy(), meterRegistry);
+
+		log.info("뉴스 수집 Executor 초기화 완료: mode={}, workers={}, queueCapacity={}",
+				executorMode, poolSize, queueCapacity);
 		return executor;
 	}
-}
\ No newline at end of file
+}
@@ -4,6 +4,7 @@ import com.commonground.be.domain.news.entity.News;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.config.AbstractMongoClientConfiguration;
+import org.springframework.data.mongodb.config.EnableMongoAuditing;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.index.TextIndexDefinition;
 
@@ -12,8 +13,11 @@ import org.springframework.data.mongodb.core.index.TextIndexDefinition;
  * 
  * MongoDB 연결 및 레포지토리 스캔 설정을 담당합니다.
  * Custom Repository 구현체를 사용하므로 자동 레포지토리 생성은 비활성화합니다.
+ * 감사(auditing)를 켜서 저장 시 @LastModifiedDate 가 채워지도록 합니다 (증분 재색인 기준).
+ * 대체된 이전 News 인덱스 삭제는 기동마다 하지 않고 NewsIndexMigration 이 한 번만 수행합니다.
  */
 @Configuration
+@EnableMongoAuditing
 public class MongoConfig extends AbstractMongoClientConfiguration {
 
     @Override
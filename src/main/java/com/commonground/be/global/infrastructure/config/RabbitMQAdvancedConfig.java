@@ -199,6 +199,9 @@ public class RabbitMQAdvancedConfig {
         // 확인 모드 (수동 확인)
         factory.setAcknowledgeMode(AcknowledgeMode.AUTO);
         
+        // 리스너별 처리량/처리 시간 지표 (spring.rabbitmq.listener 타이머, 태그 queue, result)
+        factory.setMicrometerEnabled(true);
+        
         return factory;
     }
 
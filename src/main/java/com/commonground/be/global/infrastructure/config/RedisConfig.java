@@ -1,6 +1,11 @@
 package com.commonground.be.global.infrastructure.config;
 
 import com.commonground.be.domain.news.dto.crawling.CrawlingProgress;
+import com.commonground.be.domain.news.service.dedup.NearDuplicateIndex;
+import com.commonground.be.domain.news.service.dedup.NewsUrlFilter;
+import com.commonground.be.domain.news.service.management.IngestionEntityCache;
+import com.commonground.be.global.infrastructure.cache.CacheNamespaces;
+import com.commonground.be.global.infrastructure.cache.CompactRedisSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.RequiredArgsConstructor;
@@ -61,10 +66,23 @@ public class RedisConfig {
 		return template;
 	}
 
+	/**
+	 * 조회 캐시 값용 바이너리 직렬화 (CacheValueStore 에서 cache.codec.compact-prefixes 키에 사용)
+	 */
+	@Bean
+	public CompactRedisSerializer compactRedisSerializer(
+			@Value("${cache.codec.compression-threshold:1024}") int compressionThreshold) {
+		return new CompactRedisSerializer(compressionThreshold);
+	}
+
 	@Bean
 	public RedisMessageListenerContainer redisMessageListenerContainer(
 			RedisConnectionFactory connectionFactory,
-			CrawlingProgressMessageListener messageListener) {
+			CrawlingProgressMessageListener messageListener,
+			NewsUrlFilter newsUrlFilter,
+			NearDuplicateIndex nearDuplicateIndex,
+			IngestionEntityCache ingestionEntityCache,
+			CacheNamespaces cacheNamespaces) {
 
 		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
 		container.setConnectionFactory(connectionFactory);
@@ -72,6 +90,16 @@ public class RedisConfig {
 		// 크롤링 진행상황 채널 구독
 		container.addMessageListener(messageListener, new ChannelTopic("crawling_progress"));
 
+		// 뉴스 중복 체크 인덱스(URL 필터, 유사 기사) 노드 간 동기화 채널 구독
+		container.addMessageListener(newsUrlFilter, new ChannelTopic(NewsUrlFilter.SYNC_CHANNEL));
+		container.addMessageListener(nearDuplicateIndex, new ChannelTopic(NearDuplicateIndex.SYNC_CHANNEL));
+
+		// 수집용 언론사 캐시 무효화 채널 구독
+		container.addMessageListener(ingestionEntityCache, new ChannelTopic(IngestionEntityCache.EVICT_CHANNEL));
+
+		// 조회 캐시 네임스페이스 변경(로컬 버전/NearCache 무효화) 채널 구독
+		container.addMessageListener(cacheNamespaces, new ChannelTopic(CacheNamespaces.CHANGE_CHANNEL));
+
 		log.info("Redis Message Listener Container 초기화 완료");
 		return container;
 	}
@@ -0,0 +1,95 @@
+package com.commonground.be.global.infrastructure.migration;
+
+import com.commonground.be.domain.journal.entity.Journalist;
+import com.commonground.be.domain.news.entity.News;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * 👥 기자 중복 병합 마이그레이션
+ * <p>
+ * 책임:
+ * - 같은 (name, mediaOutletId) 기자가 여러 건이면 하나만 남기고, 나머지를 가리키던 뉴스의 journalistId 를 옮긴 뒤 삭제
+ * - 남길 기자는 삭제되지 않은 기자 중 가장 먼저 생성된 기자 (모두 삭제된 경우 가장 먼저 생성된 기자)
+ * - 병합 후 (name, mediaOutletId) unique 인덱스 생성 (삭제된 기자 포함, 동시 생성 시 중복 방지)
+ * <p>
+ * 중복이 남아 있으면 unique 인덱스를 만들 수 없으므로 인덱스는 엔티티 어노테이션이 아닌 이 마이그레이션에서 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JournalistDedupMigration {
+
+	static final String MIGRATION_ID = "journalists-dedupe-name-mediaOutletId";
+	static final String UNIQUE_INDEX = "name_mediaOutletId";
+
+	private final MongoTemplate mongoTemplate;
+	private final MongoMigrations mongoMigrations;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void migrate() {
+		mongoMigrations.runOnce(MIGRATION_ID, () -> {
+			mergeDuplicates();
+			mongoTemplate.indexOps(Journalist.class).createIndex(new Index()
+					.on("name", Sort.Direction.ASC)
+					.on("mediaOutletId", Sort.Direction.ASC)
+					.unique()
+					.named(UNIQUE_INDEX));
+		});
+	}
+
+	void mergeDuplicates() {
+		Aggregation duplicates = Aggregation.newAggregation(
+				Aggregation.group("name", "mediaOutletId").count().as("count"),
+				Aggregation.match(Criteria.where("count").gt(1)));
+
+		int merged = 0;
+		for (Document group : mongoTemplate.aggregate(duplicates, Journalist.class, Document.class)) {
+			Document key = group.get("_id", Document.class);
+			merged += mergeGroup(key.getString("name"), key.getString("mediaOutletId"));
+		}
+		log.info("기자 중복 병합 완료: 삭제한 중복 기자 수={}", merged);
+	}
+
+	/**
+	 * 한 (name, mediaOutletId) 그룹 병합
+	 *
+	 * @return 삭제한 중복 기자 수
+	 */
+	private int mergeGroup(String name, String mediaOutletId) {
+		List<Journalist> journalists = mongoTemplate.find(Query.query(Criteria.where("name").is(name)
+				.and("mediaOutletId").is(mediaOutletId))
+				.with(Sort.by(Sort.Direction.ASC, "_id")), Journalist.class);
+		if (journalists.size() < 2) {
+			return 0;
+		}
+
+		Journalist keeper = journalists.stream()
+				.min(Comparator.comparing((Journalist journalist) -> journalist.getDeletedAt() != null))
+				.orElseThrow();
+		List<String> duplicateIds = journalists.stream()
+				.map(Journalist::getId)
+				.filter(id -> !id.equals(keeper.getId()))
+				.toList();
+
+		long repointed = mongoTemplate.updateMulti(Query.query(Criteria.where("journalistId").in(duplicateIds)),
+				Update.update("journalistId", keeper.getId()), News.class).getModifiedCount();
+		mongoTemplate.remove(Query.query(Criteria.where("_id").in(duplicateIds)), Journalist.class);
+		log.info("기자 중복 병합: name={}, mediaOutletId={}, keeper={}, 삭제={}, 뉴스 이동={}",
+				name, mediaOutletId, keeper.getId(), duplicateIds.size(), repointed);
+		return duplicateIds.size();
+	}
+}
@@ -0,0 +1,53 @@
+package com.commonground.be.global.infrastructure.migration;
+
+import java.util.Date;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🛠️ Mongo 1회성 마이그레이션 기록
+ * <p>
+ * 책임:
+ * - 마이그레이션 id 별 적용 여부를 migrations 컬렉션에 기록하고, 적용된 마이그레이션은 다시 실행하지 않음
+ * - 실패한 마이그레이션은 기록하지 않아 다음 기동 시 다시 시도
+ * <p>
+ * 여러 노드가 동시에 기동하면 같은 마이그레이션이 두 번 실행될 수 있으므로, 마이그레이션은 반복 실행해도 결과가 같아야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MongoMigrations {
+
+	private static final String COLLECTION = "migrations";
+
+	private final MongoTemplate mongoTemplate;
+
+	/**
+	 * 아직 적용되지 않은 마이그레이션이면 실행 후 적용 기록
+	 *
+	 * @return 이번 호출에서 실행해 적용했는지 여부
+	 */
+	public boolean runOnce(String migrationId, Runnable migration) {
+		Query byId = Query.query(Criteria.where("_id").is(migrationId));
+		if (mongoTemplate.exists(byId, COLLECTION)) {
+			return false;
+		}
+
+		long startedAt = System.currentTimeMillis();
+		try {
+			migration.run();
+		} catch (Exception e) {
+			log.error("마이그레이션 실패, 다음 기동 시 재시도: id={}", migrationId, e);
+			return false;
+		}
+
+		mongoTemplate.upsert(byId, Update.update("appliedAt", new Date()), COLLECTION);
+		log.info("마이그레이션 적용: id={}, 소요시간={}ms", migrationId, System.currentTimeMillis() - startedAt);
+		return true;
+	}
+}
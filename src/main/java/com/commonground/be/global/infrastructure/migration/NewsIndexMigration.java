@@ -0,0 +1,51 @@
+package com.commonground.be.global.infrastructure.migration;
+
+import com.commonground.be.domain.news.entity.News;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🗂️ News 인덱스 정리 마이그레이션
+ * <p>
+ * autoIndexCreation 은 인덱스를 만들기만 하므로, 쿼리 형태별 복합 인덱스로 대체된
+ * 이전 @Indexed 단일 필드 인덱스를 한 번만 삭제한다 (쓰기 비용과 플래너의 잘못된 인덱스 선택 방지).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NewsIndexMigration {
+
+	static final String MIGRATION_ID = "news-drop-single-field-indexes";
+
+	// 이전 @Indexed 단일 필드 인덱스 (published_* 부분 인덱스와 status_viewCount_publishedAt 로 대체)
+	private static final Set<String> REPLACED_SINGLE_FIELD_INDEXES = Set.of(
+			"category", "mediaOutletId", "status", "publishedAt");
+
+	private final MongoTemplate mongoTemplate;
+	private final MongoMigrations mongoMigrations;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void migrate() {
+		mongoMigrations.runOnce(MIGRATION_ID, () -> dropReplacedIndexes(mongoTemplate.indexOps(News.class)));
+	}
+
+	/**
+	 * 대체된 단일 필드 인덱스 삭제 (있을 때만, 생성 시 이름 규칙과 관계없이 키로 찾음)
+	 */
+	void dropReplacedIndexes(IndexOperations indexOps) {
+		for (IndexInfo index : indexOps.getIndexInfo()) {
+			if (index.getIndexFields().size() == 1
+					&& REPLACED_SINGLE_FIELD_INDEXES.contains(index.getIndexFields().get(0).getKey())) {
+				indexOps.dropIndex(index.getName());
+				log.info("대체된 News 인덱스 삭제: name={}", index.getName());
+			}
+		}
+	}
+}
@@ -5,6 +5,7 @@ import com.commonground.be.domain.session.service.SessionService;
 import com.commonground.be.global.application.response.HttpResponseDto;
 import com.commonground.be.global.domain.security.AdminUserDetails;
 import com.commonground.be.global.infrastructure.security.admin.AdminTokenValidator;
+import com.commonground.be.global.infrastructure.security.jwt.JwtClaims;
 import com.commonground.be.global.infrastructure.security.jwt.JwtProvider;
 import com.commonground.be.global.infrastructure.security.jwt.TokenManager;
 import com.commonground.be.global.infrastructure.security.service.CustomUserDetailsService;
@@ -60,19 +61,18 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 			if (adminTokenValidator.isValidAdminToken(token)) {
 				setAdminAuthentication();
 				log.info("관리자 토큰으로 인증 성공 - URI: {}", req.getRequestURI());
-			}
-			// 2-2. 일반 JWT 토큰인지 검증
-			else if (validateTokenAndSession(token, res)) {
-				setAuthentication(token);
+			} else {
+				// 2-2. 일반 JWT 토큰인지 검증 (한 번 파싱한 클레임을 인증 설정까지 재사용)
+				JwtClaims claims = validateTokenAndSession(token);
+				if (claims == null) {
+					// 2-3. 어떤 토큰으로도 유효하지 않은 경우
+					// (adminTokenValidator.isValidAdminToken 에서 이미 Bearer 접두사를 처리해주므로 추가 검증 불필요)
+					jwtExceptionHandler(res, HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다.");
+					return; // 필터 체인 종료
+				}
+				setAuthentication(claims);
 				log.debug("OAuth2 JWT 토큰으로 인증 성공");
 			}
-			// 2-3. 어떤 토큰으로도 유효하지 않은 경우
-			else {
-				// Bearer 토큰이 아니거나, 유효하지 않은 토큰일 경우
-				// (adminTokenValidator.isValidAdminToken 에서 이미 Bearer 접두사를 처리해주므로 추가 검증 불필요)
-				jwtExceptionHandler(res, HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다.");
-				return; // 필터 체인 종료
-			}
 		}
 		// 토큰이 아예 없는 요청은 그냥 통과시킨다 (이후 Spring Security의 .hasRole() 등에서 차단)
 
@@ -80,12 +80,12 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 	}
 
 	/**
-	 * JWT 토큰으로 UserDetails 기반 인증 설정
+	 * JWT 클레임으로 UserDetails 기반 인증 설정
 	 */
-	private void setAuthentication(String token) {
+	private void setAuthentication(JwtClaims claims) {
 		try {
-			String username = jwtProvider.getUsernameFromToken(token);
-			String sessionId = jwtProvider.getClaimFromToken(token, "sessionId");
+			String username = claims.username();
+			String sessionId = claims.sessionId();
 
 			// UserDetailsService를 통해 UserDetails 생성
 			UserDetails userDetails;
@@ -136,54 +136,40 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 	}
 
 	/**
-	 * 토큰 및 세션 유효성 검증
+	 * 토큰 및 세션 유효성 검증 (유효하면 파싱한 클레임, 아니면 null)
 	 */
-	private boolean validateTokenAndSession(String token, HttpServletResponse res) {
+	private JwtClaims validateTokenAndSession(String token) {
 		try {
-			// 1. 기본 토큰 유효성 검증
-			if (!jwtProvider.validateAccessToken(token)) {
-				return false;
+			// 1. 기본 토큰 유효성 검증 (서명 검증은 이 한 번만)
+			JwtClaims claims = jwtProvider.parseAccessToken(token);
+			if (claims == null) {
+				return null;
 			}
 
 			// 2. 토큰 버전 검증 (TokenManager 활용)
-			String username = jwtProvider.getUsernameFromToken(token);
-			String tokenVersionStr = jwtProvider.getClaimFromToken(token, "tokenVersion");
-			if (tokenVersionStr != null) {
-				Long tokenVersion = Long.parseLong(tokenVersionStr);
-				if (!tokenManager.isTokenVersionValid(username, tokenVersion)) {
-					log.warn("토큰 버전 무효: user={}, tokenVersion={}", username, tokenVersion);
-					return false;
-				}
+			String username = claims.username();
+			Long tokenVersion = claims.tokenVersion();
+			if (tokenVersion != null && !tokenManager.isTokenVersionValid(username, tokenVersion)) {
+				log.warn("토큰 버전 무효: user={}, tokenVersion={}", username, tokenVersion);
+				return null;
 			}
 
-			// 3. 세션 ID 추출 및 세션 유효성 검증
-			String sessionId = extractSessionId(token);
+			// 3. 세션 유효성 검증 (세션 ID가 없는 레거시 토큰은 생략)
+			String sessionId = claims.sessionId();
 			if (sessionId != null) {
 				if (sessionService.validateSession(sessionId)) {
 					// 세션 마지막 접근 시간 업데이트
 					sessionService.updateSessionAccess(sessionId);
-					return true;
+					return claims;
 				}
-				return false;
+				return null;
 			}
 
 			// 4. 레거시 토큰 (세션 ID 없음) - 기존 로직 유지
-			return true;
+			return claims;
 
 		} catch (Exception e) {
 			log.error("토큰 검증 중 오류: {}", e.getMessage());
-			return false;
-		}
-	}
-
-	/**
-	 * JWT에서 세션 ID 추출
-	 */
-	private String extractSessionId(String token) {
-		try {
-			return jwtProvider.getClaimFromToken(token, "sessionId");
-		} catch (Exception e) {
-			// 세션 ID가 없는 레거시 토큰
 			return null;
 		}
 	}
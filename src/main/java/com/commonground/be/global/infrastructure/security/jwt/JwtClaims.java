@@ -0,0 +1,55 @@
+package com.commonground.be.global.infrastructure.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 서명 검증을 마친 JWT 클레임 (읽기 전용)
+ * <p>
+ * JwtProvider.parseAccessToken 으로 한 번만 파싱해 요청 처리 동안 재사용한다.
+ *
+ * @param username     subject
+ * @param sessionId    세션 ID (레거시 토큰은 null)
+ * @param tokenVersion 토큰 버전 (레거시 토큰은 null)
+ * @param tokenId      토큰 고유 ID (Refresh Token 만 포함)
+ * @param claims       전체 클레임
+ */
+public record JwtClaims(String username, String sessionId, Long tokenVersion, String tokenId,
+						Map<String, Object> claims) {
+
+	public JwtClaims {
+		claims = Collections.unmodifiableMap(new LinkedHashMap<>(claims));
+	}
+
+	static JwtClaims from(Claims claims) {
+		return new JwtClaims(
+				claims.getSubject(),
+				stringValue(claims.get("sessionId")),
+				longValue(claims.get("tokenVersion")),
+				stringValue(claims.get("tokenId")),
+				claims);
+	}
+
+	/**
+	 * 클레임 값을 문자열로 조회 (없으면 null)
+	 */
+	public String get(String claimName) {
+		return stringValue(claims.get(claimName));
+	}
+
+	private static String stringValue(Object value) {
+		return value != null ? value.toString() : null;
+	}
+
+	/**
+	 * 숫자 클레임은 그대로, 문자열은 파싱 (숫자가 아니면 NumberFormatException)
+	 */
+	private static Long longValue(Object value) {
+		if (value == null) {
+			return null;
+		}
+		return value instanceof Number number ? number.longValue() : Long.parseLong(value.toString());
+	}
+}
@@ -4,6 +4,7 @@ package com.commonground.be.global.infrastructure.security.jwt;
 import com.commonground.be.domain.user.utils.UserRole;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -49,6 +50,9 @@ public class JwtProvider {
 
 	private Key key;
 
+	// 서명 검증용 파서 (불변, 스레드 안전 - 요청마다 새로 만들지 않음)
+	private JwtParser parser;
+
 	/**
 	 * 쿠키 무효화
 	 */
@@ -96,6 +100,7 @@ public class JwtProvider {
 	@PostConstruct
 	public void init() {
 		key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secretKey));
+		parser = Jwts.parserBuilder().setSigningKey(key).build();
 	}
 
 	/**
@@ -181,19 +186,27 @@ public class JwtProvider {
 	 * JWT 토큰 검증 (Access Token, Refresh Token 공통)
 	 */
 	public boolean validateAccessToken(String token) {
+		return parseAccessToken(token) != null;
+	}
+
+	/**
+	 * JWT 토큰 검증 + 클레임 추출을 한 번의 파싱으로 처리 (Access Token, Refresh Token 공통)
+	 * <p>
+	 * 서명/만료/블랙리스트 검증에 실패하면 null. 요청 하나에서 여러 클레임이 필요하면 이 결과를 재사용한다.
+	 */
+	public JwtClaims parseAccessToken(String token) {
 		try {
-			Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token)
-					.getBody();
+			JwtClaims claims = JwtClaims.from(parser.parseClaimsJws(token).getBody());
 
 			// 블랙리스트 검증 (tokenId가 있는 경우)
-			String tokenId = claims.get("tokenId", String.class);
+			String tokenId = claims.tokenId();
 			if (tokenId != null && tokenManager.isTokenBlacklisted(tokenId)) {
 				log.warn("블랙리스트에 등록된 토큰 - tokenId: {}", tokenId);
-				return false;
+				return null;
 			}
 
-			return true;
-		} catch (SecurityException | MalformedJwtException e) {
+			return claims;
+		} catch (SecurityException | io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
 			log.error("유효하지 않는 JWT 서명 입니다.");
 		} catch (ExpiredJwtException e) {
 			log.error("만료된 JWT token 입니다.");
@@ -202,7 +215,7 @@ public class JwtProvider {
 		} catch (IllegalArgumentException e) {
 			log.error("잘못된 JWT 토큰 입니다.");
 		}
-		return false;
+		return null;
 	}
 
 	/**
@@ -221,11 +234,7 @@ public class JwtProvider {
 			token = substringToken(token);
 		}
 		try {
-			Claims claims = Jwts.parserBuilder()
-					.setSigningKey(key)
-					.build()
-					.parseClaimsJws(token)
-					.getBody();
+			Claims claims = parser.parseClaimsJws(token).getBody();
 			return claims.getSubject();
 		} catch (ExpiredJwtException e) {
 			// 토큰이 만료된 경우에도 가져옴
@@ -239,8 +248,7 @@ public class JwtProvider {
 	 * 토큰에서 role 가져오기
 	 */
 	public UserRole getRoleFromToken(String token) {
-		Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token)
-				.getBody();
+		Claims claims = parser.parseClaimsJws(token).getBody();
 		String role = claims.get(AUTHORIZATION_KEY, String.class);
 		return UserRole.valueOf(role);
 	}
@@ -262,11 +270,7 @@ public class JwtProvider {
 			token = substringToken(token);
 		}
 		try {
-			Claims claims = Jwts.parserBuilder()
-					.setSigningKey(key)
-					.build()
-					.parseClaimsJws(token)
-					.getBody();
+			Claims claims = parser.parseClaimsJws(token).getBody();
 			return claims.get(claimName, String.class);
 		} catch (Exception e) {
 			return null;
@@ -0,0 +1,103 @@
+package com.commonground.be.domain.news.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.commonground.be.domain.news.repository.NewsRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * NewsIdRangePartitioner 단위 테스트 클래스
+ *
+ * 파티션 구간이 가장 오래된 뉴스부터 상한까지 빈틈·겹침 없이 이어지는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NewsIdRangePartitioner 단위 테스트")
+class NewsIdRangePartitionerTest {
+
+    private static final Instant OLDEST = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Instant UPPER = Instant.parse("2025-01-05T00:00:00Z");
+
+    @Mock
+    private NewsRepository newsRepository;
+
+    @Test
+    @DisplayName("구간은 가장 오래된 뉴스에서 시작해 상한에서 끝나며 서로 이어진다")
+    void partitionsAreContiguous() {
+        // Given
+        String oldestId = new ObjectId(Date.from(OLDEST)).toHexString();
+        String upperBoundId = ObjectId.getSmallestWithDate(Date.from(UPPER)).toHexString();
+        when(newsRepository.findOldestId()).thenReturn(Optional.of(oldestId));
+
+        // When
+        Map<String, ExecutionContext> partitions =
+                new NewsIdRangePartitioner(newsRepository, upperBoundId).partition(4);
+
+        // Then
+        List<ExecutionContext> contexts = new ArrayList<>(partitions.values());
+        assertThat(contexts).hasSize(4);
+        assertThat(new ObjectId(fromId(contexts.get(0))))
+                .isLessThanOrEqualTo(new ObjectId(oldestId));
+        assertThat(toId(contexts.get(3))).isEqualTo(upperBoundId);
+        for (int i = 1; i < contexts.size(); i++) {
+            assertThat(fromId(contexts.get(i))).isEqualTo(toId(contexts.get(i - 1)));
+            assertThat(new ObjectId(fromId(contexts.get(i))))
+                    .isGreaterThan(new ObjectId(fromId(contexts.get(i - 1))));
+        }
+    }
+
+    @Test
+    @DisplayName("구간 경계는 생성 시각 기준으로 균등하게 나뉜다")
+    void boundariesAreEvenlySpacedByTime() {
+        // Given
+        when(newsRepository.findOldestId())
+                .thenReturn(Optional.of(ObjectId.getSmallestWithDate(Date.from(OLDEST)).toHexString()));
+        String upperBoundId = ObjectId.getSmallestWithDate(Date.from(UPPER)).toHexString();
+
+        // When
+        List<ExecutionContext> contexts = new ArrayList<>(
+                new NewsIdRangePartitioner(newsRepository, upperBoundId).partition(4).values());
+
+        // Then
+        assertThat(new ObjectId(fromId(contexts.get(1))).getDate().toInstant())
+                .isEqualTo(Instant.parse("2025-01-02T00:00:00Z"));
+        assertThat(new ObjectId(fromId(contexts.get(2))).getDate().toInstant())
+                .isEqualTo(Instant.parse("2025-01-03T00:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("뉴스가 없으면 모든 구간이 비어 있다")
+    void emptyCollectionYieldsEmptyRanges() {
+        // Given
+        when(newsRepository.findOldestId()).thenReturn(Optional.empty());
+        String upperBoundId = ObjectId.getSmallestWithDate(Date.from(UPPER)).toHexString();
+
+        // When
+        Map<String, ExecutionContext> partitions =
+                new NewsIdRangePartitioner(newsRepository, upperBoundId).partition(2);
+
+        // Then
+        assertThat(partitions.values())
+                .allSatisfy(context -> assertThat(fromId(context)).isEqualTo(toId(context)));
+    }
+
+    private static String fromId(ExecutionContext context) {
+        return context.getString(NewsIdRangePartitioner.FROM_ID);
+    }
+
+    private static String toId(ExecutionContext context) {
+        return context.getString(NewsIdRangePartitioner.TO_ID);
+    }
+}
@@ -0,0 +1,96 @@
+package com.commonground.be.domain.news.dto.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.commonground.be.domain.news.entity.News;
+import com.commonground.be.global.application.exception.CommonException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * NewsCursor 단위 테스트 클래스
+ *
+ * 커서 토큰 인코딩/디코딩과 limit + 1 조회 결과로 페이지를 구성하는 로직을 검증합니다.
+ */
+@DisplayName("NewsCursor 단위 테스트")
+class NewsCursorTest {
+
+    private static final String NEWS_ID = new ObjectId().toHexString();
+
+    @Test
+    @DisplayName("인코딩한 커서는 같은 값으로 디코딩")
+    void decode_WithEncodedCursor_ShouldRestoreSameValue() {
+        // Given
+        NewsCursor cursor = new NewsCursor(LocalDateTime.of(2025, 7, 1, 9, 30, 15, 123_000_000), NEWS_ID);
+
+        // When
+        NewsCursor decoded = NewsCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("발행일 없는 기사의 커서도 디코딩")
+    void decode_WithoutPublishedAt_ShouldRestoreNullPublishedAt() {
+        NewsCursor cursor = new NewsCursor(null, NEWS_ID);
+
+        NewsCursor decoded = NewsCursor.decode(cursor.encode());
+
+        assertThat(decoded.getPublishedAt()).isNull();
+        assertThat(decoded.getId()).isEqualTo(NEWS_ID);
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지(null)로 처리")
+    void decode_WithBlankCursor_ShouldReturnNull() {
+        assertThat(NewsCursor.decode(null)).isNull();
+        assertThat(NewsCursor.decode("")).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 예외 발생")
+    void decode_WithMalformedCursor_ShouldThrowException() {
+        assertThatThrownBy(() -> NewsCursor.decode("not a cursor!"))
+                .isInstanceOf(CommonException.class);
+        assertThatThrownBy(() -> NewsCursor.decode(new NewsCursor(null, "abc").encode()))
+                .isInstanceOf(CommonException.class);
+    }
+
+    @Test
+    @DisplayName("limit 보다 많이 조회되면 다음 페이지 커서는 마지막 기사를 가리킴")
+    void pageOf_WithExtraRow_ShouldHaveNextCursor() {
+        // Given: limit 3, 4건 조회
+        List<News> fetched = IntStream.range(0, 4)
+                .mapToObj(i -> News.builder()
+                        .id(new ObjectId().toHexString())
+                        .publishedAt(LocalDateTime.of(2025, 7, 1, 12, 0).minusMinutes(i))
+                        .build())
+                .toList();
+
+        // When
+        NewsCursorPage<News> page = NewsCursorPage.of(fetched, 3, NewsCursor::of);
+
+        // Then
+        assertThat(page.getNews()).hasSize(3);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(NewsCursor.decode(page.getNextCursor())).isEqualTo(NewsCursor.of(fetched.get(2)));
+    }
+
+    @Test
+    @DisplayName("limit 이하로 조회되면 마지막 페이지")
+    void pageOf_WithoutExtraRow_ShouldBeLastPage() {
+        List<News> fetched = List.of(News.builder().id(NEWS_ID).build());
+
+        NewsCursorPage<News> page = NewsCursorPage.of(fetched, 3, NewsCursor::of);
+
+        assertThat(page.getNews()).hasSize(1);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+}
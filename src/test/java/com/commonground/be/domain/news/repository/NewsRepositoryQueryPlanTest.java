@@ -0,0 +1,311 @@
+package com.commonground.be.domain.news.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.commonground.be.domain.news.dto.search.NewsCursor;
+import com.commonground.be.domain.news.entity.News;
+import com.commonground.be.domain.news.entity.metadata.CrawlingMetadata;
+import com.commonground.be.domain.news.enums.CategoryEnum;
+import com.commonground.be.domain.news.enums.NewsStatusEnum;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * NewsRepositoryImpl 쿼리 실행 계획 테스트 클래스
+ *
+ * 목록/카운트 쿼리가 News 의 복합 인덱스로 처리되어
+ * 실행 계획에 COLLSCAN(컬렉션 전체 스캔)과 SORT(메모리 정렬) 단계가 없는지 검증합니다.
+ * 로컬 MongoDB 가 필요하므로 ENABLE_MONGO_QUERY_PLAN_TEST=true 일 때만 실행합니다.
+ * (접속 주소는 MONGO_URI, 기본값 mongodb://localhost:27017)
+ *
+ * 키워드 검색($text)은 텍스트 점수 기반 인덱스를 사용하므로 대상에서 제외합니다.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "ENABLE_MONGO_QUERY_PLAN_TEST", matches = "true")
+@DisplayName("NewsRepositoryImpl 쿼리 실행 계획 테스트")
+class NewsRepositoryQueryPlanTest {
+
+    private static final String DATABASE = "commonground_query_plan_test";
+    private static final String MEDIA_OUTLET_ID = "outlet-1";
+    private static final int SEED_COUNT = 2000;
+
+    private MongoClient mongoClient;
+    private CapturingMongoTemplate mongoTemplate;
+    private NewsRepositoryImpl newsRepository;
+
+    @BeforeAll
+    void setUpDatabase() {
+        String uri = Objects.requireNonNullElse(System.getenv("MONGO_URI"), "mongodb://localhost:27017");
+        mongoClient = MongoClients.create(uri);
+        mongoTemplate = new CapturingMongoTemplate(mongoClient, DATABASE);
+        mongoTemplate.getDb().drop();
+
+        // 애플리케이션의 autoIndexCreation 과 같은 방식으로 어노테이션 인덱스 생성
+        IndexOperations indexOps = mongoTemplate.indexOps(News.class);
+        IndexResolver.create(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(News.class)
+                .forEach(indexOps::createIndex);
+
+        mongoTemplate.insertAll(seedNews());
+
+        newsRepository = new NewsRepositoryImpl(mongoTemplate);
+    }
+
+    @AfterAll
+    void tearDownDatabase() {
+        mongoTemplate.getDb().drop();
+        mongoClient.close();
+    }
+
+    @BeforeEach
+    void clearCapturedQueries() {
+        mongoTemplate.captured.clear();
+    }
+
+    private List<News> seedNews() {
+        LocalDateTime base = LocalDateTime.now().minusHours(12);
+        CategoryEnum[] categories = CategoryEnum.values();
+        List<News> newsList = new ArrayList<>();
+        for (int i = 0; i < SEED_COUNT; i++) {
+            newsList.add(News.builder()
+                    .title("기사 " + i)
+                    .content("본문 " + i)
+                    .url("https://news.example.com/" + i)
+                    .authorName("기자")
+                    // 같은 발행 시각이 여러 건 있도록 3건씩 묶고, 일부는 발행일 없음
+                    .publishedAt(i % 50 == 2 ? null : base.minusMinutes(i / 3))
+                    .category(categories[i % categories.length])
+                    .mediaOutletId(i % 2 == 0 ? MEDIA_OUTLET_ID : "outlet-2")
+                    .viewCount((long) (i * 7 % 500))
+                    .status(i % 10 == 0 ? NewsStatusEnum.DELETED : NewsStatusEnum.PUBLISHED)
+                    // 원문 링크는 크롤링 기사에만 있음 (sparse 인덱스)
+                    .crawlingMetadata(i % 2 == 0
+                            ? CrawlingMetadata.builder().originalUrl(originalUrl(i)).build()
+                            : null)
+                    .build());
+        }
+        return newsList;
+    }
+
+    private static String originalUrl(int i) {
+        return "https://origin.example.com/" + i;
+    }
+
+    // ==================== 카테고리 ====================
+
+    @Nested
+    @DisplayName("카테고리별 조회")
+    class CategoryQueries {
+
+        @Test
+        @DisplayName("페이지 조회는 인덱스 순서로 처리")
+        void findByCategory_ShouldUseIndexOrder() {
+            newsRepository.findByCategory(CategoryEnum.POLITICS, 3, 20);
+
+            assertIndexedWithoutSort();
+        }
+
+        @Test
+        @DisplayName("커서 조회는 인덱스 범위로 처리")
+        void findByCategoryAfter_ShouldUseIndexRange() {
+            // Given: 첫 페이지의 마지막 기사를 커서로 사용
+            List<News> firstPage = newsRepository.findByCategoryAfter(CategoryEnum.POLITICS, null, 20);
+            NewsCursor cursor = NewsCursor.of(firstPage.get(19));
+            mongoTemplate.captured.clear();
+
+            // When
+            newsRepository.findByCategoryAfter(CategoryEnum.POLITICS, cursor, 20);
+
+            // Then
+            assertIndexedWithoutSort();
+        }
+
+        @Test
+        @DisplayName("카운트는 인덱스로 처리")
+        void countByCategory_ShouldUseIndex() {
+            newsRepository.countByCategory(CategoryEnum.POLITICS);
+
+            assertIndexedWithoutSort();
+        }
+    }
+
+    // ==================== 언론사 ====================
+
+    @Nested
+    @DisplayName("언론사별 조회")
+    class MediaOutletQueries {
+
+        @Test
+        @DisplayName("페이지 조회는 인덱스 순서로 처리")
+        void findByMediaOutletId_ShouldUseIndexOrder() {
+            newsRepository.findByMediaOutletId(MEDIA_OUTLET_ID, 3, 20);
+
+            assertIndexedWithoutSort();
+        }
+
+        @Test
+        @DisplayName("발행일 없는 구간의 커서 조회도 인덱스 범위로 처리")
+        void findByMediaOutletIdAfter_WithNullPublishedAtCursor_ShouldUseIndexRange() {
+            News undated = mongoTemplate.findOne(Query.query(Criteria.where("mediaOutletId").is(MEDIA_OUTLET_ID)
+                    .and("publishedAt").is(null)
+                    .and("status").is(NewsStatusEnum.PUBLISHED)), News.class);
+            mongoTemplate.captured.clear();
+
+            newsRepository.findByMediaOutletIdAfter(MEDIA_OUTLET_ID, NewsCursor.of(undated), 20);
+
+            assertIndexedWithoutSort();
+        }
+
+        @Test
+        @DisplayName("카운트는 인덱스로 처리")
+        void countByMediaOutletId_ShouldUseIndex() {
+            newsRepository.countByMediaOutletId(MEDIA_OUTLET_ID);
+
+            assertIndexedWithoutSort();
+        }
+    }
+
+    // ==================== 최신/트렌딩 ====================
+
+    @Nested
+    @DisplayName("최신/트렌딩 조회")
+    class FeedQueries {
+
+        @Test
+        @DisplayName("최신 뉴스는 인덱스 순서로 처리")
+        void findRecentNews_ShouldUseIndexOrder() {
+            newsRepository.findRecentNews(20);
+
+            assertIndexedWithoutSort();
+        }
+
+        @Test
+        @DisplayName("조회수 트렌딩은 인덱스 순서로 처리")
+        void findTrendingNews_ShouldUseIndexOrder() {
+            newsRepository.findTrendingNews(10);
+
+            assertIndexedWithoutSort();
+        }
+    }
+
+    // ==================== 원문 URL 중복 확인 ====================
+
+    @Nested
+    @DisplayName("원문 URL 중복 확인")
+    class OriginalUrlQueries {
+
+        @Test
+        @DisplayName("단건 존재 확인은 원문 URL 인덱스로 처리")
+        void existsByOriginalUrl_ShouldUseIndex() {
+            newsRepository.existsByOriginalUrl(originalUrl(42));
+
+            assertIndexedWithoutSort();
+        }
+
+        @Test
+        @DisplayName("배치 존재 확인은 원문 URL 인덱스로 처리")
+        void findExistingOriginalUrls_ShouldUseIndex() {
+            newsRepository.findExistingOriginalUrls(
+                    List.of(originalUrl(2), originalUrl(4), "https://origin.example.com/none"));
+
+            assertIndexedWithoutSort();
+        }
+    }
+
+    // ==================== 실행 계획 검증 ====================
+
+    private void assertIndexedWithoutSort() {
+        assertThat(mongoTemplate.captured).isNotEmpty();
+        for (Query query : mongoTemplate.captured) {
+            List<String> stages = new ArrayList<>();
+            collectStages(explain(query).get("queryPlanner", Document.class).get("winningPlan"), stages);
+
+            assertThat(stages)
+                    .as("winning plan of %s", query)
+                    .contains("IXSCAN")
+                    .doesNotContain("COLLSCAN", "SORT");
+        }
+    }
+
+    private Document explain(Query query) {
+        MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(News.class);
+        QueryMapper queryMapper = new QueryMapper(mongoTemplate.getConverter());
+        MongoCollection<Document> collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(News.class));
+
+        return collection.find(queryMapper.getMappedObject(query.getQueryObject(), entity))
+                .sort(queryMapper.getMappedSort(query.getSortObject(), entity))
+                .skip((int) query.getSkip())
+                .limit(query.getLimit())
+                .explain();
+    }
+
+    /**
+     * 실행 계획 트리의 stage 이름 수집 (SBE 엔진의 queryPlan 래핑 포함)
+     */
+    @SuppressWarnings("unchecked")
+    private void collectStages(Object node, List<String> stages) {
+        if (node instanceof Document plan) {
+            if (plan.containsKey("stage")) {
+                stages.add(plan.getString("stage"));
+            }
+            for (Map.Entry<String, Object> entry : plan.entrySet()) {
+                collectStages(entry.getValue(), stages);
+            }
+        } else if (node instanceof List<?> children) {
+            children.forEach(child -> collectStages(child, stages));
+        }
+    }
+
+    /**
+     * 레포지토리가 실행한 쿼리를 기록하는 MongoTemplate
+     */
+    private static class CapturingMongoTemplate extends MongoTemplate {
+
+        private final List<Query> captured = new ArrayList<>();
+
+        private CapturingMongoTemplate(MongoClient mongoClient, String databaseName) {
+            super(mongoClient, databaseName);
+        }
+
+        @Override
+        public <T> List<T> find(Query query, Class<T> entityClass) {
+            captured.add(Query.of(query));
+            return super.find(query, entityClass);
+        }
+
+        @Override
+        public long count(Query query, Class<?> entityClass) {
+            captured.add(Query.of(query));
+            return super.count(query, entityClass);
+        }
+
+        @Override
+        public boolean exists(Query query, Class<?> entityClass) {
+            captured.add(Query.of(query));
+            return super.exists(query, entityClass);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.commonground.be.domain.news.service.communication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+
+import com.commonground.be.domain.news.dto.crawling.RawNewsData;
+import com.commonground.be.domain.news.dto.request.NaverCrawlingRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+/**
+ * CrawlingQueueService 단위 테스트 클래스
+ *
+ * RabbitMQ 전송은 Mock 으로 대체하고, 대기 요청 지표가 요청/응답에 맞춰 바뀌는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CrawlingQueueService 단위 테스트")
+class CrawlingQueueServiceTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CrawlingQueueService crawlingQueueService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        crawlingQueueService = new CrawlingQueueService(rabbitTemplate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("결과를 받으면 대기 요청이 빠지고 대기 시간이 success 로 기록된다")
+    void pendingRequestIsTrackedUntilResult() {
+        // Given
+        NaverCrawlingRequest request = new NaverCrawlingRequest();
+        request.setSessionId("session-1");
+        CompletableFuture<List<RawNewsData>> future = crawlingQueueService.submitCrawlingRequest(request);
+
+        assertThat(meterRegistry.get("crawling.pending.requests").gauge().value()).isEqualTo(1.0);
+
+        // When
+        crawlingQueueService.handleCrawlingResult(new CrawlingQueueService.CrawlingResultMessage(
+                "session-1", true, List.of(RawNewsData.builder().title("기사").build()), null, 0L));
+
+        // Then
+        assertThat(future).isCompleted();
+        assertThat(crawlingQueueService.getPendingRequestCount()).isZero();
+        assertThat(meterRegistry.get("crawling.pending.requests").gauge().value()).isZero();
+        assertThat(meterRegistry.get("crawling.pending.age").tag("outcome", "success").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청 전송에 실패하면 대기 요청으로 남지 않는다")
+    void failedSendDoesNotLeavePendingRequest() {
+        // Given
+        doThrow(new AmqpException("connection refused"))
+                .when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class));
+        NaverCrawlingRequest request = new NaverCrawlingRequest();
+        request.setSessionId("session-2");
+
+        // When
+        CompletableFuture<List<RawNewsData>> future = crawlingQueueService.submitCrawlingRequest(request);
+
+        // Then
+        assertThatThrownBy(future::join).hasCauseInstanceOf(AmqpException.class);
+        assertThat(crawlingQueueService.getPendingRequestCount()).isZero();
+        assertThat(crawlingQueueService.oldestPendingAge()).isZero();
+    }
+}
@@ -0,0 +1,153 @@
+package com.commonground.be.domain.news.service.crawling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.commonground.be.domain.news.dto.crawling.NewsBatchResult;
+import com.commonground.be.domain.news.dto.crawling.RawNewsData;
+import com.commonground.be.domain.news.entity.News;
+import com.commonground.be.domain.news.service.communication.WebSocketProgressService;
+import com.commonground.be.domain.news.service.management.NewsDataProcessingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * NewsIngestionStage 단위 테스트 클래스
+ *
+ * 배치 처리는 Mock 으로 대체하고, 병렬 처리 시 진행상황 집계가 단조 증가하는지와
+ * 크롤링 결과 하나당 캐시 무효화가 한 번만 일어나는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NewsIngestionStage 단위 테스트")
+class NewsIngestionStageTest {
+
+    @Mock
+    private NewsDataProcessingService newsDataProcessingService;
+
+    @Mock
+    private WebSocketProgressService progressService;
+
+    private ExecutorService executor;
+
+    private NewsIngestionStage stage;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        stage = new NewsIngestionStage(newsDataProcessingService, progressService, executor, 10,
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("완료 순서가 섞여도 진행 건수는 단조 증가하고 결과를 모두 집계한다")
+    void progressIsMonotonicAcrossOutOfOrderBatches() throws Exception {
+        // Given
+        List<RawNewsData> rawDataList = IntStream.range(0, 95)
+                .mapToObj(i -> RawNewsData.builder().title("기사 " + i).build())
+                .toList();
+        when(newsDataProcessingService.processRawNewsBatch(anyList())).thenAnswer(invocation -> {
+            List<RawNewsData> batch = invocation.getArgument(0);
+            Thread.sleep(ThreadLocalRandom.current().nextInt(20));
+            return NewsBatchResult.builder().totalCount(batch.size()).build();
+        });
+
+        // When
+        List<RawNewsData> result = stage.ingest("session", rawDataList).get(5, TimeUnit.SECONDS);
+
+        // Then
+        ArgumentCaptor<Integer> processed = ArgumentCaptor.forClass(Integer.class);
+        verify(progressService, atLeastOnce()).updateProgress(eq("session"), eq("processing"), anyInt(),
+                anyString(), eq(95), processed.capture(), anyInt(), anyInt());
+        assertThat(result).isSameAs(rawDataList);
+        assertThat(processed.getAllValues()).hasSize(10).isSorted().endsWith(95);
+    }
+
+    @Test
+    @DisplayName("실패한 배치는 실패 건수로 집계하고 나머지 배치는 계속 처리한다")
+    void failedBatchIsCountedAsFailed() throws Exception {
+        // Given
+        List<RawNewsData> rawDataList = new ArrayList<>();
+        IntStream.range(0, 20).forEach(i -> rawDataList.add(RawNewsData.builder().title("기사 " + i).build()));
+        when(newsDataProcessingService.processRawNewsBatch(anyList()))
+                .thenThrow(new IllegalStateException("boom"))
+                .thenAnswer(invocation -> NewsBatchResult.builder()
+                        .totalCount(((List<?>) invocation.getArgument(0)).size()).build());
+
+        // When
+        stage.ingest("session", rawDataList).get(5, TimeUnit.SECONDS);
+
+        // Then
+        ArgumentCaptor<Integer> failed = ArgumentCaptor.forClass(Integer.class);
+        verify(progressService, atLeastOnce()).updateProgress(eq("session"), eq("processing"), anyInt(),
+                anyString(), eq(20), anyInt(), anyInt(), failed.capture());
+        assertThat(failed.getAllValues()).last().isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("배치가 여러 개여도 모든 배치가 끝난 뒤 캐시 무효화를 한 번만 반영한다")
+    void completesIngestionOnceAfterAllBatches() throws Exception {
+        // Given
+        List<RawNewsData> rawDataList = IntStream.range(0, 50)
+                .mapToObj(i -> RawNewsData.builder().title("기사 " + i).build())
+                .toList();
+        when(newsDataProcessingService.processRawNewsBatch(anyList())).thenAnswer(invocation -> {
+            List<RawNewsData> batch = invocation.getArgument(0);
+            List<News> saved = batch.stream().map(raw -> News.builder().title(raw.getTitle()).build()).toList();
+            return NewsBatchResult.builder().totalCount(batch.size()).savedNews(saved).build();
+        });
+
+        // When
+        stage.ingest("session", rawDataList).get(5, TimeUnit.SECONDS);
+
+        // Then
+        InOrder order = inOrder(newsDataProcessingService);
+        order.verify(newsDataProcessingService, times(5)).processRawNewsBatch(anyList());
+        order.verify(newsDataProcessingService, times(1)).completeIngestion();
+    }
+
+    @Test
+    @DisplayName("저장된 기사가 없으면 캐시를 무효화하지 않는다")
+    void skipsInvalidationWhenNothingSaved() throws Exception {
+        // Given
+        List<RawNewsData> rawDataList = IntStream.range(0, 20)
+                .mapToObj(i -> RawNewsData.builder().title("기사 " + i).build())
+                .toList();
+        when(newsDataProcessingService.processRawNewsBatch(anyList())).thenAnswer(invocation ->
+                NewsBatchResult.builder().totalCount(((List<?>) invocation.getArgument(0)).size()).build());
+
+        // When
+        stage.ingest("session", rawDataList).get(5, TimeUnit.SECONDS);
+
+        // Then
+        verify(newsDataProcessingService, never()).completeIngestion();
+    }
+}
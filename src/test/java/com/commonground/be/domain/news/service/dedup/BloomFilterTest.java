@@ -0,0 +1,113 @@
+package com.commonground.be.domain.news.service.dedup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BloomFilter 단위 테스트 클래스
+ *
+ * 뉴스 URL 중복 체크에서 Mongo 조회를 생략하는 근거가 되므로
+ * 거짓 음성이 없다는 것과 오탐률, 스냅샷 복원을 검증합니다.
+ */
+@DisplayName("BloomFilter 단위 테스트")
+class BloomFilterTest {
+
+    private static final int EXPECTED_INSERTIONS = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private static String url(int i) {
+        return "https://n.news.naver.com/mnews/article/001/" + String.format("%010d", i);
+    }
+
+    @Nested
+    @DisplayName("멤버십 확인 테스트")
+    class MembershipTest {
+
+        @Test
+        @DisplayName("추가한 URL은 항상 있을 수도 있음으로 응답")
+        void mightContain_WithInsertedUrls_ShouldNeverReturnFalse() {
+            // Given: 예상 원소 수만큼 URL 추가
+            BloomFilter filter = BloomFilter.create(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+            for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+                filter.put(url(i));
+            }
+
+            // When & Then: 추가한 모든 URL 이 포함되어야 함 (거짓 음성 없음)
+            for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+                assertThat(filter.mightContain(url(i))).isTrue();
+            }
+        }
+
+        @Test
+        @DisplayName("추가하지 않은 URL의 오탐률이 목표치 근처로 유지")
+        void mightContain_WithUnknownUrls_ShouldStayNearTargetFalsePositiveRate() {
+            // Given: 예상 원소 수만큼 URL 추가
+            BloomFilter filter = BloomFilter.create(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+            for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+                filter.put(url(i));
+            }
+
+            // When: 추가하지 않은 URL 로 조회하면
+            int falsePositives = 0;
+            int probes = 100_000;
+            for (int i = EXPECTED_INSERTIONS; i < EXPECTED_INSERTIONS + probes; i++) {
+                if (filter.mightContain(url(i))) {
+                    falsePositives++;
+                }
+            }
+
+            // Then: 오탐률이 목표치의 2배를 넘지 않아야 함
+            assertThat((double) falsePositives / probes).isLessThan(FALSE_POSITIVE_RATE * 2);
+        }
+
+        @Test
+        @DisplayName("빈 필터는 모든 URL에 대해 확실히 없음으로 응답")
+        void mightContain_WithEmptyFilter_ShouldReturnFalse() {
+            BloomFilter filter = BloomFilter.create(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+
+            assertThat(filter.mightContain(url(1))).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("스냅샷 테스트")
+    class SnapshotTest {
+
+        @Test
+        @DisplayName("스냅샷 병합 후 기존 URL과 병합 전 추가된 URL 모두 포함")
+        void mergeFrom_WithSnapshot_ShouldKeepBothSnapshotAndLocalEntries() {
+            // Given: 스냅샷을 만든 필터와 새로 기동한 노드의 필터
+            BloomFilter source = BloomFilter.create(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+            for (int i = 0; i < 1_000; i++) {
+                source.put(url(i));
+            }
+            byte[] snapshot = source.toByteArray();
+
+            BloomFilter restored = BloomFilter.create(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+            restored.put(url(5_000));  // 복원 전에 저장된 기사
+
+            // When: 스냅샷을 병합하면
+            restored.mergeFrom(snapshot);
+
+            // Then: 양쪽 URL 이 모두 포함되어야 함
+            for (int i = 0; i < 1_000; i++) {
+                assertThat(restored.mightContain(url(i))).isTrue();
+            }
+            assertThat(restored.mightContain(url(5_000))).isTrue();
+        }
+
+        @Test
+        @DisplayName("크기가 다른 스냅샷 병합 시 예외 발생")
+        void mergeFrom_WithSizeMismatch_ShouldThrowException() {
+            BloomFilter filter = BloomFilter.create(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+            byte[] otherSnapshot = BloomFilter.create(EXPECTED_INSERTIONS * 2, FALSE_POSITIVE_RATE).toByteArray();
+
+            assertThatThrownBy(() -> filter.mergeFrom(otherSnapshot))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.commonground.be.domain.news.service.dedup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SimHash 단위 테스트 클래스
+ *
+ * 통신사 기사를 여러 언론사가 일부 수정해 재송고한 경우는 가까운 fingerprint 를,
+ * 같은 주제의 다른 기사는 먼 fingerprint 를 갖는지 검증합니다.
+ */
+@DisplayName("SimHash 단위 테스트")
+class SimHashTest {
+
+    // application.yml 의 news.dedup.near-duplicate.max-distance 기본값
+    private static final int MAX_DISTANCE = 6;
+
+    private static final String TITLE = "내년 예산 680조 의결";
+    private static final String CONTENT = "정부는 16일 서울 정부청사에서 국무회의를 열고 내년도 예산안을 의결했다. "
+            + "총지출은 올해보다 3.2% 늘어난 680조원 규모로, 복지와 연구개발 분야 예산이 크게 확대됐다. "
+            + "기획재정부는 재정 건전성을 유지하면서도 민생 경제 회복에 중점을 뒀다고 설명했다. "
+            + "야당은 세수 결손 상황에서 지출 확대는 무리라며 국회 심사 과정에서 대폭 삭감하겠다는 입장을 밝혔다. "
+            + "전문가들은 경기 둔화 우려 속에서 재정의 역할이 중요하다면서도 지출 효율화가 병행돼야 한다고 지적했다.";
+
+    @Test
+    @DisplayName("같은 기사는 같은 fingerprint")
+    void fingerprint_WithSameArticle_ShouldBeIdentical() {
+        assertThat(SimHash.fingerprint(TITLE, CONTENT)).isEqualTo(SimHash.fingerprint(TITLE, CONTENT));
+    }
+
+    @Test
+    @DisplayName("공백/기호만 다른 기사는 같은 fingerprint")
+    void fingerprint_WithFormattingDifferences_ShouldBeIdentical() {
+        String reformatted = CONTENT.replace(". ", ".\n\n").replace(",", " ,");
+
+        assertThat(SimHash.fingerprint(TITLE, reformatted)).isEqualTo(SimHash.fingerprint(TITLE, CONTENT));
+    }
+
+    @Test
+    @DisplayName("재송고 과정에서 일부 수정된 기사는 가까운 fingerprint")
+    void fingerprint_WithRepublishedArticle_ShouldBeNear() {
+        // Given: 머리말/바이라인/저작권 문구가 붙고 일부 표현이 바뀐 기사
+        String republished = "[서울=뉴시스] " + CONTENT.replace("16일", "16일 오전").replace("설명했다", "밝혔다")
+                + " ⓒ 무단전재 재배포 금지";
+
+        // When
+        long original = SimHash.fingerprint(TITLE, CONTENT);
+        long edited = SimHash.fingerprint(TITLE, republished);
+
+        // Then
+        assertThat(SimHash.hammingDistance(original, edited)).isLessThanOrEqualTo(MAX_DISTANCE);
+    }
+
+    @Test
+    @DisplayName("같은 주제의 다른 기사는 먼 fingerprint")
+    void fingerprint_WithDifferentArticleOnSameTopic_ShouldBeFar() {
+        String otherTitle = "민주당 예산안 비판";
+        String otherContent = "더불어민주당은 16일 정부가 의결한 내년도 예산안에 대해 세수 결손을 외면한 확장 재정이라고 비판했다. "
+                + "원내대변인은 국회에서 기자회견을 열고 680조원 규모 예산안은 민생과 동떨어진 전시성 사업으로 가득하다며 "
+                + "철저한 심사를 예고했다. 국민의힘은 복지와 연구개발 투자를 늘린 책임 있는 예산이라며 야당의 협조를 촉구했다.";
+
+        long original = SimHash.fingerprint(TITLE, CONTENT);
+        long other = SimHash.fingerprint(otherTitle, otherContent);
+
+        assertThat(SimHash.hammingDistance(original, other)).isGreaterThan(MAX_DISTANCE);
+    }
+
+    @Test
+    @DisplayName("너무 짧은 글은 fingerprint 를 계산하지 않음")
+    void fingerprint_WithShortText_ShouldReturnNull() {
+        assertThat(SimHash.fingerprint("속보", "내용 없음")).isNull();
+        assertThat(SimHash.fingerprint(null, null)).isNull();
+    }
+}
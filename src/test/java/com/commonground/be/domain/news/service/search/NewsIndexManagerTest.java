@@ -0,0 +1,97 @@
+package com.commonground.be.domain.news.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.opensearch.client.IndicesClient;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.client.indices.GetMappingsRequest;
+import org.opensearch.client.indices.GetMappingsResponse;
+import org.opensearch.cluster.metadata.MappingMetadata;
+
+/**
+ * NewsIndexManager 단위 테스트 클래스
+ *
+ * 읽기 인덱스의 id 매핑에 따라 search_after tie-breaker 정렬 필드를 고르는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("NewsIndexManager 단위 테스트")
+class NewsIndexManagerTest {
+
+    @Mock
+    private RestHighLevelClient openSearchClient;
+
+    @Mock
+    private IndicesClient indicesClient;
+
+    @InjectMocks
+    private NewsIndexManager indexManager;
+
+    @BeforeEach
+    void setUp() {
+        when(openSearchClient.indices()).thenReturn(indicesClient);
+    }
+
+    @Test
+    @DisplayName("기존 news 인덱스처럼 id 가 text 로 동적 매핑되어 있으면 id.keyword 로 정렬한다")
+    void sortsOnKeywordSubfieldForLegacyIndex() throws Exception {
+        // Given
+        stubIdMapping("news", Map.of("type", "text",
+                "fields", Map.of("keyword", Map.of("type", "keyword", "ignore_above", 256))));
+
+        // When
+        String field = indexManager.idSortField();
+
+        // Then
+        assertThat(field).isEqualTo("id.keyword");
+    }
+
+    @Test
+    @DisplayName("news_v{n} 인덱스처럼 id 가 keyword 로 매핑되어 있으면 id 로 정렬한다")
+    void sortsOnIdForVersionedIndex() throws Exception {
+        // Given
+        stubIdMapping("news_v1", Map.of("type", "keyword"));
+
+        // When
+        String field = indexManager.idSortField();
+
+        // Then
+        assertThat(field).isEqualTo("id");
+    }
+
+    @Test
+    @DisplayName("매핑 조회에 실패하면 기본 정렬 필드 id 를 사용한다")
+    void fallsBackToIdWhenMappingLookupFails() throws Exception {
+        // Given
+        when(indicesClient.getMapping(any(GetMappingsRequest.class), any(RequestOptions.class)))
+                .thenThrow(new IOException("connection refused"));
+
+        // When
+        String field = indexManager.idSortField();
+
+        // Then
+        assertThat(field).isEqualTo("id");
+    }
+
+    private void stubIdMapping(String index, Map<String, Object> idMapping) throws IOException {
+        MappingMetadata mapping = new MappingMetadata("_doc", Map.of("properties", Map.of("id", idMapping)));
+        GetMappingsResponse response = mock(GetMappingsResponse.class);
+        when(response.mappings()).thenReturn(Map.of(index, mapping));
+        when(indicesClient.getMapping(any(GetMappingsRequest.class), any(RequestOptions.class))).thenReturn(response);
+    }
+}
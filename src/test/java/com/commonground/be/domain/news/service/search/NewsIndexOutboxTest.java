@@ -0,0 +1,233 @@
+package com.commonground.be.domain.news.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.commonground.be.domain.news.entity.News;
+import com.commonground.be.domain.news.entity.NewsOutboxEvent;
+import com.commonground.be.domain.news.enums.NewsOutboxEventType;
+import com.commonground.be.domain.news.enums.NewsStatusEnum;
+import com.commonground.be.domain.news.repository.NewsOutboxRepository;
+import com.commonground.be.domain.news.repository.NewsRepository;
+import com.commonground.be.global.infrastructure.concurrency.ConcurrencyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.opensearch.rest.RestStatus;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * NewsIndexOutbox 단위 테스트 클래스
+ *
+ * 전달 확인 후에만 체크포인트가 움직이는지(부분 실패, 확인 시간 초과), 재전달 예약이 체크포인트를 되돌리는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("NewsIndexOutbox 단위 테스트")
+class NewsIndexOutboxTest {
+
+    private static final String CONSUMER = "opensearch";
+    private static final String FIRST_NEWS = "665f1c2a9d3e4b0012a1b001";
+    private static final String SECOND_NEWS = "665f1c2a9d3e4b0012a1b002";
+    private static final String THIRD_NEWS = "665f1c2a9d3e4b0012a1b003";
+
+    @Mock
+    private NewsOutboxRepository outboxRepository;
+
+    @Mock
+    private NewsRepository newsRepository;
+
+    @Mock
+    private OpenSearchIndexingService openSearchService;
+
+    @Mock
+    private NewsIndexManager indexManager;
+
+    @Mock
+    private NewsSearchCache newsSearchCache;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RLock lock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NewsIndexOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        outbox = new NewsIndexOutbox(outboxRepository, newsRepository, openSearchService, indexManager,
+                newsSearchCache, redissonClient, meterRegistry);
+        ReflectionTestUtils.setField(outbox, "batchSize", 2);
+        ReflectionTestUtils.setField(outbox, "settleDelay", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(outbox, "ackTimeout", Duration.ofMillis(100));
+        ReflectionTestUtils.setField(outbox, "replayLockWait", Duration.ofSeconds(1));
+
+        when(indexManager.ensureAliases()).thenReturn(true);
+        when(redissonClient.getLock(anyString())).thenReturn(lock);
+        when(lock.tryLock()).thenReturn(true);
+        when(lock.isHeldByCurrentThread()).thenReturn(true);
+        when(outboxRepository.findCheckpoint(CONSUMER)).thenReturn(Optional.empty());
+        when(newsRepository.findByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Iterable<String> ids = invocation.getArgument(0);
+            List<News> found = new ArrayList<>();
+            ids.forEach(id -> found.add(News.builder().id(id).status(NewsStatusEnum.PUBLISHED).build()));
+            return found;
+        });
+    }
+
+    @Test
+    @DisplayName("전달이 확인된 배치마다 체크포인트를 마지막 이벤트 id 로 옮긴다")
+    void advancesCheckpointAfterEachDeliveredBatch() {
+        // Given
+        NewsOutboxEvent first = event(FIRST_NEWS);
+        NewsOutboxEvent second = event(SECOND_NEWS);
+        NewsOutboxEvent third = event(THIRD_NEWS);
+        when(outboxRepository.findBetween(isNull(), anyString(), eq(2))).thenReturn(List.of(first, second));
+        when(outboxRepository.findBetween(eq(second.getId()), anyString(), eq(2))).thenReturn(List.of(third));
+        when(openSearchService.indexNews(any(News.class), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        outbox.relay();
+
+        // Then
+        verify(outboxRepository).saveCheckpoint(CONSUMER, second.getId());
+        verify(outboxRepository).saveCheckpoint(CONSUMER, third.getId());
+        verify(newsSearchCache).onIndexed(Set.of(THIRD_NEWS));
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("전달 확인이 ack-timeout 안에 오지 않으면 체크포인트를 옮기지 않는다")
+    void keepsCheckpointWhenAckTimesOut() {
+        // Given
+        when(outboxRepository.findBetween(isNull(), anyString(), eq(2))).thenReturn(List.of(event(FIRST_NEWS)));
+        when(openSearchService.indexNews(any(News.class), anyString())).thenReturn(new CompletableFuture<>());
+
+        // When
+        outbox.relay();
+
+        // Then
+        verify(outboxRepository, never()).saveCheckpoint(anyString(), anyString());
+        verify(newsSearchCache, never()).onIndexed(anyCollection());
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("배치 중 한 기사라도 전달되지 않으면 체크포인트를 옮기지 않는다")
+    void keepsCheckpointOnPartialFailure() {
+        // Given
+        when(outboxRepository.findBetween(isNull(), anyString(), eq(2)))
+                .thenReturn(List.of(event(FIRST_NEWS), event(SECOND_NEWS)));
+        when(openSearchService.indexNews(any(News.class), anyString())).thenAnswer(invocation -> {
+            News news = invocation.getArgument(0);
+            return FIRST_NEWS.equals(news.getId())
+                    ? CompletableFuture.completedFuture(null)
+                    : CompletableFuture.failedFuture(new IllegalStateException("벌크 인덱싱 재시도 한도 초과"));
+        });
+
+        // When
+        outbox.relay();
+
+        // Then
+        verify(outboxRepository, never()).saveCheckpoint(anyString(), anyString());
+        verify(newsSearchCache, never()).onIndexed(anyCollection());
+    }
+
+    @Test
+    @DisplayName("재시도 불가로 거절된 기사는 집계 후 건너뛰고 체크포인트를 옮긴다")
+    void skipsRejectedItemAndAdvancesCheckpoint() {
+        // Given
+        NewsOutboxEvent first = event(FIRST_NEWS);
+        NewsOutboxEvent second = event(SECOND_NEWS);
+        when(outboxRepository.findBetween(isNull(), anyString(), eq(2))).thenReturn(List.of(first, second));
+        when(outboxRepository.findBetween(eq(second.getId()), anyString(), eq(2))).thenReturn(List.of());
+        when(openSearchService.indexNews(any(News.class), anyString())).thenAnswer(invocation -> {
+            News news = invocation.getArgument(0);
+            return FIRST_NEWS.equals(news.getId())
+                    ? CompletableFuture.completedFuture(null)
+                    : CompletableFuture.failedFuture(new BulkItemRejectedException(
+                            NewsIndexManager.WRITE_ALIAS, SECOND_NEWS, RestStatus.BAD_REQUEST, "mapper_parsing_exception"));
+        });
+
+        // When
+        outbox.relay();
+
+        // Then
+        verify(outboxRepository).saveCheckpoint(CONSUMER, second.getId());
+        assertThat(meterRegistry.counter("news.outbox.rejected").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("재전달 예약은 락을 잡고 체크포인트를 지정 시각으로 되돌려 다음 주기에 그 이후부터 다시 전달한다")
+    void replayRewindsCheckpoint() throws InterruptedException {
+        // Given
+        Instant from = Instant.parse("2025-01-01T00:00:00Z");
+        String rewound = ObjectId.getSmallestWithDate(Date.from(from)).toHexString();
+        NewsOutboxEvent replayed = event(FIRST_NEWS);
+        when(lock.tryLock(anyLong(), any(TimeUnit.class))).thenReturn(true);
+        when(outboxRepository.findBetween(eq(rewound), anyString(), eq(2))).thenReturn(List.of(replayed));
+        when(openSearchService.indexNews(any(News.class), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        outbox.replayFrom(from);
+        when(outboxRepository.findCheckpoint(CONSUMER)).thenReturn(Optional.of(rewound));
+        outbox.relay();
+
+        // Then
+        verify(outboxRepository).saveCheckpoint(CONSUMER, rewound);
+        verify(outboxRepository).saveCheckpoint(CONSUMER, replayed.getId());
+    }
+
+    @Test
+    @DisplayName("전달 주기가 끝나지 않아 락을 얻지 못하면 재전달 예약은 체크포인트를 건드리지 않고 실패한다")
+    void replayFailsWhenRelayHoldsLock() throws InterruptedException {
+        // Given
+        when(lock.tryLock(anyLong(), any(TimeUnit.class))).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> outbox.replayFrom(Instant.now()))
+                .isInstanceOf(ConcurrencyException.class);
+        verify(outboxRepository, never()).saveCheckpoint(anyString(), anyString());
+        verify(lock, never()).unlock();
+    }
+
+    private NewsOutboxEvent event(String newsId) {
+        return NewsOutboxEvent.builder()
+                .id(new ObjectId().toHexString())
+                .newsId(newsId)
+                .type(NewsOutboxEventType.UPSERT)
+                .build();
+    }
+}
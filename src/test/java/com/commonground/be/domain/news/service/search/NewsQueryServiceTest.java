@@ -0,0 +1,106 @@
+package com.commonground.be.domain.news.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.commonground.be.domain.news.dto.search.NewsCursor;
+import com.commonground.be.domain.news.dto.search.NewsCursorPage;
+import com.commonground.be.domain.news.entity.News;
+import com.commonground.be.domain.news.repository.NewsRepository;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * NewsQueryService 커서 검색 단위 테스트 클래스
+ *
+ * 커서 모드도 페이지 모드와 같은 OpenSearch 검색을 쓰고, 장애 시에만 Mongo 검색으로 대체하는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("NewsQueryService 커서 검색 단위 테스트")
+class NewsQueryServiceTest {
+
+    private static final String FIRST_ID = "665f1c2a9d3e4b0012a1b001";
+    private static final String SECOND_ID = "665f1c2a9d3e4b0012a1b002";
+    private static final String THIRD_ID = "665f1c2a9d3e4b0012a1b003";
+
+    @Mock
+    private NewsRepository newsRepository;
+
+    @Mock
+    private OpenSearchIndexingService openSearchService;
+
+    @Mock
+    private NewsSearchCache newsSearchCache;
+
+    @InjectMocks
+    private NewsQueryService newsQueryService;
+
+    @BeforeEach
+    void setUp() {
+        // 검색 결과 캐시는 비어 있음 (mock 기본값인 빈 목록은 캐시 적중으로 처리되므로 명시)
+        when(newsSearchCache.getIdsAfter(anyString(), any(), anyInt())).thenReturn(null);
+    }
+
+    @Test
+    @DisplayName("커서 검색은 정규화한 검색어로 OpenSearch 결과 id 를 가져와 기사 캐시로 채운다")
+    void cursorSearchUsesOpenSearch() throws IOException {
+        // Given
+        List<String> ids = List.of(THIRD_ID, SECOND_ID, FIRST_ID);
+        List<News> hydrated = List.of(news(THIRD_ID, 3), news(SECOND_ID, 2), news(FIRST_ID, 1));
+        when(openSearchService.searchNewsIdsAfter("반도체 삼성", null, 2)).thenReturn(ids);
+        when(newsSearchCache.hydrate(ids)).thenReturn(hydrated);
+
+        // When
+        NewsCursorPage<News> page = newsQueryService.searchNewsAfter(" 삼성  반도체", null, 2);
+
+        // Then
+        assertThat(page.getNews()).extracting(News::getId).containsExactly(THIRD_ID, SECOND_ID);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(NewsCursor.decode(page.getNextCursor())).isEqualTo(NewsCursor.of(hydrated.get(1)));
+        verify(newsSearchCache).putIdsAfter("반도체 삼성", null, 2, ids);
+        verify(newsRepository, never()).searchByKeywordAfter(anyString(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("OpenSearch 조회가 실패하면 Mongo 텍스트 검색으로 대체하고 결과를 캐시하지 않는다")
+    void cursorSearchFallsBackToMongo() throws IOException {
+        // Given
+        NewsCursor after = new NewsCursor(LocalDateTime.of(2025, 1, 1, 9, 0), SECOND_ID);
+        when(openSearchService.searchNewsIdsAfter(anyString(), eq(after), anyInt()))
+                .thenThrow(new IOException("connection refused"));
+        when(newsRepository.searchByKeywordAfter("삼성", after, 2)).thenReturn(List.of(news(FIRST_ID, 1)));
+
+        // When
+        NewsCursorPage<News> page = newsQueryService.searchNewsAfter("삼성", after.encode(), 2);
+
+        // Then
+        assertThat(page.getNews()).extracting(News::getId).containsExactly(FIRST_ID);
+        assertThat(page.isHasNext()).isFalse();
+        verify(newsSearchCache, never()).putIdsAfter(anyString(), any(), anyInt(), any());
+    }
+
+    private News news(String id, int hour) {
+        return News.builder()
+                .id(id)
+                .title("기사 " + id)
+                .publishedAt(LocalDateTime.of(2025, 1, 1, hour, 0))
+                .build();
+    }
+}
@@ -0,0 +1,163 @@
+package com.commonground.be.domain.news.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.commonground.be.domain.news.batch.NewsReindexJobConfig;
+import com.commonground.be.domain.news.dto.response.NewsReindexStatus.Phase;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+
+/**
+ * NewsReindexService 단위 테스트 클래스
+ *
+ * 중단된 full 적재를 메모리 상태가 아닌 배치 메타데이터에서 찾아 같은 JobParameters 로 재시작하는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("NewsReindexService 단위 테스트")
+class NewsReindexServiceTest {
+
+    private static final String SOURCE_INDEX = "news_v1";
+    private static final String TARGET_INDEX = "news_v2";
+    private static final String CATCH_UP_FROM = "665f1c2a0000000000000000";
+
+    @Mock
+    private NewsIndexManager indexManager;
+
+    @Mock
+    private NewsIndexOutbox newsIndexOutbox;
+
+    @Mock
+    private JobLauncher jobLauncher;
+
+    @Mock
+    private JobExplorer jobExplorer;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private Job newsSearchReindexJob;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RLock lock;
+
+    @InjectMocks
+    private NewsReindexService reindexService;
+
+    private final JobInstance instance = new JobInstance(1L, NewsReindexJobConfig.JOB_NAME);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(redissonClient.getLock(anyString())).thenReturn(lock);
+        when(lock.tryLock()).thenReturn(true);
+        when(indexManager.ensureAliases()).thenReturn(true);
+        when(indexManager.currentIndex()).thenReturn(SOURCE_INDEX);
+        when(indexManager.indexExists(TARGET_INDEX)).thenReturn(true);
+        when(newsIndexOutbox.positionAt(any(Instant.class))).thenReturn(CATCH_UP_FROM);
+        when(newsIndexOutbox.catchUp(anyString(), eq(TARGET_INDEX))).thenReturn("665f1c2c0000000000000000");
+        when(jobLauncher.run(eq(newsSearchReindexJob), any(JobParameters.class))).thenAnswer(invocation -> {
+            JobExecution completed = new JobExecution(instance, 2L, invocation.getArgument(1));
+            completed.setStatus(BatchStatus.COMPLETED);
+            return completed;
+        });
+    }
+
+    @Test
+    @DisplayName("실패한 full 적재가 있으면 새 인덱스를 만들지 않고 같은 JobParameters 로 재시작한다")
+    void restartsFailedFullLoad() throws Exception {
+        // Given
+        JobExecution failed = execution(BatchStatus.FAILED);
+        when(jobExplorer.getJobInstances(eq(NewsReindexJobConfig.JOB_NAME), eq(0), anyInt()))
+                .thenReturn(List.of(instance));
+        when(jobExplorer.getLastJobExecution(instance)).thenReturn(failed);
+
+        // When
+        reindexService.reindex();
+
+        // Then
+        verify(indexManager, never()).createNextIndex();
+        verify(jobLauncher).run(newsSearchReindexJob, failed.getJobParameters());
+        verify(newsIndexOutbox).catchUp(CATCH_UP_FROM, TARGET_INDEX);
+        verify(indexManager).switchAliases(SOURCE_INDEX, TARGET_INDEX);
+        assertThat(reindexService.getStatus().getPhase()).isEqualTo(Phase.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("실행 중으로 남은 full 적재는 중단된 노드의 것으로 보고 실패 처리 후 재시작한다")
+    void restartsStaleRunningLoad() throws Exception {
+        // Given
+        JobExecution stale = execution(BatchStatus.STARTED);
+        when(jobExplorer.getJobInstances(eq(NewsReindexJobConfig.JOB_NAME), eq(0), anyInt()))
+                .thenReturn(List.of(instance));
+        when(jobExplorer.getLastJobExecution(instance)).thenReturn(stale);
+
+        // When
+        reindexService.reindex();
+
+        // Then
+        verify(jobRepository).update(stale);
+        assertThat(stale.getStatus()).isEqualTo(BatchStatus.FAILED);
+        verify(jobLauncher).run(newsSearchReindexJob, stale.getJobParameters());
+    }
+
+    @Test
+    @DisplayName("재시작할 실행이 없으면 새 인덱스를 만들고 따라잡기 위치를 JobParameters 에 기록한다")
+    void startsNewLoadWhenNothingToRestart() throws Exception {
+        // Given
+        when(jobExplorer.getJobInstances(eq(NewsReindexJobConfig.JOB_NAME), eq(0), anyInt())).thenReturn(List.of());
+        when(indexManager.createNextIndex()).thenReturn(TARGET_INDEX);
+
+        // When
+        reindexService.reindex();
+
+        // Then
+        ArgumentCaptor<JobParameters> parameters = ArgumentCaptor.forClass(JobParameters.class);
+        verify(jobLauncher).run(eq(newsSearchReindexJob), parameters.capture());
+        assertThat(parameters.getValue().getString(NewsReindexJobConfig.TARGET_INDEX)).isEqualTo(TARGET_INDEX);
+        assertThat(parameters.getValue().getString(NewsReindexJobConfig.CATCH_UP_FROM)).isEqualTo(CATCH_UP_FROM);
+    }
+
+    private JobExecution execution(BatchStatus status) {
+        JobParameters parameters = new JobParametersBuilder()
+                .addString(NewsReindexJobConfig.TARGET_INDEX, TARGET_INDEX)
+                .addString(NewsReindexJobConfig.MODE, NewsReindexJobConfig.MODE_FULL)
+                .addString(NewsReindexJobConfig.UPPER_BOUND_ID, "665f1c2b0000000000000000")
+                .addString(NewsReindexJobConfig.CATCH_UP_FROM, CATCH_UP_FROM, false)
+                .toJobParameters();
+        JobExecution execution = new JobExecution(instance, 1L, parameters);
+        execution.setStatus(status);
+        return execution;
+    }
+}
@@ -0,0 +1,74 @@
+package com.commonground.be.domain.news.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.commonground.be.domain.news.repository.NewsRepository;
+import com.commonground.be.global.infrastructure.cache.CacheNamespaces;
+import com.commonground.be.global.infrastructure.cache.CacheValueStore;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * NewsSearchCache 검색어 정규화 및 색인 반영 무효화 단위 테스트 클래스
+ */
+@DisplayName("NewsSearchCache 검색어 정규화 테스트")
+class NewsSearchCacheTest {
+
+    @Test
+    @DisplayName("대소문자, 공백, 전각 문자 차이는 같은 키로 정규화된다")
+    void normalizesCaseWhitespaceAndWidth() {
+        // Given
+        String a = "  Samsung   반도체 ";
+        String b = "ＳＡＭＳＵＮＧ 반도체";
+
+        // When & Then
+        assertThat(NewsSearchCache.normalize(a)).isEqualTo("samsung 반도체");
+        assertThat(NewsSearchCache.normalize(a)).isEqualTo(NewsSearchCache.normalize(b));
+    }
+
+    @Test
+    @DisplayName("토큰 순서와 중복은 결과에 영향을 주지 않는다")
+    void ignoresTokenOrderAndDuplicates() {
+        // When
+        String normalized = NewsSearchCache.normalize("금리 인상 금리");
+
+        // Then
+        assertThat(normalized).isEqualTo(NewsSearchCache.normalize("인상 금리"));
+    }
+
+    @Test
+    @DisplayName("빈 검색어는 빈 문자열로 정규화된다")
+    void blankKeywordIsEmpty() {
+        assertThat(NewsSearchCache.normalize("   ")).isEmpty();
+        assertThat(NewsSearchCache.normalize(null)).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("연속된 색인 반영은 기사 캐시만 지우고 검색 결과 네임스페이스는 간격 내 한 번만 무효화한다")
+    void coalescesSearchNamespaceInvalidation() {
+        // Given
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        CacheNamespaces cacheNamespaces = mock(CacheNamespaces.class);
+        NewsSearchCache cache = new NewsSearchCache(redisTemplate, mock(CacheValueStore.class),
+                mock(NewsRepository.class), cacheNamespaces);
+        ReflectionTestUtils.setField(cache, "invalidateInterval", Duration.ofMinutes(1));
+
+        // When
+        cache.onIndexed(List.of("a"));
+        cache.onIndexed(List.of("b"));
+        cache.onIndexed(List.of("c"));
+
+        // Then
+        verify(redisTemplate, times(3)).delete(anyCollection());
+        verify(cacheNamespaces, times(1)).invalidate(CacheNamespaces.NEWS_SEARCH);
+    }
+}
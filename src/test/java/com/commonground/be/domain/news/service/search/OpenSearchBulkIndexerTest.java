@@ -0,0 +1,135 @@
+package com.commonground.be.domain.news.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.DocWriteRequest.OpType;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.delete.DeleteRequest;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.rest.RestStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * OpenSearchBulkIndexer 단위 테스트 클래스
+ *
+ * 부분 실패 시 재시도 가능한 항목만 재전송하고, 재시도 불가 항목과 재시도 한도 초과는 호출 측에 실패로 알리는지 검증합니다.
+ */
+@DisplayName("OpenSearchBulkIndexer 단위 테스트")
+class OpenSearchBulkIndexerTest {
+
+    private static final String INDEX = "news_v1";
+
+    private RestHighLevelClient openSearchClient;
+    private SimpleMeterRegistry meterRegistry;
+    private OpenSearchBulkIndexer bulkIndexer;
+
+    @BeforeEach
+    void setUp() {
+        openSearchClient = mock(RestHighLevelClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+        bulkIndexer = new OpenSearchBulkIndexer(openSearchClient, meterRegistry);
+        ReflectionTestUtils.setField(bulkIndexer, "batchSize", 100);
+        ReflectionTestUtils.setField(bulkIndexer, "flushInterval", Duration.ofMillis(10));
+        ReflectionTestUtils.setField(bulkIndexer, "maxBulkSize", DataSize.ofMegabytes(5));
+        ReflectionTestUtils.setField(bulkIndexer, "queueCapacity", 10);
+        ReflectionTestUtils.setField(bulkIndexer, "offerTimeout", Duration.ofMillis(100));
+        ReflectionTestUtils.setField(bulkIndexer, "maxRetries", 2);
+        ReflectionTestUtils.setField(bulkIndexer, "retryBackoff", Duration.ofMillis(1));
+    }
+
+    @Test
+    @DisplayName("부분 실패 시 재시도 가능한 항목만 재전송하고 재시도 불가 항목은 실패로 보고한다")
+    void retriesOnlyRetryableItems() throws Exception {
+        // Given
+        when(openSearchClient.bulk(any(BulkRequest.class), any(RequestOptions.class)))
+                .thenReturn(response(success(0, "1"), failure(1, "2", RestStatus.TOO_MANY_REQUESTS),
+                        failure(2, "3", RestStatus.BAD_REQUEST)))
+                .thenReturn(response(success(0, "2")));
+
+        // When
+        boolean delivered = bulkIndexer.sendNow(List.of(delete("1"), delete("2"), delete("3")));
+
+        // Then
+        ArgumentCaptor<BulkRequest> sent = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(openSearchClient, times(2)).bulk(sent.capture(), any(RequestOptions.class));
+        assertThat(sent.getAllValues().get(1).requests()).extracting(DocWriteRequest::id).containsExactly("2");
+        assertThat(delivered).isFalse();
+        assertThat(meterRegistry.counter("opensearch.bulk.rejected", "status", "400").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("재시도 가능한 실패가 재시도 한도를 넘으면 실패로 보고한다")
+    void failsAfterMaxRetries() throws Exception {
+        // Given
+        when(openSearchClient.bulk(any(BulkRequest.class), any(RequestOptions.class)))
+                .thenReturn(response(failure(0, "1", RestStatus.SERVICE_UNAVAILABLE)));
+
+        // When
+        boolean delivered = bulkIndexer.sendNow(List.of(delete("1")));
+
+        // Then
+        verify(openSearchClient, times(3)).bulk(any(BulkRequest.class), any(RequestOptions.class));
+        assertThat(delivered).isFalse();
+    }
+
+    @Test
+    @DisplayName("큐로 적재한 요청이 재시도 불가로 거절되면 future 가 BulkItemRejectedException 으로 완료된다")
+    void completesQueuedRequestExceptionallyWhenRejected() throws Exception {
+        // Given
+        when(openSearchClient.bulk(any(BulkRequest.class), any(RequestOptions.class)))
+                .thenReturn(response(failure(0, "1", RestStatus.BAD_REQUEST)));
+        bulkIndexer.start();
+
+        try {
+            // When
+            CompletableFuture<Void> ack = bulkIndexer.add(delete("1"));
+
+            // Then
+            assertThat(ack).failsWithin(5, TimeUnit.SECONDS)
+                    .withThrowableOfType(ExecutionException.class)
+                    .withCauseInstanceOf(BulkItemRejectedException.class);
+        } finally {
+            bulkIndexer.shutdown();
+        }
+    }
+
+    private static DeleteRequest delete(String id) {
+        return new DeleteRequest(INDEX, id);
+    }
+
+    private static BulkResponse response(BulkItemResponse... items) {
+        return new BulkResponse(items, 1);
+    }
+
+    private static BulkItemResponse success(int slot, String id) {
+        return new BulkItemResponse(slot, OpType.DELETE,
+                new IndexResponse(new ShardId(INDEX, "uuid", 0), id, 1, 1, 1, false));
+    }
+
+    private static BulkItemResponse failure(int slot, String id, RestStatus status) {
+        return new BulkItemResponse(slot, OpType.DELETE,
+                new BulkItemResponse.Failure(INDEX, id, new RuntimeException(status.name()), status));
+    }
+}
@@ -0,0 +1,126 @@
+package com.commonground.be.domain.news.service.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.commonground.be.domain.news.entity.NewsStats;
+import com.commonground.be.domain.news.repository.NewsStatsRepository;
+import com.commonground.be.global.infrastructure.cache.CacheValueStore;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+/**
+ * NewsStatsMaterializer 단위 테스트 클래스
+ *
+ * Redis/Mongo 는 Mock 으로 대체하고, 스냅샷과 세대별 증분 카운터를 합치는 조회 동작을 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("NewsStatsMaterializer 단위 테스트")
+class NewsStatsMaterializerTest {
+
+    @Mock
+    private NewsStatsRepository newsStatsRepository;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private CacheValueStore cacheValueStore;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @InjectMocks
+    private NewsStatsMaterializer materializer;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(cacheValueStore.typeFactory()).thenReturn(TypeFactory.defaultInstance());
+        when(hashOperations.entries(anyString())).thenReturn(Map.of());
+    }
+
+    @Test
+    @DisplayName("스냅샷에 스냅샷 세대 이후의 증분 카운터를 모두 더한다")
+    void currentAddsDeltasSinceSnapshotGeneration() {
+        // Given
+        when(cacheValueStore.get(eq("news_stats:snapshot"), any(JavaType.class))).thenReturn(snapshot(5));
+        when(valueOperations.get("news_stats:generation")).thenReturn(6L);
+        LocalDateTime crawledAt = LocalDateTime.of(2025, 7, 2, 10, 0);
+        when(hashOperations.entries("news_stats:delta:5")).thenReturn(Map.<Object, Object>of(
+                "total", 2,
+                "category:ECONOMY", 2,
+                "outlet:o1", 2,
+                "day:2025-07-02", 2));
+        when(hashOperations.entries("news_stats:delta:6")).thenReturn(Map.<Object, Object>of(
+                "total", 1,
+                "category:POLITICS", 1,
+                "last_crawled_at", crawledAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
+
+        // When
+        NewsStats current = materializer.current();
+
+        // Then
+        assertThat(current.getTotalNews()).isEqualTo(13);
+        assertThat(current.getCategoryCounts()).containsEntry("ECONOMY", 12L).containsEntry("POLITICS", 1L);
+        assertThat(current.getMediaOutletCounts()).containsEntry("o1", 12L);
+        assertThat(current.getDailyCounts()).containsEntry("2025-07-01", 10L).containsEntry("2025-07-02", 2L);
+        assertThat(current.getLastCrawledAt()).isEqualTo(crawledAt);
+    }
+
+    @Test
+    @DisplayName("Redis 에 스냅샷이 없으면 news_stats 문서를 사용한다")
+    void currentFallsBackToStoredSnapshot() {
+        // Given
+        when(cacheValueStore.get(anyString(), any(JavaType.class))).thenReturn(null);
+        when(newsStatsRepository.findCurrent()).thenReturn(Optional.of(snapshot(3)));
+        when(valueOperations.get("news_stats:generation")).thenReturn(3L);
+
+        // When
+        NewsStats current = materializer.current();
+
+        // Then
+        assertThat(current.getTotalNews()).isEqualTo(10);
+        assertThat(current.getGeneration()).isEqualTo(3);
+    }
+
+    private static NewsStats snapshot(long generation) {
+        return NewsStats.builder()
+                .id(NewsStats.CURRENT_ID)
+                .generation(generation)
+                .totalNews(10)
+                .categoryCounts(Map.of("ECONOMY", 10L))
+                .mediaOutletCounts(Map.of("o1", 10L))
+                .dailyCounts(Map.of("2025-07-01", 10L))
+                .lastCrawledAt(LocalDateTime.of(2025, 7, 1, 9, 0))
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.commonground.be.global.application.aop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+/**
+ * MethodLoggingAspect 단위 테스트 클래스
+ *
+ * AspectJProxyFactory 로 프록시를 만들어 @LogExecutionTime 호출이 method.execution 지표에 기록되는지 검증합니다.
+ */
+@DisplayName("MethodLoggingAspect 단위 테스트")
+class MethodLoggingAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SampleService proxy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new MethodLoggingAspect(meterRegistry, Duration.ofSeconds(1)));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("성공/실패 호출을 outcome 태그로 나눠 기록한다")
+    void recordsSuccessAndErrorSeparately() {
+        // When
+        proxy.work();
+        proxy.work();
+        assertThatThrownBy(proxy::fail).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(timer("work", "success").count()).isEqualTo(2);
+        assertThat(timer("fail", "error").count()).isEqualTo(1);
+        assertThat(timer("work", "success").max(TimeUnit.NANOSECONDS)).isPositive();
+    }
+
+    @Test
+    @DisplayName("CompletableFuture 를 반환하면 완료될 때 기록한다")
+    void recordsAsyncResultOnCompletion() {
+        // Given
+        CompletableFuture<String> future = proxy.async();
+
+        // When
+        assertThat(meterRegistry.find("method.execution").tag("method", "async").timer().count()).isZero();
+        future.complete("done");
+
+        // Then
+        assertThat(timer("async", "success").count()).isEqualTo(1);
+    }
+
+    private Timer timer(String method, String outcome) {
+        return meterRegistry.get("method.execution")
+                .tag("class", "SampleService")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .timer();
+    }
+
+    static class SampleService {
+
+        private final CompletableFuture<String> pending = new CompletableFuture<>();
+
+        @LogExecutionTime
+        public String work() {
+            return "ok";
+        }
+
+        @LogExecutionTime
+        public String fail() {
+            throw new IllegalStateException("boom");
+        }
+
+        @LogExecutionTime
+        public CompletableFuture<String> async() {
+            return pending;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.commonground.be.global.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.commonground.be.domain.news.entity.News;
+import com.commonground.be.domain.news.enums.CategoryEnum;
+import com.fasterxml.jackson.databind.JavaType;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CompactRedisSerializer 단위 테스트 클래스
+ *
+ * 형식 구분 바이트, 압축 기준, 기존 JSON 값 호환을 검증합니다.
+ */
+@DisplayName("CompactRedisSerializer 단위 테스트")
+class CompactRedisSerializerTest {
+
+    private final CompactRedisSerializer serializer = new CompactRedisSerializer(1024);
+
+    private final JavaType newsList = serializer.typeFactory()
+            .constructCollectionType(List.class, News.class);
+
+    @Test
+    @DisplayName("작은 값은 압축 없이 Smile 로 저장하고 같은 값으로 읽는다")
+    void smallValueRoundTripsWithoutCompression() {
+        // Given
+        List<News> news = List.of(news("짧은 본문"));
+
+        // When
+        byte[] bytes = serializer.serialize(news);
+        List<News> restored = serializer.deserialize(bytes, newsList);
+
+        // Then
+        assertThat(bytes[0]).isEqualTo(CompactRedisSerializer.FORMAT_SMILE);
+        assertThat(restored).singleElement().satisfies(item -> {
+            assertThat(item.getTitle()).isEqualTo("제목");
+            assertThat(item.getCategory()).isEqualTo(CategoryEnum.ECONOMY);
+            assertThat(item.getPublishedAt()).isEqualTo(LocalDateTime.of(2025, 7, 1, 9, 30));
+        });
+    }
+
+    @Test
+    @DisplayName("기준 크기 이상인 값은 LZ4 로 압축해 JSON 보다 작게 저장한다")
+    void largeValueIsCompressed() {
+        // Given
+        List<News> news = List.of(news("반도체 수출이 증가했다. ".repeat(200)), news("환율이 하락했다. ".repeat(200)));
+
+        // When
+        byte[] compact = serializer.serialize(news);
+        byte[] json = serializer.encode(news, false);
+        List<News> restored = serializer.deserialize(compact, newsList);
+
+        // Then
+        assertThat(compact[0]).isEqualTo(CompactRedisSerializer.FORMAT_SMILE_LZ4);
+        assertThat(compact.length).isLessThan(json.length / 2);
+        assertThat(restored).extracting(News::getContent)
+                .containsExactly(news.get(0).getContent(), news.get(1).getContent());
+    }
+
+    @Test
+    @DisplayName("기존 JSON 형식으로 저장된 값도 읽는다")
+    void legacyJsonIsReadable() {
+        // Given
+        byte[] legacy = "{\"value\":[\"a\",\"b\"],\"delta\":3}".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        Object restored = serializer.deserialize(legacy);
+
+        // Then
+        assertThat(restored).isEqualTo(Map.of("value", List.of("a", "b"), "delta", 3));
+    }
+
+    private static News news(String content) {
+        return News.builder()
+                .id("n1")
+                .title("제목")
+                .content(content)
+                .url("https://news.example.com/" + content.hashCode())
+                .authorName("기자")
+                .category(CategoryEnum.ECONOMY)
+                .publishedAt(LocalDateTime.of(2025, 7, 1, 9, 30))
+                .build();
+    }
+}
@@ -0,0 +1,156 @@
+package com.commonground.be.global.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * SingleFlightCache 단위 테스트 클래스
+ *
+ * Redis 저장소(CacheValueStore)는 Mock 으로 대체하고, 캐시 미스 병합, 만료 전 갱신, 로컬(NearCache) 적중 동작을 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("SingleFlightCache 단위 테스트")
+class SingleFlightCacheTest {
+
+    private static final TypeReference<String> STRING = new TypeReference<>() {};
+
+    @Mock
+    private CacheValueStore cacheValueStore;
+
+    private SingleFlightCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(cacheValueStore.typeFactory()).thenReturn(TypeFactory.defaultInstance());
+        NearCache nearCache = new NearCache(100, Duration.ofSeconds(5), new SimpleMeterRegistry());
+        cache = new SingleFlightCache(cacheValueStore, nearCache, 1.0);
+    }
+
+    @Test
+    @DisplayName("동시에 발생한 같은 키의 캐시 미스는 한 번만 계산한다")
+    void concurrentMissesAreCoalesced() throws Exception {
+        // Given
+        stubRedis(null);
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> cache.get("hot", Duration.ofMinutes(1), STRING, () -> {
+                loads.incrementAndGet();
+                await(release);
+                return "value";
+            })));
+        }
+        Thread.sleep(200);
+        release.countDown();
+
+        // Then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        assertThat(loads).hasValue(1);
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 충분히 남은 캐시 값은 다시 계산하지 않는다")
+    void freshEntryIsServedFromCache() {
+        // Given
+        stubRedis(new SingleFlightCache.CachedEntry<>("cached", 10, System.currentTimeMillis() + 60_000));
+
+        // When
+        String value = cache.get("fresh", Duration.ofMinutes(1), STRING, () -> "loaded");
+
+        // Then
+        assertThat(value).isEqualTo("cached");
+        verify(cacheValueStore, never()).set(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("만료가 임박한 캐시 값은 만료 전에 다시 계산한다")
+    void entryNearExpiryIsRefreshedEarly() {
+        // Given
+        stubRedis(new SingleFlightCache.CachedEntry<>("cached", 60_000, System.currentTimeMillis() - 1));
+
+        // When
+        String value = cache.get("stale", Duration.ofMinutes(1), STRING, () -> "loaded");
+
+        // Then
+        assertThat(value).isEqualTo("loaded");
+        verify(cacheValueStore).set(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("계산 실패는 캐시하지 않고 호출자에게 전달한다")
+    void loaderFailureIsNotCached() {
+        // Given
+        stubRedis(null);
+
+        // When & Then
+        assertThatThrownBy(() -> cache.get("broken", Duration.ofMinutes(1), STRING, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        verify(cacheValueStore, never()).set(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 값은 로컬 캐시에서 Redis 조회 없이 반환한다")
+    void repeatedReadIsServedFromNearCache() {
+        // Given
+        stubRedis(new SingleFlightCache.CachedEntry<>("cached", 10, System.currentTimeMillis() + 60_000));
+
+        // When
+        String first = cache.get("near", Duration.ofMinutes(1), STRING, () -> "loaded");
+        String second = cache.get("near", Duration.ofMinutes(1), STRING, () -> "loaded");
+
+        // Then
+        assertThat(first).isEqualTo("cached");
+        assertThat(second).isSameAs(first);
+        verify(cacheValueStore, times(1)).get(anyString(), any(JavaType.class));
+    }
+
+    private void stubRedis(SingleFlightCache.CachedEntry<String> entry) {
+        when(cacheValueStore.get(anyString(), any(JavaType.class))).thenReturn(entry);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.commonground.be.global.infrastructure.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * BoundedTaskExecutors 단위 테스트 클래스
+ *
+ * 가상 스레드 모드에서도 동시 실행 수 상한과 스레드 이름 접두사가 유지되는지 검증합니다.
+ */
+@DisplayName("BoundedTaskExecutors 단위 테스트")
+class BoundedTaskExecutorsTest {
+
+    @Test
+    @DisplayName("VIRTUAL 모드는 가상 스레드에서 실행하고 동시 실행 수를 maxConcurrency 로 제한한다")
+    void virtualModeLimitsConcurrency() throws Exception {
+        // Given
+        SimpleAsyncTaskExecutor executor = (SimpleAsyncTaskExecutor) BoundedTaskExecutors.create(
+                ExecutorMode.VIRTUAL, "test-virtual-", 1, 3, 0, new ThreadPoolExecutor.AbortPolicy());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        Set<Boolean> virtualFlags = ConcurrentHashMap.newKeySet();
+
+        // When
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                threadNames.add(Thread.currentThread().getName());
+                virtualFlags.add(Thread.currentThread().isVirtual());
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        executor.close();
+
+        // Then
+        assertThat(peak.get()).isBetween(1, 3);
+        assertThat(virtualFlags).containsExactly(true);
+        assertThat(threadNames).allMatch(name -> name.startsWith("test-virtual-"));
+    }
+
+    @Test
+    @DisplayName("PLATFORM 모드는 maxConcurrency 크기의 스레드 풀을 만든다")
+    void platformModeUsesThreadPool() {
+        // When
+        var executor = BoundedTaskExecutors.platform("test-platform-", 5, 3, 10,
+                new ThreadPoolExecutor.AbortPolicy());
+
+        // Then
+        assertThat(executor.getCorePoolSize()).isEqualTo(3);
+        assertThat(executor.getMaxPoolSize()).isEqualTo(3);
+        assertThat(executor.getThreadNamePrefix()).isEqualTo("test-platform-");
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("VIRTUAL 모드 지표는 실행 중인 작업과 세마포어를 기다리는 작업을 나눠 집계한다")
+    void virtualModeReportsActiveAndQueued() throws Exception {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SimpleAsyncTaskExecutor executor = (SimpleAsyncTaskExecutor) BoundedTaskExecutors.create(
+                ExecutorMode.VIRTUAL, "testExecutor", "test-virtual-", 1, 2, 0,
+                new ThreadPoolExecutor.AbortPolicy(), registry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        waitUntil(() -> registry.get("executor.queued").tag("name", "testExecutor").gauge().value() == 3.0);
+
+        // Then
+        assertThat(registry.get("executor.active").tag("name", "testExecutor").gauge().value()).isEqualTo(2.0);
+        assertThat(registry.get("executor.rejected").tag("name", "testExecutor").counter().count()).isZero();
+        release.countDown();
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("PLATFORM 모드는 거절된 작업 수를 집계하고 원래 거절 정책을 그대로 적용한다")
+    void platformModeCountsRejections() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AsyncTaskExecutor executor = BoundedTaskExecutors.create(ExecutorMode.PLATFORM, "testExecutor",
+                "test-platform-", 1, 1, 1, new ThreadPoolExecutor.AbortPolicy(), registry);
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blocking = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        // When
+        executor.execute(blocking);
+        executor.execute(blocking);
+
+        // Then
+        assertThatThrownBy(() -> executor.execute(blocking)).isInstanceOf(RejectedExecutionException.class);
+        assertThat(registry.get("executor.rejected").tag("name", "testExecutor").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("executor.queued").tag("name", "testExecutor").gauge().value()).isEqualTo(1.0);
+        release.countDown();
+        ((ThreadPoolTaskExecutor) executor).shutdown();
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
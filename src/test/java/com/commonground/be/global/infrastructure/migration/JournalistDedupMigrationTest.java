@@ -0,0 +1,87 @@
+package com.commonground.be.global.infrastructure.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.commonground.be.domain.journal.entity.Journalist;
+import com.commonground.be.domain.news.entity.News;
+import com.mongodb.client.result.UpdateResult;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * JournalistDedupMigration 단위 테스트 클래스
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JournalistDedupMigration 단위 테스트")
+class JournalistDedupMigrationTest {
+
+    private static final String OUTLET_ID = "outlet-1";
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MongoMigrations mongoMigrations;
+
+    @InjectMocks
+    private JournalistDedupMigration migration;
+
+    @Test
+    @DisplayName("중복 기자 중 삭제되지 않은 가장 오래된 기자를 남기고 뉴스 참조를 옮긴 뒤 나머지를 삭제한다")
+    void keepsOldestLiveJournalist() {
+        // Given: 가장 먼저 생성된 기자는 삭제된 상태
+        Journalist deleted = journalist("j1", LocalDateTime.of(2025, 1, 1, 0, 0));
+        Journalist live = journalist("j2", null);
+        Journalist newer = journalist("j3", null);
+        Document group = new Document("_id", new Document("name", "홍길동").append("mediaOutletId", OUTLET_ID))
+                .append("count", 3);
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(Journalist.class), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(group), new Document()));
+        when(mongoTemplate.find(any(Query.class), eq(Journalist.class))).thenReturn(List.of(deleted, live, newer));
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(News.class)))
+                .thenReturn(UpdateResult.acknowledged(2, 2L, null));
+
+        // When
+        migration.mergeDuplicates();
+
+        // Then
+        ArgumentCaptor<Query> repointed = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateMulti(repointed.capture(), update.capture(), eq(News.class));
+        assertThat(repointed.getValue().getQueryObject().get("journalistId", Document.class).get("$in"))
+                .isEqualTo(List.of("j1", "j3"));
+        assertThat(update.getValue().getUpdateObject().get("$set", Document.class).getString("journalistId"))
+                .isEqualTo("j2");
+
+        ArgumentCaptor<Query> removed = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).remove(removed.capture(), eq(Journalist.class));
+        assertThat(removed.getValue().getQueryObject().get("_id", Document.class).get("$in"))
+                .isEqualTo(List.of("j1", "j3"));
+    }
+
+    private Journalist journalist(String id, LocalDateTime deletedAt) {
+        return Journalist.builder()
+                .id(id)
+                .name("홍길동")
+                .mediaOutletId(OUTLET_ID)
+                .deletedAt(deletedAt)
+                .build();
+    }
+}
@@ -0,0 +1,80 @@
+package com.commonground.be.global.infrastructure.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * MongoMigrations 단위 테스트 클래스
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MongoMigrations 단위 테스트")
+class MongoMigrationsTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private MongoMigrations mongoMigrations;
+
+    @Test
+    @DisplayName("적용되지 않은 마이그레이션은 실행 후 적용 기록을 남긴다")
+    void runsAndRecordsPendingMigration() {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+        when(mongoTemplate.exists(any(Query.class), eq("migrations"))).thenReturn(false);
+
+        // When
+        boolean applied = mongoMigrations.runOnce("m1", runs::incrementAndGet);
+
+        // Then
+        assertThat(applied).isTrue();
+        assertThat(runs).hasValue(1);
+        verify(mongoTemplate).upsert(any(Query.class), any(Update.class), eq("migrations"));
+    }
+
+    @Test
+    @DisplayName("이미 적용된 마이그레이션은 다시 실행하지 않는다")
+    void skipsAppliedMigration() {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+        when(mongoTemplate.exists(any(Query.class), eq("migrations"))).thenReturn(true);
+
+        // When
+        boolean applied = mongoMigrations.runOnce("m1", runs::incrementAndGet);
+
+        // Then
+        assertThat(applied).isFalse();
+        assertThat(runs).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("실패한 마이그레이션은 기록하지 않아 다음 기동 시 다시 시도한다")
+    void doesNotRecordFailedMigration() {
+        // Given
+        when(mongoTemplate.exists(any(Query.class), eq("migrations"))).thenReturn(false);
+
+        // When
+        boolean applied = mongoMigrations.runOnce("m1", () -> {
+            throw new IllegalStateException("index not found");
+        });
+
+        // Then
+        assertThat(applied).isFalse();
+        verify(mongoTemplate, never()).upsert(any(Query.class), any(Update.class), eq("migrations"));
+    }
+}
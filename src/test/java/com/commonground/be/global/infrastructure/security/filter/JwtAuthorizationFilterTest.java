@@ -5,20 +5,21 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.commonground.be.domain.session.service.SessionService;
 import com.commonground.be.global.domain.security.AdminUserDetails;
 import com.commonground.be.global.infrastructure.security.admin.AdminTokenValidator;
+import com.commonground.be.global.infrastructure.security.jwt.JwtClaims;
 import com.commonground.be.global.infrastructure.security.jwt.JwtProvider;
 import com.commonground.be.global.infrastructure.security.jwt.TokenManager;
 import com.commonground.be.global.infrastructure.security.service.CustomUserDetailsService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.io.StringWriter;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -30,6 +31,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -92,15 +94,7 @@ class JwtAuthorizationFilterTest {
 				.password("password")
 				.authorities("ROLE_USER")
 				.build();
-
-		// StringWriter를 통한 response writer 설정
-		try {
-			StringWriter stringWriter = new StringWriter();
-			PrintWriter printWriter = new PrintWriter(stringWriter);
-			when(response.getWriter()).thenReturn(printWriter);
-		} catch (IOException e) {
-			// Mock에서는 발생하지 않음
-		}
+		// MockHttpServletResponse 는 실제 객체이므로 writer 를 stub 하지 않음 (에러 응답 본문은 getContentAsString 으로 확인)
 	}
 
 	@Nested
@@ -206,7 +200,8 @@ class JwtAuthorizationFilterTest {
 			Authentication auth = SecurityContextHolder.getContext().getAuthentication();
 			assertThat(auth).isNotNull();
 			assertThat(auth.getPrincipal()).isInstanceOf(AdminUserDetails.class);
-			assertThat(auth.getAuthorities()).hasSize(1);
+			assertThat(auth.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+					.containsExactlyInAnyOrder("ROLE_ADMIN", "ROLE_MANAGER", "ROLE_USER");
 
 			verify(adminTokenValidator).isValidAdminToken(TEST_TOKEN);
 			verify(filterChain).doFilter(request, response);
@@ -221,9 +216,7 @@ class JwtAuthorizationFilterTest {
 			request.addHeader("Authorization", "Bearer " + TEST_TOKEN);
 			when(jwtProvider.getAccessTokenFromHeader(request)).thenReturn(TEST_TOKEN);
 			when(adminTokenValidator.isValidAdminToken(TEST_TOKEN)).thenReturn(false);
-			when(jwtProvider.validateAccessToken(TEST_TOKEN)).thenReturn(true);
-			when(jwtProvider.getUsernameFromToken(TEST_TOKEN)).thenReturn(TEST_USERNAME);
-			when(jwtProvider.getClaimFromToken(TEST_TOKEN, "sessionId")).thenReturn(null);
+			when(jwtProvider.parseAccessToken(TEST_TOKEN)).thenReturn(claims(null, null));
 			when(userDetailsService.loadUserByUsername(TEST_USERNAME)).thenReturn(testUserDetails);
 
 			// When: 필터를 통과하면
@@ -231,7 +224,7 @@ class JwtAuthorizationFilterTest {
 
 			// Then: JWT 토큰 검증이 진행되어야 함
 			verify(adminTokenValidator).isValidAdminToken(TEST_TOKEN);
-			verify(jwtProvider).validateAccessToken(TEST_TOKEN);
+			verify(jwtProvider).parseAccessToken(TEST_TOKEN);
 			verify(userDetailsService).loadUserByUsername(TEST_USERNAME);
 			verify(filterChain).doFilter(request, response);
 		}
@@ -250,9 +243,7 @@ class JwtAuthorizationFilterTest {
 			request.addHeader("Authorization", "Bearer " + TEST_TOKEN);
 			when(jwtProvider.getAccessTokenFromHeader(request)).thenReturn(TEST_TOKEN);
 			when(adminTokenValidator.isValidAdminToken(TEST_TOKEN)).thenReturn(false);
-			when(jwtProvider.validateAccessToken(TEST_TOKEN)).thenReturn(true);
-			when(jwtProvider.getUsernameFromToken(TEST_TOKEN)).thenReturn(TEST_USERNAME);
-			when(jwtProvider.getClaimFromToken(TEST_TOKEN, "sessionId")).thenReturn(null);
+			when(jwtProvider.parseAccessToken(TEST_TOKEN)).thenReturn(claims(null, null));
 			when(userDetailsService.loadUserByUsername(TEST_USERNAME)).thenReturn(testUserDetails);
 
 			// When: 필터를 통과하면
@@ -264,7 +255,7 @@ class JwtAuthorizationFilterTest {
 			assertThat(auth.getPrincipal()).isEqualTo(testUserDetails);
 			assertThat(auth.getName()).isEqualTo(TEST_USERNAME);
 
-			verify(jwtProvider).validateAccessToken(TEST_TOKEN);
+			verify(jwtProvider).parseAccessToken(TEST_TOKEN);
 			verify(userDetailsService).loadUserByUsername(TEST_USERNAME);
 			verify(filterChain).doFilter(request, response);
 		}
@@ -278,10 +269,7 @@ class JwtAuthorizationFilterTest {
 			request.addHeader("Authorization", "Bearer " + TEST_TOKEN);
 			when(jwtProvider.getAccessTokenFromHeader(request)).thenReturn(TEST_TOKEN);
 			when(adminTokenValidator.isValidAdminToken(TEST_TOKEN)).thenReturn(false);
-			when(jwtProvider.validateAccessToken(TEST_TOKEN)).thenReturn(true);
-			when(jwtProvider.getUsernameFromToken(TEST_TOKEN)).thenReturn(TEST_USERNAME);
-			when(jwtProvider.getClaimFromToken(TEST_TOKEN, "sessionId")).thenReturn(
-					TEST_SESSION_ID);
+			when(jwtProvider.parseAccessToken(TEST_TOKEN)).thenReturn(claims(TEST_SESSION_ID, null));
 			when(sessionService.validateSession(TEST_SESSION_ID)).thenReturn(true);
 			doNothing().when(sessionService).updateSessionAccess(TEST_SESSION_ID);
 			when(userDetailsService.loadUserByUsernameWithSession(TEST_USERNAME,
@@ -311,7 +299,7 @@ class JwtAuthorizationFilterTest {
 			request.addHeader("Authorization", "Bearer " + TEST_TOKEN);
 			when(jwtProvider.getAccessTokenFromHeader(request)).thenReturn(TEST_TOKEN);
 			when(adminTokenValidator.isValidAdminToken(TEST_TOKEN)).thenReturn(false);
-			when(jwtProvider.validateAccessToken(TEST_TOKEN)).thenReturn(false);
+			when(jwtProvider.parseAccessToken(TEST_TOKEN)).thenReturn(null);
 
 			// When: 필터를 통과하면
 			jwtAuthorizationFilter.doFilterInternal(request, response, filterChain);
@@ -332,9 +320,7 @@ class JwtAuthorizationFilterTest {
 			request.addHeader("Authorization", "Bearer " + TEST_TOKEN);
 			when(jwtProvider.getAccessTokenFromHeader(request)).thenReturn(TEST_TOKEN);
 			when(adminTokenValidator.isValidAdminToken(TEST_TOKEN)).thenReturn(false);
-			when(jwtProvider.validateAccessToken(TEST_TOKEN)).thenReturn(true);
-			when(jwtProvider.getUsernameFromToken(TEST_TOKEN)).thenReturn(TEST_USERNAME);
-			when(jwtProvider.getClaimFromToken(TEST_TOKEN, "tokenVersion")).thenReturn("123");
+			when(jwtProvider.parseAccessToken(TEST_TOKEN)).thenReturn(claims(null, 123L));
 			when(tokenManager.isTokenVersionValid(TEST_USERNAME, 123L)).thenReturn(false);
 
 			// When: 필터를 통과하면
@@ -355,10 +341,7 @@ class JwtAuthorizationFilterTest {
 			request.addHeader("Authorization", "Bearer " + TEST_TOKEN);
 			when(jwtProvider.getAccessTokenFromHeader(request)).thenReturn(TEST_TOKEN);
 			when(adminTokenValidator.isValidAdminToken(TEST_TOKEN)).thenReturn(false);
-			when(jwtProvider.validateAccessToken(TEST_TOKEN)).thenReturn(true);
-			when(jwtProvider.getUsernameFromToken(TEST_TOKEN)).thenReturn(TEST_USERNAME);
-			when(jwtProvider.getClaimFromToken(TEST_TOKEN, "sessionId")).thenReturn(
-					TEST_SESSION_ID);
+			when(jwtProvider.parseAccessToken(TEST_TOKEN)).thenReturn(claims(TEST_SESSION_ID, null));
 			when(sessionService.validateSession(TEST_SESSION_ID)).thenReturn(false);
 
 			// When: 필터를 통과하면
@@ -370,6 +353,31 @@ class JwtAuthorizationFilterTest {
 			verify(sessionService, never()).updateSessionAccess(anyString());
 			verify(filterChain, never()).doFilter(request, response);
 		}
+
+		@Test
+		@DisplayName("토큰은 한 번만 파싱하고 검증과 인증 설정에 같은 클레임을 사용")
+		void jwtAuthentication_ParsesTokenOnlyOnce() throws ServletException, IOException {
+			// Given: 세션 ID와 토큰 버전이 포함된 JWT 토큰
+			request.setRequestURI("/api/v1/users/profile");
+			request.addHeader("Authorization", "Bearer " + TEST_TOKEN);
+			when(jwtProvider.getAccessTokenFromHeader(request)).thenReturn(TEST_TOKEN);
+			when(adminTokenValidator.isValidAdminToken(TEST_TOKEN)).thenReturn(false);
+			when(jwtProvider.parseAccessToken(TEST_TOKEN)).thenReturn(claims(TEST_SESSION_ID, 123L));
+			when(tokenManager.isTokenVersionValid(TEST_USERNAME, 123L)).thenReturn(true);
+			when(sessionService.validateSession(TEST_SESSION_ID)).thenReturn(true);
+			when(userDetailsService.loadUserByUsernameWithSession(TEST_USERNAME,
+					TEST_SESSION_ID)).thenReturn(testUserDetails);
+
+			// When: 필터를 통과하면
+			jwtAuthorizationFilter.doFilterInternal(request, response, filterChain);
+
+			// Then: 파싱은 한 번만 일어나고 개별 클레임 조회(재파싱)는 없어야 함
+			verify(jwtProvider, times(1)).parseAccessToken(TEST_TOKEN);
+			verify(jwtProvider, never()).validateAccessToken(anyString());
+			verify(jwtProvider, never()).getUsernameFromToken(anyString());
+			verify(jwtProvider, never()).getClaimFromToken(anyString(), anyString());
+			verify(filterChain).doFilter(request, response);
+		}
 	}
 
 	@Nested
@@ -421,8 +429,7 @@ class JwtAuthorizationFilterTest {
 			request.addHeader("Authorization", "Bearer " + TEST_TOKEN);
 			when(jwtProvider.getAccessTokenFromHeader(request)).thenReturn(TEST_TOKEN);
 			when(adminTokenValidator.isValidAdminToken(TEST_TOKEN)).thenReturn(false);
-			when(jwtProvider.validateAccessToken(TEST_TOKEN)).thenReturn(true);
-			when(jwtProvider.getUsernameFromToken(TEST_TOKEN)).thenThrow(
+			when(jwtProvider.parseAccessToken(TEST_TOKEN)).thenThrow(
 					new RuntimeException("Token parsing error"));
 
 			// When: 필터를 통과하면
@@ -442,9 +449,7 @@ class JwtAuthorizationFilterTest {
 			request.addHeader("Authorization", "Bearer " + TEST_TOKEN);
 			when(jwtProvider.getAccessTokenFromHeader(request)).thenReturn(TEST_TOKEN);
 			when(adminTokenValidator.isValidAdminToken(TEST_TOKEN)).thenReturn(false);
-			when(jwtProvider.validateAccessToken(TEST_TOKEN)).thenReturn(true);
-			when(jwtProvider.getUsernameFromToken(TEST_TOKEN)).thenReturn(TEST_USERNAME);
-			when(jwtProvider.getClaimFromToken(TEST_TOKEN, "sessionId")).thenReturn(null);
+			when(jwtProvider.parseAccessToken(TEST_TOKEN)).thenReturn(claims(null, null));
 			when(userDetailsService.loadUserByUsername(TEST_USERNAME))
 					.thenThrow(new RuntimeException("User not found"));
 
@@ -455,28 +460,6 @@ class JwtAuthorizationFilterTest {
 			assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
 			verify(filterChain).doFilter(request, response);
 		}
-
-		@Test
-		@DisplayName("토큰 버전 파싱 중 NumberFormatException 처리")
-		void tokenVersionParsing_WithNumberFormatException_ShouldFailAuthentication()
-				throws ServletException, IOException {
-			// Given: 토큰 버전이 숫자가 아닌 경우
-			request.setRequestURI("/api/v1/users/profile");
-			request.addHeader("Authorization", "Bearer " + TEST_TOKEN);
-			when(jwtProvider.getAccessTokenFromHeader(request)).thenReturn(TEST_TOKEN);
-			when(adminTokenValidator.isValidAdminToken(TEST_TOKEN)).thenReturn(false);
-			when(jwtProvider.validateAccessToken(TEST_TOKEN)).thenReturn(true);
-			when(jwtProvider.getUsernameFromToken(TEST_TOKEN)).thenReturn(TEST_USERNAME);
-			when(jwtProvider.getClaimFromToken(TEST_TOKEN, "tokenVersion")).thenReturn(
-					"invalid-number");
-
-			// When: 필터를 통과하면
-			jwtAuthorizationFilter.doFilterInternal(request, response, filterChain);
-
-			// Then: 401 Unauthorized 응답이 반환되어야 함
-			assertThat(response.getStatus()).isEqualTo(401);
-			verify(filterChain, never()).doFilter(request, response);
-		}
 	}
 
 	@Nested
@@ -492,10 +475,7 @@ class JwtAuthorizationFilterTest {
 			request.addHeader("Authorization", "Bearer " + TEST_TOKEN);
 			when(jwtProvider.getAccessTokenFromHeader(request)).thenReturn(TEST_TOKEN);
 			when(adminTokenValidator.isValidAdminToken(TEST_TOKEN)).thenReturn(false);
-			when(jwtProvider.validateAccessToken(TEST_TOKEN)).thenReturn(true);
-			when(jwtProvider.getUsernameFromToken(TEST_TOKEN)).thenReturn(TEST_USERNAME);
-			when(jwtProvider.getClaimFromToken(TEST_TOKEN, "sessionId")).thenReturn(null);
-			when(jwtProvider.getClaimFromToken(TEST_TOKEN, "tokenVersion")).thenReturn(null);
+			when(jwtProvider.parseAccessToken(TEST_TOKEN)).thenReturn(claims(null, null));
 			when(userDetailsService.loadUserByUsername(TEST_USERNAME)).thenReturn(testUserDetails);
 
 			// When: 필터를 통과하면
@@ -520,10 +500,7 @@ class JwtAuthorizationFilterTest {
 			request.addHeader("Authorization", "Bearer " + TEST_TOKEN);
 			when(jwtProvider.getAccessTokenFromHeader(request)).thenReturn(TEST_TOKEN);
 			when(adminTokenValidator.isValidAdminToken(TEST_TOKEN)).thenReturn(false);
-			when(jwtProvider.validateAccessToken(TEST_TOKEN)).thenReturn(true);
-			when(jwtProvider.getUsernameFromToken(TEST_TOKEN)).thenReturn(TEST_USERNAME);
-			when(jwtProvider.getClaimFromToken(TEST_TOKEN, "tokenVersion")).thenReturn(null);
-			when(jwtProvider.getClaimFromToken(TEST_TOKEN, "sessionId")).thenReturn(null);
+			when(jwtProvider.parseAccessToken(TEST_TOKEN)).thenReturn(claims(null, null));
 			when(userDetailsService.loadUserByUsername(TEST_USERNAME)).thenReturn(testUserDetails);
 
 			// When: 필터를 통과하면
@@ -537,4 +514,8 @@ class JwtAuthorizationFilterTest {
 			verify(filterChain).doFilter(request, response);
 		}
 	}
-}
\ No newline at end of file
+
+	private JwtClaims claims(String sessionId, Long tokenVersion) {
+		return new JwtClaims(TEST_USERNAME, sessionId, tokenVersion, null, Map.of());
+	}
+}
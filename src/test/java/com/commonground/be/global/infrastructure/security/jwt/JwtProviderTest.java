@@ -411,6 +411,79 @@ class JwtProviderTest {
         }
     }
 
+    @Nested
+    @DisplayName("단일 파싱 테스트")
+    class SingleParseTest {
+
+        @Test
+        @DisplayName("한 번의 파싱으로 사용자명, 세션 ID, 토큰 버전을 함께 추출")
+        void parseAccessToken_WithSessionToken_ShouldReturnAllClaims() {
+            // Given: 세션 ID가 포함된 Access Token
+            String accessToken = jwtProvider.createAccessTokenWithSession(testUsername, testRole, testSessionId);
+            String tokenWithoutPrefix = accessToken.substring(JwtProvider.BEARER_PREFIX.length());
+
+            // When: 토큰을 파싱하면
+            JwtClaims claims = jwtProvider.parseAccessToken(tokenWithoutPrefix);
+
+            // Then: 필터에 필요한 클레임이 모두 들어 있어야 함
+            assertThat(claims).isNotNull();
+            assertThat(claims.username()).isEqualTo(testUsername);
+            assertThat(claims.sessionId()).isEqualTo(testSessionId);
+            assertThat(claims.tokenVersion()).isPositive();
+            assertThat(claims.get(JwtProvider.AUTHORIZATION_KEY)).isEqualTo(testRole.name());
+        }
+
+        @Test
+        @DisplayName("파싱 결과의 클레임은 수정할 수 없음")
+        void parseAccessToken_ShouldReturnImmutableClaims() {
+            // Given: 유효한 토큰
+            String accessToken = jwtProvider.createAccessToken(testUsername, testRole);
+
+            // When: 토큰을 파싱하면
+            JwtClaims claims = jwtProvider.parseAccessToken(jwtProvider.substringToken(accessToken));
+
+            // Then: 클레임 맵은 읽기 전용이어야 함
+            assertThatThrownBy(() -> claims.claims().put("sub", "other"))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            assertThat(claims.sessionId()).isNull();
+            assertThat(claims.tokenVersion()).isNull();
+        }
+
+        @Test
+        @DisplayName("블랙리스트 토큰은 null 반환")
+        void parseAccessToken_WithBlacklistedToken_ShouldReturnNull() {
+            // Given: 블랙리스트에 등록된 Refresh Token
+            String refreshToken = jwtProvider.createRefreshTokenWithSession(testUsername, testRole, testSessionId);
+            when(tokenManager.isTokenBlacklisted(anyString())).thenReturn(true);
+
+            // When & Then: 파싱 결과가 null이어야 함
+            assertThat(jwtProvider.parseAccessToken(jwtProvider.substringToken(refreshToken))).isNull();
+        }
+
+        @Test
+        @DisplayName("숫자가 아닌 토큰 버전은 유효하지 않은 토큰으로 처리")
+        void parseAccessToken_WithNonNumericTokenVersion_ShouldReturnNull() {
+            // Given: tokenVersion 클레임이 숫자가 아닌 토큰
+            String token = Jwts.builder()
+                    .setSubject(testUsername)
+                    .claim("tokenVersion", "invalid-number")
+                    .setExpiration(new Date(System.currentTimeMillis() + 1000000))
+                    .signWith(testKey)
+                    .compact();
+
+            // When & Then: 파싱 결과가 null이어야 함
+            assertThat(jwtProvider.parseAccessToken(token)).isNull();
+        }
+
+        @Test
+        @DisplayName("잘못된 형식의 토큰은 null 반환")
+        void parseAccessToken_WithMalformedToken_ShouldReturnNull() {
+            // When & Then: 잘못된 형식의 토큰 파싱 시 null 반환
+            assertThat(jwtProvider.parseAccessToken("invalid.token.format")).isNull();
+            assertThat(jwtProvider.parseAccessToken(null)).isNull();
+        }
+    }
+
     @Nested
     @DisplayName("쿠키 관리 테스트")
     class CookieManagementTest {